@@ -119,6 +119,8 @@ function addStringFunctions() {
     functions["benchmarkStringContains"] = benchmarktypes:benchmarkStringContains;
     functions["benchmarkStringEqualsIgnoreCase"] = benchmarktypes:benchmarkStringEqualsIgnoreCase;
     functions["benchmarkStringConcat"] = benchmarktypes:benchmarkStringConcat;
+    functions["benchmarkStringConcatAccumulation1000"] = benchmarktypes:benchmarkStringConcatAccumulation1000;
+    functions["benchmarkStringConcatAccumulation10000"] = benchmarktypes:benchmarkStringConcatAccumulation10000;
     functions["benchmarkStringHasPrefix"] = benchmarktypes:benchmarkStringHasPrefix;
     functions["benchmarkStringHasSuffix"] = benchmarktypes:benchmarkStringHasSuffix;
     functions["benchmarkStringIndexOf"] = benchmarktypes:benchmarkStringIndexOf;
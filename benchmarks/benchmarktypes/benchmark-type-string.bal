@@ -16,6 +16,28 @@ public function benchmarkStringConcat() {
     string s3 = s2 + s2;
 }
 
+// Accumulating a string takes time linear to the number of parts, so the 10000 part benchmark takes about ten times
+// as long as the 1000 part one.
+public function benchmarkStringConcatAccumulation1000() {
+    string payload = accumulateString(1000);
+}
+
+public function benchmarkStringConcatAccumulation10000() {
+    string payload = accumulateString(10000);
+}
+
+function accumulateString(int partCount) returns string {
+    string payload = "";
+    int i = 0;
+    while (i < partCount) {
+        payload = payload + "<item>" + i.toString() + "</item>";
+        i = i + 1;
+    }
+    // Reading the characters of the string includes copying the parts into it.
+    boolean hasSuffix = payload.hasSuffix("</item>");
+    return payload;
+}
+
 public function benchmarkStringHasPrefix() {
     string name = "randomPerson";
     string prefix = "Mr";
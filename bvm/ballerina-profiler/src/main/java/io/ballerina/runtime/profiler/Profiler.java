@@ -20,6 +20,7 @@ package io.ballerina.runtime.profiler;
 
 import io.ballerina.runtime.profiler.codegen.ProfilerClassLoader;
 import io.ballerina.runtime.profiler.codegen.ProfilerMethodWrapper;
+import io.ballerina.runtime.profiler.runtime.SampledProfileAnalyzer;
 import io.ballerina.runtime.profiler.ui.HttpServer;
 import io.ballerina.runtime.profiler.ui.JsonParser;
 import io.ballerina.runtime.profiler.util.Constants;
@@ -36,7 +37,9 @@ import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
@@ -45,8 +48,13 @@ import java.util.zip.ZipInputStream;
 
 import static io.ballerina.runtime.profiler.util.Constants.CPU_PRE_JSON;
 import static io.ballerina.runtime.profiler.util.Constants.CURRENT_DIR_KEY;
+import static io.ballerina.runtime.profiler.util.Constants.EXECUTION_SAMPLE_EVENT;
+import static io.ballerina.runtime.profiler.util.Constants.FLAME_GRAPH_FILE_NAME;
 import static io.ballerina.runtime.profiler.util.Constants.OUT_STREAM;
 import static io.ballerina.runtime.profiler.util.Constants.PERFORMANCE_JSON;
+import static io.ballerina.runtime.profiler.util.Constants.SAMPLING_RECORDING_FILE_NAME;
+import static io.ballerina.runtime.profiler.util.Constants.SAMPLING_SETTINGS_FILE_NAME;
+import static io.ballerina.runtime.profiler.util.Constants.WORKING_DIRECTORY;
 
 /**
  * This class is used to as the driver class of the Ballerina profiler.
@@ -59,10 +67,12 @@ public class Profiler {
     private String balJarArgs = null;
     private String balJarName = null;
     private String profilerDebugArg = null;
+    private long samplingInterval = 0;
     private final List<String> instrumentedPaths = new ArrayList<>();
     private final List<String> instrumentedFiles = new ArrayList<>();
     private final List<String> utilInitPaths = new ArrayList<>();
     private final List<String> utilPaths = new ArrayList<>();
+    private final Set<String> sampledClasses = new HashSet<>();
     private int balFunctionCount = 0;
     private int moduleCount = 0;
     private final ProfilerMethodWrapper profilerMethodWrapper;
@@ -85,6 +95,12 @@ public class Profiler {
                 JsonParser jsonParser = new JsonParser();
                 HttpServer httpServer = new HttpServer();
                 String cpuFilePath = Path.of(currentDir, CPU_PRE_JSON).toString();
+                if (samplingInterval > 0) {
+                    // The recording is dumped by the executable when it exits, which may still be running when
+                    // the profiler is stopped by a signal.
+                    profilerMethodWrapper.waitForProcess();
+                    writeSampledProfile(cpuFilePath);
+                }
                 jsonParser.initializeCPUParser(cpuFilePath);
                 deleteFileIfExists(cpuFilePath);
                 OUT_STREAM.printf("      Execution time: %d seconds %n", profilerTotalTime / 1000);
@@ -93,10 +109,29 @@ public class Profiler {
                 OUT_STREAM.println("--------------------------------------------------------------------------------");
             } catch (IOException e) {
                 throw new ProfilerException("Error occurred while generating the output", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProfilerException("Interrupted while waiting for the executable to exit", e);
             }
         }));
     }
 
+    private void writeSampledProfile(String cpuFilePath) throws IOException {
+        SampledProfileAnalyzer analyzer = new SampledProfileAnalyzer(sampledClasses,
+                TimeUnit.MILLISECONDS.toNanos(samplingInterval));
+        Path recordingPath = Path.of(SAMPLING_RECORDING_FILE_NAME).toAbsolutePath();
+        if (Files.exists(recordingPath)) {
+            analyzer.analyze(recordingPath);
+        }
+        analyzer.writeProfile(cpuFilePath);
+        String flameGraphFilePath = Path.of(System.getProperty(WORKING_DIRECTORY), FLAME_GRAPH_FILE_NAME).toString();
+        analyzer.writeFlameGraph(flameGraphFilePath);
+        OUT_STREAM.printf("      Sample count: %d%n", analyzer.getSampleCount());
+        OUT_STREAM.printf("      Flame graph: %s%n", flameGraphFilePath);
+        Files.deleteIfExists(recordingPath);
+        Files.deleteIfExists(Path.of(SAMPLING_SETTINGS_FILE_NAME));
+    }
+
     private void deleteFileIfExists(String filePath) {
         File file = new File(filePath);
         if (!file.exists()) {
@@ -139,6 +174,10 @@ public class Profiler {
                     this.profilerDebugArg = args[i + 1];
                     addToUsedArgs(args, usedArgs, i);
                 }
+                case "--sampling-interval" -> {
+                    this.samplingInterval = extractSamplingIntervalArg(args[i + 1]);
+                    addToUsedArgs(args, usedArgs, i);
+                }
                 default -> handleUnrecognizedArgument(args[i], usedArgs);
             }
         }
@@ -158,6 +197,18 @@ public class Profiler {
         return value.substring(1, value.length() - 1);
     }
 
+    private long extractSamplingIntervalArg(String value) {
+        try {
+            long interval = Long.parseLong(value);
+            if (interval > 0) {
+                return interval;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below as an invalid argument.
+        }
+        throw new ProfilerException("Invalid sampling interval found: " + value);
+    }
+
     private void handleUnrecognizedArgument(String argument, List<String> usedArgs) {
         if (!usedArgs.contains(argument)) {
             throw new ProfilerException("Unrecognized argument found: " + argument);
@@ -229,6 +280,58 @@ public class Profiler {
         }
     }
 
+    // Instead of instrumenting the functions, runs the program with the JDK Flight Recorder sampling the stacks of
+    // the threads, including the virtual threads running strands, at the sampling interval.
+    private void initializeSampling() throws ProfilerException {
+        OUT_STREAM.printf("%s[3/6] Performing analysis...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
+        ArrayList<String> classNames = new ArrayList<>();
+        try {
+            findAllClassNames(balJarName, classNames);
+            findUtilityClasses(classNames);
+        } catch (Exception e) {
+            throw new ProfilerException("error occurred while performing analysis", e);
+        }
+        OUT_STREAM.printf("%s[4/6] Configuring sampling...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
+        try {
+            String mainClassPackage = profilerMethodWrapper.mainClassFinder(new URLClassLoader(new URL[]{
+                    new File(balJarName).toURI().toURL()}));
+            for (String className : classNames) {
+                if (mainClassPackage == null || className.contains("$gen$")) {
+                    continue;
+                }
+                if (className.startsWith(mainClassPackage.split("/")[0]) || utilPaths.contains(className)) {
+                    sampledClasses.add(className.replace(Constants.CLASS_SUFFIX, ""));
+                }
+                if (className.endsWith("/$_init.class")) {
+                    moduleCount++;
+                }
+            }
+            OUT_STREAM.printf("      Sampled module count: %d%n", moduleCount);
+            OUT_STREAM.printf("      Sampling interval: %d ms%n", samplingInterval);
+            Path settingsPath = Path.of(SAMPLING_SETTINGS_FILE_NAME).toAbsolutePath();
+            Files.writeString(settingsPath, getSamplingSettings());
+            Path recordingPath = Path.of(SAMPLING_RECORDING_FILE_NAME).toAbsolutePath();
+            profilerMethodWrapper.invokeMethods(profilerDebugArg, List.of(
+                    "-XX:FlightRecorderOptions:stackdepth=" + Constants.SAMPLING_STACK_DEPTH,
+                    "-XX:StartFlightRecording=settings=" + settingsPath + ",filename=" + recordingPath +
+                            ",dumponexit=true",
+                    "-Xlog:jfr+startup=error"));
+        } catch (Throwable throwable) {
+            throw new ProfilerException(throwable);
+        }
+    }
+
+    // Only the execution samples are recorded, which keeps the overhead of the recording low.
+    private String getSamplingSettings() {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<configuration version=\"2.0\" label=\"Ballerina Profiler\">\n" +
+                "  <event name=\"" + EXECUTION_SAMPLE_EVENT + "\">\n" +
+                "    <setting name=\"enabled\">true</setting>\n" +
+                "    <setting name=\"period\">" + samplingInterval + " ms</setting>\n" +
+                "  </event>\n" +
+                "</configuration>\n";
+    }
+
     private void modifyJar() throws InterruptedException, IOException {
         try {
             final File userDirectory = new File(System.getProperty("user.dir")); // Get the user directory
@@ -342,6 +445,12 @@ public class Profiler {
         addShutdownHookAndCleanup();
         printHeader();
         handleProfilerArguments(args);
+        if (samplingInterval > 0) {
+            OUT_STREAM.printf("%s[1/6] Initializing...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
+            createTempJar();
+            initializeSampling();
+            return;
+        }
         extractProfiler();
         createTempJar();
         initializeProfiling();
@@ -53,8 +53,14 @@ import static io.ballerina.runtime.profiler.util.Constants.USER_DIR;
 public class ProfilerMethodWrapper extends ClassLoader {
 
     public static final String JAVA_OPTS = "JAVA_OPTS";
+    // The process running the executable, which is kept to wait for it when the profiler is stopped.
+    private volatile Process executableProcess = null;
 
     public void invokeMethods(String debugArg) throws IOException, InterruptedException {
+        invokeMethods(debugArg, List.of());
+    }
+
+    public void invokeMethods(String debugArg, List<String> jvmArgs) throws IOException, InterruptedException {
         String balJarArgs = Main.getBalJarArgs();
         List<String> commands = new ArrayList<>();
         String javaOpts = System.getenv().get(JAVA_OPTS);
@@ -62,6 +68,7 @@ public class ProfilerMethodWrapper extends ClassLoader {
         if (javaOpts != null) {
             commands.add(javaOpts.trim());
         }
+        commands.addAll(jvmArgs);
         commands.add("-jar");
         if (debugArg != null) {
             commands.add(debugArg);
@@ -77,6 +84,7 @@ public class ProfilerMethodWrapper extends ClassLoader {
             processBuilder.environment().put(JAVA_OPTS, javaOpts.trim());
         }
         Process process = processBuilder.start();
+        this.executableProcess = process;
         OUT_STREAM.printf(Constants.ANSI_CYAN + "[5/6] Running executable..." + Constants.ANSI_RESET + "%n");
         try (InputStreamReader streamReader = new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8);
                 BufferedReader reader = new BufferedReader(streamReader)) {
@@ -85,6 +93,18 @@ public class ProfilerMethodWrapper extends ClassLoader {
         process.waitFor();
     }
 
+    /**
+     * Waits for the process running the executable to exit, if it has been started.
+     *
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public void waitForProcess() throws InterruptedException {
+        Process process = executableProcess;
+        if (process != null) {
+            process.waitFor();
+        }
+    }
+
     public String mainClassFinder(URLClassLoader manifestClassLoader) {
         try {
             URL manifestURL = manifestClassLoader.findResource("META-INF/MANIFEST.MF");
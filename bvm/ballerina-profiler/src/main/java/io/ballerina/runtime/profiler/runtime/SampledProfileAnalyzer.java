@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.runtime.profiler.util.Constants.EXECUTION_SAMPLE_EVENT;
+import static io.ballerina.runtime.profiler.util.Constants.STRAND_ARG;
+
+/**
+ * This class aggregates the stacks sampled from a program by the JDK Flight Recorder, which captures the stacks of
+ * the virtual threads running strands with a bounded overhead. The frames of the Ballerina functions in a stack are
+ * kept in the same form as the instrumented profile, so that the same report can be generated from both.
+ * <p>
+ * The Flight Recorder samples a few of the running threads once in each sampling interval. The interval of a
+ * sampling period is divided among the stacks sampled in it, so that the times of the profile add up to the time
+ * the program was sampled for, however many strands were running at the same time.
+ *
+ * @since 2201.12.0
+ */
+public class SampledProfileAnalyzer {
+
+    private final Set<String> profiledClasses;
+    private final long samplingIntervalNanos;
+    // Time spent in each stack including the stacks called by it, keyed by the stack key of the stack.
+    private final Map<String, Long> totalTimes = new LinkedHashMap<>();
+    // Time spent in each stack excluding the stacks called by it, keyed by the stack key of the stack.
+    private final Map<String, Long> selfTimes = new LinkedHashMap<>();
+    private long sampleCount = 0;
+
+    public SampledProfileAnalyzer(Set<String> profiledClasses, long samplingIntervalNanos) {
+        this.profiledClasses = profiledClasses;
+        this.samplingIntervalNanos = samplingIntervalNanos;
+    }
+
+    public void analyze(Path recordingPath) throws IOException {
+        // The recording is read twice, first to find the number of samples in each sampling period, as the events of
+        // a period are not necessarily next to each other in the recording.
+        List<Long> sampleTimes = new ArrayList<>();
+        try (RecordingFile recordingFile = new RecordingFile(recordingPath)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                if (EXECUTION_SAMPLE_EVENT.equals(event.getEventType().getName())) {
+                    sampleTimes.add(getSampleTime(event));
+                }
+            }
+        }
+        SamplingPeriods samplingPeriods = new SamplingPeriods(sampleTimes, samplingIntervalNanos);
+        try (RecordingFile recordingFile = new RecordingFile(recordingPath)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                if (EXECUTION_SAMPLE_EVENT.equals(event.getEventType().getName())) {
+                    addSample(event.getStackTrace(), samplingPeriods.getSampleCount(getSampleTime(event)));
+                }
+            }
+        }
+    }
+
+    private static long getSampleTime(RecordedEvent event) {
+        Instant startTime = event.getStartTime();
+        return TimeUnit.SECONDS.toNanos(startTime.getEpochSecond()) + startTime.getNano();
+    }
+
+    private void addSample(RecordedStackTrace stackTrace, int periodSampleCount) {
+        if (stackTrace == null) {
+            return;
+        }
+        List<SampledFrame> frames = new ArrayList<>(stackTrace.getFrames().size());
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            RecordedMethod method = frame.getMethod();
+            if (frame.isJavaFrame() && method != null) {
+                frames.add(new SampledFrame(method.getType().getName().replace('.', '/'), method.getName(),
+                        method.getDescriptor()));
+            }
+        }
+        addSample(frames, periodSampleCount);
+    }
+
+    /**
+     * Adds a sampled stack, keeping only the frames of the Ballerina functions of the profiled classes.
+     *
+     * @param frames            frames of the stack, starting from the top of the stack
+     * @param periodSampleCount number of stacks sampled in the sampling period of the stack, which share its interval
+     */
+    void addSample(List<SampledFrame> frames, int periodSampleCount) {
+        long sampleTime = samplingIntervalNanos / periodSampleCount;
+        StringBuilder stackKey = new StringBuilder();
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            SampledFrame frame = frames.get(i);
+            if (!frame.descriptor().startsWith(STRAND_ARG) || frame.methodName().contains("$gen$") ||
+                    !profiledClasses.contains(frame.className())) {
+                continue;
+            }
+            stackKey.append(StackTraceMap.getStackIndex(frame.className() + "." + frame.methodName())).append('$');
+            totalTimes.merge(stackKey.toString(), sampleTime, Long::sum);
+        }
+        if (!stackKey.isEmpty()) {
+            selfTimes.merge(stackKey.toString(), sampleTime, Long::sum);
+            sampleCount++;
+        }
+    }
+
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Writes the profile in the form written by {@link ProfileAnalyzer}, with the times in milliseconds.
+     *
+     * @param cpuFilePath path of the file to write to
+     * @throws IOException if the file cannot be written
+     */
+    public void writeProfile(String cpuFilePath) throws IOException {
+        List<String> profiles = new ArrayList<>(totalTimes.size());
+        for (Map.Entry<String, Long> entry : totalTimes.entrySet()) {
+            String stackKey = entry.getKey();
+            int stackIndexStart = stackKey.lastIndexOf('$', stackKey.length() - 2) + 1;
+            Data data = new Data(stackKey.substring(stackIndexStart), stackKey);
+            data.totalTime = TimeUnit.NANOSECONDS.toMillis(entry.getValue());
+            data.stackTrace = StackTraceMap.getCallStackString(stackKey);
+            profiles.add(data.toString());
+        }
+        try (Writer writer = new FileWriter(cpuFilePath, StandardCharsets.UTF_8)) {
+            writer.write("[" + String.join(",\n", profiles) + "\n]");
+        }
+    }
+
+    /**
+     * Writes the profile as collapsed stacks, which is the input of the flame graph tools, with the time spent in
+     * each stack in nanoseconds.
+     *
+     * @param flameGraphFilePath path of the file to write to
+     * @throws IOException if the file cannot be written
+     */
+    public void writeFlameGraph(String flameGraphFilePath) throws IOException {
+        try (Writer writer = new FileWriter(flameGraphFilePath, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Long> entry : selfTimes.entrySet()) {
+                writer.write(StackTraceMap.getCollapsedStackString(entry.getKey()) + " " + entry.getValue() + "\n");
+            }
+        }
+    }
+
+    /**
+     * The sampling periods of a recording, found from the times of its samples. The threads of a period are sampled
+     * one after the other at the start of the period, hence a sample taken more than half an interval after the first
+     * sample of a period starts the next period.
+     */
+    static class SamplingPeriods {
+
+        // The time of the first sample of each period, in the order of the periods.
+        private final long[] startTimes;
+        private final int[] sampleCounts;
+
+        SamplingPeriods(List<Long> sampleTimes, long samplingIntervalNanos) {
+            long[] times = new long[sampleTimes.size()];
+            for (int i = 0; i < times.length; i++) {
+                times[i] = sampleTimes.get(i);
+            }
+            Arrays.sort(times);
+            long[] periodStartTimes = new long[times.length];
+            int[] periodSampleCounts = new int[times.length];
+            int periodCount = 0;
+            for (long time : times) {
+                if (periodCount == 0 || time - periodStartTimes[periodCount - 1] > samplingIntervalNanos / 2) {
+                    periodStartTimes[periodCount++] = time;
+                }
+                periodSampleCounts[periodCount - 1]++;
+            }
+            this.startTimes = Arrays.copyOf(periodStartTimes, periodCount);
+            this.sampleCounts = Arrays.copyOf(periodSampleCounts, periodCount);
+        }
+
+        /**
+         * Returns the number of samples in the sampling period of the sample taken at the given time.
+         *
+         * @param sampleTime time of a sample of the recording
+         * @return number of samples in the period of the sample
+         */
+        int getSampleCount(long sampleTime) {
+            int index = Arrays.binarySearch(startTimes, sampleTime);
+            int period = index >= 0 ? index : -index - 2;
+            return period < 0 ? 1 : sampleCounts[period];
+        }
+    }
+
+    /**
+     * A frame of a sampled stack, with the class name in the internal form.
+     *
+     * @param className  internal name of the class of the method
+     * @param methodName name of the method
+     * @param descriptor descriptor of the method
+     */
+    record SampledFrame(String className, String methodName, String descriptor) {
+    }
+}
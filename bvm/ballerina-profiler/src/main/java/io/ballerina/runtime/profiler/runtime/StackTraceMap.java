@@ -61,6 +61,18 @@ public final class StackTraceMap {
         return sb.toString();
     }
 
+    static String getCollapsedStackString(String stackKey) {
+        String[] stackElements = stackKey.split("\\$");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < stackElements.length; i++) {
+            if (i > 0) {
+                sb.append(';');
+            }
+            sb.append(decodeStackElement(indexStackTraceMap.get(stackElements[i])));
+        }
+        return sb.toString();
+    }
+
     private static String decodeStackElement(String stackElement) {
         return Utils.decodeIdentifier(stackElement.replace("$value$", ""));
     }
@@ -40,6 +40,11 @@ public final class Constants {
     public static final String PERFORMANCE_JSON =  "performance_report.json";
     public static final String TEMP_JAR_FILE_NAME = "temp.jar";
     public static final String STRAND_PROFILER_STACK_PROPERTY = "b7a.profile.stack";
+    public static final String SAMPLING_SETTINGS_FILE_NAME = "sampling.jfc";
+    public static final String SAMPLING_RECORDING_FILE_NAME = "sampling.jfr";
+    public static final String FLAME_GRAPH_FILE_NAME = "ProfilerReport.folded";
+    public static final String EXECUTION_SAMPLE_EVENT = "jdk.ExecutionSample";
+    public static final int SAMPLING_STACK_DEPTH = 512;
 
     public static final String STRAND_CLASS = "io/ballerina/runtime/internal/scheduling/Strand";
     public static final String DATA_CLASS = "io/ballerina/runtime/profiler/runtime/Data";
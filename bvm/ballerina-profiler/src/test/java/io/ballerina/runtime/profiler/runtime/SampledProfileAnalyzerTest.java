@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import io.ballerina.runtime.profiler.runtime.SampledProfileAnalyzer.SampledFrame;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.runtime.profiler.util.Constants.STRAND_ARG;
+
+/**
+ * Test cases for aggregating the sampled stacks with {@link SampledProfileAnalyzer}.
+ *
+ * @since 2201.12.0
+ */
+public class SampledProfileAnalyzerTest {
+
+    private static final String MAIN_CLASS = "testorg/sample/0/main";
+    private static final String UTILS_CLASS = "testorg/sample/0/utils";
+    private static final String OBJECT_CLASS = "testorg/sample/0/$value$Person";
+    private static final String STRAND_DESCRIPTOR = STRAND_ARG + ";J)J";
+    private static final long SAMPLING_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final SampledFrame MAIN = new SampledFrame(MAIN_CLASS, "main", STRAND_DESCRIPTOR);
+    private static final SampledFrame ADD = new SampledFrame(UTILS_CLASS, "add", STRAND_DESCRIPTOR);
+    private static final SampledFrame GREET = new SampledFrame(OBJECT_CLASS, "greet", STRAND_DESCRIPTOR);
+    // Frames which are not of the Ballerina functions of the program.
+    private static final SampledFrame SLEEP = new SampledFrame("java/lang/Thread", "sleep", "(J)V");
+    private static final SampledFrame NO_STRAND = new SampledFrame(UTILS_CLASS, "getValue", "(J)J");
+    private static final SampledFrame GENERATED = new SampledFrame(MAIN_CLASS, "$gen$add", STRAND_DESCRIPTOR);
+    private static final SampledFrame LIBRARY = new SampledFrame("otherorg/lib/0/lib", "run", STRAND_DESCRIPTOR);
+
+    private Path outputDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        outputDir = Files.createTempDirectory("sampled-profile");
+    }
+
+    @Test
+    public void testStackFiltering() {
+        SampledProfileAnalyzer analyzer = createAnalyzer();
+        analyzer.addSample(List.of(SLEEP, NO_STRAND, ADD, GENERATED, MAIN, LIBRARY), 1);
+        Assert.assertEquals(analyzer.getSampleCount(), 1);
+
+        // A stack without any of the functions of the program is not counted
+        analyzer.addSample(List.of(SLEEP, LIBRARY), 1);
+        analyzer.addSample(List.of(), 1);
+        Assert.assertEquals(analyzer.getSampleCount(), 1);
+    }
+
+    @Test
+    public void testProfileTimes() throws IOException {
+        SampledProfileAnalyzer analyzer = createAnalyzer();
+        addSamples(analyzer);
+        Assert.assertEquals(analyzer.getSampleCount(), 4);
+
+        // The total time of a stack includes the samples of the stacks called by it, and the interval of a sampling
+        // period is divided among the stacks sampled in it
+        Path cpuFilePath = outputDir.resolve("cpu_pre.json");
+        analyzer.writeProfile(cpuFilePath.toString());
+        Assert.assertEquals(Files.readString(cpuFilePath, StandardCharsets.UTF_8), "[" +
+                "{\"time\": \"35\", \"stackTrace\": [\"" + MAIN_CLASS + ".main\"]},\n" +
+                "{\"time\": \"20\", \"stackTrace\": [\"" + MAIN_CLASS + ".main\",\"" + UTILS_CLASS + ".add\"]},\n" +
+                "{\"time\": \"5\", \"stackTrace\": [\"" + MAIN_CLASS + ".main\",\"testorg/sample/0/Person.greet\"]}" +
+                "\n]");
+    }
+
+    @Test
+    public void testFoldedOutput() throws IOException {
+        SampledProfileAnalyzer analyzer = createAnalyzer();
+        addSamples(analyzer);
+
+        // The time of a folded stack excludes the samples of the stacks called by it
+        Path flameGraphFilePath = outputDir.resolve("ProfilerReport.folded");
+        analyzer.writeFlameGraph(flameGraphFilePath.toString());
+        Assert.assertEquals(Files.readAllLines(flameGraphFilePath, StandardCharsets.UTF_8), List.of(
+                MAIN_CLASS + ".main;" + UTILS_CLASS + ".add 20000000",
+                MAIN_CLASS + ".main;testorg/sample/0/Person.greet 5000000",
+                MAIN_CLASS + ".main 10000000"));
+    }
+
+    @Test
+    public void testSamplingPeriods() {
+        long millis = TimeUnit.MILLISECONDS.toNanos(1);
+        // The samples of a period are taken close to its start, though not in the order of the recording
+        SampledProfileAnalyzer.SamplingPeriods samplingPeriods = new SampledProfileAnalyzer.SamplingPeriods(
+                List.of(10300 * millis / 1000, 0L, 21 * millis, millis, 10200 * millis / 1000, 10400 * millis / 1000),
+                SAMPLING_INTERVAL_NANOS);
+        Assert.assertEquals(samplingPeriods.getSampleCount(0), 2);
+        Assert.assertEquals(samplingPeriods.getSampleCount(millis), 2);
+        Assert.assertEquals(samplingPeriods.getSampleCount(10300 * millis / 1000), 3);
+        Assert.assertEquals(samplingPeriods.getSampleCount(10400 * millis / 1000), 3);
+        Assert.assertEquals(samplingPeriods.getSampleCount(21 * millis), 1);
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        try (var paths = Files.list(outputDir)) {
+            for (Path path : paths.toList()) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(outputDir);
+    }
+
+    private static SampledProfileAnalyzer createAnalyzer() {
+        return new SampledProfileAnalyzer(Set.of(MAIN_CLASS, UTILS_CLASS, OBJECT_CLASS), SAMPLING_INTERVAL_NANOS);
+    }
+
+    // Adds the samples of a program in which main calls add twice and greet once, with the frames of each stack
+    // starting from the top of the stack. The stack of greet is sampled in the same period as a stack of a library.
+    private static void addSamples(SampledProfileAnalyzer analyzer) {
+        analyzer.addSample(List.of(SLEEP, ADD, GENERATED, MAIN, LIBRARY), 1);
+        analyzer.addSample(List.of(GREET, MAIN), 2);
+        analyzer.addSample(List.of(LIBRARY), 2);
+        analyzer.addSample(List.of(ADD, MAIN), 1);
+        analyzer.addSample(List.of(MAIN), 1);
+    }
+}
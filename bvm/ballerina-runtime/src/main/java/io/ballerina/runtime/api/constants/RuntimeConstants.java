@@ -79,6 +79,7 @@ public final class RuntimeConstants {
     public static final String BOOLEAN_LANG_LIB = "lang.boolean";
     public static final String TRANSACTION_LANG_LIB = "lang.transaction";
     public static final String REGEXP_LANG_LIB = "lang.regexp";
+    public static final String RUNTIME_LANG_LIB = "lang.runtime";
 
     // Workers
     public static final String DEFAULT_WORKER_NAME = "default";
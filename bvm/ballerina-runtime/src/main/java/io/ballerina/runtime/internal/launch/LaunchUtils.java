@@ -29,6 +29,7 @@ import io.ballerina.runtime.internal.configurable.providers.env.EnvVarProvider;
 import io.ballerina.runtime.internal.configurable.providers.toml.TomlContentProvider;
 import io.ballerina.runtime.internal.configurable.providers.toml.TomlFileProvider;
 import io.ballerina.runtime.internal.diagnostics.RuntimeDiagnosticLog;
+import io.ballerina.runtime.internal.scheduling.StrandExecutor;
 import io.ballerina.runtime.internal.troubleshoot.StrandDump;
 import io.ballerina.runtime.internal.utils.RuntimeUtils;
 import sun.misc.Signal;
@@ -102,6 +103,7 @@ public final class LaunchUtils {
                                                  String[] args, Path[] configFilePaths, String configContent) {
 
         RuntimeDiagnosticLog diagnosticLog = new RuntimeDiagnosticLog();
+        StrandExecutor.addConfigData(configurationData);
         CliProvider cliConfigProvider = new CliProvider(rootModule, args);
         List<ConfigProvider> supportedConfigProviders = new LinkedList<>();
         Set<Module> moduleSet = configurationData.keySet();
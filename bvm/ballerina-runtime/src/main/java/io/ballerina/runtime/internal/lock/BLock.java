@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.lock;
+
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Lock used by a Ballerina lock statement. An instance is created for each lock of a module when the module init
+ * class is initialized and is accessed directly through a static field in the generated code.
+ * <p>
+ * Lock statements that only read the variables they guard acquire the read lock, all others acquire the write lock.
+ *
+ * @since 2201.12.0
+ */
+public class BLock {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /*
+        This is code generated method to acquire the lock for a lock statement.
+    */
+    @SuppressWarnings("unused")
+    public void lock(Strand strand) {
+        try {
+            strand.yield();
+            lock.writeLock().lock();
+            strand.acquiredLockCount++;
+        } finally {
+            strand.resume();
+        }
+    }
+
+    /*
+        This is code generated method to release the lock of a lock statement.
+    */
+    @SuppressWarnings("unused")
+    public void unlock(Strand strand) {
+        lock.writeLock().unlock();
+        strand.acquiredLockCount--;
+    }
+
+    /*
+        This is code generated method to acquire the lock for a read-only lock statement.
+    */
+    @SuppressWarnings("unused")
+    public void readLock(Strand strand) {
+        try {
+            strand.yield();
+            lock.readLock().lock();
+            strand.acquiredLockCount++;
+        } finally {
+            strand.resume();
+        }
+    }
+
+    /*
+        This is code generated method to release the lock of a read-only lock statement.
+    */
+    @SuppressWarnings("unused")
+    public void readUnlock(Strand strand) {
+        lock.readLock().unlock();
+        strand.acquiredLockCount--;
+    }
+}
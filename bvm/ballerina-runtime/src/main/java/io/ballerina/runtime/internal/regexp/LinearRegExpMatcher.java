@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.regexp;
+
+import java.util.Arrays;
+
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.ASSERT;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.BEGIN_INPUT;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.BEGIN_LINE;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.CHAR;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.END_INPUT;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.JUMP;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.MATCH;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.SAVE;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.SPLIT;
+
+/**
+ * A {@code RegExpMatcher} of the {@code linear} engine, which runs a {@link RegExpProgram} as a Pike VM.
+ * <p>
+ * The threads of the program are kept in the order of their priority, so that the match found is the one
+ * {@link java.util.regex.Matcher} would find by backtracking. A thread that consumes a supplementary code point
+ * waits for a step in a state of its own, as the string is stepped through a UTF-16 char at a time.
+ *
+ * @since 2201.12.0
+ */
+final class LinearRegExpMatcher implements RegExpMatcher {
+
+    private final RegExpProgram program;
+    private final String input;
+    private final int slotCount;
+    private final int[] groups;
+    private final int[] slots;
+    private final int[] stackEntries;
+    private final int[] stackValues;
+    private ThreadList currentThreads;
+    private ThreadList nextThreads;
+    private int from;
+    private int to;
+    // The start and the end of the previous match, as in java.util.regex.Matcher.
+    private int first = -1;
+    private int last = 0;
+
+    LinearRegExpMatcher(RegExpProgram program, String input) {
+        this.program = program;
+        this.input = input;
+        this.slotCount = (program.groupCount + 1) * 2;
+        this.groups = new int[slotCount];
+        this.slots = new int[slotCount];
+        int size = program.size();
+        this.stackEntries = new int[size + 1];
+        this.stackValues = new int[size + 1];
+        this.to = input.length();
+        Arrays.fill(groups, -1);
+    }
+
+    @Override
+    public void region(int start, int end) {
+        if (start < 0 || start > input.length()) {
+            throw new IndexOutOfBoundsException("start");
+        }
+        if (end < 0 || end > input.length()) {
+            throw new IndexOutOfBoundsException("end");
+        }
+        if (start > end) {
+            throw new IndexOutOfBoundsException("start > end");
+        }
+        reset();
+        from = start;
+        to = end;
+    }
+
+    @Override
+    public boolean find() {
+        int nextSearchIndex = last;
+        if (nextSearchIndex == first) {
+            nextSearchIndex++;
+        }
+        if (nextSearchIndex < from) {
+            nextSearchIndex = from;
+        }
+        if (nextSearchIndex > to) {
+            Arrays.fill(groups, -1);
+            return false;
+        }
+        return search(nextSearchIndex, false);
+    }
+
+    @Override
+    public boolean find(int start) {
+        if (start < 0 || start > input.length()) {
+            throw new IndexOutOfBoundsException("Illegal start index");
+        }
+        reset();
+        return search(start, false);
+    }
+
+    @Override
+    public boolean matches() {
+        return search(from, true);
+    }
+
+    @Override
+    public int start() {
+        return start(0);
+    }
+
+    @Override
+    public int start(int group) {
+        checkGroup(group);
+        return groups[group * 2];
+    }
+
+    @Override
+    public int end() {
+        return end(0);
+    }
+
+    @Override
+    public int end(int group) {
+        checkGroup(group);
+        return groups[group * 2 + 1];
+    }
+
+    @Override
+    public String group() {
+        return group(0);
+    }
+
+    @Override
+    public String group(int group) {
+        checkGroup(group);
+        int start = groups[group * 2];
+        int end = groups[group * 2 + 1];
+        if (start == -1 || end == -1) {
+            return null;
+        }
+        return input.substring(start, end);
+    }
+
+    @Override
+    public int groupCount() {
+        return program.groupCount;
+    }
+
+    private void checkGroup(int group) {
+        if (first < 0) {
+            throw new IllegalStateException("No match available");
+        }
+        if (group < 0 || group > program.groupCount) {
+            throw new IndexOutOfBoundsException("No group " + group);
+        }
+    }
+
+    private void reset() {
+        first = -1;
+        last = 0;
+        from = 0;
+        to = input.length();
+        Arrays.fill(groups, -1);
+    }
+
+    private boolean search(int start, boolean fullMatch) {
+        // The thread lists are taken from the program, so that a search shares them with the earlier searches
+        // instead of allocating them again, unless they are in use by a search of another matcher.
+        ThreadList[] threadLists = program.threadLists.getAndSet(null);
+        if (threadLists == null) {
+            int stateCount = program.size() * 2;
+            threadLists = new ThreadList[]{new ThreadList(stateCount, slotCount),
+                    new ThreadList(stateCount, slotCount)};
+        }
+        currentThreads = threadLists[0];
+        nextThreads = threadLists[1];
+        try {
+            return runThreads(start, fullMatch);
+        } finally {
+            currentThreads = null;
+            nextThreads = null;
+            program.threadLists.set(threadLists);
+        }
+    }
+
+    private boolean runThreads(int start, boolean fullMatch) {
+        Arrays.fill(groups, -1);
+        currentThreads.clear();
+        nextThreads.clear();
+        int size = program.size();
+        boolean found = false;
+        for (int index = start; ; index++) {
+            if (!found && (index == start || !fullMatch && isStartIndex(start, index))) {
+                Arrays.fill(slots, -1);
+                addThread(currentThreads, 0, index);
+            }
+            if (currentThreads.size == 0 && (found || fullMatch)) {
+                break;
+            }
+            int codePoint = -1;
+            int length = 0;
+            if (index < to) {
+                codePoint = input.codePointAt(index);
+                length = Character.charCount(codePoint);
+                if (index + length > to) {
+                    codePoint = -1;
+                }
+            }
+            for (int i = 0; i < currentThreads.size; i++) {
+                int state = currentThreads.states[i];
+                if (state >= size) {
+                    // The thread consumed the first char of a surrogate pair in the previous step.
+                    currentThreads.copySlots(state, slots);
+                    addThread(nextThreads, state - size, index + 1);
+                    continue;
+                }
+                int opcode = program.opcodes[state];
+                if (opcode == MATCH) {
+                    if (fullMatch && index != to) {
+                        continue;
+                    }
+                    found = true;
+                    currentThreads.copySlots(state, groups);
+                    // The remaining threads have a lower priority than the match.
+                    break;
+                }
+                if (opcode > RegExpProgram.CLASS || codePoint == -1) {
+                    continue;
+                }
+                boolean accepted = opcode == CHAR ? program.args[state] == codePoint
+                        : program.predicates[state].test(codePoint);
+                if (!accepted) {
+                    continue;
+                }
+                currentThreads.copySlots(state, slots);
+                if (length == 1) {
+                    addThread(nextThreads, state + 1, index + 1);
+                } else if (!nextThreads.contains(state + 1 + size)) {
+                    nextThreads.add(state + 1 + size, slots);
+                }
+            }
+            ThreadList threads = currentThreads;
+            currentThreads = nextThreads;
+            nextThreads = threads;
+            nextThreads.clear();
+            if (index >= to) {
+                break;
+            }
+        }
+
+        if (found) {
+            first = groups[0];
+            last = groups[1];
+        } else {
+            first = -1;
+        }
+        return found;
+    }
+
+    private boolean isStartIndex(int start, int index) {
+        if (!program.hasSupplementary || index == start || index == input.length()) {
+            return true;
+        }
+        return !(Character.isLowSurrogate(input.charAt(index)) && Character.isHighSurrogate(input.charAt(index - 1)));
+    }
+
+    // Adds the threads reachable from the instruction without consuming a char, in the order of their priority. The
+    // capture slots of the thread are in 'slots', which is restored before returning.
+    private void addThread(ThreadList threads, int pc, int index) {
+        int top = 0;
+        stackEntries[top++] = pc;
+        while (top > 0) {
+            int entry = stackEntries[--top];
+            if (entry < 0) {
+                slots[-entry - 1] = stackValues[top];
+                continue;
+            }
+            int state = entry;
+            while (!threads.contains(state)) {
+                int opcode = program.opcodes[state];
+                if (opcode == JUMP) {
+                    threads.mark(state);
+                    state = program.targets[state];
+                } else if (opcode == SPLIT) {
+                    threads.mark(state);
+                    stackEntries[top++] = program.targets[state];
+                    state = program.args[state];
+                } else if (opcode == SAVE) {
+                    threads.mark(state);
+                    int slot = program.args[state];
+                    stackEntries[top] = -slot - 1;
+                    stackValues[top++] = slots[slot];
+                    slots[slot] = index;
+                    state++;
+                } else if (opcode == ASSERT) {
+                    threads.mark(state);
+                    if (!holds(program.args[state], index)) {
+                        break;
+                    }
+                    state++;
+                } else {
+                    threads.add(state, slots);
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean holds(int assertion, int index) {
+        return switch (assertion) {
+            case BEGIN_INPUT -> index == from;
+            case BEGIN_LINE -> isBeginningOfLine(index);
+            case END_INPUT -> isEndOfInput(index);
+            default -> isEndOfLine(index);
+        };
+    }
+
+    private boolean isBeginningOfLine(int index) {
+        // A line does not begin at the end of the input, even after a line terminator.
+        if (index == to) {
+            return false;
+        }
+        if (index > from) {
+            char c = input.charAt(index - 1);
+            if (!isLineTerminator(c)) {
+                return false;
+            }
+            return c != '\r' || input.charAt(index) != '\n';
+        }
+        return true;
+    }
+
+    private boolean isEndOfInput(int index) {
+        // Matches at the end of the input, and before a line terminator at the end of the input.
+        if (index < to - 2) {
+            return false;
+        }
+        if (index == to - 2) {
+            return input.charAt(index) == '\r' && input.charAt(index + 1) == '\n';
+        }
+        return index == to || isEndOfLine(index);
+    }
+
+    private boolean isEndOfLine(int index) {
+        if (index == to) {
+            return true;
+        }
+        char c = input.charAt(index);
+        if (c == '\n') {
+            return index == 0 || input.charAt(index - 1) != '\r';
+        }
+        return isLineTerminator(c);
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || (c | 1) == '\u2029';
+    }
+
+    /**
+     * The threads of a step, as a sparse set of program states in the order of their priority, with the capture
+     * slots of each thread.
+     */
+    static final class ThreadList {
+
+        private final int[] states;
+        private final boolean[] marked;
+        private final int[] markedStates;
+        private final int[] slots;
+        private final int slotCount;
+        private int size;
+        private int markedCount;
+
+        ThreadList(int stateCount, int slotCount) {
+            this.states = new int[stateCount];
+            this.marked = new boolean[stateCount];
+            this.markedStates = new int[stateCount];
+            this.slots = new int[stateCount * slotCount];
+            this.slotCount = slotCount;
+        }
+
+        boolean contains(int state) {
+            return marked[state];
+        }
+
+        void mark(int state) {
+            marked[state] = true;
+            markedStates[markedCount++] = state;
+        }
+
+        void add(int state, int[] threadSlots) {
+            mark(state);
+            states[size++] = state;
+            System.arraycopy(threadSlots, 0, slots, state * slotCount, slotCount);
+        }
+
+        void copySlots(int state, int[] threadSlots) {
+            System.arraycopy(slots, state * slotCount, threadSlots, 0, slotCount);
+        }
+
+        void clear() {
+            for (int i = 0; i < markedCount; i++) {
+                marked[markedStates[i]] = false;
+            }
+            markedCount = 0;
+            size = 0;
+        }
+    }
+}
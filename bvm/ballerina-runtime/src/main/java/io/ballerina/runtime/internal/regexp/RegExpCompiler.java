@@ -0,0 +1,704 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.regexp;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.RegExpAssertion;
+import io.ballerina.runtime.internal.values.RegExpAtomQuantifier;
+import io.ballerina.runtime.internal.values.RegExpCapturingGroup;
+import io.ballerina.runtime.internal.values.RegExpCharSet;
+import io.ballerina.runtime.internal.values.RegExpCharSetRange;
+import io.ballerina.runtime.internal.values.RegExpCharacterClass;
+import io.ballerina.runtime.internal.values.RegExpDisjunction;
+import io.ballerina.runtime.internal.values.RegExpFlagExpression;
+import io.ballerina.runtime.internal.values.RegExpLiteralCharOrEscape;
+import io.ballerina.runtime.internal.values.RegExpQuantifier;
+import io.ballerina.runtime.internal.values.RegExpSequence;
+import io.ballerina.runtime.internal.values.RegExpTerm;
+import io.ballerina.runtime.internal.values.RegExpValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.ASSERT;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.BEGIN_INPUT;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.BEGIN_LINE;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.CHAR;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.CLASS;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.END_INPUT;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.END_LINE;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.JUMP;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.MATCH;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.SAVE;
+import static io.ballerina.runtime.internal.regexp.RegExpProgram.SPLIT;
+
+/**
+ * Compiles the tree of a regular expression to a {@link RegExpProgram} of the {@code linear} engine.
+ * <p>
+ * The program matches as {@link java.util.regex.Pattern} matches the regular expression translated by
+ * {@link RegExpFactory#translateRegExpConstructs(RegExpValue)}, with the same match flags. Both the original and the
+ * translated trees are accepted. Insertions, the {@code x} flag, repetitions of groups that can match the empty
+ * string or that have capturing groups within, repetitions that would make the program too large, and programs of
+ * which the threads would have too many capture slots are not supported, and are matched using
+ * {@code java.util.regex} instead, unless the {@code linear_strict} engine is selected.
+ *
+ * @since 2201.12.0
+ */
+final class RegExpCompiler {
+
+    private static final int MAX_PROGRAM_SIZE = 10_000;
+    // The maximum number of capture slots in a list of threads of a match, which has two threads for each state.
+    private static final int MAX_THREAD_SLOTS = 1 << 20;
+    private static final String NEGATION = "^";
+    private static final String PROGRAM_TOO_LARGE = "programs larger than " + MAX_PROGRAM_SIZE + " instructions";
+
+    private final int flags;
+    private final boolean unicodeCase;
+    private final boolean unicodeCharacterClass;
+    private final Map<RegExpCapturingGroup, Integer> groupNumbers = new IdentityHashMap<>();
+    private int[] opcodes = new int[16];
+    private int[] args = new int[16];
+    private int[] targets = new int[16];
+    private IntPredicate[] predicates = new IntPredicate[16];
+    private int size;
+    private boolean caseInsensitive;
+    private boolean multiline;
+    private boolean dotAll;
+    private boolean hasSupplementary;
+    private int groupDepth;
+    private int repetitionDepth;
+    private Object repeatedAtom;
+
+    private RegExpCompiler(int flags) {
+        this.flags = flags;
+        this.unicodeCharacterClass = (flags & Pattern.UNICODE_CHARACTER_CLASS) != 0;
+        this.unicodeCase = unicodeCharacterClass || (flags & Pattern.UNICODE_CASE) != 0;
+        this.caseInsensitive = (flags & Pattern.CASE_INSENSITIVE) != 0;
+        this.multiline = (flags & Pattern.MULTILINE) != 0;
+    }
+
+    /**
+     * Compiles the given regular expression with the given match flags of {@link java.util.regex.Pattern}.
+     *
+     * @param regExpValue regular expression
+     * @param flags       match flags
+     * @return compiled program, which is not supported if the regular expression cannot be compiled, with the
+     *         construct that could not be compiled
+     * @throws java.util.regex.PatternSyntaxException if a unicode property of the regular expression is invalid
+     */
+    static RegExpProgram compile(RegExpValue regExpValue, int flags) {
+        if ((flags & ~(Pattern.UNICODE_CHARACTER_CLASS | Pattern.UNICODE_CASE | Pattern.CASE_INSENSITIVE
+                | Pattern.MULTILINE)) != 0) {
+            return RegExpProgram.unsupported(flags, "the match flags " + flags);
+        }
+        try {
+            return new RegExpCompiler(flags).compileProgram(regExpValue.getRegExpDisjunction());
+        } catch (UnsupportedRegExpException e) {
+            return RegExpProgram.unsupported(flags, e.getMessage());
+        }
+    }
+
+    private RegExpProgram compileProgram(RegExpDisjunction disjunction) {
+        numberGroups(disjunction);
+        emit(SAVE, 0, 0);
+        compileDisjunction(disjunction);
+        emit(SAVE, 1, 0);
+        emit(MATCH, 0, 0);
+        if ((long) size * 2 * (groupNumbers.size() + 1) * 2 > MAX_THREAD_SLOTS) {
+            throw new UnsupportedRegExpException(PROGRAM_TOO_LARGE);
+        }
+        return new RegExpProgram(Arrays.copyOf(opcodes, size), Arrays.copyOf(args, size),
+                Arrays.copyOf(targets, size), Arrays.copyOf(predicates, size), groupNumbers.size(),
+                hasSupplementary, flags);
+    }
+
+    // Numbers the capturing groups in the order of their opening parentheses, as the repetitions of a group share
+    // its number.
+    private void numberGroups(RegExpDisjunction disjunction) {
+        for (List<RegExpTerm> alternative : getAlternatives(disjunction)) {
+            for (RegExpTerm term : alternative) {
+                if (term instanceof RegExpAtomQuantifier atomQuantifier
+                        && atomQuantifier.getReAtom() instanceof RegExpCapturingGroup group) {
+                    if (isCapturing(group)) {
+                        groupNumbers.put(group, groupNumbers.size() + 1);
+                    }
+                    numberGroups(group.getReDisjunction());
+                }
+            }
+        }
+    }
+
+    private static List<List<RegExpTerm>> getAlternatives(RegExpDisjunction disjunction) {
+        List<List<RegExpTerm>> alternatives = new ArrayList<>();
+        List<RegExpTerm> alternative = new ArrayList<>();
+        alternatives.add(alternative);
+        for (Object sequence : disjunction.getRegExpSeqList()) {
+            if (sequence == null) {
+                break;
+            }
+            if (sequence instanceof RegExpSequence regExpSequence) {
+                for (RegExpTerm term : regExpSequence.getRegExpTermsList()) {
+                    if (term == null) {
+                        break;
+                    }
+                    alternative.add(term);
+                }
+            } else if (isPipe(sequence)) {
+                alternative = new ArrayList<>();
+                alternatives.add(alternative);
+            } else {
+                throw new UnsupportedRegExpException("insertions");
+            }
+        }
+        return alternatives;
+    }
+
+    private static boolean isPipe(Object value) {
+        if (value instanceof BString bString) {
+            return "|".equals(bString.getValue());
+        }
+        return "|".equals(value);
+    }
+
+    private void compileDisjunction(RegExpDisjunction disjunction) {
+        List<List<RegExpTerm>> alternatives = getAlternatives(disjunction);
+        int[] jumps = new int[alternatives.size() - 1];
+        for (int i = 0; i < jumps.length; i++) {
+            int split = emit(SPLIT, size + 1, 0);
+            compileSequence(alternatives.get(i));
+            jumps[i] = emit(JUMP, 0, 0);
+            targets[split] = size;
+        }
+        compileSequence(alternatives.get(alternatives.size() - 1));
+        for (int jump : jumps) {
+            targets[jump] = size;
+        }
+    }
+
+    private void compileSequence(List<RegExpTerm> terms) {
+        for (RegExpTerm term : terms) {
+            if (term instanceof RegExpAssertion assertion) {
+                compileAssertion(assertion.getAssertion());
+            } else if (term instanceof RegExpAtomQuantifier atomQuantifier) {
+                compileAtomQuantifier(atomQuantifier);
+            } else {
+                throw new UnsupportedRegExpException("insertions");
+            }
+        }
+    }
+
+    private void compileAssertion(String assertion) {
+        switch (assertion) {
+            case "^" -> emit(ASSERT, multiline ? BEGIN_LINE : BEGIN_INPUT, 0);
+            case "$" -> emit(ASSERT, multiline ? END_LINE : END_INPUT, 0);
+            default -> throw new UnsupportedRegExpException("the assertion '" + assertion + "'");
+        }
+    }
+
+    private void compileAtomQuantifier(RegExpAtomQuantifier atomQuantifier) {
+        Object atom = atomQuantifier.getReAtom();
+        RegExpQuantifier quantifier = atomQuantifier.getReQuantifier();
+        String quantifierValue = quantifier == null ? "" : quantifier.getQuantifier();
+        boolean greedy = quantifier == null || quantifier.getNonGreedyChar().isEmpty();
+        int min;
+        int max;
+        switch (quantifierValue) {
+            case "" -> {
+                compileAtom(atom);
+                return;
+            }
+            case "*" -> {
+                min = 0;
+                max = -1;
+            }
+            case "+" -> {
+                min = 1;
+                max = -1;
+            }
+            case "?" -> {
+                min = 0;
+                max = 1;
+            }
+            default -> {
+                int[] bounds = parseBracedQuantifier(quantifierValue);
+                min = bounds[0];
+                max = bounds[1];
+            }
+        }
+        // A quantifier applies to the last char of a literal with more than one char in java.util.regex, which also
+        // stops repeating a group at an iteration that matches the empty string, unlike a Pike VM.
+        if (isLiteralOfManyCodePoints(atom)) {
+            throw new UnsupportedRegExpException("quantifiers of literals of more than one char");
+        }
+        if (atom instanceof RegExpCapturingGroup group && canMatchEmpty(group.getReDisjunction())) {
+            throw new UnsupportedRegExpException("repetitions of groups that can match the empty string");
+        }
+
+        repetitionDepth++;
+        for (int i = 0; i < min; i++) {
+            compileRepeatedAtom(atom);
+        }
+        if (max == -1) {
+            int loop = emit(SPLIT, 0, 0);
+            compileRepeatedAtom(atom);
+            emit(JUMP, 0, loop);
+            setSplitTargets(loop, loop + 1, size, greedy);
+        } else {
+            int[] splits = new int[max - min];
+            for (int i = 0; i < splits.length; i++) {
+                splits[i] = emit(SPLIT, 0, 0);
+                compileRepeatedAtom(atom);
+            }
+            for (int split : splits) {
+                setSplitTargets(split, split + 1, size, greedy);
+            }
+        }
+        repetitionDepth--;
+    }
+
+    private void compileRepeatedAtom(Object atom) {
+        repeatedAtom = atom;
+        compileAtom(atom);
+    }
+
+    private void setSplitTargets(int split, int repeat, int exit, boolean greedy) {
+        args[split] = greedy ? repeat : exit;
+        targets[split] = greedy ? exit : repeat;
+    }
+
+    private static int[] parseBracedQuantifier(String quantifier) {
+        if (!quantifier.startsWith("{") || !quantifier.endsWith("}")) {
+            throw new UnsupportedRegExpException("the quantifier '" + quantifier + "'");
+        }
+        String bounds = quantifier.substring(1, quantifier.length() - 1);
+        int comma = bounds.indexOf(',');
+        try {
+            int min;
+            int max;
+            if (comma == -1) {
+                min = Integer.parseInt(bounds);
+                max = min;
+            } else {
+                min = Integer.parseInt(bounds.substring(0, comma));
+                String maxValue = bounds.substring(comma + 1);
+                max = maxValue.isEmpty() ? -1 : Integer.parseInt(maxValue);
+            }
+            // Each repetition takes at least one instruction, hence a larger count cannot fit in a program, and is
+            // rejected before the instructions of the repetitions are allocated.
+            if (max != -1 && max < min || min > MAX_PROGRAM_SIZE || max > MAX_PROGRAM_SIZE) {
+                throw new UnsupportedRegExpException("the quantifier '" + quantifier + "'");
+            }
+            return new int[]{min, max};
+        } catch (NumberFormatException e) {
+            throw new UnsupportedRegExpException("the quantifier '" + quantifier + "'");
+        }
+    }
+
+    private static boolean canMatchEmpty(RegExpDisjunction disjunction) {
+        for (List<RegExpTerm> alternative : getAlternatives(disjunction)) {
+            boolean empty = true;
+            for (RegExpTerm term : alternative) {
+                if (term instanceof RegExpAtomQuantifier atomQuantifier && !canMatchEmpty(atomQuantifier)) {
+                    empty = false;
+                    break;
+                }
+            }
+            if (empty) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean canMatchEmpty(RegExpAtomQuantifier atomQuantifier) {
+        RegExpQuantifier quantifier = atomQuantifier.getReQuantifier();
+        String quantifierValue = quantifier == null ? "" : quantifier.getQuantifier();
+        if (quantifierValue.equals("*") || quantifierValue.equals("?") || quantifierValue.startsWith("{0")) {
+            return true;
+        }
+        return atomQuantifier.getReAtom() instanceof RegExpCapturingGroup group
+                && canMatchEmpty(group.getReDisjunction());
+    }
+
+    private static boolean isLiteralOfManyCodePoints(Object atom) {
+        String value;
+        if (atom instanceof RegExpLiteralCharOrEscape literal) {
+            value = literal.getCharOrEscape();
+        } else if (atom instanceof String string) {
+            value = string;
+        } else {
+            return false;
+        }
+        return !value.startsWith("\\") && value.codePointCount(0, value.length()) > 1;
+    }
+
+    private void compileAtom(Object atom) {
+        if (atom instanceof RegExpLiteralCharOrEscape literal) {
+            compileCharOrEscape(literal.getCharOrEscape());
+        } else if (atom instanceof String value) {
+            compileCharOrEscape(value);
+        } else if (atom instanceof RegExpCharacterClass characterClass) {
+            emitClass(compileCharacterClass(characterClass));
+        } else if (atom instanceof RegExpCapturingGroup group) {
+            compileGroup(group);
+        } else {
+            // An insertion, which is not parsed.
+            throw new UnsupportedRegExpException("insertions");
+        }
+    }
+
+    private void compileGroup(RegExpCapturingGroup group) {
+        boolean prevCaseInsensitive = caseInsensitive;
+        boolean prevMultiline = multiline;
+        boolean prevDotAll = dotAll;
+        Integer groupNumber = groupNumbers.get(group);
+        // java.util.regex keeps the captures of a group within a repetition from the iterations it backtracks out
+        // of, unless the group itself is the one repeated.
+        if (groupNumber != null && repetitionDepth > (group == repeatedAtom ? 1 : 0)) {
+            throw new UnsupportedRegExpException("capturing groups within a repetition");
+        }
+        if (groupNumber != null) {
+            emit(SAVE, groupNumber * 2, 0);
+        } else {
+            setFlags(group.getFlagExpr().getFlagsOnOff().getFlags());
+        }
+        groupDepth++;
+        compileDisjunction(group.getReDisjunction());
+        groupDepth--;
+        if (groupNumber != null) {
+            emit(SAVE, groupNumber * 2 + 1, 0);
+        }
+        caseInsensitive = prevCaseInsensitive;
+        multiline = prevMultiline;
+        dotAll = prevDotAll;
+    }
+
+    private static boolean isCapturing(RegExpCapturingGroup group) {
+        RegExpFlagExpression flagExpr = group.getFlagExpr();
+        return flagExpr == null || flagExpr.getQuestionMark().isEmpty();
+    }
+
+    private void setFlags(String flagsOnOff) {
+        boolean on = true;
+        for (int i = 0; i < flagsOnOff.length(); i++) {
+            switch (flagsOnOff.charAt(i)) {
+                case '-' -> on = false;
+                case 'i' -> caseInsensitive = on;
+                case 'm' -> multiline = on;
+                case 's' -> dotAll = on;
+                default -> throw new UnsupportedRegExpException("the flag '" + flagsOnOff.charAt(i) + "'");
+            }
+        }
+    }
+
+    private void compileCharOrEscape(String value) {
+        if (".".equals(value)) {
+            // Only the atoms outside groups are translated, so that '.' within a group is the '.' of java.util.regex.
+            if (groupDepth == 0) {
+                emitClass(c -> c != '\n' && c != '\r');
+            } else if (dotAll) {
+                emitClass(c -> true);
+            } else {
+                emitClass(c -> !isLineTerminator(c));
+            }
+            return;
+        }
+        if (value.startsWith("\\")) {
+            IntPredicate escapeClass = compileClassEscape(value);
+            if (escapeClass != null) {
+                emitClass(escapeClass);
+            } else {
+                emitChar(parseEscapedCodePoint(value));
+            }
+            return;
+        }
+        value.codePoints().forEach(this::emitChar);
+    }
+
+    private void emitChar(int codePoint) {
+        if (Character.isSupplementaryCodePoint(codePoint) || Character.isSurrogate((char) codePoint)) {
+            hasSupplementary = true;
+        }
+        if (caseInsensitive && isCased(codePoint)) {
+            emitClass(compileChar(codePoint));
+            return;
+        }
+        emit(CHAR, codePoint, 0);
+    }
+
+    private void emitClass(IntPredicate predicate) {
+        int pc = emit(CLASS, 0, 0);
+        predicates[pc] = predicate;
+    }
+
+    private IntPredicate compileCharacterClass(RegExpCharacterClass characterClass) {
+        List<IntPredicate> members = new ArrayList<>();
+        collectCharSet(characterClass.getReCharSet(), members);
+        IntPredicate[] memberArray = members.toArray(new IntPredicate[0]);
+        IntPredicate union = c -> {
+            for (IntPredicate member : memberArray) {
+                if (member.test(c)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+        return cacheAscii(NEGATION.equals(characterClass.getNegation()) ? union.negate() : union);
+    }
+
+    private void collectCharSet(RegExpCharSet charSet, List<IntPredicate> members) {
+        for (Object atom : charSet.getCharSetAtoms()) {
+            if (atom == null) {
+                continue;
+            }
+            if (atom instanceof String value) {
+                members.add(compileClassAtom(value));
+            } else if (atom instanceof RegExpLiteralCharOrEscape literal) {
+                members.add(compileClassAtom(literal.getCharOrEscape()));
+            } else if (atom instanceof RegExpCharSetRange range) {
+                members.add(compileRange(parseCodePoint(range.getLhsCharSetAtom()),
+                        parseCodePoint(range.getRhsCharSetAtom())));
+            } else if (atom instanceof RegExpCharSet nestedCharSet) {
+                collectCharSet(nestedCharSet, members);
+            } else if (atom instanceof RegExpCharacterClass nestedClass) {
+                members.add(compileCharacterClass(nestedClass));
+            } else {
+                throw new UnsupportedRegExpException("insertions");
+            }
+        }
+    }
+
+    private IntPredicate compileClassAtom(String value) {
+        if (value.startsWith("\\")) {
+            IntPredicate escapeClass = compileClassEscape(value);
+            if (escapeClass != null) {
+                return escapeClass;
+            }
+        }
+        return compileChar(parseCodePoint(value));
+    }
+
+    private int parseCodePoint(String value) {
+        // '&' is not escaped within a group, where '&&' is an intersection of classes in java.util.regex.
+        if (groupDepth > 0 && "&".equals(value)) {
+            throw new UnsupportedRegExpException("'&' within a group");
+        }
+        int codePoint = value.startsWith("\\") ? parseEscapedCodePoint(value) : parseLiteralCodePoint(value);
+        if (Character.isSupplementaryCodePoint(codePoint) || Character.isSurrogate((char) codePoint)) {
+            hasSupplementary = true;
+        }
+        return codePoint;
+    }
+
+    private static int parseLiteralCodePoint(String value) {
+        if (value.isEmpty() || value.codePointCount(0, value.length()) != 1) {
+            throw new UnsupportedRegExpException("the char '" + value + "'");
+        }
+        return value.codePointAt(0);
+    }
+
+    private static boolean isLineTerminator(int c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || (c | 1) == '\u2029';
+    }
+
+    private int parseEscapedCodePoint(String escape) {
+        if (escape.length() == 2) {
+            char c = escape.charAt(1);
+            return switch (c) {
+                case 't' -> '\t';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case '^', '$', '\\', '.', '*', '+', '?', '(', ')', '[', ']', '{', '}', '|', '&', '-' -> c;
+                default -> throw new UnsupportedRegExpException("the escape '" + escape + "'");
+            };
+        }
+        // An escape within a group is not translated, and is not a valid escape of java.util.regex.
+        if (escape.startsWith("\\u{") && escape.endsWith("}") && groupDepth == 0) {
+            try {
+                int codePoint = Integer.parseInt(escape.substring(3, escape.length() - 1), 16);
+                if (Character.isValidCodePoint(codePoint)) {
+                    return codePoint;
+                }
+            } catch (NumberFormatException e) {
+                // Not a valid code point.
+            }
+        }
+        throw new UnsupportedRegExpException("the escape '" + escape + "'");
+    }
+
+    // Returns the predicate of a character class escape, or null if the escape is not a character class escape.
+    private IntPredicate compileClassEscape(String escape) {
+        if (escape.startsWith("\\p{") || escape.startsWith("\\P{")) {
+            return compileProperty(escape);
+        }
+        return switch (escape) {
+            case "\\d" -> compileDigit();
+            case "\\D" -> compileDigit().negate();
+            case "\\w" -> compileWord();
+            case "\\W" -> compileWord().negate();
+            case "\\s" -> compileWhiteSpace();
+            case "\\S" -> compileWhiteSpace().negate();
+            default -> null;
+        };
+    }
+
+    private IntPredicate compileDigit() {
+        return unicodeCharacterClass ? Character::isDigit : c -> c >= '0' && c <= '9';
+    }
+
+    private IntPredicate compileWord() {
+        if (!unicodeCharacterClass) {
+            return c -> c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_';
+        }
+        int wordTypes = (1 << Character.NON_SPACING_MARK) | (1 << Character.ENCLOSING_MARK)
+                | (1 << Character.COMBINING_SPACING_MARK) | (1 << Character.DECIMAL_DIGIT_NUMBER)
+                | (1 << Character.CONNECTOR_PUNCTUATION);
+        // Alphabetic, marks, decimal digits, connector punctuations and join controls, as in java.util.regex.
+        return cacheAscii(c -> Character.isAlphabetic(c) || ((wordTypes >> Character.getType(c)) & 1) != 0
+                || c == 0x200C || c == 0x200D);
+    }
+
+    private IntPredicate compileWhiteSpace() {
+        if (!unicodeCharacterClass) {
+            return c -> c == ' ' || c >= '\t' && c <= '\r';
+        }
+        int spaceTypes = (1 << Character.SPACE_SEPARATOR) | (1 << Character.LINE_SEPARATOR)
+                | (1 << Character.PARAGRAPH_SEPARATOR);
+        return c -> ((spaceTypes >> Character.getType(c)) & 1) != 0 || c >= '\t' && c <= '\r' || c == 0x85;
+    }
+
+    // The unicode properties are matched by java.util.regex, so that they are resolved the same way.
+    private IntPredicate compileProperty(String escape) {
+        Pattern property = Pattern.compile(escape, flags | (caseInsensitive ? Pattern.CASE_INSENSITIVE : 0));
+        return cacheAscii(c -> property.matcher(Character.toString(c)).matches());
+    }
+
+    private IntPredicate compileChar(int codePoint) {
+        if (caseInsensitive) {
+            if (unicodeCase) {
+                int upper = Character.toUpperCase(codePoint);
+                int lower = Character.toLowerCase(upper);
+                if (upper != lower) {
+                    return c -> c == lower || Character.toLowerCase(Character.toUpperCase(c)) == lower;
+                }
+            } else if (isAsciiLetter(codePoint)) {
+                int lower = Character.toLowerCase(codePoint);
+                int upper = Character.toUpperCase(codePoint);
+                return c -> c == lower || c == upper;
+            }
+        }
+        return c -> c == codePoint;
+    }
+
+    private IntPredicate compileRange(int lower, int upper) {
+        if (lower > upper) {
+            throw new UnsupportedRegExpException("a range of which the start is after its end");
+        }
+        if (!caseInsensitive) {
+            return c -> c >= lower && c <= upper;
+        }
+        if (unicodeCase) {
+            return c -> {
+                if (c >= lower && c <= upper) {
+                    return true;
+                }
+                int upperCase = Character.toUpperCase(c);
+                int lowerCase = Character.toLowerCase(upperCase);
+                return upperCase >= lower && upperCase <= upper || lowerCase >= lower && lowerCase <= upper;
+            };
+        }
+        return c -> {
+            if (c >= lower && c <= upper) {
+                return true;
+            }
+            if (!isAsciiLetter(c)) {
+                return false;
+            }
+            int upperCase = Character.toUpperCase(c);
+            int lowerCase = Character.toLowerCase(c);
+            return upperCase >= lower && upperCase <= upper || lowerCase >= lower && lowerCase <= upper;
+        };
+    }
+
+    private boolean isCased(int codePoint) {
+        if (unicodeCase) {
+            return Character.toUpperCase(codePoint) != Character.toLowerCase(Character.toUpperCase(codePoint));
+        }
+        return isAsciiLetter(codePoint);
+    }
+
+    private static boolean isAsciiLetter(int c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    private static IntPredicate cacheAscii(IntPredicate predicate) {
+        long low = 0;
+        long high = 0;
+        for (int c = 0; c < 64; c++) {
+            if (predicate.test(c)) {
+                low |= 1L << c;
+            }
+            if (predicate.test(c + 64)) {
+                high |= 1L << c;
+            }
+        }
+        long lowBits = low;
+        long highBits = high;
+        return c -> {
+            if (c < 64) {
+                return (lowBits >>> c & 1) != 0;
+            }
+            if (c < 128) {
+                return (highBits >>> (c - 64) & 1) != 0;
+            }
+            return predicate.test(c);
+        };
+    }
+
+    private int emit(int opcode, int arg, int target) {
+        if (size == MAX_PROGRAM_SIZE) {
+            throw new UnsupportedRegExpException(PROGRAM_TOO_LARGE);
+        }
+        if (size == opcodes.length) {
+            int capacity = size * 2;
+            opcodes = Arrays.copyOf(opcodes, capacity);
+            args = Arrays.copyOf(args, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            predicates = Arrays.copyOf(predicates, capacity);
+        }
+        opcodes[size] = opcode;
+        args[size] = arg;
+        targets[size] = target;
+        return size++;
+    }
+
+    /**
+     * Thrown when a regular expression has a construct the {@code linear} engine does not support.
+     */
+    private static final class UnsupportedRegExpException extends RuntimeException {
+
+        UnsupportedRegExpException(String construct) {
+            super(construct, null, false, false);
+        }
+    }
+}
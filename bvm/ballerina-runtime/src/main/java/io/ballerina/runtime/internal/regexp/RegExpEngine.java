@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.regexp;
+
+/**
+ * The engines that match regular expressions.
+ * <p>
+ * The {@code java} engine, which is the default, matches using {@link java.util.regex.Pattern}, which backtracks and
+ * hence can take exponential time on some regular expressions. The {@code linear} engine matches using a program
+ * compiled from the regular expression, in time linear in the length of the string, and falls back to the
+ * {@code java} engine for regular expressions it cannot compile, reporting it once for each regular expression. The
+ * {@code linear_strict} engine is the {@code linear} engine, which fails to match a regular expression it cannot
+ * compile instead. The engine is selected at launch using the {@value #REGEXP_ENGINE_ENV_VAR} environment variable.
+ *
+ * @since 2201.12.0
+ */
+public enum RegExpEngine {
+    JAVA,
+    LINEAR,
+    LINEAR_STRICT;
+
+    public static final String REGEXP_ENGINE_ENV_VAR = "BAL_REGEXP_ENGINE";
+
+    private static final RegExpEngine ENGINE = fromValue(System.getenv(REGEXP_ENGINE_ENV_VAR));
+
+    public static RegExpEngine getEngine() {
+        return ENGINE;
+    }
+
+    static RegExpEngine fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return JAVA;
+        }
+        for (RegExpEngine engine : values()) {
+            if (engine.name().equalsIgnoreCase(value.trim().replace('-', '_'))) {
+                return engine;
+            }
+        }
+        return JAVA;
+    }
+}
@@ -38,6 +38,12 @@ import io.ballerina.runtime.internal.values.RegExpSequence;
 import io.ballerina.runtime.internal.values.RegExpTerm;
 import io.ballerina.runtime.internal.values.RegExpValue;
 
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
 /**
  * Common utility methods used for regular expression manipulation.
  *
@@ -45,6 +51,11 @@ import io.ballerina.runtime.internal.values.RegExpValue;
  */
 public final class RegExpFactory {
 
+    // Regular expression values created from the same literal share their compiled pattern.
+    private static final int MAX_COMPILED_PATTERNS = 1024;
+    private static final Map<PatternKey, Pattern> COMPILED_PATTERNS = new ConcurrentHashMap<>();
+    private static final Map<PatternKey, RegExpProgram> COMPILED_PROGRAMS = new ConcurrentHashMap<>();
+
     private RegExpFactory() {
     }
 
@@ -145,6 +156,100 @@ public final class RegExpFactory {
         return new RegExpValue(disjunction);
     }
 
+    /**
+     * Returns the java pattern of the given regular expression compiled with the given flags. The pattern is cached by
+     * the string value of the regular expression, so that the constructs are translated and the pattern is compiled
+     * only once for regular expressions with the same string value.
+     *
+     * @param regExpValue regular expression
+     * @param flags       match flags of the pattern
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the translated regular expression is not a valid pattern
+     */
+    public static Pattern compilePattern(RegExpValue regExpValue, int flags) {
+        PatternKey key = new PatternKey(regExpValue.stringValue(null), flags);
+        Pattern pattern = COMPILED_PATTERNS.get(key);
+        if (pattern != null) {
+            return pattern;
+        }
+        // Map the required ballerina regexp constructs to java.
+        RegExpValue translatedRegExpVal = translateRegExpConstructs(regExpValue);
+        pattern = Pattern.compile(translatedRegExpVal.stringValue(null), flags);
+        if (COMPILED_PATTERNS.size() >= MAX_COMPILED_PATTERNS) {
+            COMPILED_PATTERNS.clear();
+        }
+        COMPILED_PATTERNS.put(key, pattern);
+        return pattern;
+    }
+
+    /**
+     * Returns the program of the {@code linear} engine compiled from the given regular expression with the given
+     * flags. Like the java patterns, the programs are cached by the string value of the regular expression.
+     *
+     * @param regExpValue regular expression
+     * @param flags       match flags of {@link Pattern}
+     * @return compiled program, which is not supported if the linear engine cannot match the regular expression
+     * @throws java.util.regex.PatternSyntaxException if a unicode property of the regular expression is invalid
+     */
+    public static RegExpProgram compileProgram(RegExpValue regExpValue, int flags) {
+        PatternKey key = new PatternKey(regExpValue.stringValue(null), flags);
+        RegExpProgram program = COMPILED_PROGRAMS.get(key);
+        if (program != null) {
+            return program;
+        }
+        program = RegExpCompiler.compile(regExpValue, flags);
+        if (COMPILED_PROGRAMS.size() >= MAX_COMPILED_PATTERNS) {
+            COMPILED_PROGRAMS.clear();
+        }
+        COMPILED_PROGRAMS.put(key, program);
+        return program;
+    }
+
+    /**
+     * Returns a matcher of the given regular expression for the given string, using the engine selected for the
+     * runtime.
+     *
+     * @param regExpValue regular expression
+     * @param input       string to match
+     * @param flags       match flags of {@link Pattern}
+     * @return matcher
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is not a valid pattern
+     */
+    public static RegExpMatcher getMatcher(RegExpValue regExpValue, String input, int flags) {
+        return getMatcher(regExpValue, input, flags, RegExpEngine.getEngine());
+    }
+
+    /**
+     * Returns a matcher of the given regular expression for the given string, using the given engine.
+     *
+     * @param regExpValue regular expression
+     * @param input       string to match
+     * @param flags       match flags of {@link Pattern}
+     * @param engine      engine to match with
+     * @return matcher
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is not a valid pattern, or is not
+     *                                                supported by the {@code linear_strict} engine
+     */
+    public static RegExpMatcher getMatcher(RegExpValue regExpValue, String input, int flags, RegExpEngine engine) {
+        if (engine != RegExpEngine.JAVA) {
+            RegExpProgram program = regExpValue.getProgram(flags);
+            if (program.isSupported()) {
+                return program.matcher(input);
+            }
+            String regExp = regExpValue.stringValue(null);
+            if (engine == RegExpEngine.LINEAR_STRICT) {
+                throw new PatternSyntaxException("the linear engine does not support "
+                        + program.unsupportedConstruct(), regExp, -1);
+            }
+            if (program.reportFallback()) {
+                PrintStream errStream = System.err;
+                errStream.println("warning: matching the regular expression '" + regExp + "' using java.util.regex, "
+                        + "as the linear engine does not support " + program.unsupportedConstruct());
+            }
+        }
+        return new JavaRegExpMatcher(regExpValue.getPattern(flags).matcher(input));
+    }
+
     private static RegExpDisjunction getNonCapturingGroupDisjunction() {
         // Create a disjunction for non-capturing group regex: (?:)
         RegExpFlagOnOff flagsOnOff = new RegExpFlagOnOff("");
@@ -235,4 +340,7 @@ public final class RegExpFactory {
 
         return originalValue;
     }
+
+    private record PatternKey(String regExp, int flags) {
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.regexp;
+
+import java.util.regex.MatchResult;
+
+/**
+ * Matches a regular expression against a string, with the semantics of {@link java.util.regex.Matcher} with the
+ * default anchoring bounds.
+ *
+ * @since 2201.12.0
+ */
+public interface RegExpMatcher extends MatchResult {
+
+    /**
+     * Limits the matches to the given region of the string, and resets the matcher.
+     *
+     * @param start start index of the region, inclusive
+     * @param end   end index of the region, exclusive
+     */
+    void region(int start, int end);
+
+    /**
+     * Finds the next match in the region, starting after the previous match, if any.
+     *
+     * @return true if a match is found
+     */
+    boolean find();
+
+    /**
+     * Resets the matcher and finds the first match in the string starting at the given index.
+     *
+     * @param start index to start the search at
+     * @return true if a match is found
+     */
+    boolean find(int start);
+
+    /**
+     * Matches the whole region against the regular expression.
+     *
+     * @return true if the whole region matches
+     */
+    boolean matches();
+}
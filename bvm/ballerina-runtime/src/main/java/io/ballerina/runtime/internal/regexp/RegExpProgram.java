@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.regexp;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
+
+/**
+ * A regular expression compiled to a program of the {@code linear} engine.
+ * <p>
+ * The program is a nondeterministic automaton, which {@link LinearRegExpMatcher} runs by following all of its
+ * threads in lockstep over the string. Hence, a match takes time proportional to the product of the lengths of the
+ * program and the string, regardless of the regular expression.
+ *
+ * @since 2201.12.0
+ */
+public final class RegExpProgram {
+
+    // Matches the code point in the argument.
+    static final int CHAR = 0;
+    // Matches a code point accepted by the predicate of the instruction.
+    static final int CLASS = 1;
+    // Continues at both targets, preferring the first.
+    static final int SPLIT = 2;
+    static final int JUMP = 3;
+    // Records the current index in the capture slot in the argument.
+    static final int SAVE = 4;
+    // Continues only if the assertion in the argument holds at the current index.
+    static final int ASSERT = 5;
+    static final int MATCH = 6;
+
+    static final int BEGIN_INPUT = 0;
+    static final int BEGIN_LINE = 1;
+    static final int END_INPUT = 2;
+    static final int END_LINE = 3;
+
+    final int[] opcodes;
+    final int[] args;
+    final int[] targets;
+    final IntPredicate[] predicates;
+    final int groupCount;
+    // Whether the regular expression has a supplementary code point, in which case a match never starts in the
+    // middle of a surrogate pair, as in java.util.regex.
+    final boolean hasSupplementary;
+    // The thread lists of the last search, which a later search takes instead of allocating its own.
+    final AtomicReference<LinearRegExpMatcher.ThreadList[]> threadLists = new AtomicReference<>();
+    private final int flags;
+    // The construct of the regular expression the program could not be compiled for, if it is not supported.
+    private final String unsupportedConstruct;
+    private final AtomicBoolean fallbackReported = new AtomicBoolean();
+
+    RegExpProgram(int[] opcodes, int[] args, int[] targets, IntPredicate[] predicates, int groupCount,
+                  boolean hasSupplementary, int flags) {
+        this.opcodes = opcodes;
+        this.args = args;
+        this.targets = targets;
+        this.predicates = predicates;
+        this.groupCount = groupCount;
+        this.hasSupplementary = hasSupplementary;
+        this.flags = flags;
+        this.unsupportedConstruct = null;
+    }
+
+    private RegExpProgram(int flags, String unsupportedConstruct) {
+        this.opcodes = null;
+        this.args = null;
+        this.targets = null;
+        this.predicates = null;
+        this.groupCount = 0;
+        this.hasSupplementary = false;
+        this.flags = flags;
+        this.unsupportedConstruct = unsupportedConstruct;
+    }
+
+    static RegExpProgram unsupported(int flags, String unsupportedConstruct) {
+        return new RegExpProgram(flags, unsupportedConstruct);
+    }
+
+    /**
+     * Returns whether the regular expression could be compiled to a program. A regular expression with constructs
+     * the {@code linear} engine does not support is matched using {@link java.util.regex.Pattern} instead.
+     *
+     * @return true if the program can be used to match
+     */
+    public boolean isSupported() {
+        return opcodes != null;
+    }
+
+    /**
+     * Returns the construct of the regular expression the {@code linear} engine does not support, such as
+     * "insertions", if the program is not supported.
+     *
+     * @return unsupported construct, or null if the program is supported
+     */
+    public String unsupportedConstruct() {
+        return unsupportedConstruct;
+    }
+
+    /**
+     * Returns the match flags of {@link java.util.regex.Pattern} the program was compiled with.
+     *
+     * @return match flags
+     */
+    public int flags() {
+        return flags;
+    }
+
+    // Returns true only the first time it is called, so that falling back to java.util.regex is reported once for
+    // the regular expression of the program.
+    boolean reportFallback() {
+        return fallbackReported.compareAndSet(false, true);
+    }
+
+    int size() {
+        return opcodes.length;
+    }
+
+    /**
+     * Creates a matcher that matches the given string against this program.
+     *
+     * @param input string to match
+     * @return matcher
+     */
+    public RegExpMatcher matcher(String input) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("regular expression is not supported by the linear engine");
+        }
+        return new LinearRegExpMatcher(this, input);
+    }
+}
@@ -40,16 +40,19 @@ import java.util.function.Supplier;
 public final class AsyncUtils {
 
     public static Object handleNonIsolatedStrand(Strand strand, Supplier<?> resultSupplier) {
-        // This check required for non strand Threads.
-        boolean runnable = strand.isRunnable();
-        if (runnable) {
-            strand.yield();
-        }
-        Object result = resultSupplier.get();
-        if (runnable) {
-            strand.resume();
-        }
-        return result;
+        return handleBlockedStrand(strand, resultSupplier);
+    }
+
+    /**
+     * Runs a call which blocks the strand until other strands make progress. The strand gives up the non-isolated
+     * lock and its place among the running strands of the strand executor while it is blocked.
+     *
+     * @param strand       strand which is blocked
+     * @param blockingCall call which blocks the strand
+     * @return result of the call
+     */
+    public static Object handleBlockedStrand(Strand strand, Supplier<?> blockingCall) {
+        return strand.scheduler.strandExecutor.runBlocking(strand, blockingCall);
     }
 
     @SuppressWarnings("unused")
@@ -65,10 +68,7 @@ public final class AsyncUtils {
     }
 
     public static Object handleWait(Strand strand, CompletableFuture<Object> completableFuture) {
-        if (strand.isIsolated) {
-            return getFutureResult(completableFuture);
-        }
-        return handleNonIsolatedStrand(strand, () -> getFutureResult(completableFuture));
+        return handleBlockedStrand(strand, () -> getFutureResult(completableFuture));
     }
 
     @SuppressWarnings("unused")
@@ -106,11 +106,7 @@ public final class AsyncUtils {
                 alreadyWaitedKeys.add(entry.getKey());
             }
         }
-        if (strand.isIsolated) {
-            waitForAllFutureResult(cFutures.toArray(new CompletableFuture[0]));
-            getAllFutureResult(futureMap, alreadyWaitedKeys, target);
-        }
-        handleNonIsolatedStrand(strand, () -> {
+        handleBlockedStrand(strand, () -> {
             waitForAllFutureResult(cFutures.toArray(new CompletableFuture[0]));
             getAllFutureResult(futureMap, alreadyWaitedKeys, target);
             return null;
@@ -118,12 +114,7 @@ public final class AsyncUtils {
     }
 
     public static Object handleWaitAny(Strand strand, CompletableFuture<?>[] cFutures) {
-        Object result;
-        if (strand.isIsolated) {
-            result = getAnyFutureResult(cFutures);
-        } else {
-            result = handleNonIsolatedStrand(strand, () -> getAnyFutureResult(cFutures));
-        }
+        Object result = handleBlockedStrand(strand, () -> getAnyFutureResult(cFutures));
         if (cFutures.length > 1 && result instanceof BError) {
             List<CompletableFuture<?>> nonErrorFutures = new ArrayList<>();
             for (CompletableFuture<?> completableFuture : cFutures) {
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.RemoteMethodType;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BNever;
+import io.ballerina.runtime.internal.types.BServiceType;
+import io.ballerina.runtime.internal.values.ValueCreator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatch table of the methods of an object type, used when calling a method of a Ballerina object from Java.
+ * The table is built once per object type and keeps the method types by name along with the parameters that need
+ * a default value to be computed, so that a method call does not have to rebuild them.
+ *
+ * @since 2201.12.0
+ */
+public class MethodDispatchTable {
+
+    private final Module module;
+    private final Map<String, MethodEntry> methodEntries;
+    private volatile ValueCreator valueCreator;
+
+    public MethodDispatchTable(ObjectType objectType) {
+        this.module = objectType.getPackage();
+        Map<String, MethodType> methodTypesMap = new HashMap<>();
+        if (objectType.getTag() == TypeTags.SERVICE_TAG) {
+            BServiceType serviceType = (BServiceType) objectType;
+            for (ResourceMethodType resourceMethodType : serviceType.getResourceMethods()) {
+                methodTypesMap.put(resourceMethodType.getName(), resourceMethodType);
+            }
+            for (RemoteMethodType remoteMethodType : serviceType.getRemoteMethods()) {
+                methodTypesMap.put(remoteMethodType.getName(), remoteMethodType);
+            }
+        }
+        for (MethodType methodType : objectType.getMethods()) {
+            methodTypesMap.put(methodType.getName(), methodType);
+        }
+        this.methodEntries = new HashMap<>(methodTypesMap.size());
+        methodTypesMap.forEach((name, methodType) -> methodEntries.put(name, new MethodEntry(methodType)));
+    }
+
+    public MethodType getMethodType(String methodName) {
+        return getMethodEntry(methodName).methodType;
+    }
+
+    MethodEntry getMethodEntry(String methodName) {
+        MethodEntry methodEntry = methodEntries.get(methodName);
+        if (methodEntry != null) {
+            return methodEntry;
+        }
+        throw ErrorCreator.createError(StringUtils.fromString("No such method: " + methodName));
+    }
+
+    Object[] getArgsWithDefaultValues(MethodEntry methodEntry, Strand strand, Object[] args) {
+        if (args.length == 0 && methodEntry.paramCount == 0) {
+            return new Object[]{};
+        }
+        Object[] argsWithDefaultValues = new Object[Math.max(methodEntry.argCount, args.length)];
+        System.arraycopy(args, 0, argsWithDefaultValues, 0, args.length);
+        for (int i = 0; i < methodEntry.defaultParamIndexes.length; i++) {
+            int paramIndex = methodEntry.defaultParamIndexes[i];
+            if (args.length <= paramIndex || args[paramIndex] == BNever.getValue()) {
+                argsWithDefaultValues[paramIndex] = getValueCreator().call(strand,
+                        methodEntry.defaultFunctionNames[i], argsWithDefaultValues);
+            }
+        }
+        return argsWithDefaultValues;
+    }
+
+    private ValueCreator getValueCreator() {
+        ValueCreator creator = this.valueCreator;
+        if (creator == null) {
+            creator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(module));
+            this.valueCreator = creator;
+        }
+        return creator;
+    }
+
+    /**
+     * Method type of a single method along with its precomputed default argument details.
+     */
+    static final class MethodEntry {
+
+        final MethodType methodType;
+        final int paramCount;
+        final int argCount;
+        final int[] defaultParamIndexes;
+        final String[] defaultFunctionNames;
+
+        private MethodEntry(MethodType methodType) {
+            this.methodType = methodType;
+            Parameter[] parameters = methodType.getParameters();
+            this.paramCount = parameters.length;
+            this.argCount = methodType.getRestType() == null ? parameters.length : parameters.length + 1;
+            List<Integer> indexes = new ArrayList<>();
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i].isDefault) {
+                    indexes.add(i);
+                }
+            }
+            this.defaultParamIndexes = new int[indexes.size()];
+            this.defaultFunctionNames = new String[indexes.size()];
+            for (int i = 0; i < indexes.size(); i++) {
+                int paramIndex = indexes.get(i);
+                this.defaultParamIndexes[i] = paramIndex;
+                this.defaultFunctionNames[i] = parameters[paramIndex].defaultFunctionName;
+            }
+        }
+    }
+}
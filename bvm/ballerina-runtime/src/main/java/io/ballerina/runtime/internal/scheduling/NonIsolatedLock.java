@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lock held by non-isolated strands while they run. Keeps track of how often the lock was contended so that
+ * strands which still serialize can be identified. When metrics are enabled, the counters are reported as gauges
+ * tagged with the name of the lock.
+ *
+ * @since 2201.12.0
+ */
+public class NonIsolatedLock {
+
+    private static final String LOCK_TAG = "lock";
+    private static final String ACQUISITIONS_METRIC = "scheduler_non_isolated_lock_acquisitions";
+    private static final String CONTENDED_ACQUISITIONS_METRIC = "scheduler_non_isolated_lock_contended_acquisitions";
+    private static final String WAIT_TIME_METRIC = "scheduler_non_isolated_lock_wait_time_seconds";
+    private static final String WAITING_STRANDS_METRIC = "scheduler_non_isolated_lock_waiting_strands";
+
+    private final String name;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contendedAcquisitions = new LongAdder();
+    private final LongAdder waitTimeNanos = new LongAdder();
+    private volatile boolean metricsInitialized;
+
+    public NonIsolatedLock(String name) {
+        this.name = name;
+    }
+
+    public void lock() {
+        initializeMetrics();
+        acquisitions.increment();
+        if (lock.tryLock()) {
+            return;
+        }
+        contendedAcquisitions.increment();
+        long startTime = System.nanoTime();
+        lock.lock();
+        waitTimeNanos.add(System.nanoTime() - startTime);
+    }
+
+    public void unlock() {
+        lock.unlock();
+    }
+
+    public boolean isHeldByCurrentThread() {
+        return lock.isHeldByCurrentThread();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitions.sum();
+    }
+
+    public long getContendedAcquisitionCount() {
+        return contendedAcquisitions.sum();
+    }
+
+    public long getWaitTimeNanos() {
+        return waitTimeNanos.sum();
+    }
+
+    public int getQueueLength() {
+        return lock.getQueueLength();
+    }
+
+    // The gauges are registered when the lock is first acquired, as metrics are enabled through the configuration,
+    // which is not yet loaded when the scheduler is created.
+    private void initializeMetrics() {
+        if (metricsInitialized) {
+            return;
+        }
+        synchronized (this) {
+            if (metricsInitialized) {
+                return;
+            }
+            if (ObserveUtils.isMetricsEnabled()) {
+                registerGauges();
+            }
+            metricsInitialized = true;
+        }
+    }
+
+    private void registerGauges() {
+        PolledGauge.builder(ACQUISITIONS_METRIC, this, NonIsolatedLock::getAcquisitionCount).tag(LOCK_TAG, name)
+                .description("Number of times non-isolated strands acquired the lock").register();
+        PolledGauge.builder(CONTENDED_ACQUISITIONS_METRIC, this, NonIsolatedLock::getContendedAcquisitionCount)
+                .tag(LOCK_TAG, name)
+                .description("Number of times non-isolated strands waited for the lock held by another strand")
+                .register();
+        PolledGauge.builder(WAIT_TIME_METRIC, this,
+                        lock -> (double) lock.getWaitTimeNanos() / TimeUnit.SECONDS.toNanos(1))
+                .tag(LOCK_TAG, name)
+                .description("Total time non-isolated strands waited for the lock in seconds").register();
+        PolledGauge.builder(WAITING_STRANDS_METRIC, this, NonIsolatedLock::getQueueLength).tag(LOCK_TAG, name)
+                .description("Number of non-isolated strands waiting for the lock").register();
+    }
+}
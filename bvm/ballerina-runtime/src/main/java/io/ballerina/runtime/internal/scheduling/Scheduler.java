@@ -19,31 +19,24 @@ package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
-import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.FunctionType;
 import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.types.Parameter;
-import io.ballerina.runtime.api.types.RemoteMethodType;
-import io.ballerina.runtime.api.types.ResourceMethodType;
 import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.TypeTags;
-import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BNever;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.internal.BalRuntime;
-import io.ballerina.runtime.internal.types.BServiceType;
+import io.ballerina.runtime.internal.types.BObjectType;
 import io.ballerina.runtime.internal.utils.ErrorUtils;
 import io.ballerina.runtime.internal.values.FPValue;
 import io.ballerina.runtime.internal.values.FutureValue;
 import io.ballerina.runtime.internal.values.ObjectValue;
 import io.ballerina.runtime.internal.values.ValueCreator;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 /**
@@ -53,7 +46,8 @@ import java.util.function.Function;
  */
 public class Scheduler {
 
-    public final ReentrantLock globalNonIsolatedLock = new ReentrantLock();
+    public final NonIsolatedLock globalNonIsolatedLock = new NonIsolatedLock("$global");
+    public final StrandExecutor strandExecutor = new StrandExecutor();
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -114,7 +108,7 @@ public class Scheduler {
         FutureValue future = createFuture(parentStrand, strandName, true, returnType,
                 null, workerChannelMap);
         args[0] = future.strand;
-        Thread.startVirtualThread(() -> {
+        strandExecutor.execute(parentStrand, future.strand.name, () -> {
             try {
                 strandHolder.get().strand = future.strand;
                 Object result = fp.function.apply(args);
@@ -122,7 +116,7 @@ public class Scheduler {
             } catch (Throwable t) {
                 future.completableFuture.completeExceptionally(ErrorUtils.createErrorFromThrowable(t));
             }
-        }).setName(future.strand.name);
+        });
         return future;
     }
 
@@ -134,7 +128,7 @@ public class Scheduler {
                                               WorkerChannelMap workerChannelMap, Object[] args) {
         FutureValue future = createFuture(parentStrand, strandName, false, returnType, null, workerChannelMap);
         args[0] = future.strand;
-        Thread.startVirtualThread(() -> {
+        strandExecutor.execute(parentStrand, future.strand.name, () -> {
             try {
                 future.strand.resume();
                 strandHolder.get().strand = future.strand;
@@ -145,7 +139,7 @@ public class Scheduler {
             } finally {
                 future.strand.done();
             }
-        }).setName(future.strand.name);
+        });
         return future;
     }
 
@@ -173,8 +167,9 @@ public class Scheduler {
 
     private Object callMethod(BObject object, String methodName, Object[] args, Strand parentStrand) {
         ObjectType objectType = (ObjectType) TypeUtils.getImpliedType(object.getOriginalType());
-        MethodType methodType = getObjectMethodType(methodName, objectType);
-        Object[] argsWithDefaultValues = getArgsWithDefaultValues(objectType, methodType, parentStrand, args);
+        MethodDispatchTable dispatchTable = getMethodDispatchTable(objectType);
+        MethodDispatchTable.MethodEntry methodEntry = dispatchTable.getMethodEntry(methodName);
+        Object[] argsWithDefaultValues = dispatchTable.getArgsWithDefaultValues(methodEntry, parentStrand, args);
         return ((ObjectValue) object).call(parentStrand, methodName, argsWithDefaultValues);
     }
 
@@ -201,7 +196,7 @@ public class Scheduler {
                                               String strandName, StrandMetadata metadata, Object[] args) {
         FutureValue future = createFutureWithMetadata(parentStrand, strandName, false, returnType, metadata, null);
         Object[] argsWithStrand = getArgsWithStrand(future.strand, args);
-        Thread.startVirtualThread(() -> {
+        strandExecutor.execute(parentStrand, strandName, () -> {
             try {
                 future.strand.resume();
                 strandHolder.get().strand = future.strand;
@@ -212,7 +207,7 @@ public class Scheduler {
             } finally {
                 future.strand.done();
             }
-        }).setName(strandName);
+        });
         return future;
     }
 
@@ -236,14 +231,6 @@ public class Scheduler {
 
     }
 
-    private Object[] getArgsWithDefaultValues(ObjectType objectType, MethodType methodType, Strand strand,
-                                              Object... args) {
-
-        Module module = objectType.getPackage();
-        ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(module));
-        return getArgsWithDefaultValues(valueCreator, methodType, strand, args);
-    }
-
     private Object[] getArgsWithDefaultValues(ValueCreator valueCreator, FunctionType functionType, Strand strand,
                                               Object... args) {
         Parameter[] parameters = functionType.getParameters();
@@ -267,27 +254,14 @@ public class Scheduler {
     }
 
     public MethodType getObjectMethodType(String methodName, ObjectType objectType) {
-        Map<String, MethodType> methodTypesMap = new HashMap<>();
-        if (objectType.getTag() == TypeTags.SERVICE_TAG) {
-            BServiceType serviceType = (BServiceType) objectType;
-            ResourceMethodType[] resourceMethods = serviceType.getResourceMethods();
-            for (ResourceMethodType resourceMethodType : resourceMethods) {
-                methodTypesMap.put(resourceMethodType.getName(), resourceMethodType);
-            }
-            RemoteMethodType[] remoteMethodTypes = serviceType.getRemoteMethods();
-            for (RemoteMethodType remoteMethodType : remoteMethodTypes) {
-                methodTypesMap.put(remoteMethodType.getName(), remoteMethodType);
-            }
-        }
-        MethodType[] objectTypeMethods = objectType.getMethods();
-        for (MethodType methodType : objectTypeMethods) {
-            methodTypesMap.put(methodType.getName(), methodType);
-        }
-        MethodType methodType = methodTypesMap.get(methodName);
-        if (methodType != null) {
-            return methodType;
+        return getMethodDispatchTable(objectType).getMethodType(methodName);
+    }
+
+    private static MethodDispatchTable getMethodDispatchTable(ObjectType objectType) {
+        if (objectType instanceof BObjectType bObjectType) {
+            return bObjectType.getMethodDispatchTable();
         }
-        throw ErrorCreator.createError(StringUtils.fromString("No such method: " + methodName));
+        return new MethodDispatchTable(objectType);
     }
 
     public FutureValue createFutureWithMetadata(Strand parentStrand, String strandName, boolean isIsolated,
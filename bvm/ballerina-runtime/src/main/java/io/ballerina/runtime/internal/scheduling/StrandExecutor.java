@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.internal.configurable.ConfigMap;
+import io.ballerina.runtime.internal.configurable.VariableKey;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.RUNTIME_LANG_LIB;
+
+/**
+ * Executes the strands created for {@code start} actions and named workers on virtual threads.
+ * <p>
+ * The number of strands running at the same time can be limited using the {@code maxRunningStrands} configurable of
+ * the {@code ballerina/lang.runtime} module, for example in the {@code [ballerina.lang.runtime]} table of the
+ * {@code Config.toml} file. Strands started beyond that limit are queued and started when a running strand completes.
+ * When {@code maxQueuedStrands} is also set and the queue is full, the strand starting a new strand is blocked until
+ * there is space in the queue. By default, there is no limit and every strand is started immediately.
+ * <p>
+ * The configurables are not declared by the {@code lang.runtime} module. They are added to the configurable variables
+ * of every program by {@link #addConfigData(Map)}, so that they can be set without the program importing or
+ * initializing the module, and are read from the {@link ConfigMap} when the first strand is started.
+ * <p>
+ * A strand that is blocked waiting for other strands, as in a {@code wait} action or a worker receive, gives up its
+ * place among the running strands until it is unblocked, the same way it gives up the non-isolated lock. Otherwise,
+ * strands waiting for strands that are still queued could take up all the places and never complete.
+ *
+ * @since 2201.12.0
+ */
+public class StrandExecutor {
+
+    private static final Module RUNTIME_MODULE = new Module(BALLERINA_BUILTIN_PKG_PREFIX, RUNTIME_LANG_LIB, "0");
+    private static final VariableKey MAX_RUNNING_STRANDS_KEY =
+            new VariableKey(RUNTIME_MODULE, "maxRunningStrands", PredefinedTypes.TYPE_INT, false);
+    private static final VariableKey MAX_QUEUED_STRANDS_KEY =
+            new VariableKey(RUNTIME_MODULE, "maxQueuedStrands", PredefinedTypes.TYPE_INT, false);
+    private static final String RUNNING_STRANDS_METRIC = "scheduler_running_strands";
+    private static final String QUEUED_STRANDS_METRIC = "scheduler_queued_strands";
+
+    private final ReentrantLock executorLock = new ReentrantLock();
+    private final Condition queueNotFull = executorLock.newCondition();
+    private final Condition runningSlotFree = executorLock.newCondition();
+    private final Deque<Thread> queuedStrands = new ArrayDeque<>();
+    private final AtomicInteger runningStrandCount = new AtomicInteger();
+    private final AtomicInteger queuedStrandCount = new AtomicInteger();
+    // Whether the strand of the current thread is counted as one of the running strands.
+    private final ThreadLocal<Boolean> holdsRunningSlot = ThreadLocal.withInitial(() -> false);
+    private int unblockedStrandCount;
+    private volatile boolean initialized;
+    private int maxRunningStrands;
+    private int maxQueuedStrands;
+
+    public StrandExecutor() {
+    }
+
+    public StrandExecutor(int maxRunningStrands, int maxQueuedStrands) {
+        this.maxRunningStrands = maxRunningStrands;
+        this.maxQueuedStrands = maxQueuedStrands;
+        this.initialized = true;
+    }
+
+    /**
+     * Runs the given task in a new virtual thread, or queues it if the maximum number of running strands is reached.
+     *
+     * @param parentStrand strand starting the new strand, which is blocked if the queue is full
+     * @param strandName   name of the new strand
+     * @param task         task to run
+     */
+    public void execute(Strand parentStrand, String strandName, Runnable task) {
+        initialize();
+        Thread thread = Thread.ofVirtual().name(strandName).unstarted(() -> {
+            holdsRunningSlot.set(true);
+            try {
+                task.run();
+            } finally {
+                onStrandCompleted();
+            }
+        });
+        if (maxRunningStrands <= 0) {
+            runningStrandCount.incrementAndGet();
+            thread.start();
+            return;
+        }
+        if (enqueue(thread, false)) {
+            return;
+        }
+        // The parent waits for space in the queue without holding the lock or its place among the running strands,
+        // so that the strands it waits on can run.
+        runBlocking(parentStrand, () -> enqueue(thread, true));
+    }
+
+    /**
+     * Runs a call that blocks the current strand until other strands make progress. If the strand is counted as one of
+     * the running strands, its place is given to another strand while it is blocked, and it waits for a place to
+     * continue once the call returns.
+     *
+     * @param strand       strand which is blocked, whose non-isolated lock is released while it is blocked
+     * @param blockingCall call which blocks the strand
+     * @return result of the call
+     */
+    public Object runBlocking(Strand strand, Supplier<?> blockingCall) {
+        boolean yielded = strand != null && strand.isRunnable();
+        if (yielded) {
+            strand.yield();
+        }
+        boolean released = releaseRunningSlot();
+        try {
+            return blockingCall.get();
+        } finally {
+            if (released) {
+                acquireRunningSlot();
+            }
+            if (yielded) {
+                strand.resume();
+            }
+        }
+    }
+
+    public int getRunningStrandCount() {
+        return runningStrandCount.get();
+    }
+
+    public int getQueuedStrandCount() {
+        return queuedStrandCount.get();
+    }
+
+    /**
+     * Adds the configurables of the executor to the configurable variables of a program.
+     *
+     * @param configurationData configurable variables of the modules of the program
+     */
+    public static void addConfigData(Map<Module, VariableKey[]> configurationData) {
+        configurationData.putIfAbsent(RUNTIME_MODULE,
+                new VariableKey[]{MAX_RUNNING_STRANDS_KEY, MAX_QUEUED_STRANDS_KEY});
+    }
+
+    // Starts or queues a strand, and returns false without doing either if the queue is full and the strand is not to
+    // wait for space in the queue.
+    private boolean enqueue(Thread thread, boolean waitForSpace) {
+        executorLock.lock();
+        try {
+            while (isQueueFull()) {
+                if (!waitForSpace) {
+                    return false;
+                }
+                queueNotFull.awaitUninterruptibly();
+            }
+            if (runningStrandCount.get() < maxRunningStrands && unblockedStrandCount == 0) {
+                runningStrandCount.incrementAndGet();
+                thread.start();
+            } else {
+                queuedStrands.add(thread);
+                queuedStrandCount.incrementAndGet();
+            }
+            return true;
+        } finally {
+            executorLock.unlock();
+        }
+    }
+
+    private boolean isQueueFull() {
+        return maxQueuedStrands > 0 && runningStrandCount.get() >= maxRunningStrands &&
+                queuedStrands.size() >= maxQueuedStrands;
+    }
+
+    private void onStrandCompleted() {
+        holdsRunningSlot.set(false);
+        if (maxRunningStrands <= 0) {
+            runningStrandCount.decrementAndGet();
+            return;
+        }
+        executorLock.lock();
+        try {
+            handOverRunningSlot();
+        } finally {
+            executorLock.unlock();
+        }
+    }
+
+    private boolean releaseRunningSlot() {
+        if (maxRunningStrands <= 0 || !holdsRunningSlot.get()) {
+            return false;
+        }
+        holdsRunningSlot.set(false);
+        executorLock.lock();
+        try {
+            handOverRunningSlot();
+        } finally {
+            executorLock.unlock();
+        }
+        return true;
+    }
+
+    private void acquireRunningSlot() {
+        executorLock.lock();
+        try {
+            unblockedStrandCount++;
+            while (runningStrandCount.get() >= maxRunningStrands) {
+                runningSlotFree.awaitUninterruptibly();
+            }
+            unblockedStrandCount--;
+            runningStrandCount.incrementAndGet();
+        } finally {
+            executorLock.unlock();
+        }
+        holdsRunningSlot.set(true);
+    }
+
+    // Hands over a place among the running strands, which must be called while holding the executor lock. Strands
+    // that were unblocked get the place before the queued strands, as they have already started.
+    private void handOverRunningSlot() {
+        if (unblockedStrandCount > 0) {
+            runningStrandCount.decrementAndGet();
+            runningSlotFree.signal();
+            return;
+        }
+        Thread nextStrand = queuedStrands.poll();
+        if (nextStrand == null) {
+            runningStrandCount.decrementAndGet();
+            return;
+        }
+        // The slot of the completed strand is handed over to the queued strand.
+        queuedStrandCount.decrementAndGet();
+        queueNotFull.signal();
+        nextStrand.start();
+    }
+
+    private void initialize() {
+        if (initialized) {
+            return;
+        }
+        executorLock.lock();
+        try {
+            if (initialized) {
+                return;
+            }
+            maxRunningStrands = readConfig(MAX_RUNNING_STRANDS_KEY);
+            maxQueuedStrands = readConfig(MAX_QUEUED_STRANDS_KEY);
+            if (ObserveUtils.isMetricsEnabled()) {
+                registerGauges();
+            }
+            initialized = true;
+        } finally {
+            executorLock.unlock();
+        }
+    }
+
+    private void registerGauges() {
+        PolledGauge.builder(RUNNING_STRANDS_METRIC, this, StrandExecutor::getRunningStrandCount)
+                .description("Number of strands started by start actions and workers that are running").register();
+        PolledGauge.builder(QUEUED_STRANDS_METRIC, this, StrandExecutor::getQueuedStrandCount)
+                .description("Number of strands started by start actions and workers that are waiting to run")
+                .register();
+    }
+
+    private static int readConfig(VariableKey key) {
+        if (!ConfigMap.containsKey(key)) {
+            return 0;
+        }
+        Object configValue = ConfigMap.get(key);
+        if (!(configValue instanceof Number number)) {
+            return 0;
+        }
+        return (int) Math.min(number.longValue(), Integer.MAX_VALUE);
+    }
+}
@@ -330,15 +330,17 @@ public class BArrayType extends BType implements ArrayType, TypeWithShape {
         SemType[] memberTypes = new SemType[size];
         ListDefinition ld = new ListDefinition();
         value.setReadonlyShapeDefinition(ld);
-        for (int i = 0; i < size; i++) {
-            Optional<SemType> memberType = shapeSupplier.get(cx, value.get(i));
-            assert memberType.isPresent();
-            memberTypes[i] = memberType.get();
+        try {
+            for (int i = 0; i < size; i++) {
+                Optional<SemType> memberType = shapeSupplier.get(cx, value.get(i));
+                assert memberType.isPresent();
+                memberTypes[i] = memberType.get();
+            }
+            CellAtomicType.CellMutability mut = isReadOnly() ? CELL_MUT_NONE : CELL_MUT_LIMITED;
+            return ld.defineListTypeWrapped(cx.env, memberTypes, memberTypes.length, getNeverType(), mut);
+        } finally {
+            value.resetReadonlyShapeDefinition();
         }
-        CellAtomicType.CellMutability mut = isReadOnly() ? CELL_MUT_NONE : CELL_MUT_LIMITED;
-        SemType semType = ld.defineListTypeWrapped(cx.env, memberTypes, memberTypes.length, getNeverType(), mut);
-        value.resetReadonlyShapeDefinition();
-        return semType;
     }
 
 }
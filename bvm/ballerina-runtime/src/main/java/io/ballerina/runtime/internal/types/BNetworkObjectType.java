@@ -45,6 +45,7 @@ public class BNetworkObjectType extends BObjectType implements NetworkObjectType
 
     public void setResourceMethods(ResourceMethodType[] resourceMethods) {
         this.resourceMethods = resourceMethods;
+        resetMethodDispatchTable();
     }
 
     /**
@@ -41,6 +41,7 @@ import io.ballerina.runtime.api.types.semtype.ShapeAnalyzer;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.MethodDispatchTable;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.types.semtype.CellAtomicType;
@@ -91,6 +92,7 @@ public class BObjectType extends BStructureType implements ObjectType, TypeWithS
     private final DefinitionContainer<ObjectDefinition> defn = new DefinitionContainer<>();
     private final DefinitionContainer<ObjectDefinition> acceptedTypeDefn = new DefinitionContainer<>();
     private volatile DistinctIdSupplier distinctIdSupplier;
+    private volatile MethodDispatchTable methodDispatchTable;
 
     /**
      * Create a {@code BObjectType} which represents the user defined struct type.
@@ -177,6 +179,25 @@ public class BObjectType extends BStructureType implements ObjectType, TypeWithS
     @Override
     public void setMethods(MethodType[] methodTypes) {
         this.methodTypes = methodTypes;
+        this.methodDispatchTable = null;
+    }
+
+    /**
+     * Returns the method dispatch table of this object type, creating it on first use.
+     *
+     * @return method dispatch table
+     */
+    public MethodDispatchTable getMethodDispatchTable() {
+        MethodDispatchTable dispatchTable = this.methodDispatchTable;
+        if (dispatchTable == null) {
+            dispatchTable = new MethodDispatchTable(this);
+            this.methodDispatchTable = dispatchTable;
+        }
+        return dispatchTable;
+    }
+
+    protected void resetMethodDispatchTable() {
+        this.methodDispatchTable = null;
     }
 
     public void setInitMethod(MethodType initMethod) {
@@ -430,6 +451,15 @@ public class BObjectType extends BStructureType implements ObjectType, TypeWithS
         }
         ObjectDefinition od = new ObjectDefinition();
         object.setReadonlyShapeDefinition(od);
+        try {
+            return defineValueShape(cx, shapeSupplier, object, od);
+        } finally {
+            object.resetReadonlyShapeDefinition();
+        }
+    }
+
+    private SemType defineValueShape(Context cx, ShapeSupplier shapeSupplier, AbstractObjectValue object,
+                                     ObjectDefinition od) {
         List<Member> members = new ArrayList<>();
         Set<String> seen = new HashSet<>(fields.size() + methodTypes.length);
         ObjectQualifiers qualifiers = getObjectQualifiers();
@@ -334,29 +334,33 @@ public class BRecordType extends BStructureType implements RecordType, TypeWithS
         } else {
             md = new MappingDefinition();
         }
-        List<MappingDefinition.Field> fields = new ArrayList<>(nFields);
-        for (int i = 0; i < nFields; i++) {
-            String fieldName = entries[i].getKey().toString();
-            Object fieldValue = entries[i].getValue();
-            handledFields.add(fieldName);
-            fields.add(fieldShape(cx, shapeSupplier, fieldName, fieldValue, takeFieldShape));
-        }
-        if (!takeFieldShape) {
-            getFields().values().stream()
-                    .filter(field -> !handledFields.contains(field.getFieldName()))
-                    .map(field -> fieldShapeWithoutValue(cx, field, field.getFieldName()))
-                    .forEach(fields::add);
-        }
-        MappingDefinition.Field[] fieldsArray = fields.toArray(MappingDefinition.Field[]::new);
-        SemType rest;
-        if (takeFieldShape) {
-            rest = Builder.getNeverType();
-        } else {
-            rest = restFieldType != null ? SemType.tryInto(cx, restFieldType) : getNeverType();
+        try {
+            List<MappingDefinition.Field> fields = new ArrayList<>(nFields);
+            for (int i = 0; i < nFields; i++) {
+                String fieldName = entries[i].getKey().toString();
+                Object fieldValue = entries[i].getValue();
+                handledFields.add(fieldName);
+                fields.add(fieldShape(cx, shapeSupplier, fieldName, fieldValue, takeFieldShape));
+            }
+            if (!takeFieldShape) {
+                getFields().values().stream()
+                        .filter(field -> !handledFields.contains(field.getFieldName()))
+                        .map(field -> fieldShapeWithoutValue(cx, field, field.getFieldName()))
+                        .forEach(fields::add);
+            }
+            MappingDefinition.Field[] fieldsArray = fields.toArray(MappingDefinition.Field[]::new);
+            SemType rest;
+            if (takeFieldShape) {
+                rest = Builder.getNeverType();
+            } else {
+                rest = restFieldType != null ? SemType.tryInto(cx, restFieldType) : getNeverType();
+            }
+            return md.defineMappingTypeWrapped(env, fieldsArray, rest, mut());
+        } finally {
+            if (takeFieldShape) {
+                value.resetReadonlyShapeDefinition();
+            }
         }
-        SemType shape = md.defineMappingTypeWrapped(env, fieldsArray, rest, mut());
-        value.resetReadonlyShapeDefinition();
-        return shape;
     }
 
     private MappingDefinition.Field fieldShapeWithoutValue(Context cx, Field field, String fieldName) {
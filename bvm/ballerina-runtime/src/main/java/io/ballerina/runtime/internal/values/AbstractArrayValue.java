@@ -63,7 +63,6 @@ public abstract class AbstractArrayValue implements ArrayValue, RecursiveValue<L
 
     private static final BasicTypeBitSet BASIC_TYPE = Builder.getListType();
     static final int SYSTEM_ARRAY_MAX = Integer.MAX_VALUE - 8;
-    private final ThreadLocal<ListDefinition> readonlyAttachedDefinition = new ThreadLocal<>();
 
     /**
      * The maximum size of arrays to allocate.
@@ -318,17 +317,17 @@ public abstract class AbstractArrayValue implements ArrayValue, RecursiveValue<L
 
     @Override
     public ListDefinition getReadonlyShapeDefinition() {
-        return readonlyAttachedDefinition.get();
+        return ReadonlyShapeDefinitions.get(this);
     }
 
     @Override
     public void setReadonlyShapeDefinition(ListDefinition definition) {
-        readonlyAttachedDefinition.set(definition);
+        ReadonlyShapeDefinitions.set(this, definition);
     }
 
     @Override
     public void resetReadonlyShapeDefinition() {
-        readonlyAttachedDefinition.remove();
+        ReadonlyShapeDefinitions.reset(this);
     }
 
     @Override
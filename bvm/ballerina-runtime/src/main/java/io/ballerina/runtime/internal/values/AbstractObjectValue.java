@@ -68,8 +68,6 @@ public abstract class AbstractObjectValue implements ObjectValue, RecursiveValue
     private final BObjectType objectType;
     private final Type type;
     private SemType shape;
-    private final ThreadLocal<ObjectDefinition> readonlyAttachedDefinition = new ThreadLocal<>();
-
     private final HashMap<String, Object> nativeData = new HashMap<>();
 
     public AbstractObjectValue(Type type) {
@@ -258,16 +256,16 @@ public abstract class AbstractObjectValue implements ObjectValue, RecursiveValue
 
     @Override
     public ObjectDefinition getReadonlyShapeDefinition() {
-        return readonlyAttachedDefinition.get();
+        return ReadonlyShapeDefinitions.get(this);
     }
 
     @Override
     public void setReadonlyShapeDefinition(ObjectDefinition definition) {
-        readonlyAttachedDefinition.set(definition);
+        ReadonlyShapeDefinitions.set(this, definition);
     }
 
     @Override
     public void resetReadonlyShapeDefinition() {
-        readonlyAttachedDefinition.remove();
+        ReadonlyShapeDefinitions.reset(this);
     }
 }
@@ -44,8 +44,11 @@ public class BmpStringValue extends StringValue {
     @Override
     public BString concat(BString str) {
         StringValue stringValue = (StringValue) str;
+        if (ConcatStringValue.isDeferred(this, stringValue)) {
+            return new ConcatStringValue(this, stringValue);
+        }
         if (stringValue.isNonBmp) {
-            int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
+            int[] otherSurrogates = stringValue.getSurrogates();
             int[] newSurrogates = new int[otherSurrogates.length];
             int length = length();
             for (int i = 0; i < otherSurrogates.length; i++) {
@@ -29,11 +29,13 @@ public class CharIterator implements IteratorValue<String> {
     long cursor = 0;
     long length;
     String stringValue;
+    int[] surrogates;
 
     CharIterator(StringValue value) {
         this.value = value;
         this.length = value.length();
         this.stringValue = value.getValue();
+        this.surrogates = value.getSurrogates();
     }
 
     @Override
@@ -47,7 +49,7 @@ public class CharIterator implements IteratorValue<String> {
 
     private String getNonBmpCharWithSurrogates(long currentIndex) {
         int offset = (int) currentIndex;
-        for (int surrogate : ((NonBmpStringValue) value).getSurrogates()) {
+        for (int surrogate : surrogates) {
             if (surrogate < currentIndex) {
                 offset++;
             } else if (surrogate > currentIndex) {
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represent the concatenation of two ballerina strings, of which the characters are not copied until the value of
+ * the string is needed. Concatenating a string to the result of a concatenation creates a tree of the operands, so
+ * that a string can be built from a number of parts in time linear to its length.
+ * <p>
+ * The operands are flattened into a {@link BmpStringValue} or a {@link NonBmpStringValue} when the value is first
+ * needed, with the surrogate positions of the operands merged, and are released once they are flattened. The tree is
+ * flattened without recursion, as strings built in a loop form a tree as deep as the number of parts.
+ *
+ * @since 2201.12.0
+ */
+final class ConcatStringValue extends StringValue {
+
+    /**
+     * Concatenations of which the result is at most this number of characters are copied right away, since the
+     * tree is larger than the copy.
+     */
+    static final int MIN_DEFERRED_LENGTH = 256;
+
+    private final int length;
+    private final int charLength;
+    // The operands are cleared after the flattened value is set, so that they can be collected.
+    private volatile StringValue left;
+    private volatile StringValue right;
+    private volatile StringValue flattened;
+
+    ConcatStringValue(StringValue left, StringValue right) {
+        super(null, left.isNonBmp || right.isNonBmp);
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.charLength = left.charLength() + right.charLength();
+    }
+
+    static boolean isDeferred(StringValue left, StringValue right) {
+        return left.charLength() + right.charLength() > MIN_DEFERRED_LENGTH;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString bString) {
+            return bString.getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    int charLength() {
+        return charLength;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        StringValue other = (StringValue) str;
+        if (other.charLength() == 0) {
+            return this;
+        }
+        return new ConcatStringValue(this, other);
+    }
+
+    @Override
+    public int[] getSurrogates() {
+        return flatten().getSurrogates();
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    private StringValue flatten() {
+        StringValue value = flattened;
+        if (value != null) {
+            return value;
+        }
+        synchronized (this) {
+            value = flattened;
+            if (value == null) {
+                value = copyOperands();
+                flattened = value;
+                left = null;
+                right = null;
+            }
+        }
+        return value;
+    }
+
+    private StringValue copyOperands() {
+        StringBuilder builder = new StringBuilder(charLength);
+        int[] surrogates = new int[charLength - length];
+        int surrogateCount = 0;
+        int codePointCount = 0;
+        Deque<StringValue> operands = new ArrayDeque<>();
+        operands.push(this);
+        while (!operands.isEmpty()) {
+            StringValue operand = operands.pop();
+            if (operand instanceof ConcatStringValue concat) {
+                // The flattened value is read before the operands, as they are cleared after it is set.
+                StringValue value = concat.flattened;
+                StringValue lhs = concat.left;
+                StringValue rhs = concat.right;
+                if (value == null && lhs != null && rhs != null) {
+                    operands.push(rhs);
+                    operands.push(lhs);
+                    continue;
+                }
+                operand = value != null ? value : concat.flattened;
+            }
+            builder.append(operand.getValue());
+            if (operand.isNonBmp) {
+                for (int surrogate : operand.getSurrogates()) {
+                    surrogates[surrogateCount++] = surrogate + codePointCount;
+                }
+            }
+            codePointCount += operand.length();
+        }
+        if (surrogates.length == 0) {
+            return new BmpStringValue(builder.toString());
+        }
+        return new NonBmpStringValue(builder.toString(), surrogates);
+    }
+}
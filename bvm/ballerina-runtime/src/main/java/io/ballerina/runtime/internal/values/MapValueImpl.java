@@ -107,10 +107,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private BTypedesc typedesc;
     private Type type;
     private Type referredType;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    private Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
     private SemType shape;
-    private final ThreadLocal<MappingDefinition> readonlyAttachedDefinition = new ThreadLocal<>();
 
     public MapValueImpl(TypedescValue typedesc) {
         this(typedesc.getDescribingType());
@@ -622,17 +621,17 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
 
     @Override
     public MappingDefinition getReadonlyShapeDefinition() {
-        return readonlyAttachedDefinition.get();
+        return ReadonlyShapeDefinitions.get(this);
     }
 
     @Override
     public void setReadonlyShapeDefinition(MappingDefinition definition) {
-        readonlyAttachedDefinition.set(definition);
+        ReadonlyShapeDefinitions.set(this, definition);
     }
 
     @Override
     public void resetReadonlyShapeDefinition() {
-        readonlyAttachedDefinition.remove();
+        ReadonlyShapeDefinitions.reset(this);
     }
 
     /**
@@ -681,7 +680,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -691,7 +690,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        Map<String, Object> nativeData = this.nativeData;
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -708,6 +708,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
@@ -63,18 +63,22 @@ public class NonBmpStringValue extends StringValue {
    @Override
    public BString concat(BString str) {
        StringValue stringValue = (StringValue) str;
+       if (ConcatStringValue.isDeferred(this, stringValue)) {
+           return new ConcatStringValue(this, stringValue);
+       }
        if (stringValue.isNonBmp) {
-           NonBmpStringValue other = (NonBmpStringValue) str;
-           int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
+           int[] otherSurrogates = stringValue.getSurrogates();
+           int[] both = Arrays.copyOf(surrogates, surrogates.length + otherSurrogates.length);
            int length = length();
-           for (int i = 0; i < other.surrogates.length; i++) {
-               both[i + surrogates.length] = other.surrogates[i] + length;
+           for (int i = 0; i < otherSurrogates.length; i++) {
+               both[i + surrogates.length] = otherSurrogates[i] + length;
            }
-           return new NonBmpStringValue(this.value + other.value, both);
+           return new NonBmpStringValue(this.value + str.getValue(), both);
        }
        return new NonBmpStringValue(this.value + str.getValue(), surrogates);
    }
 
+    @Override
     public int[] getSurrogates() {
         return surrogates.clone();
     }
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.types.semtype.Definition;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Side table holding the readonly shape definitions attached to {@link RecursiveValue}s while their shapes are being
+ * calculated. Definitions are only attached for the duration of a shape calculation on the current thread, so
+ * keeping them here instead of in a per-value {@link ThreadLocal} avoids an extra allocation for every value.
+ *
+ * @since 2201.12.0
+ */
+final class ReadonlyShapeDefinitions {
+
+    private static final ThreadLocal<Map<RecursiveValue<?>, Definition>> DEFINITIONS =
+            ThreadLocal.withInitial(IdentityHashMap::new);
+
+    private ReadonlyShapeDefinitions() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E extends Definition> E get(RecursiveValue<E> value) {
+        return (E) DEFINITIONS.get().get(value);
+    }
+
+    static <E extends Definition> void set(RecursiveValue<E> value, E definition) {
+        DEFINITIONS.get().put(value, definition);
+    }
+
+    static void reset(RecursiveValue<?> value) {
+        DEFINITIONS.get().remove(value);
+    }
+}
@@ -43,6 +43,14 @@ public class RegExpCapturingGroup extends RegExpCommonValue implements RegExpAto
         this.closeParen = closeParen;
     }
 
+    public RegExpFlagExpression getFlagExpr() {
+        return this.flagExpr;
+    }
+
+    public RegExpDisjunction getReDisjunction() {
+        return this.reDisjunction;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.openParen + this.flagExpr.stringValue(parent) + this.reDisjunction.stringValue(parent)
@@ -43,6 +43,10 @@ public class RegExpCharacterClass extends RegExpCommonValue implements RegExpAto
         this.characterClassEnd = characterClassEnd;
     }
 
+    public String getNegation() {
+        return negation;
+    }
+
     public RegExpCharSet getReCharSet() {
         return reCharSet;
     }
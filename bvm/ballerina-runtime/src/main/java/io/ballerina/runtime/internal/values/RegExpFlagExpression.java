@@ -40,6 +40,14 @@ public class RegExpFlagExpression extends RegExpCommonValue {
         this.colon = colon;
     }
 
+    public String getQuestionMark() {
+        return this.questionMark;
+    }
+
+    public RegExpFlagOnOff getFlagsOnOff() {
+        return this.flagsOnOff;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.questionMark + this.flagsOnOff.stringValue(parent) + this.colon;
@@ -36,6 +36,10 @@ public class RegExpFlagOnOff extends RegExpCommonValue {
         this.flags = flags;
     }
 
+    public String getFlags() {
+        return this.flags;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.flags;
@@ -24,12 +24,15 @@ import io.ballerina.runtime.api.types.semtype.SemType;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.regexp.RegExpProgram;
 import io.ballerina.runtime.internal.types.semtype.RegexUtils;
 
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.internal.utils.ValueUtils.getTypedescValue;
 
@@ -50,6 +53,8 @@ public class RegExpValue implements BRegexpValue, RefValue {
     private BTypedesc typedesc;
     private static final Type type = PredefinedTypes.TYPE_READONLY_ANYDATA;
     private final SemType shape;
+    private volatile Pattern pattern;
+    private volatile RegExpProgram program;
 
     public RegExpValue(RegExpDisjunction regExpDisjunction) {
         this.regExpDisjunction = regExpDisjunction;
@@ -61,6 +66,38 @@ public class RegExpValue implements BRegexpValue, RefValue {
         return this.regExpDisjunction;
     }
 
+    /**
+     * Returns the java pattern of this regular expression compiled with the given flags. The pattern is compiled once
+     * and reused by the subsequent operations on this regular expression.
+     *
+     * @param flags match flags of the pattern
+     * @return compiled pattern
+     */
+    public Pattern getPattern(int flags) {
+        Pattern compiledPattern = this.pattern;
+        if (compiledPattern == null || compiledPattern.flags() != flags) {
+            compiledPattern = RegExpFactory.compilePattern(this, flags);
+            this.pattern = compiledPattern;
+        }
+        return compiledPattern;
+    }
+
+    /**
+     * Returns the program of the {@code linear} engine compiled from this regular expression with the given flags.
+     * Like the pattern, the program is compiled once.
+     *
+     * @param flags match flags of the program
+     * @return compiled program
+     */
+    public RegExpProgram getProgram(int flags) {
+        RegExpProgram compiledProgram = this.program;
+        if (compiledProgram == null || compiledProgram.flags() != flags) {
+            compiledProgram = RegExpFactory.compileProgram(this, flags);
+            this.program = compiledProgram;
+        }
+        return compiledProgram;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.regExpDisjunction.stringValue(parent);
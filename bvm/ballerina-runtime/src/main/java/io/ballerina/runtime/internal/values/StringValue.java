@@ -41,6 +41,7 @@ public abstract class StringValue implements BString, SimpleValue {
     private static final BasicTypeBitSet BASIC_TYPE = Builder.getStringType();
     private static final BStringType STRING_TYPE =
             new BStringType(TypeConstants.STRING_TNAME, new Module(null, null, null));
+    private static final int[] NO_SURROGATES = new int[0];
     final String value;
     final boolean isNonBmp;
     private BStringType type;
@@ -113,10 +114,28 @@ public abstract class StringValue implements BString, SimpleValue {
         return false;
     }
 
+    /**
+     * Returns the number of UTF-16 characters of the string, which is the length of the value of the string.
+     *
+     * @return the number of characters
+     */
+    int charLength() {
+        return value.length();
+    }
+
+    /**
+     * Returns the positions of the characters of the string that are represented by surrogate pairs.
+     *
+     * @return the positions in ascending order
+     */
+    public int[] getSurrogates() {
+        return NO_SURROGATES;
+    }
+
     @Override
     public Optional<SemType> inherentTypeOf(Context cx) {
         if (!shapeCalculated) {
-            this.type = BStringType.singletonType(value);
+            this.type = BStringType.singletonType(getValue());
         }
         return Optional.of(this.type.shape());
     }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary index of the rows of a {@link TableValueImpl} on the value of a field that cannot change once a row is
+ * added. The rows with the same value are kept by their row id, so that the rows found on the index are in the same
+ * order as in the table. A sorted index also keeps the values in order, so that it can be used for range lookups.
+ * <p>
+ * The values are normalized so that values which are equal using {@code ==} are the same index key. A lookup may
+ * return rows that do not match the predicate, such as rows of which the field is {@code NaN}, but never leaves out a
+ * row that matches it.
+ *
+ * @since 2201.12.0
+ */
+final class TableFieldIndex {
+
+    static final String EQUAL = "==";
+    static final String LESS_THAN = "<";
+    static final String LESS_THAN_OR_EQUAL = "<=";
+    static final String GREATER_THAN = ">";
+    static final String GREATER_THAN_OR_EQUAL = ">=";
+
+    private static final Object NIL = new Object();
+    // Strings are ordered by their code points, as with the relational operators.
+    private static final Comparator<Object> KEY_ORDER = (lhs, rhs) -> {
+        if (lhs instanceof String lhsString) {
+            return compareCodePoints(lhsString, (String) rhs);
+        }
+        return ((Comparable<Object>) lhs).compareTo(rhs);
+    };
+
+    private final BString fieldName;
+    private final boolean sorted;
+    private final Map<Object, NavigableMap<Long, Object>> rowsByKey;
+
+    TableFieldIndex(BString fieldName, boolean sorted) {
+        this.fieldName = fieldName;
+        this.sorted = sorted;
+        this.rowsByKey = sorted ? new TreeMap<>(KEY_ORDER) : new HashMap<>();
+    }
+
+    BString getFieldName() {
+        return fieldName;
+    }
+
+    boolean isSorted() {
+        return sorted;
+    }
+
+    void add(long id, Object row) {
+        rowsByKey.computeIfAbsent(getKey(row), key -> new TreeMap<>()).put(id, row);
+    }
+
+    void remove(long id, Object row) {
+        Object key = getKey(row);
+        NavigableMap<Long, Object> rows = rowsByKey.get(key);
+        if (rows != null) {
+            rows.remove(id);
+            if (rows.isEmpty()) {
+                rowsByKey.remove(key);
+            }
+        }
+    }
+
+    void clear() {
+        rowsByKey.clear();
+    }
+
+    /**
+     * Returns the rows of which the field may be related to the given value by the given operator.
+     *
+     * @param operator one of {@code ==}, {@code <}, {@code <=}, {@code >} and {@code >=}
+     * @param value    value to compare the field with
+     * @return the rows in table order, or null if the index cannot be used for the lookup
+     */
+    List<Object> getRows(String operator, Object value) {
+        Object key = normalize(value);
+        if (EQUAL.equals(operator)) {
+            if (sorted && !isComparableKey(key)) {
+                return null;
+            }
+            NavigableMap<Long, Object> rows = rowsByKey.get(key);
+            return rows == null ? new ArrayList<>() : new ArrayList<>(rows.values());
+        }
+        if (!sorted || !isComparableKey(key)) {
+            return null;
+        }
+        NavigableMap<Object, NavigableMap<Long, Object>> sortedRows = (NavigableMap<Object, NavigableMap<Long,
+                Object>>) rowsByKey;
+        Collection<NavigableMap<Long, Object>> matchingRows = switch (operator) {
+            case LESS_THAN -> sortedRows.headMap(key, false).values();
+            case LESS_THAN_OR_EQUAL -> sortedRows.headMap(key, true).values();
+            case GREATER_THAN -> sortedRows.tailMap(key, false).values();
+            case GREATER_THAN_OR_EQUAL -> sortedRows.tailMap(key, true).values();
+            default -> null;
+        };
+        if (matchingRows == null) {
+            return null;
+        }
+        TreeMap<Long, Object> rowsById = new TreeMap<>();
+        for (NavigableMap<Long, Object> rows : matchingRows) {
+            rowsById.putAll(rows);
+        }
+        return new ArrayList<>(rowsById.values());
+    }
+
+    private Object getKey(Object row) {
+        return normalize(((MapValue<?, ?>) row).get(fieldName));
+    }
+
+    // A sorted index only has keys of the single basic type of the field.
+    private boolean isComparableKey(Object key) {
+        if (rowsByKey.isEmpty()) {
+            return key != NIL && !(key instanceof Boolean);
+        }
+        return key.getClass() == ((NavigableMap<Object, ?>) rowsByKey).firstKey().getClass();
+    }
+
+    private static Object normalize(Object value) {
+        if (value == null) {
+            return NIL;
+        }
+        if (value instanceof Integer intValue) {
+            // byte values are equal to int values with the same numeric value
+            return intValue.longValue();
+        }
+        if (value instanceof Double doubleValue) {
+            // -0.0 and 0.0 are equal
+            return doubleValue + 0.0;
+        }
+        if (value instanceof BDecimal decimalValue) {
+            BigDecimal bigDecimal = decimalValue.decimalValue();
+            return bigDecimal.signum() == 0 ? BigDecimal.ZERO : bigDecimal.stripTrailingZeros();
+        }
+        if (value instanceof BString stringValue) {
+            return stringValue.getValue();
+        }
+        return value;
+    }
+
+    private static int compareCodePoints(String lhs, String rhs) {
+        int lhsIndex = 0;
+        int rhsIndex = 0;
+        while (lhsIndex < lhs.length() && rhsIndex < rhs.length()) {
+            int lhsCodePoint = lhs.codePointAt(lhsIndex);
+            int rhsCodePoint = rhs.codePointAt(rhsIndex);
+            if (lhsCodePoint != rhsCodePoint) {
+                return Integer.compare(lhsCodePoint, rhsCodePoint);
+            }
+            lhsIndex += Character.charCount(lhsCodePoint);
+            rhsIndex += Character.charCount(rhsCodePoint);
+        }
+        return Integer.compare(lhs.length() - lhsIndex, rhs.length() - rhsIndex);
+    }
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.ballerina.runtime.internal.TypeChecker.isEqual;
+
+/**
+ * Row storage of a {@link TableValueImpl}. The rows are kept in insertion order in dense arrays, and the rows of a
+ * keyed table are indexed by an open-addressed hash table of row positions, probed linearly.
+ * <p>
+ * Each row is given a sequential id when it is added. A removed row leaves a hole at its position, which is reclaimed
+ * when the arrays are compacted instead of being grown. Since compaction moves the rows, iterators keep the id of the
+ * last row they returned and find their position again using the ids, which remain in ascending order.
+ * <p>
+ * The secondary indexes of the table refer to the rows by their ids, and are updated as the rows are added, replaced
+ * and removed.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of rows
+ *
+ * @since 2201.12.0
+ */
+final class TableRowStore<K, V> {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int NOT_FOUND = -1;
+    private static final TableFieldIndex[] NO_INDEXES = new TableFieldIndex[0];
+
+    private Object[] rows;
+    private long[] ids;
+    // Keys and key hashes of the rows of a keyed table, allocated when the first keyed row is added.
+    private Object[] keys;
+    private long[] hashes;
+    // Row position + 1 of each slot, where 0 is an empty slot.
+    private int[] index;
+    private int count = 0;
+    private int size = 0;
+    private long nextId = 0;
+    // Incremented whenever rows are moved to other positions.
+    private int epoch = 0;
+    // Replaced instead of being updated, since an index can be added to an immutable table that is shared.
+    private volatile TableFieldIndex[] indexes = NO_INDEXES;
+
+    TableRowStore() {
+        this.rows = new Object[INITIAL_CAPACITY];
+        this.ids = new long[INITIAL_CAPACITY];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of positions in use, including the holes left by removed rows.
+     *
+     * @return the position after the last row
+     */
+    int count() {
+        return count;
+    }
+
+    int epoch() {
+        return epoch;
+    }
+
+    boolean isRemoved(int position) {
+        return rows[position] == null;
+    }
+
+    V getRow(int position) {
+        return (V) rows[position];
+    }
+
+    K getKey(int position) {
+        return (K) (keys == null ? rows[position] : keys[position]);
+    }
+
+    long getId(int position) {
+        return ids[position];
+    }
+
+    /**
+     * Returns the position of the first row added after the row with the given id.
+     *
+     * @param id id of a row, which may have been removed
+     * @return the position of the next row, or the position after the last row
+     */
+    int positionAfter(long id) {
+        int position = Arrays.binarySearch(ids, 0, count, id);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    TableFieldIndex getIndex(BString fieldName) {
+        for (TableFieldIndex secondaryIndex : indexes) {
+            if (secondaryIndex.getFieldName().equals(fieldName)) {
+                return secondaryIndex;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a secondary index of the rows, replacing any index on the same field.
+     *
+     * @param fieldIndex index to add, which should be empty
+     */
+    synchronized void addIndex(TableFieldIndex fieldIndex) {
+        for (int position = 0; position < count; position++) {
+            if (rows[position] != null) {
+                fieldIndex.add(ids[position], rows[position]);
+            }
+        }
+        List<TableFieldIndex> newIndexes = new ArrayList<>(indexes.length + 1);
+        for (TableFieldIndex secondaryIndex : indexes) {
+            if (!secondaryIndex.getFieldName().equals(fieldIndex.getFieldName())) {
+                newIndexes.add(secondaryIndex);
+            }
+        }
+        newIndexes.add(fieldIndex);
+        indexes = newIndexes.toArray(NO_INDEXES);
+    }
+
+    /**
+     * Returns the position of the row with the given key.
+     *
+     * @param key  key of the row
+     * @param hash hash of the key
+     * @return the position of the row, or -1 if there is no such row
+     */
+    int find(Object key, long hash) {
+        if (index == null) {
+            return NOT_FOUND;
+        }
+        int mask = index.length - 1;
+        for (int slot = slotOf(hash, mask); index[slot] != 0; slot = (slot + 1) & mask) {
+            int position = index[slot] - 1;
+            if (hashes[position] == hash && isEqual(key, keys[position])) {
+                return position;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Adds a row of a table without a key.
+     *
+     * @param row row to add
+     */
+    void add(V row) {
+        ensureCapacity();
+        rows[count] = row;
+        ids[count] = nextId;
+        count++;
+        size++;
+        addToIndexes(nextId++, row);
+    }
+
+    /**
+     * Adds a row of a keyed table. There should be no row with the same key.
+     *
+     * @param key  key of the row
+     * @param hash hash of the key
+     * @param row  row to add
+     */
+    void add(K key, long hash, V row) {
+        ensureCapacity();
+        if (keys == null) {
+            keys = new Object[rows.length];
+            hashes = new long[rows.length];
+        }
+        int position = count;
+        rows[position] = row;
+        ids[position] = nextId;
+        keys[position] = key;
+        hashes[position] = hash;
+        count++;
+        size++;
+        if (index == null || size * 2 > index.length) {
+            rebuildIndex();
+        } else {
+            insertIntoIndex(position);
+        }
+        addToIndexes(nextId++, row);
+    }
+
+    /**
+     * Replaces a row, keeping its position.
+     *
+     * @param position position of the row
+     * @param key      key of the row
+     * @param row      new row
+     */
+    void replace(int position, K key, V row) {
+        for (TableFieldIndex secondaryIndex : indexes) {
+            secondaryIndex.remove(ids[position], rows[position]);
+            secondaryIndex.add(ids[position], row);
+        }
+        rows[position] = row;
+        if (keys != null) {
+            keys[position] = key;
+        }
+    }
+
+    /**
+     * Removes a row, leaving a hole at its position.
+     *
+     * @param position position of the row
+     * @return the removed row
+     */
+    V remove(int position) {
+        V row = (V) rows[position];
+        for (TableFieldIndex secondaryIndex : indexes) {
+            secondaryIndex.remove(ids[position], row);
+        }
+        removeFromIndex(position);
+        rows[position] = null;
+        if (keys != null) {
+            keys[position] = null;
+        }
+        size--;
+        if (size == 0) {
+            count = 0;
+            epoch++;
+        }
+        return row;
+    }
+
+    void clear() {
+        rows = new Object[INITIAL_CAPACITY];
+        ids = new long[INITIAL_CAPACITY];
+        keys = null;
+        hashes = null;
+        index = null;
+        count = 0;
+        size = 0;
+        epoch++;
+        for (TableFieldIndex secondaryIndex : indexes) {
+            secondaryIndex.clear();
+        }
+    }
+
+    private void addToIndexes(long id, Object row) {
+        for (TableFieldIndex secondaryIndex : indexes) {
+            secondaryIndex.add(id, row);
+        }
+    }
+
+    private void ensureCapacity() {
+        if (count < rows.length) {
+            return;
+        }
+        if (count - size >= count / 2) {
+            compact();
+            return;
+        }
+        int capacity = rows.length * 2;
+        rows = Arrays.copyOf(rows, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        if (keys != null) {
+            keys = Arrays.copyOf(keys, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+        }
+    }
+
+    // Moves the rows over the holes left by removed rows, keeping their order.
+    private void compact() {
+        int target = 0;
+        for (int position = 0; position < count; position++) {
+            if (rows[position] == null) {
+                continue;
+            }
+            rows[target] = rows[position];
+            ids[target] = ids[position];
+            if (keys != null) {
+                keys[target] = keys[position];
+                hashes[target] = hashes[position];
+            }
+            target++;
+        }
+        Arrays.fill(rows, target, count, null);
+        if (keys != null) {
+            Arrays.fill(keys, target, count, null);
+        }
+        count = target;
+        epoch++;
+        if (index != null) {
+            rebuildIndex();
+        }
+    }
+
+    private void rebuildIndex() {
+        // Keep the load factor at most a quarter after a rebuild, and at most a half before the next one.
+        int capacity = INITIAL_CAPACITY * 2;
+        while (capacity < size * 4) {
+            capacity <<= 1;
+        }
+        index = new int[capacity];
+        for (int position = 0; position < count; position++) {
+            if (rows[position] != null) {
+                insertIntoIndex(position);
+            }
+        }
+    }
+
+    private void insertIntoIndex(int position) {
+        int mask = index.length - 1;
+        int slot = slotOf(hashes[position], mask);
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    // Removes the slot of a row and shifts back the slots that follow it in the same probe sequence.
+    private void removeFromIndex(int position) {
+        if (index == null) {
+            return;
+        }
+        int mask = index.length - 1;
+        int slot = slotOf(hashes[position], mask);
+        while (index[slot] != position + 1) {
+            slot = (slot + 1) & mask;
+        }
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (index[next] == 0) {
+                break;
+            }
+            int home = slotOf(hashes[index[next] - 1], mask);
+            // Skip the slot if its home slot is cyclically within (slot, next].
+            boolean inRange = slot <= next ? slot < home && home <= next : slot < home || home <= next;
+            if (!inRange) {
+                index[slot] = index[next];
+                slot = next;
+            }
+        }
+        index[slot] = 0;
+    }
+
+    private static int slotOf(long hash, int mask) {
+        return (int) ((hash * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
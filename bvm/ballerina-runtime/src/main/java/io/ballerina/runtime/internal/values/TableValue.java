@@ -18,6 +18,8 @@
 package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 
 /**
@@ -48,4 +50,23 @@ public interface TableValue<K, V> extends RefValue, CollectionValue, BTable<K, V
 
     @Override
     Type getKeyType();
+
+    /**
+     * Adds a secondary index on a field of the members, which cannot change once a member is added.
+     *
+     * @param fieldName name of the field
+     * @param sorted    whether the index is ordered by the value of the field, so that it can be used for ranges
+     */
+    void addIndex(BString fieldName, boolean sorted);
+
+    /**
+     * Returns the members of which the given field may be related to the given value by the given operator, using a
+     * secondary index on the field.
+     *
+     * @param fieldName name of the field
+     * @param operator  one of {@code ==}, {@code <}, {@code <=}, {@code >} and {@code >=}
+     * @param value     value to compare the field with
+     * @return the members in table order, or null if there is no index on the field that can be used
+     */
+    BArray getIndexedRows(BString fieldName, String operator, Object value);
 }
@@ -18,9 +18,12 @@
 package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
@@ -32,6 +35,7 @@ import io.ballerina.runtime.api.types.semtype.ShapeAnalyzer;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BIterator;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BMap;
@@ -59,17 +63,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.TreeMap;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.api.utils.TypeUtils.getImpliedType;
@@ -94,22 +93,20 @@ import static io.ballerina.runtime.internal.utils.ValueUtils.getTypedescValue;
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private static final BasicTypeBitSet BASIC_TYPE = Builder.getTableType();
+    private static final Type INDEXABLE_FIELD_TYPE = TypeCreator.createUnionType(PredefinedTypes.TYPE_NULL,
+            PredefinedTypes.TYPE_BOOLEAN, PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_FLOAT,
+            PredefinedTypes.TYPE_DECIMAL, PredefinedTypes.TYPE_STRING);
+    private static final Type[] SORTABLE_FIELD_TYPES = {PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_FLOAT,
+            PredefinedTypes.TYPE_DECIMAL, PredefinedTypes.TYPE_STRING};
 
     private Type type;
     private TableType tableType;
     private Type iteratorNextReturnType;
-    private final ConcurrentHashMap<Long, List<Map.Entry<K, V>>> entries;
-    private final LinkedHashMap<Long, List<V>> values;
+    private final TableRowStore<K, V> rows;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private final Map<Long, K> indexToKeyMap;
-    private final Map<K, Long> keyToIndexMap;
-    private final Map<K, V> keyValues;
-    private long noOfAddedEntries = 0;
-
     private boolean nextKeySupported;
 
     private final Map<String, Object> nativeData = new HashMap<>();
@@ -118,12 +115,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType tableType) {
         this.type = this.tableType = tableType;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new TreeMap<>();
+        this.rows = new TableRowStore<>();
         this.fieldNames = tableType.getFieldNames();
-        this.keyValues = new LinkedHashMap<>();
         if (tableType.getFieldNames().length > 0) {
             this.valueHolder = new KeyHashValueHolder();
         } else {
@@ -259,18 +252,21 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
         LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
+        for (int i = 0; i < rows.count(); i++) {
+            if (!rows.isRemoved(i)) {
+                entrySet.add(new AbstractMap.SimpleEntry<>(rows.getKey(i), rows.getRow(i)));
+            }
         }
         return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
+        ArrayList<V> newValues = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.count(); i++) {
+            if (!rows.isRemoved(i)) {
+                newValues.add(rows.getRow(i));
+            }
         }
         return newValues;
     }
@@ -278,11 +274,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        rows.clear();
     }
 
     @Override
@@ -313,7 +305,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return indexToKeyMap.isEmpty() ? 0 : (this.maxIntKey + 1);
+        return rows.size() == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     @Override
@@ -321,6 +313,64 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return this.valueHolder.getKeyType();
     }
 
+    @Override
+    public void addIndex(BString fieldName, boolean sorted) {
+        TableFieldIndex index = rows.getIndex(fieldName);
+        if (index != null && (index.isSorted() || !sorted)) {
+            return;
+        }
+        Type fieldType = getIndexableFieldType(fieldName);
+        if (!TypeChecker.checkIsType(fieldType, INDEXABLE_FIELD_TYPE)) {
+            throw createIndexError(fieldName, "the field should be of type '()', 'boolean', 'int', 'float', " +
+                    "'decimal' or 'string'");
+        }
+        if (sorted && Arrays.stream(SORTABLE_FIELD_TYPES)
+                .noneMatch(sortableType -> TypeChecker.checkIsType(fieldType, sortableType))) {
+            throw createIndexError(fieldName, "the field of a sorted index should be of type 'int', 'float', " +
+                    "'decimal' or 'string'");
+        }
+        rows.addIndex(new TableFieldIndex(fieldName, sorted));
+    }
+
+    @Override
+    public BArray getIndexedRows(BString fieldName, String operator, Object value) {
+        TableFieldIndex index = rows.getIndex(fieldName);
+        List<Object> indexedRows = index == null ? null : index.getRows(operator, value);
+        if (indexedRows == null) {
+            return null;
+        }
+        return ValueCreator.createArrayValue(indexedRows.toArray(),
+                TypeCreator.createArrayType(tableType.getConstrainedType()));
+    }
+
+    // Returns the type of a field of the members, which has to be immutable for the field to be indexed.
+    private Type getIndexableFieldType(BString fieldName) {
+        Type constraintType = TypeUtils.getImpliedType(tableType.getConstrainedType());
+        boolean immutableMembers = tableType.isReadOnly() || constraintType.isReadOnly();
+        if (constraintType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            Field field = ((BRecordType) constraintType).getFields().get(fieldName.getValue());
+            if (field == null) {
+                throw createIndexError(fieldName, "the field is not defined in the member type");
+            }
+            if (immutableMembers || SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY)) {
+                // A row without an optional field is indexed as having nil as the value of the field.
+                return SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL) ?
+                        TypeCreator.createUnionType(field.getFieldType(), PredefinedTypes.TYPE_NULL) :
+                        field.getFieldType();
+            }
+        } else if (constraintType.getTag() == TypeTags.MAP_TAG && immutableMembers) {
+            return TypeCreator.createUnionType(((MapType) constraintType).getConstrainedType(),
+                    PredefinedTypes.TYPE_NULL);
+        }
+        throw createIndexError(fieldName, "the field should be a readonly field, or the members should be " +
+                "immutable");
+    }
+
+    private static BError createIndexError(BString fieldName, String reason) {
+        return ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR,
+                StringUtils.fromString("cannot add an index on field '" + fieldName.getValue() + "': " + reason));
+    }
+
     @Override
     public V fillAndGet(Object key) {
         if (containsKey(key)) {
@@ -342,17 +392,24 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) indexToKeyMap.values().toArray();
+        Object[] keys = new Object[rows.size()];
+        int keyIndex = 0;
+        for (int i = 0; i < rows.count(); i++) {
+            if (!rows.isRemoved(i)) {
+                keys[keyIndex++] = rows.getKey(i);
+            }
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return values().size();
+        return rows.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return rows.size() == 0;
     }
 
     @Override
@@ -381,8 +438,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(parent);
     }
 
     @Override
@@ -392,43 +448,26 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getStringVal(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getStringVal(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+        for (V data : values()) {
+            sj.add(getStringVal(data, new CycleUtils.Node(this, parent)));
         }
         return "[" + sj + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         String[] keysList = tableType.getFieldNames();
         for (String string : keysList) {
             keyJoiner.add(string);
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getExpressionStringVal(struct.getValue().get(0), new CycleUtils.Node(this, parent)));
-            }
+        for (V data : values()) {
+            sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
     }
@@ -518,37 +557,47 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator implements IteratorValue<Object> {
-        private long cursor;
+        private int cursor;
+        private int epoch;
+        private long lastId = -1;
 
         TableIterator() {
             this.cursor = 0;
+            this.epoch = rows.epoch();
         }
 
         @Override
         public Object next() {
-            if (indexToKeyMap.containsKey(cursor)) {
-                K key = indexToKeyMap.get(cursor);
-                V value = keyValues.get(key);
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            if (!hasNext()) {
+                return null;
             }
+            K key = rows.getKey(cursor);
+            V value = rows.getRow(cursor);
+            lastId = rows.getId(cursor);
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            cursor++;
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries && !values.isEmpty();
+            if (epoch != rows.epoch()) {
+                // The rows have been moved since the last call, so find the row after the last returned row.
+                epoch = rows.epoch();
+                cursor = rows.positionAfter(lastId);
+            }
+            while (cursor < rows.count() && rows.isRemoved(cursor)) {
+                cursor++;
+            }
+            return cursor < rows.count();
         }
     }
 
@@ -570,18 +619,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue<?, ?>) data, tableType);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>((K) data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            Long hash = (long) uuid.hashCode();
-            updateIndexKeyMappings(hash, (K) data, data);
-            entries.put(hash, entryList);
-            values.put(hash, newData);
+            rows.add(data);
             return data;
         }
 
@@ -619,47 +657,27 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             checkInherentTypeViolation(dataMap, tableType);
             K key = this.keyWrapper.wrapKey(dataMap);
 
-            if (containsKey(key)) {
+            long hash = TableUtils.hash(key, null);
+            if (rows.find(key, hash) >= 0) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                         ErrorHelper.getErrorDetails(ErrorCodes.TABLE_HAS_A_VALUE_FOR_KEY, key));
             }
 
-            if (nextKeySupported && (indexToKeyMap.isEmpty() || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (rows.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-
-            if (entries.containsKey(hash)) {
-                updateIndexKeyMappings(hash, key, data);
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
-                extEntries.add(entry);
-                List<V> extValues = values.get(hash);
-                extValues.add(data);
-                return;
-            }
-
-            putNewData(key, data, entry, hash);
+            rows.add(key, hash, data);
         }
 
         @Override
         public V getData(K key) {
-            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-            if (entryList == null) {
-                return null;
-            }
-            for (Map.Entry<K, V> entry: entryList) {
-                if (isEqual(key, entry.getKey())) {
-                    return entry.getValue();
-                }
-            }
-            return null;
+            int position = rows.find(key, TableUtils.hash(key, null));
+            return position < 0 ? null : rows.getRow(position);
         }
 
         @Override
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue<?, ?>) data);
             Long actualHash = TableUtils.hash(actualKey, null);
             Long hash = TableUtils.hash(key, null);
@@ -668,22 +686,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                         ErrorHelper.getErrorDetails(ErrorCodes.KEY_NOT_FOUND_IN_VALUE, key, data));
             }
-
-            if (entries.containsKey(hash)) {
-                return updateExistingEntry(key, data, entry, hash);
-            }
-            return putNewData(key, data, entry, hash);
-        }
-
-        private V putNewData(K key, V value, Map.Entry<K, V> entry, Long hash) {
-            List<V> data = new ArrayList<>();
-            data.add(value);
-            updateIndexKeyMappings(hash, key, value);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            entries.put(hash, entryList);
-            values.put(hash, data);
-            return data.get(0);
+            return putData(key, hash, data);
         }
 
         @Override
@@ -691,78 +694,28 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue<?, ?> dataMap = (MapValue<?, ?>) data;
             checkInherentTypeViolation(dataMap, tableType);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
+            return putData(key, TableUtils.hash(key, null), data);
+        }
 
-            if (entries.containsKey(hash)) {
-                return updateExistingEntry(key, data, entry, hash);
-            }
-            return putNewData(key, data, entry, hash);
-        }
-
-        private V updateExistingEntry(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            updateIndexKeyMappings(hash, key, data);
-            List<V> valueList = values.get(hash);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            for (Map.Entry<K, V> extEntry: entryList) {
-                // Handle hash-collided entries
-                if (TypeChecker.isEqual(key, extEntry.getKey())) {
-                    entryList.remove(extEntry);
-                    valueList.remove(extEntry.getValue());
-                    break;
-                }
+        private V putData(K key, long hash, V data) {
+            int position = rows.find(key, hash);
+            if (position < 0) {
+                rows.add(key, hash, data);
+            } else {
+                rows.replace(position, key, data);
             }
-            entryList.add(entry);
-            values.get(hash).add(data);
             return data;
         }
 
         @Override
         public V remove(K key) {
-            keyValues.remove(key);
-            Long hash = TableUtils.hash(key, null);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            if (entryList != null && entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (isEqual(key, entry.getKey())) {
-                        List<V> valueList = values.get(hash);
-                        valueList.remove(entry.getValue());
-                        entryList.remove(entry);
-                        Long index = keyToIndexMap.remove(key);
-                        indexToKeyMap.remove(index);
-                        if (index != null && index == noOfAddedEntries - 1) {
-                            noOfAddedEntries--;
-                        }
-                        return entry.getValue();
-                    }
-                }
-            }
-            if (entryList != null) {
-                Long index = keyToIndexMap.remove(entryList.get(0).getKey());
-                indexToKeyMap.remove(index);
-                if (index != null && index == noOfAddedEntries - 1) {
-                    noOfAddedEntries--;
-                }
-            }
-            entries.remove(hash);
-            List<V> removedValue = values.remove(hash);
-            if (removedValue == null) {
-                return null;
-            }
-            return removedValue.get(0);
+            int position = rows.find(key, TableUtils.hash(key, null));
+            return position < 0 ? null : rows.remove(position);
         }
 
         @Override
         public boolean containsKey(K key) {
-            if (entries.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (isEqual(entry.getKey(), key)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return rows.find(key, TableUtils.hash(key, null)) >= 0;
         }
 
         @Override
@@ -815,27 +768,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash, K key, V value) {
-        if (entries.containsKey(hash)) {
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            for (Map.Entry<K, V> entry: entryList) {
-                if (TypeChecker.isEqual(entry.getKey(), key)) {
-                    long index = keyToIndexMap.remove(entry.getKey());
-                    keyToIndexMap.put(key, index);
-                    indexToKeyMap.put(index, key);
-                    keyValues.remove(entry.getKey());
-                    keyValues.put(key, value);
-                    return;
-                }
-            }
-        }
-        keyToIndexMap.put(key, noOfAddedEntries);
-        indexToKeyMap.put(noOfAddedEntries, key);
-        keyValues.put(key, value);
-        noOfAddedEntries++;
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue<?, ?> dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
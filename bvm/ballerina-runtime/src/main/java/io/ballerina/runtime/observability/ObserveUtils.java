@@ -28,13 +28,18 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.configurable.ConfigMap;
 import io.ballerina.runtime.internal.configurable.VariableKey;
 import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.observability.metrics.Tag;
 import io.ballerina.runtime.observability.tracer.BSpan;
 import io.opentelemetry.api.common.Attributes;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
@@ -65,6 +70,12 @@ import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_TRUE
  */
 public final class ObserveUtils {
 
+    /**
+     * The environment variable of the fraction of the requests that are observed, which is used unless the
+     * {@code samplingRate} configurable of the {@code ballerina/observe} module is declared and configured.
+     */
+    public static final String SAMPLING_RATE_ENV_VAR = "BAL_OBSERVE_SAMPLING_RATE";
+
     private static final List<BallerinaObserver> observers = new CopyOnWriteArrayList<>();
     private static final boolean enabled;
     private static final boolean metricsEnabled;
@@ -73,6 +84,17 @@ public final class ObserveUtils {
     private static final boolean tracingEnabled;
     private static final BString tracingProvider;
     private static final boolean metricsLogsEnabled;
+    private static final double samplingRate;
+
+    // The tags of a call site are the same for all of its observations, and hence are created once per call site.
+    private static final Map<CallSiteKey, CallSite> callSites = new ConcurrentHashMap<>();
+    private static final int SERVICE_RESOURCE = 0;
+    private static final int SERVICE_REMOTE = 1;
+    private static final int SERVICE_FUNCTION = 2;
+    private static final int MAIN_FUNCTION = 3;
+    private static final int CLIENT_REMOTE = 4;
+    private static final int WORKER = 5;
+    private static final int FUNCTION = 6;
 
     static {
         // TODO: Move config initialization to ballerina level once checking config key is possible at ballerina level
@@ -91,6 +113,8 @@ public final class ObserveUtils {
                 PredefinedTypes.TYPE_STRING, false);
         VariableKey metricsLogsEnabledKey = new VariableKey(observeModule, "metricsLogsEnabled",
                 PredefinedTypes.TYPE_BOOLEAN, false);
+        VariableKey samplingRateKey = new VariableKey(observeModule, "samplingRate", PredefinedTypes.TYPE_FLOAT,
+                false);
 
         metricsEnabled = readConfig(metricsEnabledKey, enabledKey, false);
         metricsProvider = readConfig(metricsProviderKey, null, StringUtils.fromString("default"));
@@ -98,6 +122,8 @@ public final class ObserveUtils {
         tracingEnabled = readConfig(tracingEnabledKey, enabledKey, false);
         tracingProvider = readConfig(tracingProviderKey, providerKey, StringUtils.fromString("choreo"));
         metricsLogsEnabled = readConfig(metricsLogsEnabledKey, metricsLogsEnabledKey, false);
+        samplingRate = Math.max(0, Math.min(1, readConfig(samplingRateKey, null,
+                parseSamplingRate(System.getenv(SAMPLING_RATE_ENV_VAR)))));
         enabled = metricsEnabled || tracingEnabled || metricsLogsEnabled;
     }
 
@@ -116,6 +142,18 @@ public final class ObserveUtils {
         return value;
     }
 
+    static double parseSamplingRate(String value) {
+        if (value == null || value.isBlank()) {
+            return 1.0d;
+        }
+        try {
+            double rate = Double.parseDouble(value.trim());
+            return Double.isNaN(rate) ? 1.0d : rate;
+        } catch (NumberFormatException e) {
+            return 1.0d;
+        }
+    }
+
     public static boolean isObservabilityEnabled() {
         return enabled;
     }
@@ -144,6 +182,16 @@ public final class ObserveUtils {
         return metricsLogsEnabled;
     }
 
+    /**
+     * Returns the fraction of the requests that are observed. Whether a request is observed is decided when its
+     * entrypoint is called, and applies to all the calls made in the request.
+     *
+     * @return sampling rate between 0 and 1
+     */
+    public static double getSamplingRate() {
+        return samplingRate;
+    }
+
     /**
      * Add metrics and tracing observers.
      *
@@ -174,76 +222,90 @@ public final class ObserveUtils {
         if (!enabled) {
             return;
         }
+        startResourceObservation(env, module,
+                StringUtils.fromString(generatePositionId(srcFileName, startLine, startColumn)), serviceName,
+                resourcePathOrFunction, resourceAccessor, isResource, isRemote);
+    }
+
+    /**
+     * Start observation of a resource invocation.
+     *
+     * @param env                    Ballerina environment
+     * @param module                 The module the resource belongs to
+     * @param positionId             The ID of the source code position the resource is defined in
+     * @param serviceName            Name of the service to which the observer context belongs
+     * @param resourcePathOrFunction Full path of the resource
+     * @param resourceAccessor       Accessor of the resource
+     * @param isResource             True if this was a resource function invocation
+     * @param isRemote               True if this was a remote function invocation
+     */
+    public static void startResourceObservation(Environment env, BString module, BString positionId,
+                                                BString serviceName, BString resourcePathOrFunction,
+                                                BString resourceAccessor, boolean isResource, boolean isRemote) {
+        if (!enabled) {
+            return;
+        }
 
         ObserverContext observerContext = getObserverContextOfCurrentFrame(env);
+        ObserverContext resourceContext = startResourceObservation(observerContext, ObserveUtils::sampleRequest,
+                module, positionId, serviceName, resourcePathOrFunction, resourceAccessor, isResource, isRemote);
+        if (resourceContext != observerContext) {
+            setObserverContextToCurrentFrame(env, resourceContext);
+        }
+    }
+
+    // Starts the observation of a resource with the context of the current frame, which is null unless a listener
+    // created it, and returns the context of the resource. Whether a new request is observed is decided by 'sampler'.
+    static ObserverContext startResourceObservation(ObserverContext observerContext, BooleanSupplier sampler,
+                                                    BString module, BString positionId, BString serviceName,
+                                                    BString resourcePathOrFunction, BString resourceAccessor,
+                                                    boolean isResource, boolean isRemote) {
         if (observerContext == null) {  // No context created by listener
             observerContext = new ObserverContext();
-            setObserverContextToCurrentFrame(env, observerContext);
         }
 
         if (observerContext.isStarted()) { // If a remote or resource was called by user code itself
             ObserverContext newObserverContext = new ObserverContext();
-            setObserverContextToCurrentFrame(env, newObserverContext);
+            newObserverContext.setParent(observerContext);
+            if (!observerContext.isSampled()) {
+                startUnsampledObservation(newObserverContext, true);
+                return newObserverContext;
+            }
 
             newObserverContext.setEntrypointFunctionModule(observerContext.getEntrypointFunctionModule());
             newObserverContext.setEntrypointServiceName(observerContext.getEntrypointServiceName());
             newObserverContext.setEntrypointFunctionName(observerContext.getEntrypointFunctionName());
             newObserverContext.setEntrypointResourceAccessor(observerContext.getEntrypointResourceAccessor());
-            newObserverContext.setParent(observerContext);
+            newObserverContext.setEntrypointTags(observerContext.getEntrypointTags());
             observerContext = newObserverContext;
         } else {    // If created now or the listener created to add more tags
+            if (!sampler.getAsBoolean()) {
+                startUnsampledObservation(observerContext, true);
+                return observerContext;
+            }
+
             observerContext.setEntrypointFunctionModule(module.getValue());
             observerContext.setEntrypointServiceName(serviceName.getValue());
             observerContext.setEntrypointFunctionName(resourcePathOrFunction.getValue());
             if (isResource) {
                 observerContext.setEntrypointResourceAccessor(resourceAccessor.getValue());
             }
+            observerContext.setEntrypointTags(createEntrypointTags(observerContext));
         }
         observerContext.setServiceName(serviceName.getValue());
 
-        if (isResource) {
-            observerContext.setOperationName(resourceAccessor.getValue() + " " + resourcePathOrFunction.getValue());
-
-            observerContext.addTag(TAG_KEY_IS_SRC_SERVICE_RESOURCE, TAG_TRUE_VALUE);
-            observerContext.addTag(TAG_KEY_SRC_RESOURCE_ACCESSOR, resourceAccessor.getValue());
-            observerContext.addTag(TAG_KEY_SRC_RESOURCE_PATH, resourcePathOrFunction.getValue());
-        } else if (isRemote) {
-            observerContext.setOperationName(serviceName.getValue() + ":" + resourcePathOrFunction.getValue());
-
-            observerContext.addTag(TAG_KEY_IS_SRC_SERVICE_REMOTE, TAG_TRUE_VALUE);
-            observerContext.addTag(TAG_KEY_SRC_FUNCTION_NAME, resourcePathOrFunction.getValue());
-        } else {
-            observerContext.setOperationName(serviceName.getValue() + ":" + resourcePathOrFunction.getValue());
-
-            observerContext.addTag(TAG_KEY_SRC_FUNCTION_NAME, resourcePathOrFunction.getValue());
-        }
-        observerContext.addTag(TAG_KEY_SRC_OBJECT_NAME, serviceName.getValue());
-
-        observerContext.addTag(TAG_KEY_SRC_MODULE, module.getValue());
-        observerContext.addTag(TAG_KEY_SRC_POSITION, generatePositionId(srcFileName, startLine, startColumn));
-
-        if (observerContext.getEntrypointFunctionModule() != null) {
-            observerContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_MODULE,
-                    observerContext.getEntrypointFunctionModule());
-        }
-        if (observerContext.getEntrypointServiceName() != null) {
-            observerContext.addTag(TAG_KEY_ENTRYPOINT_SERVICE_NAME,
-                    observerContext.getEntrypointServiceName());
-        }
-        if (observerContext.getEntrypointFunctionName() != null) {
-            observerContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_NAME,
-                    observerContext.getEntrypointFunctionName());
-        }
-        if (observerContext.getEntrypointResourceAccessor() != null) {
-            observerContext.addTag(TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR,
-                    observerContext.getEntrypointResourceAccessor());
-        }
+        int kind = isResource ? SERVICE_RESOURCE : isRemote ? SERVICE_REMOTE : SERVICE_FUNCTION;
+        CallSite callSite = callSites.computeIfAbsent(new CallSiteKey(module, positionId, serviceName,
+                resourcePathOrFunction, isResource ? resourceAccessor : null, kind), ObserveUtils::createCallSite);
+        observerContext.setOperationName(callSite.operationName());
+        observerContext.setCallSiteTags(callSite.tags());
 
         observerContext.setServer();
         observerContext.setStarted();
         for (BallerinaObserver observer : observers) {
             observer.startServerObservation(observerContext);
         }
+        return observerContext;
     }
 
     /**
@@ -305,6 +367,10 @@ public final class ObserveUtils {
      */
     public static void stopObservationWithContext(ObserverContext observerContext) {
         if (!observerContext.isFinished()) {
+            if (!observerContext.isSampled()) {
+                observerContext.setFinished();
+                return;
+            }
             if (observerContext.isServer()) {
                 observers.forEach(observer -> observer.stopServerObservation(observerContext));
             } else {
@@ -336,7 +402,7 @@ public final class ObserveUtils {
             return;
         }
         ObserverContext observerContext = getObserverContextOfCurrentFrame(env);
-        if (observerContext == null) {
+        if (observerContext == null || !observerContext.isSampled()) {
             return;
         }
         observerContext.addTag(ObservabilityConstants.TAG_KEY_ERROR, TAG_TRUE_VALUE);
@@ -364,63 +430,147 @@ public final class ObserveUtils {
         if (!enabled) {
             return;
         }
+        startCallableObservation(env, module,
+                StringUtils.fromString(generatePositionId(srcFileName, startLine, startColumn)), typeDef,
+                functionName, isMainEntryPoint, isRemote, isWorker);
+    }
+
+    /**
+     * Start observability for the synchronous function/action invocations.
+     *
+     * @param env              Ballerina environment
+     * @param module           The module the resource belongs to
+     * @param positionId       The ID of the source code position of the invocation
+     * @param typeDef          The type definition the function was attached to
+     * @param functionName     name of the function being invoked
+     * @param isMainEntryPoint True if this was a main entry point invocation
+     * @param isRemote         True if this was a remote function invocation
+     * @param isWorker         True if this was a worker start
+     */
+    public static void startCallableObservation(Environment env, BString module, BString positionId,
+                                                BObject typeDef, BString functionName, boolean isMainEntryPoint,
+                                                boolean isRemote, boolean isWorker) {
+        if (!enabled) {
+            return;
+        }
 
         ObserverContext prevObserverCtx = getObserverContextOfCurrentFrame(env);
-        ObserverContext newObContext = new ObserverContext();
-        setObserverContextToCurrentFrame(env, newObContext);
+        setObserverContextToCurrentFrame(env, startCallableObservation(prevObserverCtx, ObserveUtils::sampleRequest,
+                module, positionId, typeDef, functionName, isMainEntryPoint, isRemote, isWorker));
+    }
 
+    // Starts the observation of a call with the context of the current frame, which is null for a new request, and
+    // returns the context of the call. Whether a new request is observed is decided by 'sampler'.
+    static ObserverContext startCallableObservation(ObserverContext prevObserverCtx, BooleanSupplier sampler,
+                                                    BString module, BString positionId, BObject typeDef,
+                                                    BString functionName, boolean isMainEntryPoint,
+                                                    boolean isRemote, boolean isWorker) {
+        ObserverContext newObContext = new ObserverContext();
         if (prevObserverCtx != null) {
+            newObContext.setParent(prevObserverCtx);
+            if (!prevObserverCtx.isSampled()) {
+                startUnsampledObservation(newObContext, false);
+                return newObContext;
+            }
             newObContext.setServiceName(prevObserverCtx.getServiceName());
             newObContext.setEntrypointFunctionModule(prevObserverCtx.getEntrypointFunctionModule());
             newObContext.setEntrypointServiceName(prevObserverCtx.getEntrypointServiceName());
             newObContext.setEntrypointFunctionName(prevObserverCtx.getEntrypointFunctionName());
             newObContext.setEntrypointResourceAccessor(prevObserverCtx.getEntrypointResourceAccessor());
-            newObContext.setParent(prevObserverCtx);
+            newObContext.setEntrypointTags(prevObserverCtx.getEntrypointTags());
         } else {
+            if (!sampler.getAsBoolean()) {
+                startUnsampledObservation(newObContext, false);
+                return newObContext;
+            }
             newObContext.setServiceName(DEFAULT_SERVICE_NAME);
             newObContext.setEntrypointFunctionModule(module.getValue());
             newObContext.setEntrypointFunctionName(functionName.getValue());
+            newObContext.setEntrypointTags(createEntrypointTags(newObContext));
         }
 
-        if (isMainEntryPoint) {
-            newObContext.addTag(TAG_KEY_IS_SRC_MAIN_FUNCTION, TAG_TRUE_VALUE);
-        } else if (isRemote) {
-            newObContext.addTag(TAG_KEY_IS_SRC_CLIENT_REMOTE, TAG_TRUE_VALUE);
-        } else if (isWorker) {
-            newObContext.addTag(TAG_KEY_IS_SRC_WORKER, TAG_TRUE_VALUE);
-        }   // Else normal function
-
-        if (typeDef != null) {
-            ObjectType type = (ObjectType) TypeUtils.getImpliedType(typeDef.getType());
-            Module typeModule = type.getPackage();
-            String objectName = typeModule.getOrg() + "/" + typeModule.getName() + "/" + type.getName();
+        int kind = isMainEntryPoint ? MAIN_FUNCTION : isRemote ? CLIENT_REMOTE : isWorker ? WORKER : FUNCTION;
+        ObjectType type = typeDef != null ? (ObjectType) TypeUtils.getImpliedType(typeDef.getType()) : null;
+        CallSite callSite = callSites.computeIfAbsent(new CallSiteKey(module, positionId, type, functionName,
+                null, kind), ObserveUtils::createCallSite);
+        newObContext.setOperationName(callSite.operationName());
+        newObContext.setCallSiteTags(callSite.tags());
 
-            newObContext.setOperationName(objectName + ":" + functionName.getValue());
-            newObContext.addTag(TAG_KEY_SRC_OBJECT_NAME, objectName);
-        } else {
-            newObContext.setOperationName(functionName.getValue());
+        newObContext.setStarted();
+        for (BallerinaObserver observer : observers) {
+            observer.startClientObservation(newObContext);
         }
+        return newObContext;
+    }
 
-        newObContext.addTag(TAG_KEY_SRC_FUNCTION_NAME, functionName.getValue());
-        newObContext.addTag(TAG_KEY_SRC_MODULE, module.getValue());
-        newObContext.addTag(TAG_KEY_SRC_POSITION, generatePositionId(srcFileName, startLine, startColumn));
+    private static boolean sampleRequest() {
+        return samplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
 
-        if (newObContext.getEntrypointFunctionModule() != null) {
-            newObContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_MODULE, newObContext.getEntrypointFunctionModule());
+    private static void startUnsampledObservation(ObserverContext observerContext, boolean isServer) {
+        observerContext.setUnsampled();
+        if (isServer) {
+            observerContext.setServer();
         }
-        if (newObContext.getEntrypointServiceName() != null) {
-            newObContext.addTag(TAG_KEY_ENTRYPOINT_SERVICE_NAME, newObContext.getEntrypointServiceName());
-        }
-        if (newObContext.getEntrypointFunctionName() != null) {
-            newObContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_NAME, newObContext.getEntrypointFunctionName());
+        observerContext.setStarted();
+    }
+
+    private static Map<String, Tag> createEntrypointTags(ObserverContext observerContext) {
+        Map<String, Tag> tags = new HashMap<>();
+        addTag(tags, TAG_KEY_ENTRYPOINT_FUNCTION_MODULE, observerContext.getEntrypointFunctionModule());
+        addTag(tags, TAG_KEY_ENTRYPOINT_SERVICE_NAME, observerContext.getEntrypointServiceName());
+        addTag(tags, TAG_KEY_ENTRYPOINT_FUNCTION_NAME, observerContext.getEntrypointFunctionName());
+        addTag(tags, TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR, observerContext.getEntrypointResourceAccessor());
+        return Map.copyOf(tags);
+    }
+
+    private static CallSite createCallSite(CallSiteKey key) {
+        Map<String, Tag> tags = new HashMap<>();
+        String name = key.name().getValue();
+        String operationName;
+        switch (key.kind()) {
+            case SERVICE_RESOURCE -> {
+                String resourceAccessor = key.resourceAccessor().getValue();
+                operationName = resourceAccessor + " " + name;
+                addTag(tags, TAG_KEY_IS_SRC_SERVICE_RESOURCE, TAG_TRUE_VALUE);
+                addTag(tags, TAG_KEY_SRC_RESOURCE_ACCESSOR, resourceAccessor);
+                addTag(tags, TAG_KEY_SRC_RESOURCE_PATH, name);
+            }
+            case SERVICE_REMOTE, SERVICE_FUNCTION -> {
+                operationName = key.object() + ":" + name;
+                if (key.kind() == SERVICE_REMOTE) {
+                    addTag(tags, TAG_KEY_IS_SRC_SERVICE_REMOTE, TAG_TRUE_VALUE);
+                }
+                addTag(tags, TAG_KEY_SRC_FUNCTION_NAME, name);
+            }
+            default -> {
+                if (key.kind() == MAIN_FUNCTION) {
+                    addTag(tags, TAG_KEY_IS_SRC_MAIN_FUNCTION, TAG_TRUE_VALUE);
+                } else if (key.kind() == CLIENT_REMOTE) {
+                    addTag(tags, TAG_KEY_IS_SRC_CLIENT_REMOTE, TAG_TRUE_VALUE);
+                } else if (key.kind() == WORKER) {
+                    addTag(tags, TAG_KEY_IS_SRC_WORKER, TAG_TRUE_VALUE);
+                }   // Else normal function
+                operationName = name;
+                addTag(tags, TAG_KEY_SRC_FUNCTION_NAME, name);
+            }
         }
-        if (newObContext.getEntrypointResourceAccessor() != null) {
-            newObContext.addTag(TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR, newObContext.getEntrypointResourceAccessor());
+        if (key.object() instanceof ObjectType type) {
+            Module typeModule = type.getPackage();
+            String objectName = typeModule.getOrg() + "/" + typeModule.getName() + "/" + type.getName();
+            operationName = objectName + ":" + name;
+            addTag(tags, TAG_KEY_SRC_OBJECT_NAME, objectName);
+        } else if (key.object() != null) {
+            addTag(tags, TAG_KEY_SRC_OBJECT_NAME, key.object().toString());
         }
+        addTag(tags, TAG_KEY_SRC_MODULE, key.module().getValue());
+        addTag(tags, TAG_KEY_SRC_POSITION, key.positionId().getValue());
+        return new CallSite(operationName, Map.copyOf(tags));
+    }
 
-        newObContext.setStarted();
-        for (BallerinaObserver observer : observers) {
-            observer.startClientObservation(newObContext);
+    private static void addTag(Map<String, Tag> tags, String key, String value) {
+        if (value != null) {
+            tags.put(key, Tag.of(key, value));
         }
     }
 
@@ -489,4 +639,15 @@ public final class ObserveUtils {
     private static String generatePositionId(BString srcFileName, long startLine, long startColumn) {
         return String.format("%s:%d:%d", srcFileName, startLine, startColumn);
     }
+
+    /**
+     * Identifies a call site by the arguments of its observations, where the object is either the name of the
+     * service or the type of the object the function is attached to.
+     */
+    private record CallSiteKey(BString module, BString positionId, Object object, BString name,
+                               BString resourceAccessor, int kind) {
+    }
+
+    private record CallSite(String operationName, Map<String, Tag> tags) {
+    }
 }
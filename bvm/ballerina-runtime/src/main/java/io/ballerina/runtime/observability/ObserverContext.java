@@ -35,13 +35,23 @@ public class ObserverContext {
     /**
      * {@link Map} of properties, which is used to represent additional information required for observers.
      */
-    private final Map<String, Object> properties;
+    private Map<String, Object> properties;
 
     /**
      * {@link Map} of values (with tag as map's key and tag value as map's value),
      * which is required to pass to observers.
      */
-    private final Map<String, Tag> tags;
+    private Map<String, Tag> tags;
+
+    /**
+     * Immutable {@link Map} of the tags of the call site, which is shared by the contexts of the call site.
+     */
+    private Map<String, Tag> callSiteTags = Map.of();
+
+    /**
+     * Immutable {@link Map} of the tags of the entrypoint, which is shared by the contexts of a request.
+     */
+    private Map<String, Tag> entrypointTags = Map.of();
 
     /**
      * {@link Map} of custom Tags, which are relevant to metrics  .
@@ -74,31 +84,58 @@ public class ObserverContext {
 
     private boolean manuallyClosed;
 
+    private boolean sampled = true;
+
     public ObserverContext() {
-        this.properties = new HashMap<>();
-        this.tags = new HashMap<>();
     }
 
     public void addProperty(String key, Object value) {
+        if (properties == null) {
+            properties = new HashMap<>();
+        }
         properties.put(key, value);
     }
 
     public Object getProperty(String key) {
-        return properties.get(key);
+        return properties != null ? properties.get(key) : null;
     }
 
     public void addTag(String key, String value) {
         String sanitizedValue = value != null ? value : "";
         Tag tag = Tag.of(key, sanitizedValue);
+        if (tags == null) {
+            tags = new HashMap<>();
+        }
         tags.put(key, tag);
     }
 
     public Tag getTag(String key) {
-        return tags.get(key);
+        Tag tag = tags != null ? tags.get(key) : null;
+        if (tag == null) {
+            tag = callSiteTags.get(key);
+        }
+        return tag != null ? tag : entrypointTags.get(key);
     }
 
     public Set<Tag> getAllTags() {
-        return new HashSet<>(tags.values());
+        Map<String, Tag> allTags = new HashMap<>(entrypointTags);
+        allTags.putAll(callSiteTags);
+        if (tags != null) {
+            allTags.putAll(tags);
+        }
+        return new HashSet<>(allTags.values());
+    }
+
+    void setCallSiteTags(Map<String, Tag> callSiteTags) {
+        this.callSiteTags = callSiteTags;
+    }
+
+    Map<String, Tag> getEntrypointTags() {
+        return entrypointTags;
+    }
+
+    void setEntrypointTags(Map<String, Tag> entrypointTags) {
+        this.entrypointTags = entrypointTags;
     }
 
     public BSpan getSpan() {
@@ -197,6 +234,20 @@ public class ObserverContext {
         isSystemSpan = userSpan;
     }
 
+    /**
+     * Returns whether the request of the context was sampled. The observers are not notified of the contexts of a
+     * request that was not sampled, which have no tags.
+     *
+     * @return true if the request was sampled
+     */
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    void setUnsampled() {
+        this.sampled = false;
+    }
+
     public boolean isManuallyClosed() {
         return manuallyClosed;
     }
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ENTRYPOINT_FUNCTION_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_IS_SRC_SERVICE_RESOURCE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_FUNCTION_NAME;
+
+/**
+ * Test cases for the tags and the sampling of the observations started by {@link ObserveUtils}.
+ *
+ * @since 2201.12.0
+ */
+public class ObserveUtilsTests {
+
+    private static final BString MODULE = StringUtils.fromString("testorg/observe_test:1.0.0");
+    private static final BString SERVICE = StringUtils.fromString("/hello");
+    private static final BString RESOURCE = StringUtils.fromString("greet");
+    private static final BString ACCESSOR = StringUtils.fromString("get");
+    private static final BString FUNCTION = StringUtils.fromString("callBackend");
+    private static final BooleanSupplier SAMPLED = () -> true;
+    private static final BooleanSupplier NOT_SAMPLED = () -> false;
+    // Only the entrypoint of a request decides whether it is sampled.
+    private static final BooleanSupplier NOT_ENTRYPOINT = () -> {
+        throw new AssertionError("a request is sampled only at its entrypoint");
+    };
+
+    private final List<ObserverContext> notifiedContexts = new ArrayList<>();
+
+    @BeforeClass
+    public void setup() {
+        ObserveUtils.addObserver(new RecordingObserver());
+    }
+
+    @Test
+    public void testTagPrecedence() {
+        ObserverContext observerContext = new ObserverContext();
+        observerContext.setEntrypointTags(Map.of("key", Tag.of("key", "entrypoint"),
+                "entrypointKey", Tag.of("entrypointKey", "entrypoint")));
+        observerContext.setCallSiteTags(Map.of("key", Tag.of("key", "callSite"),
+                "callSiteKey", Tag.of("callSiteKey", "callSite")));
+        Assert.assertEquals(observerContext.getTag("key").getValue(), "callSite");
+        Assert.assertEquals(observerContext.getTag("entrypointKey").getValue(), "entrypoint");
+        Assert.assertEquals(observerContext.getAllTags(), Set.of(Tag.of("key", "callSite"),
+                Tag.of("entrypointKey", "entrypoint"), Tag.of("callSiteKey", "callSite")));
+
+        // A tag added to the context overrides the shared tags of the same key
+        observerContext.addTag("key", "context");
+        observerContext.addTag("entrypointKey", "context");
+        Assert.assertEquals(observerContext.getTag("key").getValue(), "context");
+        Assert.assertEquals(observerContext.getTag("entrypointKey").getValue(), "context");
+        Assert.assertEquals(observerContext.getTag("callSiteKey").getValue(), "callSite");
+        Assert.assertEquals(observerContext.getAllTags(), Set.of(Tag.of("key", "context"),
+                Tag.of("entrypointKey", "context"), Tag.of("callSiteKey", "callSite")));
+        Assert.assertNull(observerContext.getTag("unknownKey"));
+    }
+
+    @Test
+    public void testSharedTagsOfCallSite() {
+        BString positionId = StringUtils.fromString("shared_tags.bal:10:5");
+        ObserverContext firstContext = startCallableObservation(null, SAMPLED, positionId);
+        ObserverContext secondContext = startCallableObservation(null, SAMPLED, positionId);
+        Assert.assertEquals(firstContext.getTag(TAG_KEY_SRC_FUNCTION_NAME).getValue(), FUNCTION.getValue());
+        Assert.assertEquals(firstContext.getTag(TAG_KEY_ENTRYPOINT_FUNCTION_NAME).getValue(), FUNCTION.getValue());
+        Assert.assertEquals(secondContext.getAllTags(), firstContext.getAllTags());
+
+        // The tags added to a context are not seen by the other contexts of the call site
+        firstContext.addTag(TAG_KEY_SRC_FUNCTION_NAME, "changed");
+        firstContext.addTag("custom", "value");
+        Assert.assertEquals(secondContext.getTag(TAG_KEY_SRC_FUNCTION_NAME).getValue(), FUNCTION.getValue());
+        Assert.assertNull(secondContext.getTag("custom"));
+
+        // The contexts of the calls made in the request share the tags of its entrypoint
+        ObserverContext childContext = startCallableObservation(secondContext, NOT_ENTRYPOINT,
+                StringUtils.fromString("shared_tags.bal:20:5"));
+        Assert.assertTrue(childContext.isSampled());
+        Assert.assertSame(childContext.getParent(), secondContext);
+        Assert.assertEquals(childContext.getTag(TAG_KEY_ENTRYPOINT_FUNCTION_NAME).getValue(), FUNCTION.getValue());
+    }
+
+    @Test
+    public void testUnsampledCallableObservation() {
+        notifiedContexts.clear();
+        ObserverContext observerContext = startCallableObservation(null, NOT_SAMPLED,
+                StringUtils.fromString("unsampled_call.bal:10:5"));
+        Assert.assertFalse(observerContext.isSampled());
+        Assert.assertTrue(observerContext.isStarted());
+        Assert.assertFalse(observerContext.isServer());
+        Assert.assertTrue(observerContext.getAllTags().isEmpty());
+
+        // The calls made in a request that is not sampled are not sampled either
+        ObserverContext childContext = startCallableObservation(observerContext, NOT_ENTRYPOINT,
+                StringUtils.fromString("unsampled_call.bal:20:5"));
+        Assert.assertFalse(childContext.isSampled());
+        Assert.assertSame(childContext.getParent(), observerContext);
+        Assert.assertTrue(childContext.getAllTags().isEmpty());
+
+        ObserveUtils.stopObservationWithContext(childContext);
+        ObserveUtils.stopObservationWithContext(observerContext);
+        Assert.assertTrue(childContext.isFinished());
+        Assert.assertTrue(observerContext.isFinished());
+        Assert.assertTrue(notifiedContexts.isEmpty());
+    }
+
+    @Test
+    public void testUnsampledResourceObservation() {
+        notifiedContexts.clear();
+        // The context created by a listener is used for the resource
+        ObserverContext listenerContext = new ObserverContext();
+        ObserverContext observerContext = startResourceObservation(listenerContext, NOT_SAMPLED,
+                StringUtils.fromString("unsampled_resource.bal:10:5"));
+        Assert.assertSame(observerContext, listenerContext);
+        Assert.assertFalse(observerContext.isSampled());
+        Assert.assertTrue(observerContext.isStarted());
+        Assert.assertTrue(observerContext.isServer());
+        Assert.assertTrue(observerContext.getAllTags().isEmpty());
+
+        // A resource called by the user code in a request that is not sampled is not sampled either
+        ObserverContext childContext = startResourceObservation(observerContext, NOT_ENTRYPOINT,
+                StringUtils.fromString("unsampled_resource.bal:20:5"));
+        Assert.assertNotSame(childContext, observerContext);
+        Assert.assertFalse(childContext.isSampled());
+        Assert.assertSame(childContext.getParent(), observerContext);
+        Assert.assertTrue(childContext.isServer());
+
+        ObserveUtils.stopObservationWithContext(childContext);
+        ObserveUtils.stopObservationWithContext(observerContext);
+        Assert.assertTrue(childContext.isFinished());
+        Assert.assertTrue(observerContext.isFinished());
+        Assert.assertTrue(notifiedContexts.isEmpty());
+    }
+
+    @Test
+    public void testSampledResourceObservation() {
+        notifiedContexts.clear();
+        ObserverContext observerContext = startResourceObservation(null, SAMPLED,
+                StringUtils.fromString("sampled_resource.bal:10:5"));
+        Assert.assertTrue(observerContext.isSampled());
+        Assert.assertTrue(observerContext.isServer());
+        Assert.assertEquals(observerContext.getOperationName(), ACCESSOR.getValue() + " " + RESOURCE.getValue());
+        Assert.assertEquals(observerContext.getTag(TAG_KEY_IS_SRC_SERVICE_RESOURCE).getValue(), "true");
+        Assert.assertEquals(observerContext.getTag(TAG_KEY_ENTRYPOINT_FUNCTION_NAME).getValue(), RESOURCE.getValue());
+
+        ObserveUtils.stopObservationWithContext(observerContext);
+        Assert.assertTrue(observerContext.isFinished());
+        Assert.assertEquals(notifiedContexts, List.of(observerContext, observerContext));
+    }
+
+    @Test
+    public void testParseSamplingRate() {
+        Assert.assertEquals(ObserveUtils.parseSamplingRate(null), 1.0d);
+        Assert.assertEquals(ObserveUtils.parseSamplingRate(" "), 1.0d);
+        Assert.assertEquals(ObserveUtils.parseSamplingRate(" 0.25 "), 0.25d);
+        Assert.assertEquals(ObserveUtils.parseSamplingRate("0"), 0.0d);
+        Assert.assertEquals(ObserveUtils.parseSamplingRate("NaN"), 1.0d);
+        Assert.assertEquals(ObserveUtils.parseSamplingRate("half"), 1.0d);
+    }
+
+    private static ObserverContext startCallableObservation(ObserverContext prevObserverCtx, BooleanSupplier sampler,
+                                                            BString positionId) {
+        return ObserveUtils.startCallableObservation(prevObserverCtx, sampler, MODULE, positionId, null, FUNCTION,
+                false, false, false);
+    }
+
+    private static ObserverContext startResourceObservation(ObserverContext observerContext, BooleanSupplier sampler,
+                                                            BString positionId) {
+        return ObserveUtils.startResourceObservation(observerContext, sampler, MODULE, positionId, SERVICE, RESOURCE,
+                ACCESSOR, true, false);
+    }
+
+    /**
+     * Observer that records the contexts it is notified of.
+     */
+    private class RecordingObserver implements BallerinaObserver {
+
+        @Override
+        public void startServerObservation(ObserverContext observerContext) {
+            notifiedContexts.add(observerContext);
+        }
+
+        @Override
+        public void startClientObservation(ObserverContext observerContext) {
+            notifiedContexts.add(observerContext);
+        }
+
+        @Override
+        public void stopServerObservation(ObserverContext observerContext) {
+            notifiedContexts.add(observerContext);
+        }
+
+        @Override
+        public void stopClientObservation(ObserverContext observerContext) {
+            notifiedContexts.add(observerContext);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.NonIsolatedLock;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link NonIsolatedLock}.
+ */
+public class NonIsolatedLockTests {
+
+    @Test
+    public void testLockContentionCounters() throws InterruptedException {
+        NonIsolatedLock lock = new NonIsolatedLock("$global");
+        lock.lock();
+        Thread waiter = new Thread(() -> {
+            lock.lock();
+            lock.unlock();
+        });
+        waiter.start();
+        while (lock.getQueueLength() == 0) {
+            Thread.onSpinWait();
+        }
+        lock.unlock();
+        waiter.join();
+        Assert.assertEquals(lock.getAcquisitionCount(), 2);
+        Assert.assertEquals(lock.getContendedAcquisitionCount(), 1);
+        Assert.assertFalse(lock.isHeldByCurrentThread());
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.regexp.RegExpEngine;
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.regexp.RegExpMatcher;
+import io.ballerina.runtime.internal.regexp.RegExpProgram;
+import io.ballerina.runtime.internal.values.RegExpValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Test cases for the compiled patterns and programs of {@link RegExpValue}.
+ *
+ * @since 2201.12.0
+ */
+public class RegExpValueTests {
+
+    @Test
+    void testPatternIsCompiledOnce() {
+        RegExpValue regExpValue = RegExpFactory.parse("a.c\\s");
+        Pattern pattern = regExpValue.getPattern(Pattern.UNICODE_CHARACTER_CLASS);
+        Assert.assertSame(regExpValue.getPattern(Pattern.UNICODE_CHARACTER_CLASS), pattern);
+        Assert.assertTrue(pattern.matcher("abc\t").matches());
+        Assert.assertFalse(pattern.matcher("a\nc ").matches());
+    }
+
+    @Test
+    void testPatternIsSharedByEqualRegExps() {
+        Pattern pattern = RegExpFactory.parse("[0-9]+x").getPattern(Pattern.UNICODE_CHARACTER_CLASS);
+        Assert.assertSame(RegExpFactory.parse("[0-9]+x").getPattern(Pattern.UNICODE_CHARACTER_CLASS), pattern);
+    }
+
+    @Test
+    void testPatternWithDifferentFlags() {
+        RegExpValue regExpValue = RegExpFactory.parse("b+");
+        Pattern pattern = regExpValue.getPattern(0);
+        Assert.assertEquals(pattern.flags(), 0);
+        Assert.assertEquals(regExpValue.getPattern(Pattern.UNICODE_CHARACTER_CLASS).flags(),
+                Pattern.UNICODE_CHARACTER_CLASS);
+        Assert.assertEquals(pattern.split("abbcbd", -1), new String[]{"a", "c", "d"});
+    }
+
+    @Test(dataProvider = "linearRegExps")
+    void testProgramMatchesAsPattern(String regExp, String input) {
+        for (int flags : new int[]{Pattern.UNICODE_CHARACTER_CLASS, 0}) {
+            RegExpProgram program = RegExpFactory.parse(regExp).getProgram(flags);
+            Assert.assertTrue(program.isSupported(), regExp);
+            Matcher matcher = RegExpFactory.parse(regExp).getPattern(flags).matcher(input);
+            RegExpMatcher programMatcher = program.matcher(input);
+            Assert.assertEquals(findAll(programMatcher), findAll(matcher), regExp);
+            for (int start = 0; start <= input.length(); start++) {
+                matcher.region(start, input.length());
+                programMatcher.region(start, input.length());
+                Assert.assertEquals(programMatcher.matches(), matcher.matches(), regExp);
+            }
+        }
+    }
+
+    @DataProvider
+    Object[][] linearRegExps() {
+        return new Object[][]{
+                {"a.c\\s", "abc\tabc\na\nc abc"},
+                {"(a|ab)(c|bcd)(d*)", "abcd abcdd"},
+                {"([0-9]+)-([0-9]+)?", "12-34 56- -78"},
+                {"(?i:hello) [^\\s]+", "HeLLo world hello\tthere"},
+                {"^(\\w+?)(\\d{2,3})$", "abc1234"},
+                {"(?m:^a|b$)", "a\nb\r\nab\n"},
+                {"x*|\\u{1F600}+", "\uD83D\uDE00\uD83D\uDE00x"},
+                {"[\\p{Lu}&]{2}", "AB&c\u00C9\u00C9"}
+        };
+    }
+
+    @Test
+    void testProgramOfAdversarialRegExp() {
+        RegExpProgram program = RegExpFactory.parse("(a|a)*b").getProgram(Pattern.UNICODE_CHARACTER_CLASS);
+        Assert.assertTrue(program.isSupported());
+        RegExpMatcher matcher = program.matcher("a".repeat(10_000));
+        Assert.assertFalse(matcher.find());
+        Assert.assertFalse(matcher.matches());
+        matcher = program.matcher("a".repeat(10_000) + "b");
+        Assert.assertTrue(matcher.matches());
+        Assert.assertEquals(matcher.start(1), 9_999);
+    }
+
+    @Test
+    void testUnsupportedRegExpIsMatchedByPattern() {
+        RegExpValue regExpValue = RegExpFactory.parse("(a*)*b");
+        RegExpProgram program = regExpValue.getProgram(Pattern.UNICODE_CHARACTER_CLASS);
+        Assert.assertFalse(program.isSupported());
+        Assert.assertEquals(program.unsupportedConstruct(), "repetitions of groups that can match the empty string");
+        RegExpMatcher matcher = RegExpFactory.getMatcher(regExpValue, "aab", Pattern.UNICODE_CHARACTER_CLASS);
+        Assert.assertTrue(matcher.matches());
+        Assert.assertEquals(matcher.group(1), "");
+    }
+
+    @Test(dataProvider = "unsupportedRegExps")
+    void testFallbackIsReportedOnce(String regExp, String input, String construct) {
+        PrintStream errStream = System.err;
+        ByteArrayOutputStream errContent = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(errContent, true, StandardCharsets.UTF_8));
+        try {
+            for (int i = 0; i < 2; i++) {
+                RegExpMatcher matcher = RegExpFactory.getMatcher(RegExpFactory.parse(regExp), input,
+                        Pattern.UNICODE_CHARACTER_CLASS, RegExpEngine.LINEAR);
+                Matcher patternMatcher = RegExpFactory.parse(regExp).getPattern(Pattern.UNICODE_CHARACTER_CLASS)
+                        .matcher(input);
+                Assert.assertEquals(findAll(matcher), findAll(patternMatcher), regExp);
+            }
+        } finally {
+            System.setErr(errStream);
+        }
+        Assert.assertEquals(errContent.toString(StandardCharsets.UTF_8), "warning: matching the regular expression '"
+                + regExp + "' using java.util.regex, as the linear engine does not support " + construct
+                + System.lineSeparator());
+    }
+
+    @Test(dataProvider = "unsupportedRegExps")
+    void testStrictEngineRejectsUnsupportedRegExp(String regExp, String input, String construct) {
+        RegExpValue regExpValue = RegExpFactory.parse(regExp);
+        try {
+            RegExpFactory.getMatcher(regExpValue, input, Pattern.UNICODE_CHARACTER_CLASS, RegExpEngine.LINEAR_STRICT);
+            Assert.fail("expected the linear_strict engine to reject " + regExp);
+        } catch (PatternSyntaxException e) {
+            Assert.assertEquals(e.getDescription(), "the linear engine does not support " + construct);
+            Assert.assertEquals(e.getPattern(), regExp);
+        }
+    }
+
+    @DataProvider
+    Object[][] unsupportedRegExps() {
+        return new Object[][]{
+                {"(x?)+y", "xxy y", "repetitions of groups that can match the empty string"},
+                {"((a)|b)+c", "abac bbc", "capturing groups within a repetition"},
+                {"(?x:a b)", "ab", "the flag 'x'"}
+        };
+    }
+
+    @Test
+    void testMatchersOfProgramShareThreads() {
+        RegExpProgram program = RegExpFactory.parse("(a+)(b)").getProgram(Pattern.UNICODE_CHARACTER_CLASS);
+        RegExpMatcher firstMatcher = program.matcher("ab aab");
+        RegExpMatcher secondMatcher = program.matcher("aaab");
+        Assert.assertTrue(firstMatcher.find());
+        Assert.assertTrue(secondMatcher.find());
+        Assert.assertTrue(firstMatcher.find());
+        Assert.assertEquals(firstMatcher.group(1), "aa");
+        Assert.assertEquals(secondMatcher.group(1), "aaa");
+        Assert.assertFalse(secondMatcher.find());
+    }
+
+    @Test(dataProvider = "oversizedRegExps")
+    void testOversizedRegExpIsMatchedByPattern(String regExp, String input, boolean found) {
+        RegExpValue regExpValue = RegExpFactory.parse(regExp);
+        Assert.assertFalse(regExpValue.getProgram(Pattern.UNICODE_CHARACTER_CLASS).isSupported());
+        RegExpMatcher matcher = RegExpFactory.getMatcher(regExpValue, input, Pattern.UNICODE_CHARACTER_CLASS);
+        Assert.assertEquals(matcher.find(), found);
+    }
+
+    @DataProvider
+    Object[][] oversizedRegExps() {
+        return new Object[][]{
+                {"a{0,2000000000}", "aaa", true},
+                {"a{2000000000,}", "aaa", false},
+                {"(a)".repeat(600), "a".repeat(600), true}
+        };
+    }
+
+    private static List<String> findAll(MatchResult matchResult) {
+        List<String> matches = new ArrayList<>();
+        while (matchResult instanceof Matcher matcher ? matcher.find() : ((RegExpMatcher) matchResult).find()) {
+            StringBuilder match = new StringBuilder();
+            for (int group = 0; group <= matchResult.groupCount(); group++) {
+                match.append(matchResult.start(group)).append(':').append(matchResult.end(group)).append(' ');
+            }
+            matches.add(match.toString());
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.StrandExecutor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for {@link StrandExecutor}.
+ */
+public class StrandExecutorTests {
+
+    @Test
+    public void testQueuedStrandsStartWhenRunningStrandsComplete() throws InterruptedException {
+        StrandExecutor executor = new StrandExecutor(1, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(2);
+        Runnable task = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completed.countDown();
+        };
+        executor.execute(null, "strand-1", task);
+        executor.execute(null, "strand-2", task);
+        Assert.assertEquals(executor.getRunningStrandCount(), 1);
+        Assert.assertEquals(executor.getQueuedStrandCount(), 1);
+        release.countDown();
+        Assert.assertTrue(completed.await(10, TimeUnit.SECONDS));
+        while (executor.getRunningStrandCount() != 0) {
+            Thread.onSpinWait();
+        }
+        Assert.assertEquals(executor.getQueuedStrandCount(), 0);
+    }
+
+    @Test
+    public void testBlockedStrandsGiveUpTheirPlace() throws InterruptedException {
+        StrandExecutor executor = new StrandExecutor(1, 1);
+        CountDownLatch childrenCompleted = new CountDownLatch(3);
+        CountDownLatch parentCompleted = new CountDownLatch(1);
+        // The parent starts more strands than can be queued and waits for them while it is the only running strand.
+        executor.execute(null, "parent", () -> {
+            for (int i = 0; i < 3; i++) {
+                executor.execute(null, "child-" + i, childrenCompleted::countDown);
+            }
+            executor.runBlocking(null, () -> await(childrenCompleted));
+            parentCompleted.countDown();
+        });
+        Assert.assertTrue(parentCompleted.await(10, TimeUnit.SECONDS));
+        while (executor.getRunningStrandCount() != 0) {
+            Thread.onSpinWait();
+        }
+        Assert.assertEquals(executor.getQueuedStrandCount(), 0);
+    }
+
+    private static Object await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
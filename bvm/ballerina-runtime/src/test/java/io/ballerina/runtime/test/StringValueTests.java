@@ -1,5 +1,7 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +42,36 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testStringBuiltByConcatenation() {
+        BString bmpPart = StringUtils.fromString("Commander ");
+        BString nonBmpPart = SUBJECT;
+        BString result = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            BString part = i % 3 == 0 ? nonBmpPart : bmpPart;
+            result = result.concat(part);
+            expected.append(part.getValue());
+        }
+        BString expectedString = StringUtils.fromString(expected.toString());
+        Assert.assertEquals(result.length(), expectedString.length());
+        Assert.assertEquals(result.getValue(), expectedString.getValue());
+        Assert.assertEquals(result, expectedString);
+        Assert.assertEquals(result.hashCode(), expectedString.hashCode());
+        Assert.assertEquals(result.getCodePoint(10001), expectedString.getCodePoint(10001));
+        Assert.assertEquals(result.substring(14, 30).getValue(), expectedString.substring(14, 30).getValue());
+        Assert.assertEquals(result.concat(SUBJECT).length(), expectedString.length() + SUBJECT.length());
+    }
+
+    @Test
+    void testConcatenatedStringUsedAsOperand() {
+        BString part = StringUtils.fromString("x".repeat(300));
+        BString prefix = part.concat(SUBJECT);
+        BString first = prefix.concat(part);
+        BString second = prefix.concat(SUBJECT);
+        Assert.assertEquals(first.getValue(), part.getValue() + UNICODE_STR + part.getValue());
+        Assert.assertEquals(second.getValue(), part.getValue() + UNICODE_STR + UNICODE_STR);
+        Assert.assertEquals(second.getCodePoint(300 + 16 + 14), 0x1F47D);
+        Assert.assertEquals(prefix.length(), 316);
+    }
 }
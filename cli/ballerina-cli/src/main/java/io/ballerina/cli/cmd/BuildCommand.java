@@ -210,6 +210,14 @@ public class BuildCommand implements BLauncherCmd {
             description = "experimental memory optimization for large projects")
     private Boolean optimizeDependencyCompilation;
 
+    @CommandLine.Option(names = "--eliminate-dead-code", description = "omit the generated classes that cannot be " +
+            "reached from the entry points of the program from the executable jar")
+    private Boolean eliminateDeadCode;
+
+    @CommandLine.Option(names = "--compilation-threads", description = "number of threads used to parse the source " +
+            "files and to generate and cache the classes of the modules")
+    private Integer compilationThreads;
+
     @Override
     public void execute() {
         long start = 0;
@@ -326,7 +334,9 @@ public class BuildCommand implements BLauncherCmd {
                 .disableSyntaxTreeCaching(disableSyntaxTreeCaching)
                 .setGraalVMBuildOptions(graalVMBuildOptions)
                 .setShowDependencyDiagnostics(showDependencyDiagnostics)
-                .setOptimizeDependencyCompilation(optimizeDependencyCompilation);
+                .setOptimizeDependencyCompilation(optimizeDependencyCompilation)
+                .setEliminateDeadCode(eliminateDeadCode)
+                .setCompilationThreads(compilationThreads);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir.toString());
@@ -41,7 +41,7 @@ import io.ballerina.projects.internal.bala.DependencyGraphJson;
 import io.ballerina.projects.internal.bala.ModuleDependency;
 import io.ballerina.projects.internal.bala.PackageJson;
 import io.ballerina.projects.internal.model.Dependency;
-import io.ballerina.projects.repos.FileSystemCache;
+import io.ballerina.projects.repos.SharedCompilationCache;
 import io.ballerina.projects.util.FileUtils;
 import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectUtils;
@@ -90,7 +90,6 @@ import static io.ballerina.projects.util.ProjectConstants.DEPENDENCY_GRAPH_JSON;
 import static io.ballerina.projects.util.ProjectConstants.LIB_DIR;
 import static io.ballerina.projects.util.ProjectConstants.PACKAGE_JSON;
 import static io.ballerina.projects.util.ProjectConstants.TOOL_DIR;
-import static io.ballerina.projects.util.ProjectUtils.deleteDirectory;
 import static io.ballerina.projects.util.ProjectUtils.getAccessTokenOfCLI;
 import static io.ballerina.projects.util.ProjectUtils.guessPkgName;
 import static io.ballerina.projects.util.ProjectUtils.initializeProxy;
@@ -1215,15 +1214,11 @@ public final class CommandUtil {
                 ProjectConstants.CACHES_DIR_NAME + "-" + ballerinaShortVersion);
 
         ProjectEnvironmentBuilder defaultBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
-        defaultBuilder.addCompilationCacheFactory(new FileSystemCache.FileSystemCacheFactory(cacheDir));
+        defaultBuilder.addCompilationCacheFactory(new SharedCompilationCache.SharedCompilationCacheFactory(cacheDir));
         BalaProject balaProject = BalaProject.loadProject(defaultBuilder, balaPath, buildOptions);
 
-        // Delete package cache if available
-        Path packageCacheDir = cacheDir.resolve(orgName).resolve(packageName).resolve(version);
-        if (packageCacheDir.toFile().exists()) {
-            deleteDirectory(packageCacheDir);
-        }
-
+        // The artifacts of a pulled bala are cached under its digest, hence the artifacts of a previous bala of the
+        // same version are not loaded, and are evicted from the shared cache once they are no longer used.
         // getResolution pulls all dependencies of the pulled package
         PackageCompilation packageCompilation = balaProject.currentPackage().getCompilation();
         Collection<Diagnostic> resolutionDiagnostics = packageCompilation.getResolution()
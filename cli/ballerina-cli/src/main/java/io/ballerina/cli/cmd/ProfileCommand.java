@@ -94,7 +94,12 @@ public class ProfileCommand implements BLauncherCmd {
             description = "experimental memory optimization for large projects")
     private Boolean optimizeDependencyCompilation;
 
-    private static final String PROFILE_CMD = "bal profile [--debug <port>] [<ballerina-file | package-path>]\n ";
+    @CommandLine.Option(names = "--sampling-interval", description = "profile by sampling the stacks of the " +
+            "program at the given interval in milliseconds instead of instrumenting the functions")
+    private Long samplingInterval;
+
+    private static final String PROFILE_CMD = "bal profile [--debug <port>] [--sampling-interval <milliseconds>] " +
+            "[<ballerina-file | package-path>]\n ";
 
     public ProfileCommand() {
         this.projectPath = Path.of(System.getProperty(ProjectConstants.USER_DIR));
@@ -202,7 +207,7 @@ public class ProfileCommand implements BLauncherCmd {
                         buildOptions.enableCache()))
                 .addTask(new CreateExecutableTask(outStream, null, null, false), false)
                 .addTask(new DumpBuildTimeTask(outStream), false)
-                .addTask(new RunProfilerTask(errStream), false).build();
+                .addTask(new RunProfilerTask(errStream, samplingInterval), false).build();
     }
 
     @Override
@@ -217,7 +222,8 @@ public class ProfileCommand implements BLauncherCmd {
 
     @Override
     public void printUsage(StringBuilder out) {
-        out.append("  bal profile [--debug <port>] [<balfile> | <project-path>]\n");
+        out.append("  bal profile [--debug <port>] [--sampling-interval <milliseconds>] " +
+                "[<balfile> | <project-path>]\n");
     }
 
     @Override
@@ -394,21 +394,15 @@ public class PushCommand implements BLauncherCmd {
         String packageName = balaProject.currentPackage().packageName().value();
         String version = balaProject.currentPackage().packageVersion().toString();
         String platform = balaProject.platform();
-        String ballerinaShortVersion = RepoUtils.getBallerinaShortVersion();
 
         Path balaDestPath = repoPath.resolve(ProjectConstants.BALA_DIR_NAME)
                 .resolve(org).resolve(packageName).resolve(version).resolve(platform);
         Path balaVersionPath = repoPath.resolve(ProjectConstants.BALA_DIR_NAME)
                 .resolve(org).resolve(packageName).resolve(version);
-        Path balaCachesPath = repoPath.resolve(ProjectConstants.CACHES_DIR_NAME + "-" + ballerinaShortVersion)
-                .resolve(org).resolve(packageName).resolve(version);
         try {
             if (Files.exists(balaVersionPath)) {
                 ProjectUtils.deleteDirectory(balaVersionPath);
             }
-            if (Files.exists(balaCachesPath)) {
-                ProjectUtils.deleteDirectory(balaCachesPath);
-            }
             ProjectUtils.extractBala(balaFilePath, balaDestPath);
             createLocalToolsJsonIfLocalTool(balaDestPath, org, packageName, repoPath.resolve(
                     ProjectConstants.BALA_DIR_NAME));
@@ -282,6 +282,19 @@ public class BuildCommandTest extends BaseCommandTest {
                 .resolve("foo-winery-0.1.0.jar").toFile().exists());
     }
 
+    @Test(description = "Build a valid ballerina project with more than one compilation thread")
+    public void testBuildBalProjectWithCompilationThreads() throws IOException {
+        Path projectPath = this.testResources.resolve("validApplicationProject");
+        System.setProperty(USER_DIR_PROPERTY, projectPath.toString());
+        BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false);
+        new CommandLine(buildCommand).parseArgs("--compilation-threads", "4");
+        buildCommand.execute();
+        String buildLog = readOutput(true);
+        Assert.assertEquals(buildLog.replace("\r", ""),
+                            getOutput("build-bal-project.txt"));
+        Assert.assertTrue(projectPath.resolve("target").resolve("bin").resolve("winery.jar").toFile().exists());
+    }
+
     @Test(dependsOnMethods = "testBuildBalFile")
     public void testCodeGeneratorForSingleFile() throws IOException {
         Path execPath = this.testResources.resolve("valid-bal-file").resolve("hello_world-for-codegen-test.jar");
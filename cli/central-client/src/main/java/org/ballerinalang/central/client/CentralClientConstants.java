@@ -60,6 +60,8 @@ public final class CentralClientConstants {
     public static final int UPDATE_INTERVAL_MILLIS = 1000;
     public static final String SHA256 = "sha-256=";
     public static final String SHA256_ALGORITHM = "SHA-256";
+    // The file of an extracted bala with the digest of the bala, which is read by the compilation cache of the bala.
+    public static final String BALA_DIGEST_FILE_NAME = ".bala-digest";
     public static final String TEST_MODE_ACTIVE = "TEST_MODE_ACTIVE";
     public static final String BALLERINA_CENTRAL_TELEMETRY_DISABLED = "Ballerina-Central-Telemetry-Disabled";
 }
@@ -48,6 +48,7 @@ import java.io.InputStream;
 import java.io.PrintStream;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
@@ -62,6 +63,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.ballerinalang.central.client.CentralClientConstants.APPLICATION_JSON;
+import static org.ballerinalang.central.client.CentralClientConstants.BALA_DIGEST_FILE_NAME;
 import static org.ballerinalang.central.client.CentralClientConstants.BALLERINA_DEV_CENTRAL;
 import static org.ballerinalang.central.client.CentralClientConstants.BALLERINA_STAGE_CENTRAL;
 import static org.ballerinalang.central.client.CentralClientConstants.BYTES_FOR_KB;
@@ -449,7 +451,8 @@ public final class Utils {
         URI zipURI = URI.create("jar:" + balaFilePath.toUri().toString());
 
         // If the hash value is not matching , throw an exception.
-        if (!trueDigest.equals(SHA256 + checkHash(balaFilePath.toString(), SHA256_ALGORITHM))) {
+        String balaDigest = checkHash(balaFilePath.toString(), SHA256_ALGORITHM);
+        if (!trueDigest.equals(SHA256 + balaDigest)) {
             StringBuilder warning = new StringBuilder(
                     String.format("*************************************************************%n" +
         "* WARNING: Certain packages may have originated from sources other than the official distributors. *%n" +
@@ -478,6 +481,7 @@ public final class Utils {
                 Files.copy(path, destPath, StandardCopyOption.REPLACE_EXISTING);
             }
         }
+        Files.writeString(balaFileDestPath.resolve(BALA_DIGEST_FILE_NAME), balaDigest, StandardCharsets.UTF_8);
     }
 
     public static String checkHash(String filePath, String algorithm) throws CentralClientException {
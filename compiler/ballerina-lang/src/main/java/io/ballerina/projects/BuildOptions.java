@@ -35,11 +35,12 @@ public class BuildOptions {
     private final Boolean nativeImage;
     private final Boolean exportComponentModel;
     private final String graalVMBuildOptions;
+    private final Boolean eliminateDeadCode;
 
     BuildOptions(Boolean testReport, Boolean codeCoverage, Boolean dumpBuildTime, Boolean skipTests,
                  CompilationOptions compilationOptions, String targetPath, Boolean enableCache,
                  Boolean nativeImage, Boolean exportComponentModel, String graalVMBuildOptions,
-                 Boolean showDependencyDiagnostics) {
+                 Boolean showDependencyDiagnostics, Boolean eliminateDeadCode) {
         this.testReport = testReport;
         this.codeCoverage = codeCoverage;
         this.dumpBuildTime = dumpBuildTime;
@@ -51,7 +52,7 @@ public class BuildOptions {
         this.exportComponentModel = exportComponentModel;
         this.graalVMBuildOptions = graalVMBuildOptions;
         this.showDependencyDiagnostics = showDependencyDiagnostics;
-
+        this.eliminateDeadCode = eliminateDeadCode;
     }
 
     public boolean testReport() {
@@ -138,6 +139,14 @@ public class BuildOptions {
         return toBooleanDefaultIfNull(this.showDependencyDiagnostics);
     }
 
+    public boolean eliminateDeadCode() {
+        return toBooleanDefaultIfNull(this.eliminateDeadCode);
+    }
+
+    public int compilationThreads() {
+        return this.compilationOptions.compilationThreads();
+    }
+
     /**
      * Merge the given build options by favoring theirs if there are conflicts.
      *
@@ -196,6 +205,11 @@ public class BuildOptions {
         } else {
             buildOptionsBuilder.setShowDependencyDiagnostics(this.showDependencyDiagnostics);
         }
+        if (theirOptions.eliminateDeadCode != null) {
+            buildOptionsBuilder.setEliminateDeadCode(theirOptions.eliminateDeadCode);
+        } else {
+            buildOptionsBuilder.setEliminateDeadCode(this.eliminateDeadCode);
+        }
 
         CompilationOptions compilationOptions = this.compilationOptions.acceptTheirs(theirOptions.compilationOptions());
         buildOptionsBuilder.setOffline(compilationOptions.offlineBuild);
@@ -213,6 +227,7 @@ public class BuildOptions {
         buildOptionsBuilder.setEnableCache(compilationOptions.enableCache);
         buildOptionsBuilder.setRemoteManagement(compilationOptions.remoteManagement);
         buildOptionsBuilder.setOptimizeDependencyCompilation(compilationOptions.optimizeDependencyCompilation);
+        buildOptionsBuilder.setCompilationThreads(compilationOptions.compilationThreads);
 
         return buildOptionsBuilder.build();
     }
@@ -252,7 +267,9 @@ public class BuildOptions {
         EXPORT_COMPONENT_MODEL("exportComponentModel"),
         GRAAL_VM_BUILD_OPTIONS("graalvmBuildOptions"),
         SHOW_DEPENDENCY_DIAGNOSTICS("showDependencyDiagnostics"),
-        OPTIMIZE_DEPENDENCY_COMPILATION("optimizeDependencyCompilation");
+        OPTIMIZE_DEPENDENCY_COMPILATION("optimizeDependencyCompilation"),
+        ELIMINATE_DEAD_CODE("eliminateDeadCode"),
+        COMPILATION_THREADS("compilationThreads");
 
         private final String name;
 
@@ -284,6 +301,7 @@ public class BuildOptions {
         private Boolean exportComponentModel;
         private String graalVMBuildOptions;
         private Boolean showDependencyDiagnostics;
+        private Boolean eliminateDeadCode;
 
         private BuildOptionsBuilder() {
             compilationOptionsBuilder = CompilationOptions.builder();
@@ -428,11 +446,35 @@ public class BuildOptions {
             return this;
         }
 
+        /**
+         * Sets whether the generated classes that cannot be reached from the entry points of the executable are
+         * omitted from the executable jar. The omitted classes are listed in a report next to the executable jar.
+         *
+         * @param value true or false (default)
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setEliminateDeadCode(Boolean value) {
+            eliminateDeadCode = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads used for the build tasks that can run in parallel, such as parsing documents
+         * and writing to the compilation cache. A build with one thread runs every task in the calling thread.
+         *
+         * @param value number of threads, or null to use a single thread
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setCompilationThreads(Integer value) {
+            compilationOptionsBuilder.setCompilationThreads(value);
+            return this;
+        }
+
         public BuildOptions build() {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
             return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions,
                     targetPath, enableCache, nativeImage, exportComponentModel, graalVMBuildOptions,
-                    showDependencyDiagnostics);
+                    showDependencyDiagnostics, eliminateDeadCode);
         }
     }
 }
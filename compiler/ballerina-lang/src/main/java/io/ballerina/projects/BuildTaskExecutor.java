@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs the tasks of a build that do not depend on the shared state of the compiler, such as parsing documents and
+ * writing generated jars to the compilation cache, on a fixed number of threads.
+ * <p>
+ * Tasks that must not overlap, such as writing to the compilation cache, are run in the order they are submitted, each
+ * after the tasks it depends on. Once such a task fails the tasks after it are not run, and the failure is thrown when
+ * the tasks are awaited. With a single thread every task is run in the calling thread when it is submitted, which is
+ * the same as a build without the executor.
+ *
+ * @since 2201.12.0
+ */
+final class BuildTaskExecutor implements AutoCloseable {
+
+    static final BuildTaskExecutor SEQUENTIAL = new BuildTaskExecutor(1);
+    private static final AtomicInteger EXECUTOR_COUNT = new AtomicInteger();
+
+    private final ExecutorService executorService;
+    private CompletableFuture<Void> lastOrderedTask = CompletableFuture.completedFuture(null);
+
+    BuildTaskExecutor(int threads) {
+        if (threads <= 1) {
+            this.executorService = null;
+            return;
+        }
+        String namePrefix = "ballerina-build-" + EXECUTOR_COUNT.incrementAndGet() + "-";
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            // A build that is abandoned without closing the executor should not keep the JVM alive.
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    boolean isSequential() {
+        return executorService == null;
+    }
+
+    /**
+     * Submits a task that can run at the same time as any other task.
+     *
+     * @param task task to run
+     * @param <T>  the type of the result of the task
+     * @return the result of the task
+     */
+    <T> CompletableFuture<T> submit(Callable<T> task) {
+        if (isSequential()) {
+            return CompletableFuture.completedFuture(call(task));
+        }
+        return CompletableFuture.supplyAsync(() -> call(task), executorService);
+    }
+
+    /**
+     * Submits a task that runs after the result it consumes is available and after the ordered tasks submitted before
+     * it are completed.
+     *
+     * @param input result consumed by the task
+     * @param task  task to run
+     * @param <T>   the type of the input
+     */
+    <T> void submitInOrder(CompletableFuture<T> input, Consumer<T> task) {
+        if (isSequential()) {
+            task.accept(join(input));
+            return;
+        }
+        lastOrderedTask = lastOrderedTask.thenCombineAsync(input, (ignored, value) -> {
+            task.accept(value);
+            return null;
+        }, executorService);
+    }
+
+    /**
+     * Runs the given tasks, which can run at the same time, and waits for all of them to complete.
+     *
+     * @param tasks tasks to run
+     */
+    void runAll(List<? extends Runnable> tasks) {
+        if (isSequential()) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+        CompletableFuture<?>[] futures = tasks.stream()
+                .map(task -> CompletableFuture.runAsync(task, executorService))
+                .toArray(CompletableFuture[]::new);
+        join(CompletableFuture.allOf(futures));
+    }
+
+    /**
+     * Throws the failure of an ordered task submitted so far, if one has already failed, without waiting for the
+     * tasks that are still running.
+     */
+    void checkOrderedTasks() {
+        if (lastOrderedTask.isCompletedExceptionally()) {
+            join(lastOrderedTask);
+        }
+    }
+
+    /**
+     * Waits for the ordered tasks submitted so far to complete.
+     */
+    void awaitOrderedTasks() {
+        join(lastOrderedTask);
+    }
+
+    @Override
+    public void close() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+
+    private static <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ProjectException(e);
+        }
+    }
+
+    // Rethrows the failure of a task as it would have been thrown by running the task in the calling thread.
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ProjectException(cause);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import static org.objectweb.asm.Opcodes.ASM9;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_FUNCTION_CALLS_CLASS_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_FUNCTION_TYPES_CLASS_NAME;
+
+/**
+ * Finds the classes generated for the modules of a package and its dependencies that cannot be reached from the
+ * entry points of an executable, so that they can be omitted from the executable jar.
+ * <p>
+ * The classes reached at first are the main class, the classes named by the services declared in the jars, and the
+ * classes named by the classes of the jars that are not generated, such as the runtime and the platform libraries.
+ * The module level classes, of which the simple names start with {@code $}, are reached at first as well, since the
+ * runtime loads classes such as the module init class, the value creators and the value classes by their names. A
+ * class that is reached reaches every generated class named in its constant pool, whether in a class reference, a
+ * descriptor or a string constant, so that a class loaded by a name written in the code is reached too. Hence,
+ * services, listeners and the functions that are called through interop are kept, as they are reached from the init
+ * class of their module or from the Java code that calls them.
+ * <p>
+ * The function calls class of a module calls every function of the module, so that a function can be called by its
+ * name, as done for the functions called through the runtime API and for the function pointers to the functions of
+ * other modules. A function called from this class reaches its class only if the name of the function is a constant
+ * of a class that is not generated or of a reached class other than the function calls and function types classes,
+ * which only look functions up by their names. Hence, a function that is neither called directly nor named anywhere
+ * else is omitted, while a function called by a name that is computed at runtime is not supported.
+ *
+ * @since 2201.12.0
+ */
+final class ClassReachabilityAnalyzer {
+
+    private static final int CONSTANT_UTF8_TAG = 1;
+    private static final String META_INF_DIR = "META-INF/";
+    private static final String SERVICES_DIR = "META-INF/services/";
+    private static final String MODULE_INFO_CLASS = "module-info.class";
+    private static final String MODULE_LEVEL_CLASS_PREFIX = "$";
+
+    private final Collection<Path> generatedJars;
+    private final Collection<Path> otherJars;
+    private final String mainClassName;
+
+    // Names found in the constant pool of each generated class, by the internal name of the class.
+    private final Map<String, Set<String>> generatedClasses = new HashMap<>();
+    // Classes of the functions called by their names, by the name of the function, for each function calls class.
+    private final Map<String, Map<String, Set<String>>> functionCallsClasses = new HashMap<>();
+    // Names of the functions called by their names, and of those named by the classes that are reached.
+    private final Set<String> functionNames = new HashSet<>();
+    private final Set<String> namedFunctions = new HashSet<>();
+    private final Set<String> otherClasses = new HashSet<>();
+    private final Set<String> rootClasses = new HashSet<>();
+
+    /**
+     * Creates an analyzer for the jars of an executable.
+     *
+     * @param generatedJars jars generated for the modules, of which the classes can be omitted
+     * @param otherJars     other jars of the executable, of which every class is kept
+     * @param mainClassName binary name of the main class of the executable
+     */
+    ClassReachabilityAnalyzer(Collection<Path> generatedJars, Collection<Path> otherJars, String mainClassName) {
+        this.generatedJars = generatedJars;
+        this.otherJars = otherJars;
+        this.mainClassName = mainClassName;
+    }
+
+    /**
+     * Returns the generated classes that cannot be reached from the entry points of the executable.
+     *
+     * @return sorted internal names of the unreachable classes
+     * @throws IOException if a jar cannot be read
+     */
+    SortedSet<String> findUnreachableClasses() throws IOException {
+        // The generated classes are read first, so that only the names of generated classes are kept for the others.
+        for (Path jarPath : generatedJars) {
+            readJar(jarPath, true);
+        }
+        for (Path jarPath : otherJars) {
+            readJar(jarPath, false);
+        }
+        rootClasses.add(mainClassName.replace('.', '/'));
+        for (String className : generatedClasses.keySet()) {
+            if (getSimpleName(className).startsWith(MODULE_LEVEL_CLASS_PREFIX)) {
+                rootClasses.add(className);
+            }
+        }
+
+        Set<String> reachedClasses = new HashSet<>();
+        Deque<String> pendingClasses = new ArrayDeque<>(rootClasses);
+        while (!pendingClasses.isEmpty()) {
+            while (!pendingClasses.isEmpty()) {
+                String className = pendingClasses.pop();
+                Set<String> referencedNames = generatedClasses.get(className);
+                if (referencedNames == null || !reachedClasses.add(className)) {
+                    continue;
+                }
+                for (String name : referencedNames) {
+                    if (generatedClasses.containsKey(name) && !reachedClasses.contains(name)) {
+                        pendingClasses.push(name);
+                    }
+                    if (functionNames.contains(name) && !isFunctionLookupClass(className)) {
+                        namedFunctions.add(name);
+                    }
+                }
+            }
+            // The functions named by the classes reached so far may reach further classes.
+            for (Map.Entry<String, Map<String, Set<String>>> entry : functionCallsClasses.entrySet()) {
+                if (!reachedClasses.contains(entry.getKey())) {
+                    continue;
+                }
+                for (Map.Entry<String, Set<String>> function : entry.getValue().entrySet()) {
+                    if (!namedFunctions.contains(function.getKey())) {
+                        continue;
+                    }
+                    for (String className : function.getValue()) {
+                        if (!reachedClasses.contains(className)) {
+                            pendingClasses.push(className);
+                        }
+                    }
+                }
+            }
+        }
+
+        SortedSet<String> unreachableClasses = new TreeSet<>();
+        for (String className : generatedClasses.keySet()) {
+            // A class that is also in another jar may be copied from that jar, hence it is kept.
+            if (!reachedClasses.contains(className) && !otherClasses.contains(className)) {
+                unreachableClasses.add(className);
+            }
+        }
+        return unreachableClasses;
+    }
+
+    private void readJar(Path jarPath, boolean generated) throws IOException {
+        try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String entryName = entry.getName();
+                if (entryName.startsWith(SERVICES_DIR)) {
+                    readServices(jarFile, entry);
+                    continue;
+                }
+                if (!entryName.endsWith(CLASS_FILE_SUFFIX) || entryName.startsWith(META_INF_DIR) ||
+                        entryName.equals(MODULE_INFO_CLASS)) {
+                    continue;
+                }
+                String className = entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length());
+                byte[] classBytes;
+                try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                    classBytes = inputStream.readAllBytes();
+                }
+                Set<String> referencedNames = readReferencedNames(classBytes);
+                if (generated) {
+                    if (className.endsWith("/" + MODULE_FUNCTION_CALLS_CLASS_NAME)) {
+                        referencedNames.removeAll(readFunctionCalls(classBytes, className));
+                    }
+                    generatedClasses.putIfAbsent(className, referencedNames);
+                    continue;
+                }
+                otherClasses.add(className);
+                for (String name : referencedNames) {
+                    if (generatedClasses.containsKey(name)) {
+                        rootClasses.add(name);
+                    }
+                    if (functionNames.contains(name)) {
+                        namedFunctions.add(name);
+                    }
+                }
+            }
+        }
+    }
+
+    // Records the functions called by the function calls class and returns the classes of these functions.
+    private Set<String> readFunctionCalls(byte[] classBytes, String className) {
+        Map<String, Set<String>> functionClasses = new HashMap<>();
+        new ClassReader(classBytes).accept(new ClassVisitor(ASM9) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                             String[] exceptions) {
+                return new MethodVisitor(ASM9) {
+                    @Override
+                    public void visitMethodInsn(int opcode, String owner, String name, String descriptor,
+                                                boolean isInterface) {
+                        // The split call methods of the class itself are not function calls.
+                        if (opcode == INVOKESTATIC && !owner.equals(className)) {
+                            functionClasses.computeIfAbsent(name, k -> new HashSet<>()).add(owner);
+                        }
+                    }
+                };
+            }
+        }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        functionCallsClasses.putIfAbsent(className, functionClasses);
+        functionNames.addAll(functionClasses.keySet());
+
+        Set<String> calledClasses = new HashSet<>();
+        functionClasses.values().forEach(calledClasses::addAll);
+        return calledClasses;
+    }
+
+    private void readServices(JarFile jarFile, JarEntry entry) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(jarFile.getInputStream(entry), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int commentIndex = line.indexOf('#');
+                String serviceClassName = (commentIndex < 0 ? line : line.substring(0, commentIndex)).trim();
+                if (!serviceClassName.isEmpty()) {
+                    rootClasses.add(serviceClassName.replace('.', '/'));
+                }
+            }
+        }
+    }
+
+    // Returns the names of the classes that may be named by the UTF-8 entries of the constant pool of a class.
+    private static Set<String> readReferencedNames(byte[] classBytes) {
+        ClassReader classReader = new ClassReader(classBytes);
+        Set<String> names = new HashSet<>();
+        for (int i = 1; i < classReader.getItemCount(); i++) {
+            // The offset of an entry is the offset of its tag plus one, or zero for the second slot of a long.
+            int offset = classReader.getItem(i);
+            if (offset == 0 || classReader.readByte(offset - 1) != CONSTANT_UTF8_TAG) {
+                continue;
+            }
+            int length = classReader.readUnsignedShort(offset);
+            addReferencedNames(new String(classBytes, offset + 2, length, StandardCharsets.UTF_8), names);
+        }
+        return names;
+    }
+
+    private static void addReferencedNames(String value, Set<String> names) {
+        names.add(value);
+        if (value.indexOf('.') >= 0) {
+            names.add(value.replace('.', '/'));
+        }
+        // Class names in field and method descriptors are of the form 'Lname;'.
+        int start = value.indexOf('L');
+        while (start >= 0) {
+            int end = value.indexOf(';', start);
+            if (end < 0) {
+                break;
+            }
+            names.add(value.substring(start + 1, end));
+            start = value.indexOf('L', end + 1);
+        }
+    }
+
+    private boolean isFunctionLookupClass(String className) {
+        return functionCallsClasses.containsKey(className) ||
+                className.endsWith("/" + MODULE_FUNCTION_TYPES_CLASS_NAME);
+    }
+
+    private static String getSimpleName(String className) {
+        return className.substring(className.lastIndexOf('/') + 1);
+    }
+}
@@ -42,4 +42,31 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Returns the fingerprint of the inputs from which the cached BIR and libraries of a module are compiled.
+     *
+     * @param moduleName name of the module
+     * @return the cached fingerprint, or an empty {@code Optional} if the cache does not keep fingerprints
+     */
+    public Optional<String> getFingerprint(ModuleName moduleName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Caches the fingerprint of a module, once the BIR and libraries of the module are cached.
+     *
+     * @param moduleName  name of the module
+     * @param fingerprint fingerprint of the inputs from which the module is compiled
+     */
+    public void cacheFingerprint(ModuleName moduleName, String fingerprint) {
+    }
+
+    /**
+     * Removes the fingerprint of a module, of which the cached BIR and libraries are out of date.
+     *
+     * @param moduleName name of the module
+     */
+    public void removeFingerprint(ModuleName moduleName) {
+    }
 }
@@ -41,13 +41,15 @@ public class CompilationOptions {
     Boolean disableSyntaxTree;
     Boolean remoteManagement;
     Boolean optimizeDependencyCompilation;
+    Integer compilationThreads;
 
     CompilationOptions(Boolean offlineBuild, Boolean observabilityIncluded, Boolean dumpBir,
                        Boolean dumpBirFile, String cloud, Boolean listConflictedClasses, Boolean sticky,
                        Boolean dumpGraph, Boolean dumpRawGraphs, Boolean withCodeGenerators,
                        Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI,
                        Boolean exportComponentModel, Boolean enableCache, Boolean disableSyntaxTree,
-                       Boolean remoteManagement, Boolean optimizeDependencyCompilation) {
+                       Boolean remoteManagement, Boolean optimizeDependencyCompilation,
+                       Integer compilationThreads) {
         this.offlineBuild = offlineBuild;
         this.observabilityIncluded = observabilityIncluded;
         this.dumpBir = dumpBir;
@@ -66,6 +68,7 @@ public class CompilationOptions {
         this.disableSyntaxTree = disableSyntaxTree;
         this.remoteManagement = remoteManagement;
         this.optimizeDependencyCompilation = optimizeDependencyCompilation;
+        this.compilationThreads = compilationThreads;
     }
 
     public boolean offlineBuild() {
@@ -136,6 +139,21 @@ public class CompilationOptions {
         return toBooleanDefaultIfNull(this.optimizeDependencyCompilation);
     }
 
+    /**
+     * Returns the number of threads used for the build tasks that can run in parallel, which are parsing the
+     * documents of the root package, generating the classes of a module and writing generated jars and BIRs to the
+     * compilation cache. The modules themselves are always compiled one after the other. A build uses a single
+     * thread unless more are requested.
+     *
+     * @return the number of threads, which is at least one
+     */
+    public int compilationThreads() {
+        if (this.compilationThreads == null) {
+            return 1;
+        }
+        return Math.max(this.compilationThreads, 1);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -229,6 +247,11 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.setOptimizeDependencyCompilation(this.optimizeDependencyCompilation);
         }
+        if (theirOptions.compilationThreads != null) {
+            compilationOptionsBuilder.setCompilationThreads(theirOptions.compilationThreads);
+        } else {
+            compilationOptionsBuilder.setCompilationThreads(this.compilationThreads);
+        }
         return compilationOptionsBuilder.build();
     }
 
@@ -285,6 +308,7 @@ public class CompilationOptions {
         private Boolean disableSyntaxTree;
         private Boolean remoteManagement;
         private Boolean optimizeDependencyCompilation;
+        private Integer compilationThreads;
 
         public CompilationOptionsBuilder setOffline(Boolean value) {
             offline = value;
@@ -376,12 +400,17 @@ public class CompilationOptions {
             return this;
         }
 
+        public CompilationOptionsBuilder setCompilationThreads(Integer value) {
+            compilationThreads = value;
+            return this;
+        }
+
         public CompilationOptions build() {
             return new CompilationOptions(offline, observabilityIncluded, dumpBir,
                     dumpBirFile, cloud, listConflictedClasses, sticky, dumpGraph, dumpRawGraph,
                     withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI,
                     exportComponentModel, enableCache, disableSyntaxTree, remoteManagement,
-                    optimizeDependencyCompilation);
+                    optimizeDependencyCompilation, compilationThreads);
         }
     }
 }
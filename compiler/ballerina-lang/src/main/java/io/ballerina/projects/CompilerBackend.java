@@ -17,6 +17,7 @@
  */
 package io.ballerina.projects;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Collection;
 
 /**
@@ -89,6 +90,14 @@ public abstract class CompilerBackend {
 
     public abstract String libraryFileExtension();
 
+    void cacheBir(CompilationCache compilationCache, ModuleName moduleName, ByteArrayOutputStream birContent,
+                  String fingerprint) {
+        compilationCache.cacheBir(moduleName, birContent);
+        if (fingerprint != null) {
+            compilationCache.cacheFingerprint(moduleName, fingerprint);
+        }
+    }
+
     /**
      * Represent the unique name of a supported compiler backed target.
      *
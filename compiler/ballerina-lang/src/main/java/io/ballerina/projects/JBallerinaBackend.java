@@ -67,6 +67,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -92,6 +97,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final String JAR_FILE_EXTENSION = ".jar";
     private static final String TEST_JAR_FILE_NAME_SUFFIX = "-testable";
     private static final String JAR_FILE_NAME_SUFFIX = "";
+    private static final String REMOVED_CLASSES_REPORT_SUFFIX = "-removed-classes.txt";
     private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
     private static final String OS = System.getProperty("os.name").toLowerCase(Locale.getDefault());
     public static final String JAR_NAME_SEPARATOR = "-";
@@ -107,6 +113,8 @@ public class JBallerinaBackend extends CompilerBackend {
     private final PackageCompilation packageCompilation;
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
+    // Writes the generated jars and BIRs to the cache while the next modules are being compiled.
+    private BuildTaskExecutor codeGenTasks;
     private final List<JarConflict> conflictedJars;
     List<Diagnostic> conflictedResourcesDiagnostics = new ArrayList<>();
 
@@ -159,7 +167,30 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(this.packageContext.packageManifest().diagnostics().diagnostics());
         // collect compilation diagnostics
         List<Diagnostic> moduleDiagnostics = new ArrayList<>();
+        try (BuildTaskExecutor executor = new BuildTaskExecutor(
+                packageCompilation.compilationOptions().compilationThreads())) {
+            this.codeGenTasks = executor;
+            generateModules(shrink, moduleDiagnostics);
+            executor.awaitOrderedTasks();
+        } finally {
+            this.codeGenTasks = null;
+        }
+
+        // add compilation diagnostics
+        diagnostics.addAll(moduleDiagnostics);
+        // add plugin diagnostics
+        diagnostics.addAll(this.packageContext.getPackageCompilation().pluginDiagnostics());
+        // add conflicting resources diagnostics
+        diagnostics.addAll(conflictedResourcesDiagnostics);
+
+        this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
+        codeGenCompleted = true;
+    }
+
+    private void generateModules(boolean shrink, List<Diagnostic> moduleDiagnostics) {
         for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+            // Stop at the next module if writing an earlier module to the cache has failed.
+            codeGenTasks.checkOrderedTasks();
             if (shrink) {
                 ModuleContext.shrinkDocuments(moduleContext);
             }
@@ -189,16 +220,6 @@ public class JBallerinaBackend extends CompilerBackend {
                 moduleContext.cleanBLangPackage();
             }
         }
-
-        // add compilation diagnostics
-        diagnostics.addAll(moduleDiagnostics);
-        // add plugin diagnostics
-        diagnostics.addAll(this.packageContext.getPackageCompilation().pluginDiagnostics());
-        // add conflicting resources diagnostics
-        diagnostics.addAll(conflictedResourcesDiagnostics);
-
-        this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
-        codeGenCompleted = true;
     }
 
     private boolean hasErrors(List<Diagnostic> diagnostics) {
@@ -375,12 +396,8 @@ public class JBallerinaBackend extends CompilerBackend {
         boolean isRemoteMgtEnabled = moduleContext.project().buildOptions().compilationOptions().remoteManagement();
         CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage, isRemoteMgtEnabled);
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
-        try {
-            ByteArrayOutputStream byteStream = compiledJarFile.toByteArrayStream();
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
-        }
+        cacheLibrary(compilationCache, jarFileName, compiledJarFile,
+                "Failed to cache generated jar, module: " + moduleContext.moduleName());
         if (moduleContext.project().currentPackage().packageContext() == packageContext &&
                 moduleContext.isDefaultModule()) {
             cacheResources(compilationCache, moduleContext.project().buildOptions().skipTests());
@@ -397,12 +414,39 @@ public class JBallerinaBackend extends CompilerBackend {
         String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
         CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0),
                 isRemoteMgtEnabled);
-        try {
-            ByteArrayOutputStream byteStream = compiledTestJarFile.toByteArrayStream();
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
+        cacheLibrary(compilationCache, testJarFileName, compiledTestJarFile,
+                "Failed to cache generated test jar, module: " + moduleContext.moduleName());
+    }
+
+    @Override
+    void cacheBir(CompilationCache compilationCache, ModuleName moduleName, ByteArrayOutputStream birContent,
+                  String fingerprint) {
+        if (codeGenTasks == null) {
+            super.cacheBir(compilationCache, moduleName, birContent, fingerprint);
+            return;
         }
+        // Cached after the jars of the module, so that the BIR is cached only if the jars are cached.
+        codeGenTasks.submitInOrder(CompletableFuture.completedFuture(birContent),
+                content -> super.cacheBir(compilationCache, moduleName, content, fingerprint));
+    }
+
+    /**
+     * Writes a generated jar to the compilation cache on the compilation threads, after the libraries and BIRs that
+     * were cached before it.
+     */
+    private void cacheLibrary(CompilationCache compilationCache, String libraryName, CompiledJarFile jarFile,
+                              String errorMessage) {
+        Callable<ByteArrayOutputStream> finishTask = () -> {
+            try {
+                return jarFile.toByteArrayStream();
+            } catch (IOException e) {
+                throw new ProjectException(errorMessage, e);
+            }
+        };
+        Consumer<ByteArrayOutputStream> cacheTask = byteStream ->
+                compilationCache.cachePlatformSpecificLibrary(this, libraryName, byteStream);
+        BuildTaskExecutor executor = codeGenTasks != null ? codeGenTasks : BuildTaskExecutor.SEQUENTIAL;
+        executor.submitInOrder(executor.submit(finishTask), cacheTask);
     }
 
     @Override
@@ -436,7 +480,8 @@ public class JBallerinaBackend extends CompilerBackend {
 
     private void assembleExecutableJar(Path executableFilePath,
                                        Manifest manifest,
-                                       Collection<JarLibrary> jarLibraries) throws IOException {
+                                       Collection<JarLibrary> jarLibraries,
+                                       Set<String> excludedEntries) throws IOException {
         // Used to prevent adding duplicated entries during the final jar creation.
         HashMap<String, JarLibrary> copiedEntries = new HashMap<>();
 
@@ -449,7 +494,7 @@ public class JBallerinaBackend extends CompilerBackend {
             writeManifest(manifest, outStream);
 
             // Sort jar libraries list to avoid inconsistent jar reporting
-            sortAndCopyJars(jarLibraries, outStream, copiedEntries, serviceEntries);
+            sortAndCopyJars(jarLibraries, outStream, copiedEntries, serviceEntries, excludedEntries);
 
             // Copy merged spi services.
             copyMergedSpiServices(serviceEntries, outStream);
@@ -474,7 +519,7 @@ public class JBallerinaBackend extends CompilerBackend {
             writeManifest(manifest, outStream);
 
             // Sort jar libraries list to avoid inconsistent jar reporting
-            sortAndCopyJars(jarLibraries, outStream, copiedEntries, serviceEntries);
+            sortAndCopyJars(jarLibraries, outStream, copiedEntries, serviceEntries, Collections.emptySet());
 
             // Copy merged spi services.
             copyMergedSpiServices(serviceEntries, outStream);
@@ -509,7 +554,8 @@ public class JBallerinaBackend extends CompilerBackend {
 
     private void sortAndCopyJars(Collection<JarLibrary> jarLibraries, ZipArchiveOutputStream outStream,
                                  HashMap<String, JarLibrary> copiedEntries,
-                                 HashMap<String, StringBuilder> serviceEntries) throws IOException {
+                                 HashMap<String, StringBuilder> serviceEntries,
+                                 Set<String> excludedEntries) throws IOException {
 
         List<JarLibrary> sortedJarLibraries = jarLibraries.stream()
                 .sorted(Comparator.comparing(jarLibrary -> jarLibrary.path().getFileName()))
@@ -517,7 +563,7 @@ public class JBallerinaBackend extends CompilerBackend {
 
         // Copy all the jars
         for (JarLibrary library : sortedJarLibraries) {
-            copyJar(outStream, library, copiedEntries, serviceEntries);
+            copyJar(outStream, library, copiedEntries, serviceEntries, excludedEntries);
         }
     }
 
@@ -565,11 +611,12 @@ public class JBallerinaBackend extends CompilerBackend {
      * @param jarLibrary    jar library.
      * @param copiedEntries Entries set will be used to ignore duplicate files.
      * @param services      Services will be used to temporary hold merged spi files.
+     * @param excludedEntries Entries that are not copied, such as the classes that cannot be reached.
      * @throws IOException If jar file copying is failed.
      */
     private void copyJar(ZipArchiveOutputStream outStream, JarLibrary jarLibrary,
                          HashMap<String, JarLibrary> copiedEntries, HashMap<String,
-            StringBuilder> services) throws IOException {
+            StringBuilder> services, Set<String> excludedEntries) throws IOException {
         if (Thread.currentThread().isInterrupted()) {
             return;
         }
@@ -613,7 +660,7 @@ public class JBallerinaBackend extends CompilerBackend {
                     addConflictedJars(jarLibrary, copiedEntries, entryName);
                     return false;
                 }
-                if (isExcludedEntry(entryName)) {
+                if (isExcludedEntry(entryName) || excludedEntries.contains(entryName)) {
                     return false;
                 }
                 // SPIs will be merged first and then put into jar separately.
@@ -627,6 +674,41 @@ public class JBallerinaBackend extends CompilerBackend {
         }
     }
 
+    /**
+     * Finds the entries of the generated classes that cannot be reached from the entry points of the executable, and
+     * lists the classes in a report next to the executable jar.
+     *
+     * @param executableFilePath path of the executable jar
+     * @param manifest           manifest of the executable jar
+     * @param jarLibraries       jars of the executable
+     * @return names of the entries of the unreachable classes
+     * @throws IOException if a jar cannot be read or the report cannot be written
+     */
+    private Set<String> findUnreachableEntries(Path executableFilePath, Manifest manifest,
+                                               Collection<JarLibrary> jarLibraries) throws IOException {
+        Set<Path> generatedJars = jarResolver.getCodeGeneratedLibraryPathsRequiredForExecution();
+        List<Path> otherJars = new ArrayList<>();
+        for (JarLibrary jarLibrary : jarLibraries) {
+            if (!generatedJars.contains(jarLibrary.path())) {
+                otherJars.add(jarLibrary.path());
+            }
+        }
+        String mainClassName = manifest.getMainAttributes().getValue(Attributes.Name.MAIN_CLASS);
+        SortedSet<String> unreachableClasses =
+                new ClassReachabilityAnalyzer(generatedJars, otherJars, mainClassName).findUnreachableClasses();
+
+        Set<String> unreachableEntries = new HashSet<>();
+        StringBuilder report = new StringBuilder();
+        for (String className : unreachableClasses) {
+            unreachableEntries.add(className + CLASS_FILE_SUFFIX);
+            report.append(className.replace('/', '.')).append(System.lineSeparator());
+        }
+        Path reportPath = executableFilePath.resolveSibling(
+                getFileNameWithoutExtension(executableFilePath.toString()) + REMOVED_CLASSES_REPORT_SUFFIX);
+        Files.writeString(reportPath, report.toString());
+        return unreachableEntries;
+    }
+
     private static boolean isCopiedEntry(String entryName, HashMap<String, JarLibrary> copiedEntries) {
         return copiedEntries.containsKey(entryName);
     }
@@ -656,7 +738,11 @@ public class JBallerinaBackend extends CompilerBackend {
         // Add warning when provided platform dependencies are found
         addProvidedDependencyWarning(emitResultDiagnostics);
         try {
-            assembleExecutableJar(executableFilePath, manifest, jarLibraries);
+            Set<String> excludedEntries = Collections.emptySet();
+            if (packageContext.project().buildOptions().eliminateDeadCode()) {
+                excludedEntries = findUnreachableEntries(executableFilePath, manifest, jarLibraries);
+            }
+            assembleExecutableJar(executableFilePath, manifest, jarLibraries, excludedEntries);
         } catch (IOException e) {
             throw new ProjectException("error while creating the executable jar file for package '" +
                     this.packageContext.packageName().toString() + "' : " + e.getMessage(), e);
@@ -1027,17 +1113,11 @@ public class JBallerinaBackend extends CompilerBackend {
 
         // Cache the resources if there are any
         if (!resources.isEmpty()) {
-            try {
-                String resourceJarName = RESOURCE_DIR_NAME + JAR_FILE_NAME_SUFFIX;
-                CompiledJarFile resourceJar = new CompiledJarFile("");
-                resourceJar.jarEntries.putResourceEntries(resources);
-                try (ByteArrayOutputStream byteStream = resourceJar.toByteArrayStream()) {
-                    compilationCache.cachePlatformSpecificLibrary(this, resourceJarName, byteStream);
-                }
-            } catch (IOException e) {
-                throw new ProjectException("Failed to cache resources jar, package: " +
-                        packageContext.packageName(), e);
-            }
+            String resourceJarName = RESOURCE_DIR_NAME + JAR_FILE_NAME_SUFFIX;
+            CompiledJarFile resourceJar = new CompiledJarFile("");
+            resourceJar.jarEntries.putResourceEntries(resources);
+            cacheLibrary(compilationCache, resourceJarName, resourceJar,
+                    "Failed to cache resources jar, package: " + packageContext.packageName());
         }
     }
 
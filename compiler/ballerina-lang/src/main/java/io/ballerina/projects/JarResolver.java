@@ -31,6 +31,7 @@ import org.wso2.ballerinalang.compiler.util.CompilerUtils;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
@@ -125,6 +126,29 @@ public class JarResolver {
         return jarFiles;
     }
 
+    /**
+     * Returns the paths of the jars generated for the modules of the root package and its dependencies, which are
+     * among the jars required for execution.
+     *
+     * @return paths of the generated jars
+     */
+    Set<Path> getCodeGeneratedLibraryPathsRequiredForExecution() {
+        Set<JarLibrary> jarFiles = new HashSet<>();
+        addCodeGeneratedLibraryPaths(rootPackageContext, PlatformLibraryScope.DEFAULT, jarFiles);
+        pkgResolution.allDependencies()
+                .stream()
+                .filter(pkgDep -> pkgDep.scope() != PackageDependencyScope.TEST_ONLY)
+                .filter(pkgDep -> !pkgDep.packageInstance().descriptor().isLangLibPackage())
+                .map(pkgDep -> pkgDep.packageInstance().packageContext())
+                .forEach(pkgContext -> addCodeGeneratedLibraryPaths(pkgContext, PlatformLibraryScope.DEFAULT,
+                        jarFiles));
+        Set<Path> jarPaths = new HashSet<>();
+        for (JarLibrary jarFile : jarFiles) {
+            jarPaths.add(jarFile.path());
+        }
+        return jarPaths;
+    }
+
     private void addCodeGeneratedLibraryPaths(PackageContext packageContext, PlatformLibraryScope scope,
                                               Set<JarLibrary> libraryPaths) {
         for (ModuleId moduleId : packageContext.moduleIds()) {
@@ -89,6 +89,7 @@ class ModuleContext {
     private byte[] birBytes = new byte[0];
     private final Bootstrap bootstrap;
     private ModuleCompilationState moduleCompState;
+    private String fingerprint;
     private Set<ModuleLoadRequest> allModuleLoadRequests = null;
     private Set<ModuleLoadRequest> allTestModuleLoadRequests = null;
 
@@ -268,10 +269,10 @@ class ModuleContext {
         }
 
         // TODO This logic needs to be updated. We need a proper way to decide on the initial state
-        if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
-            moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
-        } else if (this.project().kind() == ProjectKind.BUILD_PROJECT
-                && !this.project.buildOptions().enableCache()) {
+        if (this.project().kind() == ProjectKind.BUILD_PROJECT) {
+            moduleCompState = isCacheUpToDate() ? ModuleCompilationState.LOADED_FROM_CACHE :
+                    ModuleCompilationState.LOADED_FROM_SOURCES;
+        } else if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else {
             moduleCompState = ModuleCompilationState.LOADED_FROM_CACHE;
@@ -279,10 +280,32 @@ class ModuleContext {
         return moduleCompState;
     }
 
+    // Returns whether the cached BIR and jars of a module of a build project are compiled from the current inputs.
+    private boolean isCacheUpToDate() {
+        if (!this.project.buildOptions().enableCache()) {
+            return false;
+        }
+        ModuleName moduleName = moduleDescriptor.name();
+        Optional<String> cachedFingerprint = compilationCache.getFingerprint(moduleName);
+        if (cachedFingerprint.isEmpty()) {
+            return false;
+        }
+        if (cachedFingerprint.get().equals(fingerprint) && compilationCache.getBir(moduleName).length != 0) {
+            return true;
+        }
+        // The module is compiled again, and the cache is out of date until the new fingerprint is cached.
+        compilationCache.removeFingerprint(moduleName);
+        return false;
+    }
+
     void setCompilationState(ModuleCompilationState moduleCompState) {
         this.moduleCompState = moduleCompState;
     }
 
+    void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
     void resolveDependencies(DependencyResolution dependencyResolution) {
         Set<ModuleDependency> moduleDependencies = new HashSet<>();
         if (this.project.kind() == ProjectKind.BALA_PROJECT) {
@@ -469,7 +492,8 @@ class ModuleContext {
         // Write the bir to the file system
         // This code will execute only if JAR caching is successful
         // TODO: check the filesystem cache and delete if the cache is incomplete (if BIR or JAR is missing)
-        moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+        compilerBackend.cacheBir(moduleContext.compilationCache, moduleContext.moduleName(), birContent,
+                moduleContext.fingerprint);
     }
 
     private static boolean shouldGenerateBir(ModuleContext moduleContext, CompilerContext compilerContext) {
@@ -512,6 +536,10 @@ class ModuleContext {
         }
     }
 
+    byte[] birBytes() {
+        return birBytes;
+    }
+
     static void loadBirBytesInternal(ModuleContext moduleContext) {
         moduleContext.birBytes = moduleContext.compilationCache.getBir(moduleContext.moduleName());
     }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects;
+
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Computes the fingerprints of the modules of a build project, which identify the inputs a module is compiled from.
+ * <p>
+ * The fingerprint of a module is a digest of the compiler version, the build options that affect the generated code,
+ * the resolved dependencies and the resources of the package, the sources of the module, and the digests of the
+ * modules it imports. The digest of a module of the package is its fingerprint, and the digest of a module of a
+ * dependency is the digest of its BIR. Hence, a module of which the fingerprint is the same as the one cached with its
+ * BIR can be loaded from the compilation cache, and a module that imports a module which is compiled again is
+ * compiled again as well.
+ *
+ * @since 2201.12.0
+ */
+final class ModuleFingerprints {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+    private final byte[] packageDigest;
+    private final Map<ModuleDescriptor, ModuleContext> moduleContexts = new HashMap<>();
+    private final Map<ModuleDescriptor, String> moduleDigests = new HashMap<>();
+
+    ModuleFingerprints(PackageContext rootPackageContext, PackageResolution packageResolution) {
+        for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
+            moduleContexts.put(moduleContext.descriptor(), moduleContext);
+        }
+
+        MessageDigest digest = newDigest();
+        update(digest, RepoUtils.getBallerinaVersion());
+        BuildOptions buildOptions = rootPackageContext.project().buildOptions();
+        update(digest, "skipTests=" + buildOptions.skipTests());
+        update(digest, "observabilityIncluded=" + buildOptions.observabilityIncluded());
+        update(digest, "remoteManagement=" + buildOptions.remoteManagement());
+        update(digest, rootPackageContext.descriptor().toString());
+        // The BIR of a module refers to the versions of the packages it uses, which may not be imported by the module.
+        packageResolution.allDependencies().stream()
+                .map(dependency -> dependency.packageInstance().descriptor().toString())
+                .sorted()
+                .forEach(dependency -> update(digest, dependency));
+        updateResources(digest, rootPackageContext, rootPackageContext.resourceIds());
+        updateResources(digest, rootPackageContext, rootPackageContext.testResourceIds());
+        this.packageDigest = digest.digest();
+    }
+
+    /**
+     * Computes the fingerprint of a module of the package. The modules imported by the module should be compiled
+     * before the fingerprint is computed.
+     *
+     * @param moduleContext module of the package
+     * @return the fingerprint of the module
+     */
+    String fingerprint(ModuleContext moduleContext) {
+        MessageDigest digest = newDigest();
+        digest.update(packageDigest);
+        update(digest, moduleContext.moduleName().toString());
+        updateDocuments(digest, moduleContext, moduleContext.srcDocumentIds());
+        update(digest, "tests");
+        updateDocuments(digest, moduleContext, moduleContext.testSrcDocumentIds());
+        moduleContext.dependencies().stream()
+                .map(ModuleDependency::descriptor)
+                .sorted(Comparator.comparing(ModuleFingerprints::moduleId))
+                .forEach(dependency -> {
+                    update(digest, moduleId(dependency));
+                    update(digest, moduleDigest(dependency));
+                });
+        String fingerprint = HEX_FORMAT.formatHex(digest.digest());
+        moduleDigests.put(moduleContext.descriptor(), fingerprint);
+        return fingerprint;
+    }
+
+    private String moduleDigest(ModuleDescriptor moduleDescriptor) {
+        String moduleDigest = moduleDigests.get(moduleDescriptor);
+        if (moduleDigest != null) {
+            return moduleDigest;
+        }
+        // A module of a dependency which is not loaded from its BIR is identified by its version alone.
+        ModuleContext moduleContext = moduleContexts.get(moduleDescriptor);
+        byte[] birBytes = moduleContext != null ? moduleContext.birBytes() : new byte[0];
+        moduleDigest = birBytes.length == 0 ? "" : HEX_FORMAT.formatHex(newDigest().digest(birBytes));
+        moduleDigests.put(moduleDescriptor, moduleDigest);
+        return moduleDigest;
+    }
+
+    private static void updateDocuments(MessageDigest digest, ModuleContext moduleContext,
+                                        Collection<DocumentId> documentIds) {
+        documentIds.stream()
+                .map(moduleContext::documentContext)
+                .sorted(Comparator.comparing(DocumentContext::name))
+                .forEach(documentContext -> {
+                    update(digest, documentContext.name());
+                    update(digest, new String(documentContext.textDocument().toCharArray()));
+                });
+    }
+
+    private static void updateResources(MessageDigest digest, PackageContext packageContext,
+                                        Collection<DocumentId> resourceIds) {
+        resourceIds.stream()
+                .map(packageContext::resourceContext)
+                .sorted(Comparator.comparing(ResourceContext::name))
+                .forEach(resourceContext -> {
+                    update(digest, resourceContext.name());
+                    update(digest, resourceContext.content());
+                });
+    }
+
+    private static String moduleId(ModuleDescriptor moduleDescriptor) {
+        return moduleDescriptor.org() + "/" + moduleDescriptor.name() + ":" + moduleDescriptor.version();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        update(digest, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // The length of each value is added before the value, so that different values are not digested alike.
+    private static void update(MessageDigest digest, byte[] value) {
+        int length = value.length;
+        digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8),
+                (byte) length});
+        digest.update(value);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ProjectException("failed to compute the fingerprint of a module", e);
+        }
+    }
+}
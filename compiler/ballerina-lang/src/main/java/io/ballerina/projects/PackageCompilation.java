@@ -39,6 +39,7 @@ import java.util.ServiceLoader;
 import java.util.function.Function;
 
 import static org.ballerinalang.compiler.CompilerOptionName.CLOUD;
+import static org.ballerinalang.compiler.CompilerOptionName.COMPILATION_THREADS;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
 import static org.ballerinalang.compiler.CompilerOptionName.REMOTE_MANAGEMENT;
@@ -90,6 +91,7 @@ public class PackageCompilation {
         options.put(DUMP_BIR_FILE, Boolean.toString(compilationOptions.dumpBirFile()));
         options.put(CLOUD, compilationOptions.getCloud());
         options.put(REMOTE_MANAGEMENT, Boolean.toString(compilationOptions.remoteManagement()));
+        options.put(COMPILATION_THREADS, Integer.toString(compilationOptions.compilationThreads()));
     }
 
     static PackageCompilation from(PackageContext rootPackageContext, CompilationOptions compilationOptions) {
@@ -207,7 +209,11 @@ public class PackageCompilation {
         diagnostics.addAll(packageContext().dependencyManifest().diagnostics().allDiagnostics);
         // add compilation diagnostics
         if (!packageResolution.diagnosticResult().hasErrors()) {
+            ModuleFingerprints moduleFingerprints = createModuleFingerprints();
             for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
+                if (moduleFingerprints != null && moduleContext.project() == rootPackageContext.project()) {
+                    moduleContext.setFingerprint(moduleFingerprints.fingerprint(moduleContext));
+                }
                 moduleContext.compile(compilerContext);
                 for (Diagnostic diagnostic : moduleContext.diagnostics()) {
                     if (!ProjectKind.BALA_PROJECT.equals(moduleContext.project().kind()) ||
@@ -223,6 +229,15 @@ public class PackageCompilation {
         diagnosticResult = new DefaultDiagnosticResult(diagnostics);
     }
 
+    // Fingerprints are needed only to load the unchanged modules of a build project from the compilation cache.
+    private ModuleFingerprints createModuleFingerprints() {
+        Project project = rootPackageContext.project();
+        if (project.kind() != ProjectKind.BUILD_PROJECT || !project.buildOptions().enableCache()) {
+            return null;
+        }
+        return new ModuleFingerprints(rootPackageContext, packageResolution);
+    }
+
     private void runPluginCodeAnalysis(List<Diagnostic> diagnostics) {
         // only run plugins for build projects
         if (rootPackageContext.project().kind().equals(ProjectKind.BUILD_PROJECT)) {
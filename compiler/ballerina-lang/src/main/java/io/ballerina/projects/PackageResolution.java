@@ -310,7 +310,39 @@ public class PackageResolution {
         }
     }
 
+    /**
+     * Parses the documents of the root package, so that the imports of the modules are read from parsed documents.
+     * The documents are parsed independently of each other and are parsed on the compilation threads, while the
+     * imports are collected afterwards in the order of the modules and documents.
+     */
+    private void parseDocuments() {
+        // The syntax trees are not kept if they are disabled, in which case a document is parsed again when needed.
+        if (compilationOptions.disableSyntaxTree() || compilationOptions.compilationThreads() <= 1) {
+            return;
+        }
+        List<Runnable> parseTasks = new ArrayList<>();
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
+            for (DocumentId documentId : moduleContext.srcDocumentIds()) {
+                DocumentContext documentContext = moduleContext.documentContext(documentId);
+                parseTasks.add(documentContext::parse);
+            }
+            for (DocumentId documentId : moduleContext.testSrcDocumentIds()) {
+                DocumentContext documentContext = moduleContext.documentContext(documentId);
+                parseTasks.add(documentContext::parse);
+            }
+        }
+        if (parseTasks.size() <= 1) {
+            return;
+        }
+        try (BuildTaskExecutor executor = new BuildTaskExecutor(
+                Math.min(parseTasks.size(), compilationOptions.compilationThreads()))) {
+            executor.runAll(parseTasks);
+        }
+    }
+
     private LinkedHashSet<ModuleLoadRequest> getModuleLoadRequestsOfDirectDependencies() {
+        parseDocuments();
         LinkedHashSet<ModuleLoadRequest> allModuleLoadRequests = new ModuleContext.OverwritableLinkedHashSet();
         for (ModuleId moduleId : rootPackageContext.moduleIds()) {
             ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
@@ -40,6 +40,7 @@ import io.ballerina.toml.semantic.TomlType;
 import io.ballerina.toml.semantic.ast.TomlArrayValueNode;
 import io.ballerina.toml.semantic.ast.TomlBooleanValueNode;
 import io.ballerina.toml.semantic.ast.TomlKeyValueNode;
+import io.ballerina.toml.semantic.ast.TomlLongValueNode;
 import io.ballerina.toml.semantic.ast.TomlStringValueNode;
 import io.ballerina.toml.semantic.ast.TomlTableArrayNode;
 import io.ballerina.toml.semantic.ast.TomlTableNode;
@@ -918,6 +919,10 @@ public class ManifestBuilder {
                 BuildOptions.OptionName.SHOW_DEPENDENCY_DIAGNOSTICS.toString());
         Boolean optimizeDependencyCompilation = getBooleanFromBuildOptionsTableNode(tableNode,
                 BuildOptions.OptionName.OPTIMIZE_DEPENDENCY_COMPILATION.toString());
+        Boolean eliminateDeadCode = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.ELIMINATE_DEAD_CODE.toString());
+        Integer compilationThreads = getIntegerFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.COMPILATION_THREADS.toString());
 
         buildOptionsBuilder
                 .setOffline(offline)
@@ -934,7 +939,9 @@ public class ManifestBuilder {
                 .setGraalVMBuildOptions(graalVMBuildOptions)
                 .setRemoteManagement(remoteManagement)
                 .setShowDependencyDiagnostics(showDependencyDiagnostics)
-                .setOptimizeDependencyCompilation(optimizeDependencyCompilation);
+                .setOptimizeDependencyCompilation(optimizeDependencyCompilation)
+                .setEliminateDeadCode(eliminateDeadCode)
+                .setCompilationThreads(compilationThreads);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir);
@@ -977,6 +984,23 @@ public class ManifestBuilder {
         return null;
     }
 
+    private Integer getIntegerFromBuildOptionsTableNode(TomlTableNode tableNode, String key) {
+        TopLevelNode topLevelNode = tableNode.entries().get(key);
+        if (topLevelNode == null || topLevelNode.kind() == TomlType.NONE) {
+            return null;
+        }
+
+        if (topLevelNode.kind() == TomlType.KEY_VALUE) {
+            TomlKeyValueNode keyValueNode = (TomlKeyValueNode) topLevelNode;
+            TomlValueNode value = keyValueNode.value();
+            if (value.kind() == TomlType.INTEGER) {
+                TomlLongValueNode tomlLongValueNode = (TomlLongValueNode) value;
+                return (int) Math.max(Math.min(tomlLongValueNode.getValue(), Integer.MAX_VALUE), Integer.MIN_VALUE);
+            }
+        }
+        return null;
+    }
+
     private boolean getBooleanFromTemplateNode(TomlTableNode tableNode, String key) {
         TopLevelNode topLevelNode = tableNode.entries().get(key);
         if (topLevelNode == null || topLevelNode.kind() == TomlType.NONE) {
@@ -19,6 +19,7 @@ package io.ballerina.projects.internal.repositories;
 
 import com.github.zafarkhaja.semver.UnexpectedCharacterException;
 import com.github.zafarkhaja.semver.Version;
+import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.DependencyGraph;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.ModuleDescriptor;
@@ -36,6 +37,7 @@ import io.ballerina.projects.environment.ResolutionOptions;
 import io.ballerina.projects.environment.ResolutionRequest;
 import io.ballerina.projects.internal.BalaFiles;
 import io.ballerina.projects.repos.FileSystemCache;
+import io.ballerina.projects.repos.SharedCompilationCache;
 import io.ballerina.projects.util.FileUtils;
 import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectUtils;
@@ -73,24 +75,32 @@ import java.util.stream.Stream;
  *                 - jar
  *                     - org-package-name-version.jar
  * </pre>
+ * The cache of a repository with the distribution version, such as a repository of the user, is shared by the builds
+ * of any project, and the artifacts of a version of a package are cached in a directory named by the digest of its
+ * bala under the directory of the version. See {@code SharedCompilationCache}.
+ *
  * @since 2.0.0
  */
 public class FileSystemRepository extends AbstractPackageRepository {
     Path bala;
     private final Path cacheDir;
     private final Environment environment;
+    private final CompilationCacheFactory compilationCacheFactory;
 
     // TODO Refactor this when we do repository/cache split
     public FileSystemRepository(Environment environment, Path cacheDirectory) {
         this.cacheDir = cacheDirectory.resolve(ProjectConstants.CACHES_DIR_NAME);
         this.bala = cacheDirectory.resolve(ProjectConstants.REPO_BALA_DIR_NAME);
         this.environment = environment;
+        this.compilationCacheFactory = new FileSystemCache.FileSystemCacheFactory(cacheDir);
     }
 
     public FileSystemRepository(Environment environment, Path cacheDirectory, String distributionVersion) {
         this.cacheDir = cacheDirectory.resolve(ProjectConstants.CACHES_DIR_NAME + "-" + distributionVersion);
         this.bala = cacheDirectory.resolve(ProjectConstants.REPO_BALA_DIR_NAME);
         this.environment = environment;
+        // The cache of a repository of the user is shared by the builds of any project, unlike the distribution.
+        this.compilationCacheFactory = new SharedCompilationCache.SharedCompilationCacheFactory(cacheDir);
     }
 
     @Override
@@ -107,8 +117,7 @@ public class FileSystemRepository extends AbstractPackageRepository {
         }
 
         ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getBuilder(environment);
-        environmentBuilder = environmentBuilder.addCompilationCacheFactory(
-                new FileSystemCache.FileSystemCacheFactory(cacheDir));
+        environmentBuilder = environmentBuilder.addCompilationCacheFactory(compilationCacheFactory);
         Project project = BalaProject.loadProject(environmentBuilder, balaPath);
         return Optional.of(project.currentPackage());
     }
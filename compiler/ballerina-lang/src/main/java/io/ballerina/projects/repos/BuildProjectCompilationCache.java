@@ -24,6 +24,7 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -62,6 +63,19 @@ public class BuildProjectCompilationCache extends FileSystemCache {
         return new byte[0];
     }
 
+    @Override
+    public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        // A module is compiled again only if its cached BIR is out of date, which should then be replaced.
+        Path birFilePath = getBirPath().resolve(moduleName.toString()
+                + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        try {
+            Files.deleteIfExists(birFilePath);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to replace the cached bir of module: " + moduleName, e);
+        }
+        super.cacheBir(moduleName, birContent);
+    }
+
     private Path getBirPath() {
         if (birPath != null) {
             return birPath;
@@ -28,10 +28,12 @@ import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 
 /**
@@ -45,12 +47,15 @@ import java.util.Optional;
  * - bir
  * - mod1.bir
  * - mod2.bir
+ * - mod1.fingerprint
  * - jar
  * - org-package-name-version.jar
  *
  * @since 2.0.0
  */
 public class FileSystemCache extends CompilationCache {
+    private static final String FINGERPRINT_EXT = ".fingerprint";
+    private static final String TEMP_FILE_EXT = ".tmp";
     private final Path cacheDirPath;
     private Path birPath;
     private Path packageCacheDirPath;
@@ -80,10 +85,7 @@ public class FileSystemCache extends CompilationCache {
         Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
         if (!Files.exists(birFilePath)) {
             try {
-                File tempBirFile = birPath.resolve(".tmp").toFile();
-                // TODO Can we improve this logic
-                FileUtils.writeByteArrayToFile(tempBirFile, birContent.toByteArray());
-                FileUtils.moveFile(tempBirFile, birFilePath.toFile());
+                writeAtomically(birFilePath, birContent.toByteArray());
             } catch (IOException e) {
                 // TODO proper error handling
                 throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
@@ -109,15 +111,74 @@ public class FileSystemCache extends CompilationCache {
         createDirectories(targetPlatformCacheDirPath);
         Path jarFilePath = targetPlatformCacheDirPath.resolve(libraryFileName);
 
-        // TODO Can we improve this logic
         try {
-            FileUtils.writeByteArrayToFile(jarFilePath.toFile(), libraryContent.toByteArray());
+            writeAtomically(jarFilePath, libraryContent.toByteArray());
         } catch (IOException e) {
             // TODO improve the error handling
             throw new RuntimeException("Failed to write library: " + jarFilePath, e);
         }
     }
 
+    @Override
+    public Optional<String> getFingerprint(ModuleName moduleName) {
+        Path fingerprintPath = getFingerprintPath(moduleName);
+        if (!Files.exists(fingerprintPath)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readString(fingerprintPath, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void cacheFingerprint(ModuleName moduleName, String fingerprint) {
+        try {
+            writeAtomically(getFingerprintPath(moduleName), fingerprint.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to cache the fingerprint of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public void removeFingerprint(ModuleName moduleName) {
+        try {
+            Files.deleteIfExists(getFingerprintPath(moduleName));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to remove the fingerprint of module: " + moduleName, e);
+        }
+    }
+
+    /**
+     * Writes a file of the cache through a temporary file which is renamed to the file, so that a build that reads
+     * the file at the same time, such as another build using the same cache, never reads a partially written file.
+     *
+     * @param filePath path of the file
+     * @param content  content of the file
+     * @throws IOException if the file cannot be written
+     */
+    protected static void writeAtomically(Path filePath, byte[] content) throws IOException {
+        Path dirPath = filePath.getParent();
+        Files.createDirectories(dirPath);
+        Path tempFilePath = Files.createTempFile(dirPath, filePath.getFileName().toString(), TEMP_FILE_EXT);
+        try {
+            Files.write(tempFilePath, content);
+            try {
+                Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+    }
+
+    private Path getFingerprintPath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + FINGERPRINT_EXT);
+    }
+
     private Path getTargetPlatformCacheDirPath(CompilerBackend compilerBackend) {
         String targetPlatformCode = compilerBackend.targetPlatform().code();
         return packageCacheDirPath().resolve(targetPlatformCode);
@@ -145,7 +206,12 @@ public class FileSystemCache extends CompilationCache {
         return birPath;
     }
 
-    private Path packageCacheDirPath() {
+    /**
+     * Returns the directory of the package in the cache, of which the artifacts of the package are cached.
+     *
+     * @return path of the directory of the package
+     */
+    protected Path packageCacheDirPath() {
         if (packageCacheDirPath != null) {
             return packageCacheDirPath;
         }
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects.repos;
+
+import io.ballerina.projects.CompilationCache;
+import io.ballerina.projects.CompilationCacheFactory;
+import io.ballerina.projects.ModuleName;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.projects.util.ProjectUtils;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * A {@code CompilationCache} of the bala packages of a repository, which is shared by the builds of the user, such as
+ * the cache of the packages pulled from Ballerina central.
+ * <p>
+ * The artifacts of a package are cached in a directory named by the digest of its bala and the version of the
+ * compiler, under the directory of the version of the package. Hence, a package of which the bala is replaced, such as
+ * a package pushed again to the local repository, is not loaded from the artifacts of the previous bala. The digest of
+ * an extracted bala is written to its {@code .bala-digest} file when it is pulled, or by the first build that uses it
+ * otherwise, so that the files of the bala are not read again by each build. The files of the cache are written
+ * atomically, so that builds which use the cache at the same time never read a partially written artifact.
+ * <p>
+ * Once the artifacts of a package are cached, the least recently used packages are evicted until the size of the cache
+ * is within its limit, if the cache was not evicted within the last hour by any build. A package used within the last
+ * hour is not evicted, as another build may still be using its artifacts. Only one build evicts the cache at a time.
+ *
+ * @since 2201.12.0
+ */
+public class SharedCompilationCache extends FileSystemCache {
+
+    /**
+     * The default size limit of the cache, in bytes.
+     */
+    public static final long DEFAULT_MAX_SIZE = 4L * 1024 * 1024 * 1024;
+
+    private static final Duration EVICTION_GRACE_PERIOD = Duration.ofHours(1);
+    private static final Duration EVICTION_INTERVAL = Duration.ofHours(1);
+    private static final String LAST_USED_FILE_NAME = ".last-used";
+    private static final String LAST_EVICTED_FILE_NAME = ".last-evicted";
+    private static final String LOCK_FILE_NAME = ".lock";
+    private static final String EVICTED_DIR_PREFIX = ".evicted-";
+    // The directory of a package is at 'org/package-name/version/digest' in the cache.
+    private static final int PACKAGE_DIR_DEPTH = 4;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int DIGEST_LENGTH = 16;
+
+    private final Path cacheDirPath;
+    private final long maxSize;
+    private Path packageCacheDirPath;
+    private boolean used;
+
+    public SharedCompilationCache(Project project, Path cacheDirPath, long maxSize) {
+        super(project, cacheDirPath);
+        this.cacheDirPath = cacheDirPath;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public byte[] getBir(ModuleName moduleName) {
+        byte[] bir = super.getBir(moduleName);
+        if (bir.length != 0) {
+            markUsed();
+        }
+        return bir;
+    }
+
+    @Override
+    public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        super.cacheBir(moduleName, birContent);
+        markUsed();
+        evictIfNeeded();
+    }
+
+    @Override
+    protected Path packageCacheDirPath() {
+        if (packageCacheDirPath != null) {
+            return packageCacheDirPath;
+        }
+        packageCacheDirPath = super.packageCacheDirPath().resolve(computeCacheKey());
+        return packageCacheDirPath;
+    }
+
+    // Records the time the package is used at, which decides the order the packages are evicted in.
+    private void markUsed() {
+        if (used) {
+            return;
+        }
+        Path lastUsedFilePath = packageCacheDirPath().resolve(LAST_USED_FILE_NAME);
+        try {
+            if (Files.exists(lastUsedFilePath)) {
+                Files.setLastModifiedTime(lastUsedFilePath, FileTime.from(Instant.now()));
+            } else {
+                writeAtomically(lastUsedFilePath, new byte[0]);
+            }
+            used = true;
+        } catch (IOException e) {
+            // The package is evicted earlier than it would be otherwise.
+        }
+    }
+
+    private void evictIfNeeded() {
+        Path lastEvictedFilePath = cacheDirPath.resolve(LAST_EVICTED_FILE_NAME);
+        if (isEvictedRecently(lastEvictedFilePath)) {
+            return;
+        }
+        try (FileChannel lockChannel = FileChannel.open(cacheDirPath.resolve(LOCK_FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = lockChannel.tryLock()) {
+            // The cache is being evicted by another build if the lock cannot be acquired.
+            if (lock == null || isEvictedRecently(lastEvictedFilePath)) {
+                return;
+            }
+            evict();
+            if (Files.exists(lastEvictedFilePath)) {
+                Files.setLastModifiedTime(lastEvictedFilePath, FileTime.from(Instant.now()));
+            } else {
+                Files.createFile(lastEvictedFilePath);
+            }
+        } catch (IOException | OverlappingFileLockException e) {
+            // The cache is evicted by a later build.
+        }
+    }
+
+    private static boolean isEvictedRecently(Path lastEvictedFilePath) {
+        try {
+            FileTime lastEvictedTime = Files.getLastModifiedTime(lastEvictedFilePath);
+            return lastEvictedTime.toInstant().isAfter(Instant.now().minus(EVICTION_INTERVAL));
+        } catch (IOException e) {
+            // The cache has never been evicted.
+            return false;
+        }
+    }
+
+    private void evict() throws IOException {
+        deleteEvictedDirs();
+        List<CachedPackage> cachedPackages = new ArrayList<>();
+        long cacheSize = 0;
+        try (Stream<Path> paths = Files.find(cacheDirPath, PACKAGE_DIR_DEPTH, (path, attributes) ->
+                attributes.isDirectory() && cacheDirPath.relativize(path).getNameCount() == PACKAGE_DIR_DEPTH)) {
+            for (Path packageDirPath : paths.toList()) {
+                CachedPackage cachedPackage = readCachedPackage(packageDirPath);
+                cachedPackages.add(cachedPackage);
+                cacheSize += cachedPackage.size;
+            }
+        }
+        if (cacheSize <= maxSize) {
+            return;
+        }
+
+        FileTime evictableTime = FileTime.from(Instant.now().minus(EVICTION_GRACE_PERIOD));
+        cachedPackages.sort(Comparator.comparing(CachedPackage::lastUsedTime));
+        for (CachedPackage cachedPackage : cachedPackages) {
+            if (cacheSize <= maxSize || cachedPackage.lastUsedTime.compareTo(evictableTime) > 0) {
+                break;
+            }
+            if (cachedPackage.path.equals(packageCacheDirPath())) {
+                continue;
+            }
+            // The directory is moved before it is deleted, so that a build never finds a partially deleted package.
+            Path evictedDirPath = cacheDirPath.resolve(EVICTED_DIR_PREFIX + UUID.randomUUID());
+            try {
+                Files.move(cachedPackage.path, evictedDirPath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                continue;
+            }
+            ProjectUtils.deleteDirectory(evictedDirPath);
+            cacheSize -= cachedPackage.size;
+        }
+    }
+
+    private void deleteEvictedDirs() throws IOException {
+        try (Stream<Path> paths = Files.list(cacheDirPath)) {
+            paths.filter(path -> path.getFileName().toString().startsWith(EVICTED_DIR_PREFIX))
+                    .forEach(ProjectUtils::deleteDirectory);
+        }
+    }
+
+    private static CachedPackage readCachedPackage(Path packageDirPath) throws IOException {
+        Path lastUsedFilePath = packageDirPath.resolve(LAST_USED_FILE_NAME);
+        FileTime lastUsedTime = Files.getLastModifiedTime(
+                Files.exists(lastUsedFilePath) ? lastUsedFilePath : packageDirPath);
+        long size = 0;
+        try (Stream<Path> paths = Files.walk(packageDirPath)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                size += Files.size(path);
+            }
+        }
+        return new CachedPackage(packageDirPath, lastUsedTime, size);
+    }
+
+    // Computes the digest of the compiler version and the digest of the bala.
+    private String computeCacheKey() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            update(digest, RepoUtils.getBallerinaVersion().getBytes(StandardCharsets.UTF_8));
+            update(digest, getBalaDigest().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(), 0, DIGEST_LENGTH);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to compute the digest of the bala: " + project.sourceRoot(), e);
+        }
+    }
+
+    // Returns the digest written when the bala was extracted. The digest of a bala extracted without it is computed
+    // from its files once, and written for the later builds. The digest of a bala archive is that of the archive.
+    private String getBalaDigest() throws IOException, NoSuchAlgorithmException {
+        Path balaPath = project.sourceRoot();
+        if (!Files.isDirectory(balaPath)) {
+            return computeContentDigest(balaPath, List.of(balaPath));
+        }
+        Path balaDigestFilePath = balaPath.resolve(ProjectConstants.BALA_DIGEST_FILE_NAME);
+        if (Files.exists(balaDigestFilePath)) {
+            return Files.readString(balaDigestFilePath, StandardCharsets.UTF_8).trim();
+        }
+        List<Path> filePaths;
+        try (Stream<Path> paths = Files.walk(balaPath)) {
+            // The digest file being written by another build is excluded.
+            filePaths = paths.filter(path -> Files.isRegularFile(path) &&
+                    !path.getFileName().toString().startsWith(ProjectConstants.BALA_DIGEST_FILE_NAME))
+                    .sorted().toList();
+        }
+        String balaDigest = computeContentDigest(balaPath, filePaths);
+        try {
+            writeAtomically(balaDigestFilePath, balaDigest.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // The digest is computed again by the next build.
+        }
+        return balaDigest;
+    }
+
+    // Computes the digest of the given files of the bala, with the length of each value before it.
+    private static String computeContentDigest(Path balaPath, List<Path> filePaths)
+            throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        byte[] buffer = new byte[8192];
+        for (Path filePath : filePaths) {
+            String relativePath = balaPath.relativize(filePath).toString().replace(File.separatorChar, '/');
+            update(digest, relativePath.getBytes(StandardCharsets.UTF_8));
+            updateLength(digest, Files.size(filePath));
+            try (InputStream inputStream = Files.newInputStream(filePath)) {
+                int length;
+                while ((length = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, length);
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, byte[] value) {
+        updateLength(digest, value.length);
+        digest.update(value);
+    }
+
+    private static void updateLength(MessageDigest digest, long length) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            digest.update((byte) (length >>> shift));
+        }
+    }
+
+    private record CachedPackage(Path path, FileTime lastUsedTime, long size) {
+    }
+
+    /**
+     * A factory that creates instances of {@code SharedCompilationCache} for the given project.
+     *
+     * @since 2201.12.0
+     */
+    public static class SharedCompilationCacheFactory implements CompilationCacheFactory {
+        private final Path cacheDirPath;
+        private final long maxSize;
+
+        public SharedCompilationCacheFactory(Path cacheDirPath) {
+            this(cacheDirPath, DEFAULT_MAX_SIZE);
+        }
+
+        public SharedCompilationCacheFactory(Path cacheDirPath, long maxSize) {
+            this.cacheDirPath = cacheDirPath;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public CompilationCache createCompilationCache(Project project) {
+            return new SharedCompilationCache(project, cacheDirPath, maxSize);
+        }
+    }
+}
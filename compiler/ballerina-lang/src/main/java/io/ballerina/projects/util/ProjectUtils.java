@@ -76,11 +76,15 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -948,6 +952,9 @@ public final class ProjectUtils {
 
     /**
      * Extracts a .bala file into the provided destination directory.
+     * <p>
+     * The SHA-256 digest of the .bala file is written to the {@code .bala-digest} file of the destination directory,
+     * which identifies the contents of the extracted bala without reading its files again.
      *
      * @param balaFilePath .bala file path
      * @param balaFileDestPath directory into which the .bala should be extracted
@@ -960,8 +967,15 @@ public final class ProjectUtils {
             Files.createDirectories(balaFileDestPath);
         }
 
+        MessageDigest balaDigest;
+        try {
+            balaDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("failed to compute the digest of the bala: " + balaFilePath, e);
+        }
         byte[] buffer = new byte[1024 * 4];
-        try (FileInputStream fileInputStream = new FileInputStream(balaFilePath.toString())) {
+        try (DigestInputStream fileInputStream = new DigestInputStream(
+                new FileInputStream(balaFilePath.toString()), balaDigest)) {
             // Get the zip file content.
             try (ZipInputStream zipInputStream = new ZipInputStream(fileInputStream)) {
                 // Get the zipped file entry.
@@ -993,8 +1007,14 @@ public final class ProjectUtils {
                 }
                 // Close zip input stream.
                 zipInputStream.closeEntry();
+                // Read the rest of the .bala file, such as the central directory, so that the digest covers it.
+                while (fileInputStream.read(buffer) != -1) {
+                    // The digest is updated as the file is read.
+                }
             }
         }
+        Files.writeString(balaFileDestPath.resolve(ProjectConstants.BALA_DIGEST_FILE_NAME),
+                HexFormat.of().formatHex(balaDigest.digest()), StandardCharsets.UTF_8);
     }
 
     /**
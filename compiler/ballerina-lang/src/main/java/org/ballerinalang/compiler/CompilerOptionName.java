@@ -65,6 +65,8 @@ public enum CompilerOptionName {
     ENABLE_CACHE("enableCache"),
     REMOTE_MANAGEMENT("remoteManagement"),
 
+    COMPILATION_THREADS("compilationThreads"),
+
     /**
      * We've introduced this temporary option to support old-project structure and the new package structure.
      * If the option is set, then the compilation is initiated by the Project APT.
@@ -133,9 +133,10 @@ import org.wso2.ballerinalang.util.Flags;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -208,7 +209,7 @@ public class BIRPackageSymbolEnter {
     }
 
     public BPackageSymbol definePackage(PackageID packageId, byte[] packageBinaryContent) {
-        BPackageSymbol pkgSymbol = definePackage(packageId, new ByteArrayInputStream(packageBinaryContent));
+        BPackageSymbol pkgSymbol = definePackageSymbol(packageId, packageBinaryContent);
 
         // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
         byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
@@ -220,12 +221,13 @@ public class BIRPackageSymbolEnter {
         return pkgSymbol;
     }
 
-    private BPackageSymbol definePackage(PackageID packageId, InputStream programFileInStream) {
+    private BPackageSymbol definePackageSymbol(PackageID packageId, byte[] packageBinaryContent) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
-        try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
+        try (DataInputStream dataInStream = new DataInputStream(new ByteArrayInputStream(packageBinaryContent))) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
+            this.env.birContent = packageBinaryContent;
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
             this.env = prevEnv;
@@ -259,12 +261,12 @@ public class BIRPackageSymbolEnter {
 
     private BPackageSymbol definePackage(DataInputStream dataInStream, int pkgCpIndex) throws IOException {
 
-        PackageCPEntry pkgCpEntry = (PackageCPEntry) this.env.constantPool[pkgCpIndex];
+        PackageCPEntry pkgCpEntry = (PackageCPEntry) getCPEntry(pkgCpIndex);
 
-        String orgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String moduleName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.moduleNameCPIndex]).value;
-        String pkgVersion = ((StringCPEntry) this.env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String moduleName = getStringCPEntryValue(pkgCpEntry.moduleNameCPIndex);
+        String pkgVersion = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
 
         PackageID pkgId = createPackageID(orgName, pkgName, moduleName, pkgVersion);
         this.env.pkgSymbol = Symbols.createPackageSymbol(pkgId, this.symTable, COMPILED_SOURCE);
@@ -346,60 +348,84 @@ public class BIRPackageSymbolEnter {
         this.currentStructure = null;
     }
 
+    // Only the offsets of the constant pool entries are read up front, as most of the entries are used by the function
+    // bodies, which are not read to define the symbols. An entry is read from its offset when it is first used.
     private CPEntry[] readConstantPool(DataInputStream dataInStream) throws IOException {
         int constantPoolSize = dataInStream.readInt();
         CPEntry[] constantPool = new CPEntry[constantPoolSize];
+        int[] cpEntryOffsets = new int[constantPoolSize];
         this.env.constantPool = constantPool;
+        this.env.cpEntryOffsets = cpEntryOffsets;
         for (int i = 0; i < constantPoolSize; i++) {
+            cpEntryOffsets[i] = this.env.birContent.length - dataInStream.available();
             byte cpTag = dataInStream.readByte();
             CPEntry.Type cpEntryType = CPEntry.Type.values()[cpTag - 1];
-            constantPool[i] = readCPEntry(dataInStream, constantPool, cpEntryType, i);
+            dataInStream.skipNBytes(getCPEntrySize(dataInStream, cpEntryType));
         }
         return constantPool;
     }
 
-    private CPEntry readCPEntry(DataInputStream dataInStream,
-                                CPEntry[] constantPool,
-                                CPEntry.Type cpEntryType, int i) throws IOException {
+    private int getCPEntrySize(DataInputStream dataInStream, CPEntry.Type cpEntryType) throws IOException {
+        return switch (cpEntryType) {
+            case CP_ENTRY_INTEGER -> Long.BYTES;
+            case CP_ENTRY_FLOAT -> Double.BYTES;
+            case CP_ENTRY_BOOLEAN -> 1;
+            case CP_ENTRY_PACKAGE -> 4 * Integer.BYTES;
+            case CP_ENTRY_BYTE -> Integer.BYTES;
+            // The length of a string which is null is -1.
+            case CP_ENTRY_STRING, CP_ENTRY_SHAPE -> Math.max(dataInStream.readInt(), 0);
+        };
+    }
+
+    private CPEntry getCPEntry(int cpIndex) {
+        CPEntry cpEntry = this.env.constantPool[cpIndex];
+        if (cpEntry == null) {
+            cpEntry = readCPEntry(cpIndex);
+            this.env.constantPool[cpIndex] = cpEntry;
+        }
+        return cpEntry;
+    }
+
+    private CPEntry readCPEntry(int cpIndex) {
+        byte[] birContent = this.env.birContent;
+        int offset = this.env.cpEntryOffsets[cpIndex];
+        ByteBuffer cpEntryBuffer = ByteBuffer.wrap(birContent, offset, birContent.length - offset);
+        CPEntry.Type cpEntryType = CPEntry.Type.values()[cpEntryBuffer.get() - 1];
         switch (cpEntryType) {
             case CP_ENTRY_INTEGER:
-                return new CPEntry.IntegerCPEntry(dataInStream.readLong());
+                return new CPEntry.IntegerCPEntry(cpEntryBuffer.getLong());
             case CP_ENTRY_FLOAT:
-                return new CPEntry.FloatCPEntry(dataInStream.readDouble());
+                return new CPEntry.FloatCPEntry(cpEntryBuffer.getDouble());
             case CP_ENTRY_BOOLEAN:
-                return new CPEntry.BooleanCPEntry(dataInStream.readBoolean());
+                return new CPEntry.BooleanCPEntry(cpEntryBuffer.get() != 0);
             case CP_ENTRY_STRING:
-                int length = dataInStream.readInt();
+                int length = cpEntryBuffer.getInt();
                 String strValue = null;
 
                 // If the length of the bytes is -1, that means no UTF value has been written.
                 // i.e: string value represented by the UTF should be null.
                 // Therefore we read the UTF value only if the length >= 0.
                 if (length >= 0) {
-                    byte[] bytes = new byte[length];
-                    dataInStream.read(bytes, 0, length);
-                    strValue = new String(bytes);
+                    strValue = new String(birContent, cpEntryBuffer.position(), length, StandardCharsets.UTF_8);
                 }
                 return new CPEntry.StringCPEntry(strValue);
             case CP_ENTRY_PACKAGE:
-                return new CPEntry.PackageCPEntry(dataInStream.readInt(), dataInStream.readInt(),
-                        dataInStream.readInt(), dataInStream.readInt());
-            case CP_ENTRY_SHAPE:
-                env.unparsedBTypeCPs.put(i, readByteArray(dataInStream));
-                return null;
+                return new CPEntry.PackageCPEntry(cpEntryBuffer.getInt(), cpEntryBuffer.getInt(),
+                        cpEntryBuffer.getInt(), cpEntryBuffer.getInt());
             case CP_ENTRY_BYTE:
-                return new CPEntry.ByteCPEntry(dataInStream.readInt());
+                return new CPEntry.ByteCPEntry(cpEntryBuffer.getInt());
             default:
+                // Shapes are read by the type reader, see readBType().
                 throw new IllegalStateException("unsupported constant pool entry type: " +
                         cpEntryType.name());
         }
     }
 
-    private byte[] readByteArray(DataInputStream dataInStream) throws IOException {
-        int length = dataInStream.readInt();
-        byte[] bytes = new byte[length];
-        dataInStream.readFully(bytes);
-        return bytes;
+    private DataInputStream getShapeCPEntryStream(int cpIndex) {
+        // Skip the tag of the entry, and read the length of the shape.
+        int offset = this.env.cpEntryOffsets[cpIndex] + 1;
+        int length = ByteBuffer.wrap(this.env.birContent, offset, Integer.BYTES).getInt();
+        return new DataInputStream(new ByteArrayInputStream(this.env.birContent, offset + Integer.BYTES, length));
     }
 
     private void defineSymbols(DataInputStream dataInStream,
@@ -708,8 +734,7 @@ public class BIRPackageSymbolEnter {
             }
         }
         if (type == null) {
-            byte[] e = env.unparsedBTypeCPs.get(typeCpIndex);
-            type = new BIRTypeReader(new DataInputStream(new ByteArrayInputStream(e))).readType(typeCpIndex);
+            type = new BIRTypeReader(getShapeCPEntryStream(typeCpIndex)).readType(typeCpIndex);
             addShapeCP(type, typeCpIndex);
         }
         return type;
@@ -1112,30 +1137,30 @@ public class BIRPackageSymbolEnter {
     // private utility methods
     private String getStringCPEntryValue(DataInputStream dataInStream) throws IOException {
         int pkgNameCPIndex = dataInStream.readInt();
-        StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[pkgNameCPIndex];
+        StringCPEntry stringCPEntry = (StringCPEntry) getCPEntry(pkgNameCPIndex);
         return stringCPEntry.value;
     }
 
     private String getStringCPEntryValue(int cpIndex) {
-        StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[cpIndex];
+        StringCPEntry stringCPEntry = (StringCPEntry) getCPEntry(cpIndex);
         return stringCPEntry.value;
     }
 
     private long getIntCPEntryValue(DataInputStream dataInStream) throws IOException {
         int pkgNameCPIndex = dataInStream.readInt();
-        IntegerCPEntry intCPEntry = (IntegerCPEntry) this.env.constantPool[pkgNameCPIndex];
+        IntegerCPEntry intCPEntry = (IntegerCPEntry) getCPEntry(pkgNameCPIndex);
         return intCPEntry.value;
     }
 
     private int getByteCPEntryValue(DataInputStream dataInStream) throws IOException {
         int byteCpIndex = dataInStream.readInt();
-        ByteCPEntry byteCPEntry = (ByteCPEntry) this.env.constantPool[byteCpIndex];
+        ByteCPEntry byteCPEntry = (ByteCPEntry) getCPEntry(byteCpIndex);
         return byteCPEntry.value;
     }
 
     private String getFloatCPEntryValue(DataInputStream dataInStream) throws IOException {
         int floatCpIndex = dataInStream.readInt();
-        FloatCPEntry floatCPEntry = (FloatCPEntry) this.env.constantPool[floatCpIndex];
+        FloatCPEntry floatCPEntry = (FloatCPEntry) getCPEntry(floatCpIndex);
         return Double.toString(floatCPEntry.value);
     }
 
@@ -1157,9 +1182,10 @@ public class BIRPackageSymbolEnter {
      */
     private static class BIRPackageSymbolEnv {
         PackageID requestedPackageId;
-        Map<Integer, byte[]> unparsedBTypeCPs = new HashMap<>();
         BPackageSymbol pkgSymbol;
+        byte[] birContent;
         CPEntry[] constantPool;
+        int[] cpEntryOffsets;
         List<UnresolvedType> unresolvedTypes;
 
         BIRPackageSymbolEnv() {
@@ -2172,11 +2198,11 @@ public class BIRPackageSymbolEnter {
     }
 
     private PackageID getPackageId(int pkgCPIndex) {
-        PackageCPEntry pkgCpEntry = (PackageCPEntry) env.constantPool[pkgCPIndex];
-        String orgName = ((StringCPEntry) env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String moduleName = ((StringCPEntry) env.constantPool[pkgCpEntry.moduleNameCPIndex]).value;
-        String version = ((StringCPEntry) env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        PackageCPEntry pkgCpEntry = (PackageCPEntry) getCPEntry(pkgCPIndex);
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String moduleName = getStringCPEntryValue(pkgCpEntry.moduleNameCPIndex);
+        String version = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
         return new PackageID(Names.fromString(orgName), Names.fromString(pkgName),
                 Names.fromString(moduleName), Names.fromString(version), null);
     }
@@ -27,48 +27,20 @@ import org.objectweb.asm.ClassWriter;
  */
 public class BallerinaClassWriter extends ClassWriter {
 
-    private static final String OBJECT_CLASS = "java/lang/Object";
+    private final JvmTypeHierarchy typeHierarchy;
 
-    public BallerinaClassWriter(int flags) {
+    public BallerinaClassWriter(int flags, JvmTypeHierarchy typeHierarchy) {
         super(flags);
+        this.typeHierarchy = typeHierarchy;
     }
 
     /**
      * Returns the common super type of the two given types. If any of the classes are
-     * not found, assume its a generated or to-be generated class and return
+     * not found in the type hierarchy, assume its a generated class of another module and return
      * {@link Object} as the super type.
      */
     @Override
     protected String getCommonSuperClass(String type1, String type2) {
-
-        ClassLoader classLoader = getClassLoader();
-        Class<?> class1;
-
-        try {
-            class1 = Class.forName(type1.replace('/', '.'), false, classLoader);
-        } catch (Exception e) {
-            return OBJECT_CLASS;
-        }
-
-        Class<?> class2;
-        try {
-            class2 = Class.forName(type2.replace('/', '.'), false, classLoader);
-        } catch (Exception e) {
-            return OBJECT_CLASS;
-        }
-
-        if (class1.isAssignableFrom(class2)) {
-            return type1;
-        } else if (class2.isAssignableFrom(class1)) {
-            return type2;
-        } else if (class1.isInterface() || class2.isInterface()) {
-            return OBJECT_CLASS;
-        }
-
-        do {
-            class1 = class1.getSuperclass();
-        } while (!class1.isAssignableFrom(class2));
-
-        return class1.getName().replace('.', '/');
+        return typeHierarchy.getCommonSuperClass(type1, type2);
     }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.ClassWriter.COMPUTE_MAXS;
+import static org.objectweb.asm.Opcodes.ASM9;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
+
+/**
+ * Writes generated classes to the jar entries of a module, computing the stack map frames of the classes on a
+ * fork-join pool when more than one thread is used.
+ * <p>
+ * Computing the frames is the most expensive part of writing a class, and unlike generating the methods it does not
+ * use the state shared by the code generators. Hence, with more than one thread, the classes are generated without
+ * frames, and the frames of each class are computed from its bytes on the pool. The classes are added to the jar
+ * entries in the order they were emitted once all of them are written, so that the jar does not depend on the order
+ * the frames are computed in. With a single thread the frames are computed while the methods are generated and the
+ * classes are added to the jar entries as they are emitted.
+ * <p>
+ * The emitter must be closed once the classes are emitted, so that the pool is shut down even if generating the
+ * classes fails.
+ *
+ * @since 2201.12.0
+ */
+public class JvmClassEmitter implements AutoCloseable {
+
+    private final JvmPackageGen jvmPackageGen;
+    private final JarEntries jarEntries;
+    private final JvmTypeHierarchy typeHierarchy;
+    private final ForkJoinPool framePool;
+    private final List<EmittedClass> emittedClasses = new ArrayList<>();
+
+    JvmClassEmitter(JvmPackageGen jvmPackageGen, JarEntries jarEntries, JvmTypeHierarchy typeHierarchy,
+                    int threads) {
+        this.jvmPackageGen = jvmPackageGen;
+        this.jarEntries = jarEntries;
+        this.typeHierarchy = typeHierarchy;
+        this.framePool = threads > 1 ? new ForkJoinPool(threads) : null;
+    }
+
+    /**
+     * Returns a class writer for a class that is to be emitted.
+     *
+     * @return a class writer that computes the frames if they are not computed on the pool
+     */
+    ClassWriter newClassWriter() {
+        return new BallerinaClassWriter(framePool == null ? COMPUTE_FRAMES : COMPUTE_MAXS, typeHierarchy);
+    }
+
+    /**
+     * Emits a class written to a class writer returned by {@link #newClassWriter()}.
+     *
+     * @param className   internal name of the class
+     * @param classWriter class writer of the class, which should be ended
+     * @param node        BIR node of which the class is generated, used to report errors
+     */
+    void emit(String className, ClassWriter classWriter, BIRNode node) {
+        byte[] bytes = jvmPackageGen.getBytes(classWriter, node);
+        if (framePool == null) {
+            jarEntries.put(className + CLASS_FILE_SUFFIX, bytes);
+            return;
+        }
+        CompletableFuture<byte[]> classBytes = bytes.length == 0 ? CompletableFuture.completedFuture(bytes) :
+                CompletableFuture.supplyAsync(() -> computeFrames(className, bytes), framePool);
+        emittedClasses.add(new EmittedClass(className, node, classBytes));
+    }
+
+    /**
+     * Waits for the frames of the emitted classes to be computed, and adds the classes to the jar entries.
+     */
+    void finish() {
+        if (framePool == null) {
+            return;
+        }
+        try {
+            for (EmittedClass emittedClass : emittedClasses) {
+                byte[] bytes = jvmPackageGen.getBytes(() -> join(emittedClass.bytes), emittedClass.node);
+                jarEntries.put(emittedClass.className + CLASS_FILE_SUFFIX, bytes);
+            }
+        } finally {
+            emittedClasses.clear();
+        }
+    }
+
+    /**
+     * Shuts down the pool, discarding the frames that are still being computed.
+     */
+    @Override
+    public void close() {
+        if (framePool != null) {
+            framePool.shutdownNow();
+        }
+    }
+
+    private byte[] computeFrames(String className, byte[] classBytes) {
+        ClassWriter classWriter = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
+        ClassVisitor frameVisitor = new ClassVisitor(ASM9, classWriter) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                             String[] exceptions) {
+                MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
+                return new MethodVisitor(ASM9, mv) {
+                    @Override
+                    public void visitMaxs(int maxStack, int maxLocals) {
+                        JvmCodeGenUtil.visitMaxStackForMethod(mv, name, className);
+                    }
+                };
+            }
+        };
+        // The frames are computed again from the instructions, as the class was written without them.
+        new ClassReader(classBytes).accept(frameVisitor, ClassReader.SKIP_FRAMES);
+        return classWriter.toByteArray();
+    }
+
+    private static byte[] join(CompletableFuture<byte[]> classBytes) {
+        try {
+            return classBytes.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private record EmittedClass(String className, BIRNode node, CompletableFuture<byte[]> bytes) {
+    }
+}
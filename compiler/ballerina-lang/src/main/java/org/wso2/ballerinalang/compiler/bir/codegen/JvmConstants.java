@@ -68,6 +68,7 @@ public final class JvmConstants {
     public static final String TYPEDESC_VALUE = "io/ballerina/runtime/internal/values/TypedescValue";
     public static final String HANDLE_VALUE = "io/ballerina/runtime/internal/values/HandleValue";
     public static final String LOCK_STORE = "io/ballerina/runtime/internal/lock/BLockStore";
+    public static final String LOCK_VALUE = "io/ballerina/runtime/internal/lock/BLock";
     public static final String FUNCTION_POINTER = "io/ballerina/runtime/internal/values/FPValue";
     public static final String ARRAY_VALUE_IMPL = "io/ballerina/runtime/internal/values/ArrayValueImpl";
     public static final String TABLE_VALUE_IMPL = "io/ballerina/runtime/internal/values/TableValueImpl";
@@ -363,6 +364,7 @@ public final class JvmConstants {
     public static final String SERVICE_EP_AVAILABLE = "$serviceEPAvailable";
     public static final String BAL_RUNTIME_VAR_NAME = "$balRuntime";
     public static final String LOCK_STORE_VAR_NAME = "$lockStore";
+    public static final String LOCK_VAR_NAME_PREFIX = "$" + GLOBAL_LOCK_NAME;
     public static final String WORKER_CHANNEL_MAP_VAR_NAME = "$channelMap";
     public static final String SEND_WORKER_CHANNEL_NAMES_VAR_NAME = "$sendWorkerChannelNames";
     public static final String RECEIVE_WORKER_CHANNEL_NAMES_VAR_NAME = "$receiveWorkerChannelNames";
@@ -48,6 +48,7 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
@@ -80,6 +81,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -103,6 +105,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -267,6 +270,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.XML_SET_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getTypeDesc;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeDescClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.isOptionalRecordField;
 
 /**
  * Instruction generator helper class to hold its enclosing pkg and index map.
@@ -291,6 +295,7 @@ public class JvmInstructionGen {
     private final JvmTypeTestGen typeTestGen;
     private final Map<String, LambdaFunction> functions;
     private final String moduleInitClass;
+    private BIRNonTerminator.ConstantLoad lastConstantLoad;
 
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, PackageID currentPackage,
                              JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
@@ -1285,6 +1290,9 @@ public class JvmInstructionGen {
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
+        if (generateRecordFieldLoad(mapLoadIns)) {
+            return;
+        }
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
         BType varRefType = JvmCodeGenUtil.getImpliedType(mapLoadIns.rhsOp.variableDcl.type);
@@ -1317,6 +1325,57 @@ public class JvmInstructionGen {
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
     }
 
+    /**
+     * Generates a direct load of a required field of a record defined in the current module, when the field name is
+     * known at compile time. Record value classes keep required fields in typed Java fields, so the value is read
+     * from the field if the map is an instance of the record value class, and through the map otherwise.
+     *
+     * @param mapLoadIns map load instruction
+     * @return whether the load was generated
+     */
+    private boolean generateRecordFieldLoad(BIRNonTerminator.FieldAccess mapLoadIns) {
+        BType varRefType = JvmCodeGenUtil.getImpliedType(mapLoadIns.rhsOp.variableDcl.type);
+        if (varRefType.tag != TypeTags.RECORD || mapLoadIns.fillingRead || lastConstantLoad == null ||
+                lastConstantLoad.lhsOp.variableDcl != mapLoadIns.keyOp.variableDcl ||
+                !(lastConstantLoad.value instanceof String fieldName)) {
+            return false;
+        }
+        BRecordType recordType = (BRecordType) varRefType;
+        BField field = recordType.fields.get(fieldName);
+        String className = jvmPackageGen.lookupRecordValueClassName(recordType);
+        if (field == null || className == null || isOptionalRecordField(field)) {
+            return false;
+        }
+
+        Label slowPathLabel = new Label();
+        Label endLabel = new Label();
+        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
+        this.loadVar(mapLoadIns.rhsOp.variableDcl);
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, slowPathLabel);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        String fieldDesc = getTypeDesc(field.type);
+        this.mv.visitFieldInsn(GETFIELD, className, fieldName, fieldDesc);
+        if (!fieldDesc.equals(getTypeDesc(targetType))) {
+            jvmCastGen.addBoxInsn(this.mv, field.type);
+            jvmCastGen.addUnboxInsn(this.mv, targetType);
+        }
+        this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+        this.mv.visitJumpInsn(GOTO, endLabel);
+
+        // the value is of a different record class, hence read it through the map
+        this.mv.visitLabel(slowPathLabel);
+        this.loadVar(mapLoadIns.keyOp.variableDcl);
+        this.mv.visitTypeInsn(CHECKCAST, B_STRING_VALUE);
+        if (generateMapGet(varRefType, targetType)) {
+            jvmCastGen.addUnboxInsn(this.mv, targetType);
+        }
+        this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+        this.mv.visitLabel(endLabel);
+        return true;
+    }
+
     boolean generateMapGet(BType mapType, BType expectedType) {
         if (mapType.getKind() != TypeKind.RECORD) {
             this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, GET_BOXED_VALUE, PASS_OBJECT_RETURN_OBJECT, true);
@@ -2181,5 +2240,10 @@ public class JvmInstructionGen {
                 default -> throw new BLangCompilerException("JVM generation is not supported for operation " + inst);
             }
         }
+        lastConstantLoad = inst.getKind() == InstructionKind.CONST_LOAD ? (BIRNonTerminator.ConstantLoad) inst : null;
+    }
+
+    void resetLastConstantLoad() {
+        lastConstantLoad = null;
     }
 }
@@ -19,6 +19,7 @@ package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import io.ballerina.identifier.Utils;
 import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LinePosition;
 import io.ballerina.types.PredefinedType;
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.Flag;
@@ -727,7 +728,8 @@ class JvmObservabilityGen {
         observeStartCallTerminator.jClassName = OBSERVE_UTILS;
         observeStartCallTerminator.jMethodVMSig = START_RESOURCE_OBSERVATION;
         observeStartCallTerminator.name = START_RESOURCE_OBSERVATION_METHOD;
-        List<BIROperand> positionOperands = generatePositionArgs(pkg, func, observeStartBB, originalInsPosition);
+        List<BIROperand> positionOperands = generateObservationPositionArgs(pkg, func, observeStartBB,
+                originalInsPosition);
         List<BIROperand> otherOperands = Arrays.asList(serviceNameOperand, resourcePathOrFunctionOperand,
                 resourceAccessorOperand, isResourceOperand, isRemoteOperand);
         positionOperands.addAll(otherOperands);
@@ -765,7 +767,8 @@ class JvmObservabilityGen {
         observeStartCallTerminator.jClassName = OBSERVE_UTILS;
         observeStartCallTerminator.jMethodVMSig = START_CALLABLE_OBSERVATION;
         observeStartCallTerminator.name = START_CALLABLE_OBSERVATION_METHOD;
-        List<BIROperand> positionOperands = generatePositionArgs(pkg, func, observeStartBB, originalInsPosition);
+        List<BIROperand> positionOperands = generateObservationPositionArgs(pkg, func, observeStartBB,
+                originalInsPosition);
         List<BIROperand> otherOperands = Arrays.asList(objectOperand, actionOperand, isMainEntryPointOperand,
                 isRemoteOperand, isWorkerOperand);
         positionOperands.addAll(otherOperands);
@@ -1062,6 +1065,25 @@ class JvmObservabilityGen {
         return new ArrayList<>(Arrays.asList(pkgOperand, fileNameOperand, startLineOperand, startColOperand));
     }
 
+    /**
+     * Generate operands for the location of a start observation call. The position ID is generated here instead of
+     * at each observation, and the position is still loaded to the temporary variables used by the checkpoints.
+     *
+     * @param pkg Bir package
+     * @param func Bir Function
+     * @param observeStartBB Observe start basic block
+     * @param pos Location
+     * @return List of operands for the package ID and the position ID
+     */
+    private List<BIROperand> generateObservationPositionArgs(BIRPackage pkg, BIRFunction func,
+                                                             BIRBasicBlock observeStartBB, Location pos) {
+        BIROperand pkgOperand = generatePositionArgs(pkg, func, observeStartBB, pos).get(0);
+        LinePosition startLine = pos.lineRange().startLine();
+        BIROperand positionIdOperand = generateGlobalConstantOperand(pkg, symbolTable.stringType,
+                pos.lineRange().fileName() + ":" + (startLine.line() + 1) + ":" + (startLine.offset() + 1));
+        return new ArrayList<>(Arrays.asList(pkgOperand, positionIdOperand));
+    }
+
     private BIROperand getTempLocalVariable(String name, Location pos, Object value, BType variableType,
                                             BIRBasicBlock currentBB) {
         BIROperand birOperand = tempLocalVarsMap.get(name);
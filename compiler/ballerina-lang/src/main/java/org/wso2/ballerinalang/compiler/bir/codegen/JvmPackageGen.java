@@ -50,6 +50,7 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewInstance;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
@@ -62,6 +63,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -72,14 +74,17 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
@@ -98,7 +103,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModu
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.isExternFunc;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BALLERINA;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONSTANT_INIT_METHOD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CURRENT_MODULE_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ENCODED_DOT_CHARACTER;
@@ -107,6 +111,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_STATIC_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE_VAR_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAIN_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAX_GENERATED_METHODS_PER_CLASS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_EXECUTE_METHOD;
@@ -125,8 +130,10 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_CRE
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.addDefaultableBooleanVarsToSignature;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.rewriteRecordInits;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_LOCK_STORE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_MODULE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.injectDefaultParamInitsToAttachedFuncs;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethodGen.createExternalFunctionWrapper;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethodGen.injectDefaultParamInits;
@@ -146,20 +153,24 @@ public class JvmPackageGen {
     private final ConfigMethodGen configMethodGen;
     private final Map<String, BIRFunctionWrapper> birFunctionMap;
     private final Map<String, String> globalVarClassMap;
+    private final Map<BRecordType, String> recordValueClassMap;
     private final BLangDiagnosticLog dlog;
     private final Types types;
     private final boolean isRemoteMgtEnabled;
+    private final int classGenThreads;
     private final Env typeEnv;
 
     JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog, Types types,
-                  boolean isRemoteMgtEnabled) {
+                  boolean isRemoteMgtEnabled, int classGenThreads) {
         birFunctionMap = new HashMap<>();
         globalVarClassMap = new HashMap<>();
+        recordValueClassMap = new IdentityHashMap<>();
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
         this.types = types;
         this.isRemoteMgtEnabled = isRemoteMgtEnabled;
+        this.classGenThreads = classGenThreads;
         methodGen = new MethodGen(this, types);
         initMethodGen = new InitMethodGen(symbolTable);
         configMethodGen = new ConfigMethodGen();
@@ -239,15 +250,48 @@ public class JvmPackageGen {
         fv.visitEnd();
     }
 
+    private static void generateLockVariables(ClassWriter cw, Set<Integer> lockIds) {
+        for (Integer lockId : lockIds) {
+            FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC + ACC_FINAL,
+                    JvmCodeGenUtil.getLockVarName(lockId), GET_LOCK_VALUE, null, null);
+            fv.visitEnd();
+        }
+    }
+
+    private static Set<Integer> getLockIds(BIRPackage module) {
+        Set<Integer> lockIds = new TreeSet<>();
+        for (BIRFunction func : module.functions) {
+            addLockIds(func, lockIds);
+        }
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            for (BIRFunction func : typeDef.attachedFuncs) {
+                addLockIds(func, lockIds);
+            }
+        }
+        return lockIds;
+    }
+
+    private static void addLockIds(BIRFunction func, Set<Integer> lockIds) {
+        if (func == null) {
+            return;
+        }
+        for (BIRNode.BIRBasicBlock bb : func.basicBlocks) {
+            if (bb.terminator instanceof BIRTerminator.Lock lock) {
+                lockIds.add(lock.lockId);
+            }
+        }
+    }
+
     private static void generateStaticInitializer(ClassWriter cw, String className, BIRPackage birPackage,
                                                   boolean isInitClass, boolean serviceEPAvailable,
-                                                  JvmConstantsGen jvmConstantsGen) {
+                                                  JvmConstantsGen jvmConstantsGen, Set<Integer> lockIds) {
         if (!isInitClass) {
             return;
         }
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
         setConstantFields(mv, birPackage, jvmConstantsGen);
         setLockStoreField(mv, className);
+        setLockFields(mv, className, lockIds);
         setServiceEPAvailableField(cw, mv, serviceEPAvailable, className);
         setModuleStatusField(cw, mv, className);
         setCurrentModuleField(cw, mv, jvmConstantsGen, birPackage.packageID, className);
@@ -272,6 +316,15 @@ public class JvmPackageGen {
         mv.visitFieldInsn(PUTSTATIC, className, LOCK_STORE_VAR_NAME, GET_LOCK_STORE);
     }
 
+    private static void setLockFields(MethodVisitor mv, String className, Set<Integer> lockIds) {
+        for (Integer lockId : lockIds) {
+            mv.visitTypeInsn(NEW, LOCK_VALUE);
+            mv.visitInsn(DUP);
+            mv.visitMethodInsn(INVOKESPECIAL, LOCK_VALUE, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+            mv.visitFieldInsn(PUTSTATIC, className, JvmCodeGenUtil.getLockVarName(lockId), GET_LOCK_VALUE);
+        }
+    }
+
     private static void setServiceEPAvailableField(ClassWriter cw, MethodVisitor mv, boolean serviceEPAvailable,
                                                    String initClass) {
         FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, SERVICE_EP_AVAILABLE, "Z", null, null);
@@ -358,13 +411,14 @@ public class JvmPackageGen {
         return null;
     }
 
-    private void generateModuleClasses(BIRPackage module, JarEntries jarEntries, String moduleInitClass,
+    private void generateModuleClasses(BIRPackage module, JvmClassEmitter classEmitter, String moduleInitClass,
                                        String typesClass, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
                                        JvmConstantsGen jvmConstantsGen, Map<String, JavaClass> jvmClassMapping,
                                        boolean serviceEPAvailable, BIRFunction mainFunc, BIRFunction testExecuteFunc,
                                        AsyncDataCollector asyncDataCollector, Set<PackageID> immediateImports) {
+        Set<Integer> lockIds = getLockIds(module);
         jvmClassMapping.forEach((moduleClass, javaClass) -> {
-            ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+            ClassWriter cw = classEmitter.newClassWriter();
             asyncDataCollector.setCurrentSourceFileName(javaClass.sourceFileName);
             asyncDataCollector.setCurrentSourceFileWithoutExt(javaClass.cleanedBalFileName);
             boolean isInitClass = Objects.equals(moduleClass, moduleInitClass);
@@ -392,6 +446,7 @@ public class JvmPackageGen {
                     initMethodGen.generateGetTestExecutionState(cw, moduleClass);
                 }
                 generateLockStoreVariable(cw);
+                generateLockVariables(cw, lockIds);
                 initMethodGen.generateModuleInitializer(cw, module, moduleInitClass, typesClass);
                 initMethodGen.generateModuleStop(cw, moduleInitClass, asyncDataCollector, jvmConstantsGen);
                 ModuleStopMethodGen stopMethodGen = new ModuleStopMethodGen(jvmTypeGen, jvmConstantsGen);
@@ -408,10 +463,9 @@ public class JvmPackageGen {
                         , asyncDataCollector);
             }
             generateStaticInitializer(cw, moduleClass, module, isInitClass, serviceEPAvailable,
-                    jvmConstantsGen);
+                    jvmConstantsGen, lockIds);
             cw.visitEnd();
-            byte[] bytes = getBytes(cw, module);
-            jarEntries.put(moduleClass + CLASS_FILE_SUFFIX, bytes);
+            classEmitter.emit(moduleClass, cw, module);
         });
     }
 
@@ -601,9 +655,13 @@ public class JvmPackageGen {
     }
 
     public byte[] getBytes(ClassWriter cw, BIRNode node) {
+        return getBytes(cw::toByteArray, node);
+    }
+
+    byte[] getBytes(Supplier<byte[]> classBytes, BIRNode node) {
         byte[] result;
         try {
-            return cw.toByteArray();
+            return classBytes.get();
         } catch (MethodTooLargeException e) {
             String funcName = e.getMethodName();
             BIRFunction func = findFunction(node, funcName);
@@ -628,6 +686,7 @@ public class JvmPackageGen {
     private void clearPackageGenInfo() {
         birFunctionMap.clear();
         globalVarClassMap.clear();
+        recordValueClassMap.clear();
     }
 
     public BIRFunctionWrapper lookupBIRFunctionWrapper(String lookupKey) {
@@ -669,6 +728,26 @@ public class JvmPackageGen {
         }
     }
 
+    /**
+     * Returns the value class generated for a record type defined in the module being generated.
+     *
+     * @param recordType record type
+     * @return value class name, or null if the record type is not defined in the module being generated
+     */
+    public String lookupRecordValueClassName(BRecordType recordType) {
+        return recordValueClassMap.get(recordType);
+    }
+
+    private void populateRecordValueClassMap(BIRPackage module) {
+        String packageName = JvmCodeGenUtil.getPackageName(module.packageID);
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            if (typeDef.type.tag == TypeTags.RECORD) {
+                recordValueClassMap.put((BRecordType) typeDef.type,
+                        getTypeValueClassName(packageName, typeDef.internalName.value));
+            }
+        }
+    }
+
     CompiledJarFile generate(BIRPackage module) {
         boolean serviceEPAvailable = module.isListenerAvailable;
         for (BIRNode.BIRImportModule importModule : module.importModules) {
@@ -710,29 +789,38 @@ public class JvmPackageGen {
                 immediateImports, mainFunc, testExecuteFunc);
         TypeHashVisitor typeHashVisitor = new TypeHashVisitor();
         AsyncDataCollector asyncDataCollector = new AsyncDataCollector(module);
-        JvmConstantsGen jvmConstantsGen = new JvmConstantsGen(module, moduleInitClass, types, typeHashVisitor);
+        // the type hierarchy of the module is shared by all the class writers of the module
+        JvmTypeHierarchy typeHierarchy = new JvmTypeHierarchy();
+        JvmConstantsGen jvmConstantsGen = new JvmConstantsGen(module, moduleInitClass, types, typeHashVisitor,
+                typeHierarchy);
         JvmTypeGen jvmTypeGen = new JvmTypeGen(jvmConstantsGen, module.packageID, typeHashVisitor, symbolTable);
         JvmMethodsSplitter jvmMethodsSplitter = new JvmMethodsSplitter(this, jvmConstantsGen, module, moduleInitClass,
-                typeHashVisitor, jvmTypeGen);
+                typeHashVisitor, jvmTypeGen, typeHierarchy);
         configMethodGen.generateConfigMapper(immediateImports, module, moduleInitClass, jvmConstantsGen,
-                                             typeHashVisitor, jarEntries, symbolTable);
+                                             typeHashVisitor, jarEntries, symbolTable, typeHierarchy);
 
         // generate the shutdown listener class.
-        new ShutDownListenerGen().generateShutdownSignalListener(moduleInitClass, jarEntries);
+        new ShutDownListenerGen().generateShutdownSignalListener(moduleInitClass, jarEntries, typeHierarchy);
 
         removeSourceAnnotationTypeDefs(module.typeDefs);
+        populateRecordValueClassMap(module);
         // desugar the record init function
         rewriteRecordInits(typeEnv, module.typeDefs);
 
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, methodGen, typeHashVisitor, types);
         JvmCastGen jvmCastGen = new JvmCastGen(symbolTable, jvmTypeGen, types);
-        LambdaGen lambdaGen = new LambdaGen(this, jvmCastGen, module);
-        valueGen.generateValueClasses(jarEntries, jvmConstantsGen, jvmTypeGen, asyncDataCollector);
-
-        // generate module classes
-        generateModuleClasses(module, jarEntries, moduleInitClass, typesClass, jvmTypeGen, jvmCastGen, jvmConstantsGen,
-                jvmClassMapping, serviceEPAvailable, mainFunc, testExecuteFunc, asyncDataCollector, immediateImports);
+        LambdaGen lambdaGen = new LambdaGen(this, jvmCastGen, module, typeHierarchy);
+        valueGen.addValueClasses(typeHierarchy);
+        try (JvmClassEmitter classEmitter = new JvmClassEmitter(this, jarEntries, typeHierarchy, classGenThreads)) {
+            valueGen.generateValueClasses(classEmitter, jvmConstantsGen, jvmTypeGen, asyncDataCollector);
+
+            // generate module classes
+            generateModuleClasses(module, classEmitter, moduleInitClass, typesClass, jvmTypeGen, jvmCastGen,
+                    jvmConstantsGen, jvmClassMapping, serviceEPAvailable, mainFunc, testExecuteFunc,
+                    asyncDataCollector, immediateImports);
+            classEmitter.finish();
+        }
 
         List<BIRNode.BIRFunction> sortedFunctions = new ArrayList<>(module.functions);
         sortedFunctions.sort(NAME_HASH_COMPARATOR);
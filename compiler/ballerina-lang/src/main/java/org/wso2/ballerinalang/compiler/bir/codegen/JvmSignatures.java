@@ -66,6 +66,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HA
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LONG_STREAM;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LONG_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP;
@@ -243,6 +244,7 @@ public final class JvmSignatures {
     public static final String GET_JBOOLEAN_TYPE = "Z";
     public static final String GET_JSTRING = "()L" + STRING_VALUE + ";";
     public static final String GET_LOCK_STORE = "L" + LOCK_STORE + ";";
+    public static final String GET_LOCK_VALUE = "L" + LOCK_VALUE + ";";
     public static final String GET_MAIN_ARGS = "()[L" + OBJECT + ";";
     public static final String GET_MAP_ARRAY = "[L" + MAP_VALUE + ";";
     public static final String GET_MAP_VALUE = "L" + MAP_VALUE + ";";
@@ -461,9 +463,9 @@ public final class JvmSignatures {
     public static final String SET_TYPE_ID_SET = "(L" + TYPE_ID_SET + ";)V";
     public static final String SET_VALUE = "(L" + B_STRING_VALUE + ";L" + OBJECT + ";)V";
     public static final String START_CALLABLE_OBSERVATION = "(L" + BAL_ENV + ";L" + B_STRING_VALUE + ";L" +
-            B_STRING_VALUE + ";JJL" + B_OBJECT + ";L" + B_STRING_VALUE + ";ZZZ)V";
+            B_STRING_VALUE + ";L" + B_OBJECT + ";L" + B_STRING_VALUE + ";ZZZ)V";
     public static final String START_RESOURCE_OBSERVATION = "(L" + BAL_ENV + ";L" + B_STRING_VALUE + ";L" +
-            B_STRING_VALUE + ";JJL" + B_STRING_VALUE + ";L" + B_STRING_VALUE + ";L" + B_STRING_VALUE + ";ZZ)V";
+            B_STRING_VALUE + ";L" + B_STRING_VALUE + ";L" + B_STRING_VALUE + ";L" + B_STRING_VALUE + ";ZZ)V";
     public static final String STOP_OBSERVATION = "(L" + BAL_ENV + ";)V";
     public static final String STRING_BUILDER_APPEND = "(L" + STRING_VALUE + ";)L" + STRING_BUILDER + ";";
     public static final String TO_ARRAY = "([L" + OBJECT + ";)[L" + OBJECT + ";";
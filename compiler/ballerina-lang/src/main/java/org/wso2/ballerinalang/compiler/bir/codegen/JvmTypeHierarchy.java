@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.objectweb.asm.ClassReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.objectweb.asm.Opcodes.ACC_INTERFACE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
+
+/**
+ * Type hierarchy used to find the common super class of two classes when the stack map frames of a generated class
+ * are computed.
+ * <p>
+ * The hierarchy of a class available to the compiler, such as a runtime class, is read from its class file without
+ * loading the class, and is kept by the hierarchy, which is created for the generation of a module. Classes that are
+ * not found are looked up again, as they may become available later. The classes generated for a module are added to
+ * the hierarchy of the module before any of them are written, so that the frames do not depend on the order the
+ * classes are written in. The common super class of a class that is not in the hierarchy is
+ * {@code java/lang/Object}, as with a class of another module that is not available to the compiler.
+ *
+ * @since 2201.12.0
+ */
+public class JvmTypeHierarchy {
+
+    private static final TypeInfo UNKNOWN_TYPE = new TypeInfo(null, new String[0], false);
+
+    private final ClassLoader classLoader;
+    private final Map<String, TypeInfo> availableTypes = new ConcurrentHashMap<>();
+    private final Map<String, TypeInfo> generatedTypes = new ConcurrentHashMap<>();
+
+    JvmTypeHierarchy() {
+        this(JvmTypeHierarchy.class.getClassLoader());
+    }
+
+    JvmTypeHierarchy(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Adds a class that is generated for the current module.
+     *
+     * @param className  internal name of the class
+     * @param superName  internal name of the super class
+     * @param interfaces internal names of the interfaces implemented by the class
+     */
+    void addGeneratedClass(String className, String superName, String... interfaces) {
+        generatedTypes.put(className, new TypeInfo(superName, interfaces, false));
+    }
+
+    /**
+     * Returns the common super class of two classes, as required by {@link org.objectweb.asm.ClassWriter}.
+     *
+     * @param type1 internal name of a class
+     * @param type2 internal name of another class
+     * @return internal name of the common super class
+     */
+    String getCommonSuperClass(String type1, String type2) {
+        TypeInfo typeInfo1 = getTypeInfo(type1);
+        TypeInfo typeInfo2 = getTypeInfo(type2);
+        if (typeInfo1 == UNKNOWN_TYPE || typeInfo2 == UNKNOWN_TYPE) {
+            return OBJECT;
+        }
+        if (isAssignableFrom(type1, type2)) {
+            return type1;
+        }
+        if (isAssignableFrom(type2, type1)) {
+            return type2;
+        }
+        if (typeInfo1.isInterface || typeInfo2.isInterface) {
+            return OBJECT;
+        }
+        String superName = typeInfo1.superName;
+        while (superName != null && !isAssignableFrom(superName, type2)) {
+            superName = getTypeInfo(superName).superName;
+        }
+        return superName == null ? OBJECT : superName;
+    }
+
+    // Returns whether the given type is the sub type or one of the super types of the sub type.
+    private boolean isAssignableFrom(String type, String subType) {
+        Deque<String> pendingTypes = new ArrayDeque<>();
+        Set<String> visitedTypes = new HashSet<>();
+        pendingTypes.push(subType);
+        while (!pendingTypes.isEmpty()) {
+            String currentType = pendingTypes.pop();
+            if (currentType.equals(type)) {
+                return true;
+            }
+            if (!visitedTypes.add(currentType)) {
+                continue;
+            }
+            TypeInfo typeInfo = getTypeInfo(currentType);
+            if (typeInfo.superName != null) {
+                pendingTypes.push(typeInfo.superName);
+            }
+            for (String interfaceName : typeInfo.interfaces) {
+                pendingTypes.push(interfaceName);
+            }
+        }
+        return false;
+    }
+
+    private TypeInfo getTypeInfo(String className) {
+        TypeInfo typeInfo = generatedTypes.get(className);
+        if (typeInfo != null) {
+            return typeInfo;
+        }
+        typeInfo = availableTypes.get(className);
+        if (typeInfo != null) {
+            return typeInfo;
+        }
+        typeInfo = readTypeInfo(className);
+        if (typeInfo != UNKNOWN_TYPE) {
+            availableTypes.put(className, typeInfo);
+        }
+        return typeInfo;
+    }
+
+    private TypeInfo readTypeInfo(String className) {
+        try (InputStream classFile = classLoader.getResourceAsStream(className + ".class")) {
+            if (classFile == null) {
+                return UNKNOWN_TYPE;
+            }
+            ClassReader classReader = new ClassReader(classFile);
+            return new TypeInfo(classReader.getSuperName(), classReader.getInterfaces(),
+                    (classReader.getAccess() & ACC_INTERFACE) != 0);
+        } catch (IOException | RuntimeException e) {
+            // A class file that cannot be read is treated as a class that is not available.
+            return UNKNOWN_TYPE;
+        }
+    }
+
+    private record TypeInfo(String superName, String[] interfaces, boolean isInterface) {
+    }
+}
@@ -47,7 +47,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.List;
 import java.util.Map;
 
-import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
@@ -75,7 +74,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ABSTRACT_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIONS_FIELD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_OPTIONAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_OBJECT;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INSTANTIATE_FUNCTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
@@ -182,7 +180,30 @@ public class JvmValueGen {
         return (field.symbol.flags & BAL_OPTIONAL) == BAL_OPTIONAL;
     }
 
-    void generateValueClasses(JarEntries jarEntries, JvmConstantsGen jvmConstantsGen, JvmTypeGen jvmTypeGen,
+    /**
+     * Adds the value classes that are generated for the module to the type hierarchy of the module, with the same
+     * super classes and interfaces as they are generated with.
+     *
+     * @param typeHierarchy type hierarchy of the module
+     */
+    void addValueClasses(JvmTypeHierarchy typeHierarchy) {
+        String packageName = JvmCodeGenUtil.getPackageName(module.packageID);
+        for (BIRNode.BIRTypeDefinition typeDef : module.typeDefs) {
+            BType bType = typeDef.type;
+            String typeName = typeDef.internalName.value;
+            if (bType.tag == TypeTags.OBJECT && Symbols.isFlagOn(bType.tsymbol.flags, Flags.CLASS)) {
+                typeHierarchy.addGeneratedClass(getTypeValueClassName(packageName, typeName), ABSTRACT_OBJECT_VALUE,
+                        B_OBJECT);
+            } else if (bType.tag == TypeTags.RECORD) {
+                typeHierarchy.addGeneratedClass(getTypeValueClassName(packageName, typeName), MAP_VALUE_IMPL,
+                        MAP_VALUE);
+                typeHierarchy.addGeneratedClass(getTypeDescClassName(packageName, typeName), TYPEDESC_VALUE_IMPL,
+                        TYPEDESC_VALUE);
+            }
+        }
+    }
+
+    void generateValueClasses(JvmClassEmitter classEmitter, JvmConstantsGen jvmConstantsGen, JvmTypeGen jvmTypeGen,
                               AsyncDataCollector asyncDataCollector) {
         String packageName = JvmCodeGenUtil.getPackageName(module.packageID);
         module.typeDefs.forEach(optionalTypeDef -> {
@@ -198,23 +219,22 @@ public class JvmValueGen {
                     Symbols.isFlagOn(optionalTypeDef.type.tsymbol.flags, Flags.CLASS)) {
                 BObjectType objectType = (BObjectType) optionalTypeDef.type;
                 this.createObjectValueClasses(objectType, className, optionalTypeDef, jvmConstantsGen,
-                        asyncDataCollector, jarEntries);
+                        asyncDataCollector, classEmitter);
             } else if (bType.tag == TypeTags.RECORD) {
                 BRecordType recordType = (BRecordType) bType;
-                byte[] bytes = this.createRecordValueClass(recordType, className, optionalTypeDef, jvmTypeGen);
-                jarEntries.put(className + CLASS_FILE_SUFFIX, bytes);
+                this.createRecordValueClass(recordType, className, optionalTypeDef, jvmTypeGen, classEmitter);
                 String typedescClass = getTypeDescClassName(packageName, optionalTypeDef.internalName.value);
-                bytes = this.createRecordTypeDescClass(recordType, typedescClass, optionalTypeDef, jvmTypeGen);
-                jarEntries.put(typedescClass + CLASS_FILE_SUFFIX, bytes);
+                this.createRecordTypeDescClass(recordType, typedescClass, optionalTypeDef, jvmTypeGen, classEmitter);
             }
         });
     }
 
 
-    private byte[] createRecordTypeDescClass(BRecordType recordType, String className,
-                                             BIRNode.BIRTypeDefinition typeDef, JvmTypeGen jvmTypeGen) {
+    private void createRecordTypeDescClass(BRecordType recordType, String className,
+                                           BIRNode.BIRTypeDefinition typeDef, JvmTypeGen jvmTypeGen,
+                                           JvmClassEmitter classEmitter) {
 
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = classEmitter.newClassWriter();
         if (typeDef.pos != null) {
             cw.visitSource(typeDef.pos.lineRange().fileName(), null);
         } else {
@@ -231,7 +251,7 @@ public class JvmValueGen {
         this.createInstantiateMethodWithInitialValues(cw, recordType, typeDef, className);
 
         cw.visitEnd();
-        return jvmPackageGen.getBytes(cw, typeDef);
+        classEmitter.emit(className, cw, typeDef);
     }
 
     private void createInstantiateMethod(ClassWriter cw, BRecordType recordType, JvmTypeGen jvmTypeGen,
@@ -295,9 +315,9 @@ public class JvmValueGen {
         return getTypeValueClassName(JvmCodeGenUtil.getPackageName(packageID), typeName);
     }
 
-    private byte[] createRecordValueClass(BRecordType recordType, String className, BIRNode.BIRTypeDefinition typeDef,
-                                          JvmTypeGen jvmTypeGen) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+    private void createRecordValueClass(BRecordType recordType, String className, BIRNode.BIRTypeDefinition typeDef,
+                                        JvmTypeGen jvmTypeGen, JvmClassEmitter classEmitter) {
+        ClassWriter cw = classEmitter.newClassWriter();
         if (typeDef.pos != null) {
             cw.visitSource(typeDef.pos.lineRange().fileName(), null);
         } else {
@@ -323,8 +343,7 @@ public class JvmValueGen {
         this.createRecordConstructor(cw, INIT_TYPEDESC, className);
         this.createRecordConstructor(cw, TYPE_PARAMETER, className);
         cw.visitEnd();
-
-        return jvmPackageGen.getBytes(cw, typeDef);
+        classEmitter.emit(className, cw, typeDef);
     }
 
     private void createTypeDescConstructor(ClassWriter cw, String className) {
@@ -454,8 +473,8 @@ public class JvmValueGen {
 
     private void createObjectValueClasses(BObjectType objectType, String className, BIRNode.BIRTypeDefinition typeDef,
                                           JvmConstantsGen jvmConstantsGen, AsyncDataCollector asyncDataCollector,
-                                          JarEntries jarEntries) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+                                          JvmClassEmitter classEmitter) {
+        ClassWriter cw = classEmitter.newClassWriter();
         cw.visitSource(typeDef.pos.lineRange().fileName(), null);
 
         SymbolTable symbolTable = jvmPackageGen.symbolTable;
@@ -469,7 +488,7 @@ public class JvmValueGen {
         List<BIRNode.BIRFunction> attachedFuncs = typeDef.attachedFuncs;
         if (attachedFuncs.size() > MAX_METHOD_COUNT_PER_BALLERINA_OBJECT) {
             this.createObjectMethodsWithSplitClasses(cw, attachedFuncs, className, objectType, jvmTypeGen,
-                    jvmCastGen, jvmConstantsGen, asyncDataCollector, typeDef, jarEntries);
+                    jvmCastGen, jvmConstantsGen, asyncDataCollector, typeDef, classEmitter);
         } else {
             this.createObjectMethods(cw, attachedFuncs, className, objectType, jvmTypeGen, jvmCastGen,
                     jvmConstantsGen, asyncDataCollector);
@@ -481,7 +500,7 @@ public class JvmValueGen {
         jvmObjectGen.createAndSplitSetMethod(cw, fields, className, jvmCastGen);
         jvmObjectGen.createAndSplitSetOnInitializationMethod(cw, fields, className);
         cw.visitEnd();
-        jarEntries.put(className + CLASS_FILE_SUFFIX, jvmPackageGen.getBytes(cw, typeDef));
+        classEmitter.emit(className, cw, typeDef);
     }
 
     private void createObjectFields(ClassWriter cw, Map<String, BField> fields) {
@@ -509,9 +528,9 @@ public class JvmValueGen {
                                                      JvmConstantsGen jvmConstantsGen,
                                                      AsyncDataCollector asyncDataCollector,
                                                      BIRNode.BIRTypeDefinition typeDef,
-                                                     JarEntries jarEntries) {
+                                                     JvmClassEmitter classEmitter) {
         int splitClassNum = 1;
-        ClassWriter splitCW = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter splitCW = classEmitter.newClassWriter();
         splitCW.visitSource(typeDef.pos.lineRange().fileName(), null);
         String splitClassName = moduleClassName + SPLIT_CLASS_SUFFIX + splitClassNum;
         splitCW.visit(V21, ACC_PUBLIC + ACC_SUPER, splitClassName, null, OBJECT, null);
@@ -531,10 +550,9 @@ public class JvmValueGen {
             methodCountPerSplitClass++;
             if (methodCountPerSplitClass == MAX_METHOD_COUNT_PER_BALLERINA_OBJECT) {
                 splitCW.visitEnd();
-                byte[] splitBytes = jvmPackageGen.getBytes(splitCW, typeDef);
-                jarEntries.put(splitClassName + CLASS_FILE_SUFFIX, splitBytes);
+                classEmitter.emit(splitClassName, splitCW, typeDef);
                 splitClassNum++;
-                splitCW = new BallerinaClassWriter(COMPUTE_FRAMES);
+                splitCW = classEmitter.newClassWriter();
                 splitCW.visitSource(typeDef.pos.lineRange().fileName(), null);
                 splitClassName = moduleClassName + SPLIT_CLASS_SUFFIX + splitClassNum;
                 splitCW.visit(V21, ACC_PUBLIC + ACC_SUPER, splitClassName, null, OBJECT, null);
@@ -544,8 +562,7 @@ public class JvmValueGen {
         }
         if (methodCountPerSplitClass != 0) {
             splitCW.visitEnd();
-            byte[] splitBytes = jvmPackageGen.getBytes(splitCW, typeDef);
-            jarEntries.put(splitClassName + CLASS_FILE_SUFFIX, splitBytes);
+            classEmitter.emit(splitClassName, splitCW, typeDef);
         }
     }
 
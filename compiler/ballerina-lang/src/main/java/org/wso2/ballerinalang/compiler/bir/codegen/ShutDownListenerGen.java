@@ -50,9 +50,9 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_MET
  */
 public class ShutDownListenerGen {
 
-    void generateShutdownSignalListener(String initClass, JarEntries jarEntries) {
+    void generateShutdownSignalListener(String initClass, JarEntries jarEntries, JvmTypeHierarchy typeHierarchy) {
         String innerClassName = initClass + "$SignalListener";
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         cw.visit(V21, ACC_SUPER, innerClassName, null, JAVA_THREAD, null);
         FieldVisitor fv = cw.visitField(ACC_PRIVATE, BAL_RUNTIME_VAR_NAME, GET_BAL_RUNTIME, null, null);
         fv.visitEnd();
@@ -31,6 +31,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.TypeHashVisitor;
@@ -96,9 +97,10 @@ public class ConfigMethodGen {
 
     public void generateConfigMapper(Set<PackageID> imprtMods, BIRNode.BIRPackage pkg, String moduleInitClass,
                                      JvmConstantsGen jvmConstantsGen, TypeHashVisitor typeHashVisitor,
-                                     JarEntries jarEntries, SymbolTable symbolTable) {
+                                     JarEntries jarEntries, SymbolTable symbolTable,
+                                     JvmTypeHierarchy typeHierarchy) {
         innerClassName = JvmCodeGenUtil.getModuleLevelClassName(pkg.packageID, CONFIGURATION_CLASS_NAME);
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         cw.visit(V21, ACC_PUBLIC | ACC_SUPER, innerClassName, null, OBJECT, null);
         generateStaticFields(cw, innerClassName);
         MethodVisitor mv = cw.visitMethod(ACC_PRIVATE, JVM_INIT_METHOD, VOID_METHOD_DESC, null, null);
@@ -31,6 +31,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.LambdaClass;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.LambdaFunction;
@@ -97,11 +98,14 @@ public class LambdaGen {
     private final JvmPackageGen jvmPackageGen;
     private final JvmCastGen jvmCastGen;
     private final BIRNode.BIRPackage module;
+    private final JvmTypeHierarchy typeHierarchy;
 
-    public LambdaGen(JvmPackageGen jvmPackageGen, JvmCastGen jvmCastGen, BIRNode.BIRPackage module) {
+    public LambdaGen(JvmPackageGen jvmPackageGen, JvmCastGen jvmCastGen, BIRNode.BIRPackage module,
+                     JvmTypeHierarchy typeHierarchy) {
         this.jvmPackageGen = jvmPackageGen;
         this.jvmCastGen = jvmCastGen;
         this.module = module;
+        this.typeHierarchy = typeHierarchy;
     }
 
     public void generateLambdaClasses(AsyncDataCollector asyncDataCollector,
@@ -113,7 +117,7 @@ public class LambdaGen {
         for (Map.Entry<String, LambdaClass> entry : lambdaClasses.entrySet()) {
             String lambdaClassName = entry.getKey();
             LambdaClass lambdaClass = entry.getValue();
-            ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+            ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
             cw.visitSource(lambdaClass.sourceFileName, null);
             generateConstantsClassInit(cw, lambdaClassName);
             List<LambdaFunction> lambdaList = lambdaClass.lambdaFunctionList;
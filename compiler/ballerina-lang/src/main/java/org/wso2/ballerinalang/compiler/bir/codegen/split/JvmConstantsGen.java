@@ -20,6 +20,7 @@ package org.wso2.ballerinalang.compiler.bir.codegen.split;
 import org.ballerinalang.model.elements.PackageID;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.BTypeHashComparator;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.constants.JvmArrayTypeConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.constants.JvmBStringConstantsGen;
@@ -71,17 +72,22 @@ public class JvmConstantsGen {
     public final BTypeHashComparator bTypeHashComparator;
 
     public JvmConstantsGen(BIRNode.BIRPackage module, String moduleInitClass, Types types,
-                           TypeHashVisitor typeHashVisitor) {
+                           TypeHashVisitor typeHashVisitor, JvmTypeHierarchy typeHierarchy) {
         this.bTypeHashComparator = new BTypeHashComparator(typeHashVisitor);
-        this.stringConstantsGen = new JvmBStringConstantsGen(module.packageID);
-        this.moduleConstantsGen = new JvmModuleConstantsGen(module);
-        this.functionTypeConstantsGen = new JvmFunctionTypeConstantsGen(module.packageID, module.functions);
-        this.jvmBallerinaConstantsGen = new JvmBallerinaConstantsGen(module, moduleInitClass, this);
-        this.unionTypeConstantsGen = new JvmUnionTypeConstantsGen(module.packageID, bTypeHashComparator);
-        this.errorTypeConstantsGen = new JvmErrorTypeConstantsGen(module.packageID, bTypeHashComparator);
-        this.tupleTypeConstantsGen = new JvmTupleTypeConstantsGen(module.packageID, bTypeHashComparator);
-        this.arrayTypeConstantsGen = new JvmArrayTypeConstantsGen(module.packageID, bTypeHashComparator, types);
-        this.refTypeConstantsGen = new JvmRefTypeConstantsGen(module.packageID, bTypeHashComparator);
+        this.stringConstantsGen = new JvmBStringConstantsGen(module.packageID, typeHierarchy);
+        this.moduleConstantsGen = new JvmModuleConstantsGen(module, typeHierarchy);
+        this.functionTypeConstantsGen = new JvmFunctionTypeConstantsGen(module.packageID, module.functions,
+                typeHierarchy);
+        this.jvmBallerinaConstantsGen = new JvmBallerinaConstantsGen(module, moduleInitClass, this, typeHierarchy);
+        this.unionTypeConstantsGen = new JvmUnionTypeConstantsGen(module.packageID, bTypeHashComparator,
+                typeHierarchy);
+        this.errorTypeConstantsGen = new JvmErrorTypeConstantsGen(module.packageID, bTypeHashComparator,
+                typeHierarchy);
+        this.tupleTypeConstantsGen = new JvmTupleTypeConstantsGen(module.packageID, bTypeHashComparator,
+                typeHierarchy);
+        this.arrayTypeConstantsGen = new JvmArrayTypeConstantsGen(module.packageID, bTypeHashComparator, types,
+                typeHierarchy);
+        this.refTypeConstantsGen = new JvmRefTypeConstantsGen(module.packageID, bTypeHashComparator, typeHierarchy);
     }
 
     public int getBStringConstantVarIndex(String value) {
@@ -28,6 +28,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.BIRVarToJVMIndexMap;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.TypeDefHashComparator;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.types.JvmArrayTypeGen;
@@ -157,22 +158,25 @@ public class JvmCreateTypeGen {
     private final String anonTypesClass;
     private final String functionTypesClass;
     private final ClassWriter typesCw;
+    private final JvmTypeHierarchy typeHierarchy;
 
     public JvmCreateTypeGen(JvmTypeGen jvmTypeGen, JvmConstantsGen jvmConstantsGen, PackageID packageID,
-                            TypeHashVisitor typeHashVisitor) {
+                            TypeHashVisitor typeHashVisitor, JvmTypeHierarchy typeHierarchy) {
         this.jvmTypeGen = jvmTypeGen;
         this.jvmConstantsGen = jvmConstantsGen;
+        this.typeHierarchy = typeHierarchy;
         this.typesClass = getModuleLevelClassName(packageID, MODULE_TYPES_CLASS_NAME);
         this.anonTypesClass = getModuleLevelClassName(packageID, MODULE_ANON_TYPES_CLASS_NAME);
         this.functionTypesClass = getModuleLevelClassName(packageID, MODULE_FUNCTION_TYPES_CLASS_NAME);
-        this.jvmRecordTypeGen = new JvmRecordTypeGen(this, jvmTypeGen, jvmConstantsGen, packageID);
-        this.jvmObjectTypeGen = new JvmObjectTypeGen(this, typesClass, jvmTypeGen, jvmConstantsGen, packageID);
-        this.jvmErrorTypeGen = new JvmErrorTypeGen(this, jvmTypeGen, jvmConstantsGen, packageID);
-        this.jvmUnionTypeGen = new JvmUnionTypeGen(this, jvmTypeGen, jvmConstantsGen, packageID);
-        this.jvmTupleTypeGen = new JvmTupleTypeGen(this, jvmTypeGen, jvmConstantsGen, packageID);
+        this.jvmRecordTypeGen = new JvmRecordTypeGen(this, jvmTypeGen, jvmConstantsGen, packageID, typeHierarchy);
+        this.jvmObjectTypeGen = new JvmObjectTypeGen(this, typesClass, jvmTypeGen, jvmConstantsGen, packageID,
+                typeHierarchy);
+        this.jvmErrorTypeGen = new JvmErrorTypeGen(this, jvmTypeGen, jvmConstantsGen, packageID, typeHierarchy);
+        this.jvmUnionTypeGen = new JvmUnionTypeGen(this, jvmTypeGen, jvmConstantsGen, packageID, typeHierarchy);
+        this.jvmTupleTypeGen = new JvmTupleTypeGen(this, jvmTypeGen, jvmConstantsGen, packageID, typeHierarchy);
         this.jvmArrayTypeGen = new JvmArrayTypeGen(jvmTypeGen);
         this.jvmRefTypeGen = new JvmRefTypeGen(jvmTypeGen, jvmConstantsGen);
-        this.typesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.typesCw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         this.typeHashVisitor =  typeHashVisitor;
         this.typeDefHashComparator = new TypeDefHashComparator(typeHashVisitor);
         this.typesCw.visit(V21, ACC_PUBLIC + ACC_SUPER, typesClass, null, OBJECT, null);
@@ -493,7 +497,7 @@ public class JvmCreateTypeGen {
 
     public void generateAnonTypeClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
                                       String moduleInitClass, JarEntries jarEntries) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         cw.visit(V21, ACC_PUBLIC + ACC_SUPER, anonTypesClass, null, OBJECT, null);
         generateGetAnonTypeMainMethod(cw, module.typeDefs, moduleInitClass);
         cw.visitEnd();
@@ -649,7 +653,7 @@ public class JvmCreateTypeGen {
     // -------------------------------------------------------
     public void generateFunctionTypeClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
                                           JarEntries jarEntries, List<BIRNode.BIRFunction> sortedFunctions) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         cw.visit(V21, ACC_PUBLIC + ACC_SUPER, functionTypesClass, null, OBJECT, null);
         generateGetFunctionTypeMainMethod(cw, sortedFunctions);
         cw.visitEnd();
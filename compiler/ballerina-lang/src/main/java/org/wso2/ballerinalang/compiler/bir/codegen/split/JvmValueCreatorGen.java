@@ -23,6 +23,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.creators.JvmErrorCreatorGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.creators.JvmFunctionCallsCreatorsGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.creators.JvmObjectCreatorGen;
@@ -54,11 +55,11 @@ public class JvmValueCreatorGen {
     private final JvmErrorCreatorGen jvmErrorCreatorGen;
     private final JvmFunctionCallsCreatorsGen jvmFunctionCallsCreatorsGen;
 
-    public JvmValueCreatorGen(PackageID packageID, JvmTypeGen jvmTypeGen) {
-        this.jvmRecordCreatorGen = new JvmRecordCreatorGen(packageID, jvmTypeGen);
-        this.jvmObjectCreatorGen = new JvmObjectCreatorGen(packageID);
-        this.jvmErrorCreatorGen = new JvmErrorCreatorGen(packageID, jvmTypeGen);
-        this.jvmFunctionCallsCreatorsGen = new JvmFunctionCallsCreatorsGen(packageID);
+    public JvmValueCreatorGen(PackageID packageID, JvmTypeGen jvmTypeGen, JvmTypeHierarchy typeHierarchy) {
+        this.jvmRecordCreatorGen = new JvmRecordCreatorGen(packageID, jvmTypeGen, typeHierarchy);
+        this.jvmObjectCreatorGen = new JvmObjectCreatorGen(packageID, typeHierarchy);
+        this.jvmErrorCreatorGen = new JvmErrorCreatorGen(packageID, jvmTypeGen, typeHierarchy);
+        this.jvmFunctionCallsCreatorsGen = new JvmFunctionCallsCreatorsGen(packageID, typeHierarchy);
     }
 
     public void generateValueCreatorClasses(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
@@ -25,6 +25,7 @@ import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -85,12 +86,14 @@ public class JvmBStringConstantsGen {
     private final String surrogatesMethodsClass;
     private final Map<String, int[]> highSurrogatesMap = new HashMap<>();
     private final Map<String, Map<String, String>> largeStringVarMap = new HashMap<>();
+    private final JvmTypeHierarchy typeHierarchy;
     private int bStringConstantIndex = 0;
 
-    public JvmBStringConstantsGen(PackageID module) {
+    public JvmBStringConstantsGen(PackageID module, JvmTypeHierarchy typeHierarchy) {
         this.bStringVarIndexMap = new LinkedHashMap<>();
         this.stringConstantsClass = JvmCodeGenUtil.getModuleLevelClassName(module, MODULE_STRING_CONSTANT_CLASS_NAME);
         this.surrogatesMethodsClass = JvmCodeGenUtil.getModuleLevelClassName(module, MODULE_SURROGATES_CLASS_NAME);
+        this.typeHierarchy = typeHierarchy;
     }
 
     public int addBStringConstantVarIndex(String val) {
@@ -116,7 +119,7 @@ public class JvmBStringConstantsGen {
     }
 
     private void generateSurrogatesClass(JarEntries jarEntries) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         generateConstantsClassInit(cw, surrogatesMethodsClass);
 
         // Create methods to return int array to pass when creating non-Bmp string values.
@@ -249,7 +252,7 @@ public class JvmBStringConstantsGen {
             constantClassName = stringConstantsClass + UNDERSCORE + classIndex;
 
             if (bStringCount % MAX_STRINGS_PER_METHOD == 0) {
-                cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+                cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
                 generateConstantsClassInit(cw, constantClassName);
                 mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, B_STRING_INIT_METHOD_PREFIX, VOID_METHOD_DESC, null, null);
             }
@@ -23,6 +23,7 @@ import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 
@@ -51,13 +52,15 @@ public class JvmBallerinaConstantsGen {
     private final String moduleInitClass;
     private final JvmConstantsGen jvmConstantsGen;
     private final BIRNode.BIRPackage module;
+    private final JvmTypeHierarchy typeHierarchy;
 
     public JvmBallerinaConstantsGen(BIRNode.BIRPackage module, String moduleInitClass,
-                                    JvmConstantsGen jvmConstantsGen) {
+                                    JvmConstantsGen jvmConstantsGen, JvmTypeHierarchy typeHierarchy) {
         this.moduleInitClass = moduleInitClass;
         this.constantClass = getModuleLevelClassName(module.packageID, CONSTANTS_CLASS_NAME);
         this.jvmConstantsGen = jvmConstantsGen;
         this.module = module;
+        this.typeHierarchy = typeHierarchy;
     }
 
     public void generateConstantInit(JarEntries jarEntries) {
@@ -66,7 +69,7 @@ public class JvmBallerinaConstantsGen {
             return;
         }
 
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         generateConstantsClassInit(cw, constantClass);
         // Create multiple module constant init methods based on module count.
         generateConstantsInits(cw);
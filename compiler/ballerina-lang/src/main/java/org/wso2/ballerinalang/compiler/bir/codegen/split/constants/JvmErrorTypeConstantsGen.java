@@ -27,6 +27,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.BTypeHashComparator;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.types.JvmErrorTypeGen;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BErrorType;
@@ -69,10 +70,11 @@ public class JvmErrorTypeConstantsGen {
     private int methodCount = 1;
     private int constantIndex = 0;
 
-    public JvmErrorTypeConstantsGen(PackageID packageID, BTypeHashComparator bTypeHashComparator) {
+    public JvmErrorTypeConstantsGen(PackageID packageID, BTypeHashComparator bTypeHashComparator,
+                                    JvmTypeHierarchy typeHierarchy) {
         errorVarConstantsClass = JvmCodeGenUtil.getModuleLevelClassName(packageID,
                 JvmConstants.ERROR_TYPE_CONSTANT_CLASS_NAME);
-        cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         generateConstantsClassInit(cw, errorVarConstantsClass);
         mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, B_ERROR_TYPE_INIT_METHOD, VOID_METHOD_DESC, null, null);
         errorTypeVarMap = new TreeMap<>(bTypeHashComparator);
@@ -28,6 +28,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 
 import java.util.List;
@@ -62,16 +63,20 @@ public class JvmFunctionTypeConstantsGen {
 
     private final List<BIRNode.BIRFunction> functions;
 
+    private final JvmTypeHierarchy typeHierarchy;
+
     private JvmTypeGen jvmTypeGen;
 
-    public JvmFunctionTypeConstantsGen(PackageID module, List<BIRNode.BIRFunction> functions) {
+    public JvmFunctionTypeConstantsGen(PackageID module, List<BIRNode.BIRFunction> functions,
+                                       JvmTypeHierarchy typeHierarchy) {
         this.functionTypeConstantClass = JvmCodeGenUtil.getModuleLevelClassName(module,
                 FUNCTION_TYPE_CONSTANT_CLASS_NAME);
         this.functions = functions;
+        this.typeHierarchy = typeHierarchy;
     }
 
     public void generateClass(JarEntries jarEntries) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         cw.visit(V1_8, ACC_PUBLIC | ACC_SUPER, functionTypeConstantClass, null, OBJECT, null);
 
         MethodVisitor mv = cw.visitMethod(ACC_PRIVATE, JVM_INIT_METHOD, "()V", null, null);
@@ -28,6 +28,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 
 import java.util.HashMap;
@@ -69,10 +70,12 @@ public class JvmModuleConstantsGen {
     private final HashMap<PackageID, String> moduleVarMap;
     private final String moduleConstantClass;
     private final AtomicInteger constantIndex = new AtomicInteger();
+    private final JvmTypeHierarchy typeHierarchy;
 
-    public JvmModuleConstantsGen(BIRNode.BIRPackage module) {
+    public JvmModuleConstantsGen(BIRNode.BIRPackage module, JvmTypeHierarchy typeHierarchy) {
         this.moduleVarMap = new HashMap<>();
         this.moduleConstantClass = getModuleLevelClassName(module.packageID, MODULE_CONSTANT_CLASS_NAME);
+        this.typeHierarchy = typeHierarchy;
     }
 
     public String addModule(PackageID packageID) {
@@ -85,7 +88,7 @@ public class JvmModuleConstantsGen {
         if (moduleVarMap.isEmpty()) {
             return;
         }
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         generateConstantsClassInit(cw, moduleConstantClass);
 
         moduleVarMap.values().forEach(moduleVar -> visitModuleField(cw, moduleVar));
@@ -26,6 +26,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.BIRVarToJVMIndexMap;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmCreateTypeGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
@@ -68,16 +69,18 @@ public class JvmErrorCreatorGen {
 
     private final String errorsClass;
     private final JvmTypeGen jvmTypeGen;
+    private final JvmTypeHierarchy typeHierarchy;
 
-    public JvmErrorCreatorGen(PackageID packageID, JvmTypeGen jvmTypeGen) {
+    public JvmErrorCreatorGen(PackageID packageID, JvmTypeGen jvmTypeGen, JvmTypeHierarchy typeHierarchy) {
        this.errorsClass = getModuleLevelClassName(packageID, MODULE_ERRORS_CREATOR_CLASS_NAME);
         this.jvmTypeGen = jvmTypeGen;
+        this.typeHierarchy = typeHierarchy;
     }
 
     public void generateErrorsClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
                                     JarEntries jarEntries,
                                     List<BIRNode.BIRTypeDefinition> errorTypeDefList, SymbolTable symbolTable) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         cw.visit(V21, ACC_PUBLIC + ACC_SUPER, errorsClass, null, OBJECT, null);
         generateCreateErrorMethods(cw, errorTypeDefList, errorsClass, symbolTable);
         cw.visitEnd();
@@ -27,6 +27,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.model.BIRFunctionWrapper;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmCreateTypeGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
@@ -66,15 +67,17 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.FUNCTION
 public class JvmFunctionCallsCreatorsGen {
 
     private final String functionCallsClass;
+    private final JvmTypeHierarchy typeHierarchy;
 
-    public JvmFunctionCallsCreatorsGen(PackageID packageID) {
+    public JvmFunctionCallsCreatorsGen(PackageID packageID, JvmTypeHierarchy typeHierarchy) {
         this.functionCallsClass = getModuleLevelClassName(packageID, MODULE_FUNCTION_CALLS_CLASS_NAME);
+        this.typeHierarchy = typeHierarchy;
     }
 
     public void generateFunctionCallsClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
                                            JarEntries jarEntries, JvmCastGen jvmCastGen,
                                            List<BIRNode.BIRFunction> sortedFunctions) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         cw.visit(V21, ACC_PUBLIC + ACC_SUPER, functionCallsClass, null, OBJECT, null);
         createAndSplitFunctionCallMethod(cw, module.packageID, sortedFunctions, jvmPackageGen, jvmCastGen);
         cw.visitEnd();
@@ -26,6 +26,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmCreateTypeGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
@@ -72,15 +73,17 @@ public class JvmRecordCreatorGen {
 
     private final String recordsClass;
     private final JvmTypeGen jvmTypeGen;
+    private final JvmTypeHierarchy typeHierarchy;
 
-    public JvmRecordCreatorGen(PackageID packageID, JvmTypeGen jvmTypeGen) {
+    public JvmRecordCreatorGen(PackageID packageID, JvmTypeGen jvmTypeGen, JvmTypeHierarchy typeHierarchy) {
         this.recordsClass = getModuleLevelClassName(packageID, MODULE_RECORDS_CREATOR_CLASS_NAME);
         this.jvmTypeGen = jvmTypeGen;
+        this.typeHierarchy = typeHierarchy;
     }
 
     public void generateRecordsClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
                                      JarEntries jarEntries, List<BIRTypeDefinition> recordTypeDefList) {
-        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         cw.visit(V21, ACC_PUBLIC + ACC_SUPER, recordsClass, null, OBJECT, null);
         generateCreateRecordMethods(cw, recordTypeDefList, recordsClass);
         cw.visitEnd();
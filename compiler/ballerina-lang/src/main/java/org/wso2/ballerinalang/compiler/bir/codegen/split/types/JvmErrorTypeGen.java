@@ -25,6 +25,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmCreateTypeGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
@@ -68,12 +69,12 @@ public class JvmErrorTypeGen {
     private final  JvmConstantsGen jvmConstantsGen;
 
     public JvmErrorTypeGen(JvmCreateTypeGen jvmCreateTypeGen, JvmTypeGen jvmTypeGen, JvmConstantsGen jvmConstantsGen,
-                           PackageID packageID) {
+                           PackageID packageID, JvmTypeHierarchy typeHierarchy) {
         this.errorTypesClass = getModuleLevelClassName(packageID, MODULE_ERROR_TYPES_CLASS_NAME);
         this.jvmCreateTypeGen = jvmCreateTypeGen;
         this.jvmTypeGen = jvmTypeGen;
         this.jvmConstantsGen = jvmConstantsGen;
-        this.errorTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.errorTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         this.errorTypesCw.visit(V21, ACC_PUBLIC + ACC_SUPER, errorTypesClass, null, OBJECT, null);
     }
 
@@ -24,6 +24,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.BIRVarToJVMIndexMap;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmCreateTypeGen;
@@ -115,13 +116,13 @@ public class JvmObjectTypeGen {
 
     public JvmObjectTypeGen(JvmCreateTypeGen jvmCreateTypeGen, String typesClass, JvmTypeGen jvmTypeGen,
                             JvmConstantsGen jvmConstantsGen
-            , PackageID packageID) {
+            , PackageID packageID, JvmTypeHierarchy typeHierarchy) {
         this.objectTypesClass = getModuleLevelClassName(packageID, MODULE_OBJECT_TYPES_CLASS_NAME);
         this.typesClass = typesClass;
         this.jvmCreateTypeGen = jvmCreateTypeGen;
         this.jvmTypeGen = jvmTypeGen;
         this.jvmConstantsGen = jvmConstantsGen;
-        this.objectTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.objectTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         this.objectTypesCw.visit(V21, ACC_PUBLIC + ACC_SUPER, objectTypesClass, null, OBJECT, null);
     }
 
@@ -24,6 +24,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmCreateTypeGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
@@ -80,12 +81,12 @@ public class JvmTupleTypeGen {
     private final  JvmConstantsGen jvmConstantsGen;
 
     public JvmTupleTypeGen(JvmCreateTypeGen jvmCreateTypeGen, JvmTypeGen jvmTypeGen, JvmConstantsGen jvmConstantsGen,
-                           PackageID packageID) {
+                           PackageID packageID, JvmTypeHierarchy typeHierarchy) {
         this.tupleTypesClass = getModuleLevelClassName(packageID, MODULE_TUPLE_TYPES_CLASS_NAME);
         this.jvmCreateTypeGen = jvmCreateTypeGen;
         this.jvmTypeGen = jvmTypeGen;
         this.jvmConstantsGen = jvmConstantsGen;
-        this.tupleTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.tupleTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         this.tupleTypesCw.visit(V21, ACC_PUBLIC + ACC_SUPER, tupleTypesClass, null, OBJECT, null);
     }
 
@@ -24,6 +24,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeHierarchy;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmCreateTypeGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
@@ -68,12 +69,12 @@ public class JvmUnionTypeGen {
     private final  JvmConstantsGen jvmConstantsGen;
 
     public JvmUnionTypeGen(JvmCreateTypeGen jvmCreateTypeGen, JvmTypeGen jvmTypeGen, JvmConstantsGen jvmConstantsGen,
-                           PackageID packageID) {
+                           PackageID packageID, JvmTypeHierarchy typeHierarchy) {
         this.unionTypesClass = getModuleLevelClassName(packageID, MODULE_UNION_TYPES_CLASS_NAME);
         this.jvmCreateTypeGen = jvmCreateTypeGen;
         this.jvmTypeGen = jvmTypeGen;
         this.jvmConstantsGen = jvmConstantsGen;
-        this.unionTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        this.unionTypesCw = new BallerinaClassWriter(COMPUTE_FRAMES, typeHierarchy);
         this.unionTypesCw.visit(V21, ACC_PUBLIC + ACC_SUPER, unionTypesClass, null, OBJECT, null);
     }
 
@@ -19,11 +19,16 @@
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +44,8 @@ public class BIRLockOptimizer extends BIRVisitor {
     private final List<BIRTerminator.Lock> lockList = new ArrayList<>();
     private final Map<BIRTerminator.Lock, Integer> lockToSetMap = new HashMap<>();
     private final Map<Integer, List<BIRTerminator.Lock>> setToLockMap = new HashMap<>();
+    private final Map<BIRTerminator.Lock, BIRNode.BIRFunction> lockToFunctionMap = new HashMap<>();
+    private BIRNode.BIRFunction currentFunction;
     private int setId = -1;
 
     public void optimizeNode(BIRNode node) {
@@ -52,6 +59,7 @@ public class BIRLockOptimizer extends BIRVisitor {
     private void optimizeLocks() {
         analyzeLocks();
         propagateLocks();
+        markReadOnlyLocks();
     }
 
     private void analyzeLocks() {
@@ -73,6 +81,91 @@ public class BIRLockOptimizer extends BIRVisitor {
         }
     }
 
+    private void markReadOnlyLocks() {
+        for (BIRTerminator.Lock lock : lockList) {
+            lock.readOnly = isReadOnlyLockBlock(lock, lockToFunctionMap.get(lock));
+        }
+    }
+
+    /**
+     * Checks whether the statements guarded by the given lock only read the variables they access. Such a lock can
+     * be acquired as a shared read lock. A lock block containing calls or nested locks is never considered read-only
+     * so that a read lock is never held while trying to acquire the write lock of the same lock.
+     *
+     * @param lock     lock terminator
+     * @param function function containing the lock
+     * @return true if the lock block does not mutate any value
+     */
+    private boolean isReadOnlyLockBlock(BIRTerminator.Lock lock, BIRNode.BIRFunction function) {
+        if (function == null) {
+            return false;
+        }
+        Set<BIRNode.BIRBasicBlock> visitedBBs = new HashSet<>();
+        Deque<BIRNode.BIRBasicBlock> bbsToVisit = new ArrayDeque<>();
+        bbsToVisit.push(lock.lockedBB);
+        while (!bbsToVisit.isEmpty()) {
+            BIRNode.BIRBasicBlock bb = bbsToVisit.pop();
+            if (!visitedBBs.add(bb)) {
+                continue;
+            }
+            for (BIRNonTerminator instruction : bb.instructions) {
+                if (isMutatingInstruction(instruction)) {
+                    return false;
+                }
+            }
+            BIRTerminator terminator = bb.terminator;
+            if (terminator == null) {
+                continue;
+            }
+            switch (terminator.kind) {
+                case UNLOCK:
+                    if (((BIRTerminator.Unlock) terminator).relatedLock != lock) {
+                        return false;
+                    }
+                    continue;
+                case GOTO:
+                case BRANCH:
+                case RETURN:
+                case PANIC:
+                    break;
+                default:
+                    return false;
+            }
+            for (BIRNode.BIRBasicBlock nextBB : terminator.getNextBasicBlocks()) {
+                bbsToVisit.push(nextBB);
+            }
+            addErrorTargetBBs(function, bb, bbsToVisit);
+        }
+        return true;
+    }
+
+    private void addErrorTargetBBs(BIRNode.BIRFunction function, BIRNode.BIRBasicBlock bb,
+                                   Deque<BIRNode.BIRBasicBlock> bbsToVisit) {
+        int bbIndex = function.basicBlocks.indexOf(bb);
+        for (BIRNode.BIRErrorEntry errorEntry : function.errorTable) {
+            int trapIndex = function.basicBlocks.indexOf(errorEntry.trapBB);
+            int endIndex = function.basicBlocks.indexOf(errorEntry.endBB);
+            if (trapIndex <= bbIndex && bbIndex <= endIndex) {
+                bbsToVisit.push(errorEntry.targetBB);
+            }
+        }
+    }
+
+    private boolean isMutatingInstruction(BIRNonTerminator instruction) {
+        if (instruction.lhsOp != null && instruction.lhsOp.variableDcl.kind == VarKind.GLOBAL) {
+            return true;
+        }
+        // A filling read adds the filler value of a missing member to the container it reads from
+        if (instruction instanceof BIRNonTerminator.FieldAccess fieldAccess && fieldAccess.fillingRead) {
+            return true;
+        }
+        return switch (instruction.kind) {
+            case MAP_STORE, ARRAY_STORE, OBJECT_STORE, XML_SEQ_STORE, XML_ATTRIBUTE_STORE, TABLE_STORE, PLATFORM ->
+                    true;
+            default -> false;
+        };
+    }
+
     private void analyzeVisitedLock(int lockListIndex) {
         BIRTerminator.Lock currentLock = lockList.get(lockListIndex);
         int previousSetId = setId;
@@ -170,6 +263,7 @@ public class BIRLockOptimizer extends BIRVisitor {
 
     @Override
     public void visit(BIRNode.BIRFunction birFunction) {
+        currentFunction = birFunction;
         birFunction.basicBlocks.forEach(bb -> bb.accept(this));
     }
 
@@ -206,6 +300,7 @@ public class BIRLockOptimizer extends BIRVisitor {
     @Override
     public void visit(BIRTerminator.Lock lock) {
         lockList.add(lock);
+        lockToFunctionMap.put(lock, currentFunction);
     }
 
     @Override
@@ -23,6 +23,7 @@ import io.ballerina.types.SemTypes;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
@@ -37,6 +38,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
@@ -48,6 +50,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BSequenceType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleMember;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
@@ -68,6 +71,7 @@ import org.wso2.ballerinalang.compiler.tree.BLangTableKeySpecifier;
 import org.wso2.ballerinalang.compiler.tree.BLangTupleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangXMLNS;
+import org.wso2.ballerinalang.compiler.tree.SimpleBLangNodeAnalyzer;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangCollectClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangDoClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangFromClause;
@@ -84,6 +88,7 @@ import org.wso2.ballerinalang.compiler.tree.clauses.BLangOrderByClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangOrderKey;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangSelectClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangWhereClause;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangAccessExpression;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangAlternateWorkerReceive;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangAnnotAccessExpr;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangArrowFunction;
@@ -185,6 +190,7 @@ import org.wso2.ballerinalang.compiler.tree.statements.BLangTupleDestructure;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangTupleVariableDef;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangWhile;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangXMLNSStatement;
+import org.wso2.ballerinalang.compiler.tree.types.BLangArrayType;
 import org.wso2.ballerinalang.compiler.tree.types.BLangErrorType;
 import org.wso2.ballerinalang.compiler.tree.types.BLangLetVariable;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
@@ -203,6 +209,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.UNDERSCORE;
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -221,8 +228,10 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
+    private static final Name QUERY_CREATE_ORDER_BY_LIMIT_FUNCTION = new Name("createOrderByLimitFunction");
     private static final Name QUERY_CREATE_GROUP_BY_FUNCTION = new Name("createGroupByFunction");
     private static final Name QUERY_CREATE_COLLECT_FUNCTION = new Name("createCollectFunction");
+    private static final Name QUERY_GET_AGGREGATED_COUNT_FUNCTION = new Name("getAggregatedCount");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_ON_CONFLICT_FUNCTION = new Name("createOnConflictFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
@@ -241,7 +250,27 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_GET_STREAM_FOR_ON_CONFLICT_FROM_PIPELINE_FUNCTION = 
             new Name("getStreamForOnConflictFromPipeline");
     private static final Name QUERY_GET_QUERY_ERROR_ROOT_CAUSE_FUNCTION = new Name("getQueryErrorRootCause");
+    private static final Name QUERY_CREATE_SLOT_FRAME_PIPELINE_FUNCTION = new Name("createSlotFramePipeline");
+    private static final Name QUERY_ADD_SLOT_FRAME_INPUT_FUNCTION = new Name("addSlotFrameInputFunction");
+    private static final Name QUERY_ADD_SLOT_FRAME_LET_FUNCTION = new Name("addSlotFrameLetFunction");
+    private static final Name QUERY_ADD_SLOT_FRAME_FILTER_FUNCTION = new Name("addSlotFrameFilterFunction");
+    private static final Name QUERY_ADD_SLOT_FRAME_LIMIT_FUNCTION = new Name("addSlotFrameLimitFunction");
+    private static final Name QUERY_ADD_SLOT_FRAME_SELECT_FUNCTION = new Name("addSlotFrameSelectFunction");
+    private static final Name QUERY_GET_STREAM_FROM_SLOT_FRAME_PIPELINE_FUNCTION =
+            new Name("getStreamFromSlotFramePipeline");
+    private static final Name QUERY_GET_INDEXED_ROWS_FUNCTION = new Name("getIndexedRows");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
+    private static final String FRAME_INPUT_KEY = "value";
+    private static final String FRAME_VALUE_KEY = "$value$";
+    // Slots of the input and the selected value in a slot frame, which are the same in SlotFramePipeline.
+    private static final int FRAME_INPUT_SLOT = 0;
+    private static final int FRAME_VALUE_SLOT = 1;
+    // Aggregate functions of which the result is computed while grouping, as in GroupAggregator.
+    private static final String AGGREGATE_SUM = "sum";
+    private static final String AGGREGATE_MAX = "max";
+    private static final String AGGREGATE_MIN = "min";
+    private static final String AGGREGATE_COUNT = "count";
+    private static final String NO_AGGREGATE = "";
     private static final Name QUERY_BODY_DISTINCT_ERROR_NAME = new Name("Error");
     private static final Name QUERY_PIPELINE_DISTINCT_ERROR_NAME = new Name("CompleteEarlyError");
     private static final Name QUERY_DISTINCT_UNION_ERROR_NAME = new Name("QueryErrorTypes");
@@ -250,6 +279,12 @@ public class QueryDesugar extends BLangNodeVisitor {
     private BVarSymbol currentFrameSymbol;
     private BLangBlockFunctionBody currentQueryLambdaBody;
     private Map<String, BSymbol> identifiers;
+    // Slots of the frame variables when desugaring a query to a slot frame pipeline, null otherwise.
+    private Map<String, Integer> frameSlots;
+    // Whether a closure created within the slot frame query being desugared can capture its frame.
+    private boolean frameCaptured;
+    // `count` invocations of which the result is the count computed while grouping, which is read from the frame.
+    private final Set<BLangInvocation> aggregatedCountInvocations = new HashSet<>();
     private int streamElementCount = 0;
     private final Desugar desugar;
     private final SymbolTable symTable;
@@ -504,13 +539,34 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env,
                                        BLangBlockStmt block, List<BLangStatement> stmtsToBePropagated) {
+        // Slots are saved since a nested query is desugared while desugaring the clauses of this query.
+        Map<String, Integer> prevFrameSlots = frameSlots;
+        boolean prevFrameCaptured = frameCaptured;
+        BLangVariableReference streamRef;
+        if (isSlotFrameQuery(clauses)) {
+            frameSlots = new HashMap<>();
+            frameCaptured = false;
+            streamRef = buildSlotFrameStream(clauses, resultType, env, block, stmtsToBePropagated);
+        } else {
+            frameSlots = null;
+            streamRef = buildFrameStream(clauses, resultType, env, block, stmtsToBePropagated);
+        }
+        frameSlots = prevFrameSlots;
+        // The lambdas of a nested query can refer to the variables of the enclosing query through its frame.
+        frameCaptured = prevFrameCaptured || prevFrameSlots != null;
+        return streamRef;
+    }
+
+    private BLangVariableReference buildFrameStream(List<BLangNode> clauses, BType resultType, SymbolEnv env,
+                                                    BLangBlockStmt block, List<BLangStatement> stmtsToBePropagated) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+                getInitCollection(block, clauses), resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause, stmtsToBePropagated);
         addStreamFunction(block, initPipeline, initFrom);
-        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+        for (int i = 1; i < clauses.size(); i++) {
+            BLangNode clause = clauses.get(i);
             switch (clause.getKind()) {
                 case FROM:
                     BLangFromClause fromClause = (BLangFromClause) clause;
@@ -541,13 +597,21 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ORDER_BY:
-                    BLangVariableReference orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause,
-                            stmtsToBePropagated);
+                    BLangLimitClause fusibleLimitClause = getFusibleLimitClause(clauses, i + 1);
+                    BLangVariableReference orderFunc;
+                    if (fusibleLimitClause != null) {
+                        orderFunc = addOrderByLimitFunction(block, (BLangOrderByClause) clause, fusibleLimitClause,
+                                stmtsToBePropagated);
+                        // The limit clause is applied by the order by function.
+                        i++;
+                    } else {
+                        orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause, stmtsToBePropagated);
+                    }
                     addStreamFunction(block, initPipeline, orderFunc);
                     break;
                 case GROUP_BY:
                     BLangVariableReference groupByFunc = addGroupByFunction(block, (BLangGroupByClause) clause,
-                            stmtsToBePropagated, initPipeline);
+                            clauses.subList(i + 1, clauses.size()), stmtsToBePropagated, initPipeline);
                     addStreamFunction(block, initPipeline, groupByFunc);
                     break;
                 case SELECT:
@@ -580,6 +644,105 @@ public class QueryDesugar extends BLangNodeVisitor {
         return addGetStreamFromPipeline(block, initPipeline);
     }
 
+    /**
+     * Returns whether the query can be desugared to a slot frame pipeline, which is the case when the query has a
+     * single from clause over a list, followed by where, let and limit clauses and a select clause.
+     *
+     * @param clauses list of query clauses.
+     * @return true if the query can use a slot frame pipeline.
+     */
+    private boolean isSlotFrameQuery(List<BLangNode> clauses) {
+        if (clauses.size() < 2 || clauses.get(0).getKind() != NodeKind.FROM ||
+                clauses.get(clauses.size() - 1).getKind() != NodeKind.SELECT) {
+            return false;
+        }
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        if (!types.isSubTypeOfList(fromClause.collection.getBType())) {
+            return false;
+        }
+        for (BLangNode clause : clauses.subList(1, clauses.size() - 1)) {
+            switch (clause.getKind()) {
+                case WHERE:
+                case LET_CLAUSE:
+                case LIMIT:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Write a slot frame pipeline to the given `block` and return the reference to the resulting stream. The frame
+     * of a slot frame pipeline is a list with a slot for each frame variable, instead of a `_Frame` record.
+     * _SlotFramePipeline pipeline = createSlotFramePipeline(collection, frameSize, ...);
+     * addSlotFrameInputFunction(pipeline, function(_SlotFrame frame) returns _SlotFrame|error? {
+     * int x = <int> frame[0];
+     * frame[2] = x;
+     * return frame;
+     * });
+     * addSlotFrameSelectFunction(pipeline, function(_SlotFrame frame) returns _SlotFrame|error? {
+     * int x = <int> frame[2];
+     * frame[1] = x * x;
+     * return frame;
+     * });
+     * stream<int> s = getStreamFromSlotFramePipeline(pipeline);
+     *
+     * @param clauses             list of query clauses.
+     * @param resultType          result type of the query output.
+     * @param env                 symbol env.
+     * @param block               parent block to write to.
+     * @param stmtsToBePropagated list of statements to be propagated.
+     * @return variableReference to created stream.
+     */
+    private BLangVariableReference buildSlotFrameStream(List<BLangNode> clauses, BType resultType, SymbolEnv env,
+                                                        BLangBlockStmt block,
+                                                        List<BLangStatement> stmtsToBePropagated) {
+        this.env = env;
+        frameSlots.put(FRAME_INPUT_KEY, FRAME_INPUT_SLOT);
+        frameSlots.put(FRAME_VALUE_KEY, FRAME_VALUE_SLOT);
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+        // The frame size is set once the slots of all the frame variables are known.
+        BLangLiteral frameSize = ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L);
+        BLangLiteral reuseFrame = ASTBuilderUtil.createLiteral(pos, symTable.booleanType, true);
+        List<BLangExpression> pipelineArgs = getPipelineArgs(block, pos, fromClause.collection, resultType);
+        pipelineArgs.add(1, frameSize);
+        pipelineArgs.add(2, reuseFrame);
+        BLangVariableReference pipeline = getStreamFunctionVariableRef(block,
+                QUERY_CREATE_SLOT_FRAME_PIPELINE_FUNCTION, pipelineArgs, pos);
+        for (BLangNode clause : clauses) {
+            switch (clause.getKind()) {
+                case FROM:
+                    addSlotFrameFunction(block, pipeline, QUERY_ADD_SLOT_FRAME_INPUT_FUNCTION,
+                            createInputLambda((BLangFromClause) clause, stmtsToBePropagated));
+                    break;
+                case LET_CLAUSE:
+                    addSlotFrameFunction(block, pipeline, QUERY_ADD_SLOT_FRAME_LET_FUNCTION,
+                            createLetLambda((BLangLetClause) clause, stmtsToBePropagated));
+                    break;
+                case WHERE:
+                    addSlotFrameFunction(block, pipeline, QUERY_ADD_SLOT_FRAME_FILTER_FUNCTION,
+                            createWhereLambda((BLangWhereClause) clause, stmtsToBePropagated));
+                    break;
+                case LIMIT:
+                    addSlotFrameFunction(block, pipeline, QUERY_ADD_SLOT_FRAME_LIMIT_FUNCTION,
+                            createLimitLambda((BLangLimitClause) clause));
+                    break;
+                case SELECT:
+                    addSlotFrameFunction(block, pipeline, QUERY_ADD_SLOT_FRAME_SELECT_FUNCTION,
+                            createSelectLambda((BLangSelectClause) clause, stmtsToBePropagated));
+                    break;
+            }
+        }
+        frameSize.value = (long) frameSlots.size();
+        // A frame captured by a closure has to outlive the member of the list it was created for.
+        reuseFrame.value = !frameCaptured;
+        return getStreamFunctionVariableRef(block, QUERY_GET_STREAM_FROM_SLOT_FRAME_PIPELINE_FUNCTION, null,
+                Lists.of(pipeline), pos);
+    }
+
     // ---- Util methods to create the stream pipeline. ---- //
     /**
      * Desugar fromClause/joinClause to below and return a reference to created join _StreamPipeline.
@@ -593,6 +756,12 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addPipeline(BLangBlockStmt blockStmt, Location pos,
                                        BLangExpression collection, BType resultType) {
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_PIPELINE_FUNCTION,
+                getPipelineArgs(blockStmt, pos, collection, resultType), pos);
+    }
+
+    private List<BLangExpression> getPipelineArgs(BLangBlockStmt blockStmt, Location pos,
+                                                  BLangExpression collection, BType resultType) {
         String name = getNewVarName();
         BVarSymbol dataSymbol = new BVarSymbol(0, Names.fromString(name), env.scope.owner.pkgID,
                 collection.getBType(), this.env.scope.owner, pos, VIRTUAL);
@@ -621,8 +790,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangTypedescExpr completionTdExpr = new BLangTypedescExpr();
         completionTdExpr.resolvedType = completionType;
         completionTdExpr.setBType(completionTdType);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_PIPELINE_FUNCTION,
-                Lists.of(valueVarRef, constraintTdExpr, completionTdExpr, desugar.getBooleanLiteral(isStream)), pos);
+        return Lists.of(valueVarRef, constraintTdExpr, completionTdExpr, desugar.getBooleanLiteral(isStream));
     }
 
     /**
@@ -640,6 +808,13 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addInputFunction(BLangBlockStmt blockStmt, BLangInputClause inputClause,
                                             List<BLangStatement> stmtsToBePropagated) {
+        BLangLambdaFunction lambda = createInputLambda(inputClause, stmtsToBePropagated);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INPUT_FUNCTION, Lists.of(lambda),
+                inputClause.pos);
+    }
+
+    private BLangLambdaFunction createInputLambda(BLangInputClause inputClause,
+                                                  List<BLangStatement> stmtsToBePropagated) {
         Location pos = inputClause.pos;
         // function(_Frame frame) returns _Frame|error? { return frame; }
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
@@ -653,8 +828,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         shadowSymbolScope(pos, body, ASTBuilderUtil.createVariableRef(pos, frameSymbol), symbols);
 
         // int x = <int> frame["value"];, note: stmts will get added in reverse order.
-        BLangFieldBasedAccess valueAccessExpr = desugar.getValueAccessExpression(inputClause.pos,
-                symTable.anyOrErrorType, frameSymbol);
+        BLangAccessExpression valueAccessExpr = getFrameAccessExpr(inputClause.pos, FRAME_INPUT_KEY, frameSymbol);
         valueAccessExpr.expr = types.addConversionExprIfRequired(valueAccessExpr.expr,
                 types.getSafeType(valueAccessExpr.expr.getBType(), true, false));
         VariableDefinitionNode variableDefinitionNode = inputClause.variableDefinitionNode;
@@ -671,7 +845,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         //      return frame;
         // }
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INPUT_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
     /**
@@ -747,6 +921,11 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addLetFunction(BLangBlockStmt blockStmt, BLangLetClause letClause,
                                           List<BLangStatement> stmtsToBePropagated) {
+        BLangLambdaFunction lambda = createLetLambda(letClause, stmtsToBePropagated);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LET_FUNCTION, Lists.of(lambda), letClause.pos);
+    }
+
+    private BLangLambdaFunction createLetLambda(BLangLetClause letClause, List<BLangStatement> stmtsToBePropagated) {
         Location pos = letClause.pos;
         // function(_Frame frame) returns _Frame|error? { return frame; }
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
@@ -765,7 +944,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
         body.stmts.addAll(0, stmtsToBePropagated);
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LET_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
     /**
@@ -781,6 +960,13 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addWhereFunction(BLangBlockStmt blockStmt, BLangWhereClause whereClause,
                                             List<BLangStatement> stmtsToBePropagated) {
+        BLangLambdaFunction lambda = createWhereLambda(whereClause, stmtsToBePropagated);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_FILTER_FUNCTION, Lists.of(lambda),
+                whereClause.pos);
+    }
+
+    private BLangLambdaFunction createWhereLambda(BLangWhereClause whereClause,
+                                                  List<BLangStatement> stmtsToBePropagated) {
         Location pos = whereClause.pos;
         BLangLambdaFunction lambda = createFilterLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -791,7 +977,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                 lambda.function.returnTypeNode.getBType());
         body.addStatement(returnNode);
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_FILTER_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
     /**
@@ -807,6 +993,172 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
                                               List<BLangStatement> stmtsToBePropagated) {
+        BLangLambdaFunction lambda = createOrderByLambda(orderByClause, stmtsToBePropagated);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda),
+                orderByClause.pos);
+    }
+
+    /**
+     * Desugar an orderByClause that is directly followed by a limitClause with a limit that does not depend on the
+     * frame, to a single _StreamFunction that only retains the frames within the limit while ordering.
+     * _StreamFunction orderByLimitFunc = createOrderByLimitFunction(function(_Frame frame) {
+     * _Frame frame = {"orderKey": frame["x2"] + frame["y2"], $orderDirection$: true + false"};
+     * }, function(_Frame frame) returns int|error {
+     * return 10;
+     * });
+     *
+     * @param blockStmt           parent block to write to.
+     * @param orderByClause       to be desugared.
+     * @param limitClause         limit clause following the orderByClause.
+     * @param stmtsToBePropagated list of statements to be propagated.
+     * @return variableReference to created orderBy _StreamFunction.
+     */
+    BLangVariableReference addOrderByLimitFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
+                                                   BLangLimitClause limitClause,
+                                                   List<BLangStatement> stmtsToBePropagated) {
+        BLangLambdaFunction orderLambda = createOrderByLambda(orderByClause, stmtsToBePropagated);
+        BLangLambdaFunction limitLambda = createLimitLambda(limitClause);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_LIMIT_FUNCTION,
+                Lists.of(orderLambda, limitLambda), orderByClause.pos);
+    }
+
+    /**
+     * Returns the limit clause at the given index if its limit is a literal or a constant, and therefore is the same
+     * for every frame.
+     *
+     * @param clauses list of query clauses.
+     * @param index   index of the clause.
+     * @return the limit clause, or null if there is no such limit clause at the index.
+     */
+    private BLangLimitClause getFusibleLimitClause(List<BLangNode> clauses, int index) {
+        if (index >= clauses.size() || clauses.get(index).getKind() != NodeKind.LIMIT) {
+            return null;
+        }
+        BLangLimitClause limitClause = (BLangLimitClause) clauses.get(index);
+        BLangExpression limitExpr = limitClause.expression;
+        if (limitExpr instanceof BLangLiteral) {
+            return limitClause;
+        }
+        if (limitExpr instanceof BLangSimpleVarRef varRef && varRef.symbol != null &&
+                (varRef.symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT) {
+            return limitClause;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the collection iterated by the first from clause of a query. If the collection is a table and a where
+     * clause that directly follows the from clause compares a field of the member with a value, the members are
+     * looked up on an index of the table on that field when there is one, as below.
+     * table<Employee>|Employee[] collection = getIndexedRows(employees, "dept", "==", dept);
+     * The where clause is still applied to the members that are found, so the lookup only has to find every member
+     * that can match. The value has to be a literal, a constant or a final variable that is not a query variable, so
+     * that it can be evaluated before the members are iterated.
+     *
+     * @param block   parent block to write to.
+     * @param clauses list of query clauses.
+     * @return the collection to create the pipeline of the query with.
+     */
+    private BLangExpression getInitCollection(BLangBlockStmt block, List<BLangNode> clauses) {
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        BLangExpression collection = fromClause.collection;
+        BType collectionType = Types.getImpliedType(collection.getBType());
+        if (collectionType.tag != TypeTags.TABLE ||
+                !(fromClause.variableDefinitionNode.getVariable() instanceof BLangSimpleVariable variable) ||
+                variable.symbol == null) {
+            return collection;
+        }
+        BLangBinaryExpr comparison = null;
+        for (int i = 1; i < clauses.size() && clauses.get(i).getKind() == NodeKind.WHERE; i++) {
+            comparison = getIndexableComparison(((BLangWhereClause) clauses.get(i)).expression, variable.symbol);
+            if (comparison != null) {
+                break;
+            }
+        }
+        if (comparison == null) {
+            return collection;
+        }
+        boolean fieldOnLhs = isFieldAccessOf(comparison.lhsExpr, variable.symbol);
+        BLangFieldBasedAccess fieldAccess =
+                (BLangFieldBasedAccess) (fieldOnLhs ? comparison.lhsExpr : comparison.rhsExpr);
+        BLangExpression value = fieldOnLhs ? comparison.rhsExpr : comparison.lhsExpr;
+        Location pos = fromClause.pos;
+        BLangExpression valueCopy = value instanceof BLangLiteral literal ?
+                ASTBuilderUtil.createLiteral(pos, literal.getBType(), literal.value) :
+                ASTBuilderUtil.createVariableRef(pos, ((BLangSimpleVarRef) value).symbol);
+        String operator = getIndexLookupOperator(comparison.opKind, fieldOnLhs);
+        BType rowsType = BUnionType.create(symTable.typeEnv(), null, collection.getBType(),
+                new BArrayType(symTable.typeEnv(), ((BTableType) collectionType).constraint));
+        return getStreamFunctionVariableRef(block, QUERY_GET_INDEXED_ROWS_FUNCTION, rowsType,
+                Lists.of(collection, createStringLiteral(pos, fieldAccess.field.value),
+                        createStringLiteral(pos, operator),
+                        types.addConversionExprIfRequired(valueCopy, symTable.anydataType)), pos);
+    }
+
+    // Returns a conjunct of the expression that compares a field of the query variable with a value, if any.
+    private BLangBinaryExpr getIndexableComparison(BLangExpression expr, BSymbol varSymbol) {
+        if (expr instanceof BLangGroupExpr groupExpr) {
+            return getIndexableComparison(groupExpr.expression, varSymbol);
+        }
+        if (!(expr instanceof BLangBinaryExpr binaryExpr)) {
+            return null;
+        }
+        switch (binaryExpr.opKind) {
+            case AND:
+                BLangBinaryExpr comparison = getIndexableComparison(binaryExpr.lhsExpr, varSymbol);
+                return comparison != null ? comparison : getIndexableComparison(binaryExpr.rhsExpr, varSymbol);
+            case EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+                if (isFieldAccessOf(binaryExpr.lhsExpr, varSymbol) && isIndexLookupValue(binaryExpr.rhsExpr) ||
+                        isFieldAccessOf(binaryExpr.rhsExpr, varSymbol) && isIndexLookupValue(binaryExpr.lhsExpr)) {
+                    return binaryExpr;
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private boolean isFieldAccessOf(BLangExpression expr, BSymbol varSymbol) {
+        return expr instanceof BLangFieldBasedAccess fieldAccess && !fieldAccess.optionalFieldAccess &&
+                fieldAccess.expr instanceof BLangSimpleVarRef varRef && varRef.symbol == varSymbol;
+    }
+
+    private boolean isIndexLookupValue(BLangExpression expr) {
+        if (expr instanceof BLangLiteral literal) {
+            return switch (Types.getImpliedType(literal.getBType()).tag) {
+                case TypeTags.NIL, TypeTags.BOOLEAN, TypeTags.INT, TypeTags.BYTE, TypeTags.FLOAT, TypeTags.DECIMAL,
+                     TypeTags.STRING -> true;
+                default -> false;
+            };
+        }
+        if (!(expr instanceof BLangSimpleVarRef varRef) || varRef.symbol == null) {
+            return false;
+        }
+        BSymbol symbol = varRef.symbol;
+        // Query variables are final as well, but are never parameters or module-level variables.
+        return (symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT ||
+                (symbol.tag & SymTag.VARIABLE) == SymTag.VARIABLE &&
+                        (Symbols.isFlagOn(symbol.flags, Flags.FUNCTION_FINAL) ||
+                                Symbols.isFlagOn(symbol.flags, Flags.FINAL) && symbol.owner.tag == SymTag.PACKAGE);
+    }
+
+    // Returns the operator that relates the field to the value.
+    private String getIndexLookupOperator(OperatorKind opKind, boolean fieldOnLhs) {
+        return switch (opKind) {
+            case LESS_THAN -> fieldOnLhs ? "<" : ">";
+            case LESS_EQUAL -> fieldOnLhs ? "<=" : ">=";
+            case GREATER_THAN -> fieldOnLhs ? ">" : "<";
+            case GREATER_EQUAL -> fieldOnLhs ? ">=" : "<=";
+            default -> "==";
+        };
+    }
+
+    private BLangLambdaFunction createOrderByLambda(BLangOrderByClause orderByClause,
+                                                    List<BLangStatement> stmtsToBePropagated) {
         Location pos = orderByClause.pos;
         BLangLambdaFunction lambda = createActionLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -839,10 +1191,11 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangStatement orderDirectionStmt = getAddToFrameStmt(pos, frame, "$orderDirection$", sortModesArrayExpr);
         body.stmts.add(orderDirectionStmt);
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
     BLangVariableReference addGroupByFunction(BLangBlockStmt blockStmt, BLangGroupByClause groupByClause,
+                                              List<BLangNode> subsequentClauses,
                                               List<BLangStatement> stmtsToBePropagated,
                                               BLangVariableReference initPipeline) {
         Location pos = groupByClause.pos;
@@ -867,8 +1220,10 @@ public class QueryDesugar extends BLangNodeVisitor {
         for (String nonGroupingKey : groupByClause.nonGroupingKeys) {
             nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
         }
+        BLangArrayLiteral aggregates = createAggregatesLiteral(pos, groupByClause.nonGroupingKeys,
+                groupByClause.env, subsequentClauses);
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_GROUP_BY_FUNCTION,
-                Lists.of(keys, nonGroupingKeys), pos);
+                Lists.of(keys, nonGroupingKeys, aggregates), pos);
     }
 
     BLangVariableReference addCollectFunction(BLangBlockStmt blockStmt, BLangCollectClause collectClause,
@@ -880,6 +1235,8 @@ public class QueryDesugar extends BLangNodeVisitor {
         for (String nonGroupingKey : collectClause.nonGroupingKeys) {
             nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
         }
+        BLangArrayLiteral aggregates = createAggregatesLiteral(pos, collectClause.nonGroupingKeys,
+                collectClause.env, Lists.of(collectClause.expression));
 
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -890,7 +1247,47 @@ public class QueryDesugar extends BLangNodeVisitor {
         body.stmts.add(body.stmts.size() - 1, assignment);
         lambda.accept(this);
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_COLLECT_FUNCTION,
-                Lists.of(nonGroupingKeys, lambda), pos);
+                Lists.of(nonGroupingKeys, aggregates, lambda), pos);
+    }
+
+    /**
+     * Create the list of the aggregate functions of the non-grouping keys of a group by or collect clause. The
+     * aggregate function of a key is set if the sequence variable of the key is only used as the argument of
+     * `sum`, `max`, `min` or `count` in the given nodes, so that the aggregate is computed while grouping instead of
+     * keeping all the values of the key. The aggregate function is empty for the other keys.
+     *
+     * @param pos             diagnostic pos.
+     * @param nonGroupingKeys non-grouping keys of the clause.
+     * @param groupedEnv      env in which the sequence variables are defined.
+     * @param nodes           nodes that can use the sequence variables.
+     * @return list literal of the aggregate functions.
+     */
+    private BLangArrayLiteral createAggregatesLiteral(Location pos, Set<String> nonGroupingKeys, SymbolEnv groupedEnv,
+                                                      List<? extends BLangNode> nodes) {
+        AggregateAnalyzer.AnalyzerData data = new AggregateAnalyzer.AnalyzerData();
+        for (String nonGroupingKey : nonGroupingKeys) {
+            BSymbol symbol = symResolver.lookupSymbolInGivenScope(groupedEnv, Names.fromString(nonGroupingKey),
+                    SymTag.SEQUENCE);
+            if (symbol != symTable.notFoundSymbol) {
+                data.sequenceKeys.put(symbol, nonGroupingKey);
+            }
+        }
+        AggregateAnalyzer analyzer = new AggregateAnalyzer();
+        for (BLangNode node : nodes) {
+            analyzer.visitNode(node, data);
+        }
+
+        BLangArrayLiteral aggregates = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        aggregates.exprs = new ArrayList<>();
+        aggregates.setBType(new BArrayType(symTable.typeEnv(), symTable.stringType));
+        for (String nonGroupingKey : nonGroupingKeys) {
+            String aggregate = data.aggregates.getOrDefault(nonGroupingKey, NO_AGGREGATE);
+            aggregates.exprs.add(createStringLiteral(pos, aggregate));
+            if (AGGREGATE_COUNT.equals(aggregate)) {
+                aggregatedCountInvocations.addAll(data.aggregateInvocations.get(nonGroupingKey));
+            }
+        }
+        return aggregates;
     }
 
     BLangLetClause createLetClauseFromVarDef(BLangSimpleVariableDef varDef) {
@@ -926,6 +1323,13 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addSelectFunction(BLangBlockStmt blockStmt, BLangSelectClause selectClause,
                                              List<BLangStatement> stmtsToBePropagated) {
+        BLangLambdaFunction lambda = createSelectLambda(selectClause, stmtsToBePropagated);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_SELECT_FUNCTION, Lists.of(lambda),
+                selectClause.pos);
+    }
+
+    private BLangLambdaFunction createSelectLambda(BLangSelectClause selectClause,
+                                                   List<BLangStatement> stmtsToBePropagated) {
         Location pos = selectClause.pos;
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -933,10 +1337,9 @@ public class QueryDesugar extends BLangNodeVisitor {
         BVarSymbol oldFrameSymbol = lambda.function.requiredParams.get(0).symbol;
         BLangSimpleVarRef frame = ASTBuilderUtil.createVariableRef(pos, oldFrameSymbol);
         // $frame$["$value$"] = select-expr;
-        BLangStatement assignment = getAddToFrameStmt(pos, frame, "$value$", selectClause.expression);
+        BLangStatement assignment = getAddToFrameStmt(pos, frame, FRAME_VALUE_KEY, selectClause.expression);
         body.stmts.add(body.stmts.size() - 1, assignment);
-        lambda = rewrite(lambda);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_SELECT_FUNCTION, Lists.of(lambda), pos);
+        return rewrite(lambda);
     }
 
     /**
@@ -994,6 +1397,12 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return variableReference to created do _StreamFunction.
      */
     BLangVariableReference addLimitFunction(BLangBlockStmt blockStmt, BLangLimitClause limitClause) {
+        BLangLambdaFunction limitFunction = createLimitLambda(limitClause);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction),
+                limitClause.pos);
+    }
+
+    private BLangLambdaFunction createLimitLambda(BLangLimitClause limitClause) {
         Location pos = limitClause.pos;
         BLangUnionTypeNode returnTypeNode = getIntErrorTypeNode();
         BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
@@ -1001,7 +1410,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         returnNode.pos = pos;
         BLangLambdaFunction limitFunction = createLambdaFunction(pos, returnTypeNode, returnNode, false);
         limitFunction.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction), pos);
+        return limitFunction;
     }
 
     /**
@@ -1020,6 +1429,23 @@ public class QueryDesugar extends BLangNodeVisitor {
         stmt.expr = addStreamFunctionInvocation;
     }
 
+    /**
+     * Desugar to following invocation.
+     * addSlotFrameFilterFunction(pipeline, lambda);
+     *
+     * @param blockStmt    parent block to write to.
+     * @param pipelineRef  reference to the slot frame pipeline.
+     * @param functionName name of the query lib function adding the lambda to the pipeline.
+     * @param lambda       lambda of the clause.
+     */
+    private void addSlotFrameFunction(BLangBlockStmt blockStmt, BLangVariableReference pipelineRef,
+                                      Name functionName, BLangLambdaFunction lambda) {
+        BLangInvocation addFunctionInvocation = createQueryLibInvocation(functionName,
+                Lists.of(pipelineRef, lambda), pipelineRef.pos);
+        BLangExpressionStmt stmt = ASTBuilderUtil.createExpressionStmt(pipelineRef.pos, blockStmt);
+        stmt.expr = addFunctionInvocation;
+    }
+
     /**
      * Desugar to following invocation.
      * stream<any|error, error?> result = xsPipeline.getStream();
@@ -1151,7 +1577,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                                                      BLangReturn returnNode,
                                                      boolean isPassthrough) {
         // function(_Frame frame) ... and ref to frame
-        BType frameType = getFrameTypeSymbol().type;
+        BType frameType = frameSlots == null ? getFrameTypeSymbol().type : getSlotFrameTypeSymbol().type;
         BVarSymbol frameSymbol = new BVarSymbol(0, Names.fromString(FRAME_PARAMETER_NAME),
                                                 this.env.scope.owner.pkgID, frameType, this.env.scope.owner, pos,
                                                 VIRTUAL);
@@ -1280,6 +1706,9 @@ public class QueryDesugar extends BLangNodeVisitor {
                                              BLangVariableReference frame,
                                              String key,
                                              BLangExpression value) {
+        if (frameSlots != null) {
+            return ASTBuilderUtil.createAssignmentStmt(pos, getFrameSlotAccessExpr(pos, key, frame), value);
+        }
         BLangIdentifier valueIdentifier = ASTBuilderUtil.createIdentifier(pos, key);
         BLangFieldBasedAccess valueAccess = ASTBuilderUtil.createFieldAccessExpr(frame, valueIdentifier);
         valueAccess.pos = pos;
@@ -1288,6 +1717,33 @@ public class QueryDesugar extends BLangNodeVisitor {
         return ASTBuilderUtil.createAssignmentStmt(pos, valueAccess, value);
     }
 
+    /**
+     * Returns an expression accessing the given frame variable, which is `frame["x"]` for a `_Frame`
+     * and `frame[slot]` for a slot frame.
+     *
+     * @param pos         diagnostic pos.
+     * @param key         name of the frame variable.
+     * @param frameSymbol symbol of the frame.
+     * @return the frame access expression.
+     */
+    private BLangAccessExpression getFrameAccessExpr(Location pos, String key, BVarSymbol frameSymbol) {
+        if (frameSlots == null) {
+            return desugar.getFieldAccessExpression(pos, key, symTable.anyOrErrorType, frameSymbol);
+        }
+        return getFrameSlotAccessExpr(pos, key, ASTBuilderUtil.createVariableRef(pos, frameSymbol));
+    }
+
+    private BLangIndexBasedAccess getFrameSlotAccessExpr(Location pos, String key, BLangExpression frame) {
+        // Slots are assigned in the order in which the frame variables are first accessed.
+        int slot = frameSlots.computeIfAbsent(key, k -> frameSlots.size());
+        BLangLiteral slotExpr = ASTBuilderUtil.createLiteral(pos, symTable.intType, (long) slot);
+        BLangIndexBasedAccess slotAccess = ASTBuilderUtil.createIndexAccessExpr(frame, slotExpr);
+        slotAccess.pos = pos;
+        slotAccess.setBType(symTable.anyOrErrorType);
+        slotAccess.originalType = slotAccess.getBType();
+        return slotAccess;
+    }
+
     private void shadowSymbolScope(Location pos,
                                    BLangBlockFunctionBody lambdaBody,
                                    BLangSimpleVarRef frameRef,
@@ -1553,12 +2009,12 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return a union type node.
      */
     private BLangUnionTypeNode getFrameErrorNilTypeNode() {
-        BType frameType = getFrameTypeSymbol().type;
+        BType frameType = frameSlots == null ? getFrameTypeSymbol().type : getSlotFrameTypeSymbol().type;
         BUnionType unionType =
                 BUnionType.create(symTable.typeEnv(), null, frameType, symTable.errorType, symTable.nilType);
         BLangUnionTypeNode unionTypeNode = (BLangUnionTypeNode) TreeBuilder.createUnionTypeNode();
         unionTypeNode.setBType(unionType);
-        unionTypeNode.memberTypeNodes.add(getFrameTypeNode());
+        unionTypeNode.memberTypeNodes.add(frameSlots == null ? getFrameTypeNode() : getSlotFrameTypeNode());
         unionTypeNode.memberTypeNodes.add(getErrorTypeNode());
         unionTypeNode.memberTypeNodes.add(getNilTypeNode());
         unionTypeNode.desugared = true;
@@ -1632,6 +2088,37 @@ public class QueryDesugar extends BLangNodeVisitor {
                 .scope.lookup(Names.fromString("_Frame")).symbol;
     }
 
+    /**
+     * Return _SlotFrame type node.
+     *
+     * @return a _SlotFrame type node.
+     */
+    private BLangArrayType getSlotFrameTypeNode() {
+        BArrayType slotFrameType = (BArrayType) Types.getImpliedType(getSlotFrameTypeSymbol().type);
+
+        BLangUnionTypeNode elementType = (BLangUnionTypeNode) TreeBuilder.createUnionTypeNode();
+        elementType.setBType(slotFrameType.eType);
+        elementType.memberTypeNodes.add(getAnyTypeNode());
+        elementType.memberTypeNodes.add(getErrorTypeNode());
+
+        BLangArrayType slotFrameTypeNode = (BLangArrayType) TreeBuilder.createArrayTypeNode();
+        slotFrameTypeNode.setBType(slotFrameType);
+        slotFrameTypeNode.elemtype = elementType;
+        slotFrameTypeNode.dimensions = 1;
+        slotFrameTypeNode.desugared = true;
+        return slotFrameTypeNode;
+    }
+
+    /**
+     * Load and return symbol for _SlotFrame.
+     *
+     * @return _SlotFrame type symbol.
+     */
+    private BSymbol getSlotFrameTypeSymbol() {
+        return symTable.langQueryModuleSymbol
+                .scope.lookup(Names.fromString("_SlotFrame")).symbol;
+    }
+
     // ---- Visitor methods to replace frame access and mark closure variables ---- //
     @Override
     public void visit(BLangLambdaFunction lambda) {
@@ -1657,6 +2144,7 @@ public class QueryDesugar extends BLangNodeVisitor {
             identifiers = prevIdentifiers;
             currentQueryLambdaBody = prevQueryLambdaBody;
         } else {
+            frameCaptured = frameCaptured || frameSlots != null;
             boolean prevWithinLambdaFunc = withinLambdaOrArrowFunc;
             withinLambdaOrArrowFunc = true;
             function.getBody().accept(this);
@@ -1773,6 +2261,11 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangInvocation invocationExpr) {
+        if (aggregatedCountInvocations.remove(invocationExpr)) {
+            rewriteToAggregatedCount(invocationExpr);
+            result = invocationExpr;
+            return;
+        }
         List<BLangExpression> requiredArgs = invocationExpr.requiredArgs;
         if (invocationExpr.langLibInvocation && !requiredArgs.isEmpty()) {
             requiredArgs = requiredArgs.subList(1, requiredArgs.size());
@@ -1788,6 +2281,30 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
     }
 
+    /**
+     * Rewrite `count(x)` to read the count of the values of the sequence variable, which is computed while grouping,
+     * from the frame. The invocation is rewritten in place since the arguments of an invocation are not replaced.
+     * getAggregatedCount($frame$["x"])
+     *
+     * @param invocation count invocation.
+     */
+    private void rewriteToAggregatedCount(BLangInvocation invocation) {
+        Location pos = invocation.pos;
+        BLangSimpleVarRef sequenceRef = (BLangSimpleVarRef) invocation.restArgs.get(0);
+        BLangAccessExpression countAccessExpr = getFrameAccessExpr(pos, sequenceRef.variableName.value,
+                currentFrameSymbol);
+        countAccessExpr.expr = types.addConversionExprIfRequired(countAccessExpr.expr,
+                types.getSafeType(countAccessExpr.expr.getBType(), true, false));
+        BInvokableSymbol symbol = getQueryLibInvokableSymbol(QUERY_GET_AGGREGATED_COUNT_FUNCTION);
+        invocation.symbol = symbol;
+        invocation.name = ASTBuilderUtil.createIdentifier(pos, symbol.name.value);
+        invocation.pkgAlias = null;
+        invocation.langLibInvocation = false;
+        invocation.requiredArgs = Lists.of(countAccessExpr);
+        invocation.argExprs = invocation.requiredArgs;
+        invocation.restArgs = new ArrayList<>();
+    }
+
     private boolean isNilReturnInvocationInCollectClause(BLangInvocation invocation) {
         BInvokableSymbol symbol = (BInvokableSymbol) invocation.symbol;
         return symbol.restParam != null &&
@@ -1965,8 +2482,7 @@ public class QueryDesugar extends BLangNodeVisitor {
             if ((withinLambdaOrArrowFunc || queryEnv == null || !queryEnv.scope.entries.containsKey(symbol.name))
                     && !identifiers.containsKey(identifier)) {
                 Location pos = currentQueryLambdaBody.pos;
-                BLangFieldBasedAccess frameAccessExpr = desugar.getFieldAccessExpression(pos, identifier,
-                        symTable.anyOrErrorType, currentFrameSymbol);
+                BLangAccessExpression frameAccessExpr = getFrameAccessExpr(pos, identifier, currentFrameSymbol);
                 frameAccessExpr.expr = types.addConversionExprIfRequired(frameAccessExpr.expr,
                         types.getSafeType(frameAccessExpr.expr.getBType(), true, false));
 
@@ -2087,6 +2603,11 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangTypeInit connectorInitExpr) {
+        BTypeSymbol typeSymbol = Types.getImpliedType(connectorInitExpr.getBType()).tsymbol;
+        if (frameSlots != null && typeSymbol != null && Symbols.isFlagOn(typeSymbol.flags, Flags.ANONYMOUS)) {
+            // Methods of an object constructor can refer to the variables of the query through its frame.
+            frameCaptured = true;
+        }
         rewrite(connectorInitExpr.argsExpr);
         connectorInitExpr.initInvocation = rewrite(connectorInitExpr.initInvocation);
         result = connectorInitExpr;
@@ -2286,6 +2807,7 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangArrowFunction bLangArrowFunction) {
+        frameCaptured = frameCaptured || frameSlots != null;
         bLangArrowFunction.params.forEach(this::acceptNode);
         boolean prevWithinLambdaFunc = this.withinLambdaOrArrowFunc;
         this.withinLambdaOrArrowFunc = true;
@@ -2826,4 +3348,127 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
         return nodeList;
     }
+
+    /**
+     * Finds the sequence variables of a group by or collect clause that are only used as the argument of an aggregate
+     * function of which the result can be computed while grouping.
+     */
+    private static class AggregateAnalyzer extends SimpleBLangNodeAnalyzer<AggregateAnalyzer.AnalyzerData> {
+
+        @Override
+        public void analyzeNode(BLangNode node, AnalyzerData data) {
+        }
+
+        @Override
+        public void visit(BLangInvocation invocation, AnalyzerData data) {
+            BLangSimpleVarRef sequenceRef = data.nestingDepth == 0 ? getSequenceArg(invocation, data) : null;
+            if (sequenceRef != null) {
+                String aggregate = getAggregate(invocation, sequenceRef);
+                String key = data.sequenceKeys.get(sequenceRef.symbol);
+                if (aggregate == null) {
+                    data.aggregates.put(key, NO_AGGREGATE);
+                } else {
+                    data.aggregateArgs.add(sequenceRef);
+                    data.aggregates.merge(key, aggregate,
+                            (prev, current) -> prev.equals(current) ? prev : NO_AGGREGATE);
+                    data.aggregateInvocations.computeIfAbsent(key, k -> new ArrayList<>()).add(invocation);
+                }
+            }
+            super.visit(invocation, data);
+        }
+
+        @Override
+        public void visit(BLangSimpleVarRef varRef, AnalyzerData data) {
+            String key = data.sequenceKeys.get(varRef.symbol);
+            if (key != null && !data.aggregateArgs.contains(varRef)) {
+                data.aggregates.put(key, NO_AGGREGATE);
+            }
+            super.visit(varRef, data);
+        }
+
+        // Aggregates within nested queries and functions are computed from the values, since the sequence
+        // variable is not accessed from the frame of the grouped frames there.
+        @Override
+        public void visit(BLangQueryExpr queryExpr, AnalyzerData data) {
+            data.nestingDepth++;
+            super.visit(queryExpr, data);
+            data.nestingDepth--;
+        }
+
+        @Override
+        public void visit(BLangQueryAction queryAction, AnalyzerData data) {
+            data.nestingDepth++;
+            super.visit(queryAction, data);
+            data.nestingDepth--;
+        }
+
+        @Override
+        public void visit(BLangLambdaFunction lambdaFunction, AnalyzerData data) {
+            data.nestingDepth++;
+            super.visit(lambdaFunction, data);
+            data.nestingDepth--;
+        }
+
+        @Override
+        public void visit(BLangArrowFunction arrowFunction, AnalyzerData data) {
+            data.nestingDepth++;
+            super.visit(arrowFunction, data);
+            data.nestingDepth--;
+        }
+
+        private BLangSimpleVarRef getSequenceArg(BLangInvocation invocation, AnalyzerData data) {
+            for (BLangExpression restArg : invocation.restArgs) {
+                if (restArg.getKind() == NodeKind.SIMPLE_VARIABLE_REF &&
+                        data.sequenceKeys.containsKey(((BLangSimpleVarRef) restArg).symbol)) {
+                    return (BLangSimpleVarRef) restArg;
+                }
+            }
+            return null;
+        }
+
+        private String getAggregate(BLangInvocation invocation, BLangSimpleVarRef sequenceRef) {
+            BSymbol symbol = invocation.symbol;
+            if (symbol == null) {
+                return null;
+            }
+            String name = symbol.name.value;
+            boolean onlySequenceArg = invocation.requiredArgs.isEmpty() && invocation.restArgs.size() == 1;
+            if (symbol.pkgID.equals(PackageID.VALUE)) {
+                return AGGREGATE_COUNT.equals(name) && onlySequenceArg ? AGGREGATE_COUNT : null;
+            }
+            if (!symbol.pkgID.equals(PackageID.INT) && !symbol.pkgID.equals(PackageID.FLOAT) &&
+                    !symbol.pkgID.equals(PackageID.DECIMAL)) {
+                return null;
+            }
+            switch (name) {
+                case AGGREGATE_MAX:
+                case AGGREGATE_MIN:
+                    // The result is one of the values, which is the same when other arguments are given.
+                    return name;
+                case AGGREGATE_SUM:
+                    // The sum is used as a value of the sequence variable, which a sum of a subtype of int, such as
+                    // byte, may not belong to.
+                    if (!onlySequenceArg || sequenceRef.symbol.type.tag != TypeTags.SEQUENCE) {
+                        return null;
+                    }
+                    BType elementType = ((BSequenceType) sequenceRef.symbol.type).elementType;
+                    int elementTypeTag = Types.getImpliedType(elementType).tag;
+                    return elementTypeTag == TypeTags.INT || elementTypeTag == TypeTags.FLOAT ||
+                            elementTypeTag == TypeTags.DECIMAL ? AGGREGATE_SUM : null;
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * Data used while finding the aggregate functions of the sequence variables.
+         */
+        static class AnalyzerData {
+            final Map<BSymbol, String> sequenceKeys = new HashMap<>();
+            final Map<String, String> aggregates = new HashMap<>();
+            final Map<String, List<BLangInvocation>> aggregateInvocations = new HashMap<>();
+            final Set<BLangSimpleVarRef> aggregateArgs = new HashSet<>();
+            int nestingDepth = 0;
+        }
+    }
 }
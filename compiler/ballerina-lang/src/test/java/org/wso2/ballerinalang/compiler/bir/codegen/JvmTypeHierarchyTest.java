@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.objectweb.asm.ClassWriter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.V17;
+
+/**
+ * Test cases for finding the common super class of two classes with {@link JvmTypeHierarchy}.
+ *
+ * @since 2201.12.0
+ */
+public class JvmTypeHierarchyTest {
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String ARRAY_LIST = "java/util/ArrayList";
+    private static final String LINKED_LIST = "java/util/LinkedList";
+    private static final String ABSTRACT_LIST = "java/util/AbstractList";
+    private static final String LATE_CLASS = "test/LateClass";
+
+    @Test
+    public void testCommonSuperClassOfAvailableClasses() {
+        JvmTypeHierarchy typeHierarchy = new JvmTypeHierarchy();
+        Assert.assertEquals(typeHierarchy.getCommonSuperClass("java/lang/Integer", "java/lang/Long"),
+                "java/lang/Number");
+        Assert.assertEquals(typeHierarchy.getCommonSuperClass(ARRAY_LIST, LINKED_LIST), ABSTRACT_LIST);
+        Assert.assertEquals(typeHierarchy.getCommonSuperClass("java/util/List", ARRAY_LIST), "java/util/List");
+        Assert.assertEquals(typeHierarchy.getCommonSuperClass(ARRAY_LIST, "java/util/List"), "java/util/List");
+        Assert.assertEquals(typeHierarchy.getCommonSuperClass("java/util/List", "java/lang/Integer"), OBJECT);
+    }
+
+    @Test
+    public void testCommonSuperClassOfGeneratedClasses() {
+        JvmTypeHierarchy typeHierarchy = new JvmTypeHierarchy();
+        typeHierarchy.addGeneratedClass("test/ValueOne", ARRAY_LIST);
+        typeHierarchy.addGeneratedClass("test/ValueTwo", LINKED_LIST, "java/lang/Runnable");
+        Assert.assertEquals(typeHierarchy.getCommonSuperClass("test/ValueOne", "test/ValueTwo"), ABSTRACT_LIST);
+        Assert.assertEquals(typeHierarchy.getCommonSuperClass("java/lang/Runnable", "test/ValueTwo"),
+                "java/lang/Runnable");
+
+        // The classes generated for a module are not known to the hierarchy of another module.
+        JvmTypeHierarchy otherTypeHierarchy = new JvmTypeHierarchy();
+        Assert.assertEquals(otherTypeHierarchy.getCommonSuperClass("test/ValueOne", "test/ValueTwo"), OBJECT);
+    }
+
+    @Test
+    public void testUnknownClassesAreNotCached() {
+        LateClassLoader classLoader = new LateClassLoader();
+        JvmTypeHierarchy typeHierarchy = new JvmTypeHierarchy(classLoader);
+        Assert.assertEquals(typeHierarchy.getCommonSuperClass(LATE_CLASS, LINKED_LIST), OBJECT);
+
+        classLoader.available = true;
+        Assert.assertEquals(typeHierarchy.getCommonSuperClass(LATE_CLASS, LINKED_LIST), ABSTRACT_LIST);
+    }
+
+    /**
+     * Class loader which provides the class file of a class only after the class is made available.
+     */
+    private static class LateClassLoader extends ClassLoader {
+
+        private boolean available = false;
+
+        LateClassLoader() {
+            super(JvmTypeHierarchyTest.class.getClassLoader());
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            if (!name.equals(LATE_CLASS + ".class")) {
+                return super.getResourceAsStream(name);
+            }
+            if (!available) {
+                return null;
+            }
+            ClassWriter classWriter = new ClassWriter(0);
+            classWriter.visit(V17, ACC_PUBLIC, LATE_CLASS, null, ARRAY_LIST, null);
+            classWriter.visitEnd();
+            return new ByteArrayInputStream(classWriter.toByteArray());
+        }
+    }
+}
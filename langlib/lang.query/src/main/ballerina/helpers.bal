@@ -64,8 +64,14 @@ function createOrderByFunction(function(_Frame _frame) returns error? orderFunc)
     return new _OrderByFunction(orderFunc);
 }
 
-function createGroupByFunction(string[] keys, string[] nonGroupingKeys) returns _StreamFunction {
-    return new _GroupByFunction(keys, nonGroupingKeys);
+function createOrderByLimitFunction(function(_Frame _frame) returns error? orderFunc,
+        function (_Frame _frame) returns int limitFunction) returns _StreamFunction {
+    return new _OrderByLimitFunction(orderFunc, limitFunction);
+}
+
+function createGroupByFunction(string[] keys, string[] nonGroupingKeys, string[] aggregates)
+        returns _StreamFunction {
+    return new _GroupByFunction(keys, nonGroupingKeys, aggregates);
 }
 
 function createSelectFunction(function(_Frame _frame) returns _Frame|error? selectFunc)
@@ -76,8 +82,9 @@ function createSelectFunction(function(_Frame _frame) returns _Frame|error? sele
 function createOnConflictFunction(function(_Frame _frame) returns _Frame|error? onConflictFunc)
         returns _StreamFunction => new _OnConflictFunction(onConflictFunc);
 
-function createCollectFunction(string[] nonGroupingKeys, function(_Frame _frame) returns _Frame|error? collectFunc) returns _StreamFunction {
-    return new _CollectFunction(nonGroupingKeys, collectFunc);
+function createCollectFunction(string[] nonGroupingKeys, string[] aggregates,
+        function(_Frame _frame) returns _Frame|error? collectFunc) returns _StreamFunction {
+    return new _CollectFunction(nonGroupingKeys, aggregates, collectFunc);
 }
 
 function createDoFunction(function(_Frame _frame) returns any|error doFunc) returns _StreamFunction {
@@ -350,3 +357,175 @@ public isolated function getQueryErrorRootCause(error err) returns error {
     error? cause = error:cause(err);
     return cause is error ? cause : err;
 }
+
+function mergeFrames(_Frame lhsFrame, _Frame rhsFrame) returns _Frame {
+    _Frame joinedFrame = {...lhsFrame};
+    foreach var [k, val] in rhsFrame.entries() {
+        joinedFrame[k] = val;
+    }
+    return joinedFrame;
+}
+
+function createFrameHashIndex() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameHashIndex",
+    name: "create"
+} external;
+
+function addToFrameHashIndex(handle index, any key, int framePosition) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameHashIndex",
+    name: "add"
+} external;
+
+function getFromFrameHashIndex(handle index, any key) returns int[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameHashIndex",
+    name: "get"
+} external;
+
+function createTopKFrames(int 'limit) returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TopKFrames",
+    name: "create"
+} external;
+
+function addToTopKFrames(handle topKFrames, _Frame frame, any[] directions, any[] orderKeys) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TopKFrames",
+    name: "add"
+} external;
+
+function populateFromTopKFrames(handle topKFrames, _Frame[] frames) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TopKFrames",
+    name: "populate"
+} external;
+
+function createGroupedFrame(handle aggregator, int groupIndex, string[] keys, string[] nonGroupingKeys,
+        string[] aggregates) returns _Frame {
+    _Frame groupedFrame = {};
+    foreach int i in 0 ..< keys.length() {
+        groupedFrame[keys[i]] = getGroupingKeyFromGroupAggregator(aggregator, groupIndex, i);
+    }
+    foreach int i in 0 ..< nonGroupingKeys.length() {
+        if aggregates[i] == "count" {
+            // The count is accessed directly instead of counting the values of the key.
+            groupedFrame[nonGroupingKeys[i]] = getCountFromGroupAggregator(aggregator, groupIndex, i);
+            continue;
+        }
+        (any|error)[] values = [];
+        populateValuesFromGroupAggregator(aggregator, groupIndex, i, values);
+        groupedFrame[nonGroupingKeys[i]] = values;
+    }
+    return groupedFrame;
+}
+
+# Returns the count of the values of a sequence variable, which is computed while grouping
+# and used instead of `count` on the sequence variable.
+function getAggregatedCount(any|error count) returns int => <int>count;
+
+function createGroupAggregator(string[] keys, string[] nonGroupingKeys, string[] aggregates) returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupAggregator",
+    name: "create"
+} external;
+
+function addToGroupAggregator(handle aggregator, _Frame frame) returns error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupAggregator",
+    name: "add"
+} external;
+
+function getGroupAggregatorSize(handle aggregator) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupAggregator",
+    name: "size"
+} external;
+
+function getGroupingKeyFromGroupAggregator(handle aggregator, int groupIndex, int keyIndex) returns any|error = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupAggregator",
+    name: "getGroupingKey"
+} external;
+
+function populateValuesFromGroupAggregator(handle aggregator, int groupIndex, int keyIndex,
+        (any|error)[] values) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupAggregator",
+    name: "populateValues"
+} external;
+
+function getCountFromGroupAggregator(handle aggregator, int groupIndex, int keyIndex) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupAggregator",
+    name: "getCount"
+} external;
+
+function createSlotFramePipeline(Type[] collection, int frameSize, boolean reuseFrame, typedesc<Type> constraintTd,
+        typedesc<CompletionType> completionTd, boolean isLazyLoading) returns _SlotFramePipeline {
+    return new _SlotFramePipeline(collection, frameSize, reuseFrame, constraintTd, completionTd, isLazyLoading);
+}
+
+function addSlotFrameInputFunction(_SlotFramePipeline pipeline,
+        function (_SlotFrame _frame) returns _SlotFrame|error? inputFunc) {
+    addInputFunctionToSlotFramePipeline(pipeline.pipeline, inputFunc);
+}
+
+function addSlotFrameLetFunction(_SlotFramePipeline pipeline,
+        function (_SlotFrame _frame) returns _SlotFrame|error? letFunc) {
+    addLetFunctionToSlotFramePipeline(pipeline.pipeline, letFunc);
+}
+
+function addSlotFrameFilterFunction(_SlotFramePipeline pipeline,
+        function (_SlotFrame _frame) returns boolean|error filterFunc) {
+    addFilterFunctionToSlotFramePipeline(pipeline.pipeline, filterFunc);
+}
+
+function addSlotFrameLimitFunction(_SlotFramePipeline pipeline,
+        function (_SlotFrame _frame) returns int|error limitFunc) {
+    addLimitFunctionToSlotFramePipeline(pipeline.pipeline, limitFunc);
+}
+
+function addSlotFrameSelectFunction(_SlotFramePipeline pipeline,
+        function (_SlotFrame _frame) returns _SlotFrame|error? selectFunc) {
+    addSelectFunctionToSlotFramePipeline(pipeline.pipeline, selectFunc);
+}
+
+function getStreamFromSlotFramePipeline(_SlotFramePipeline pipeline) returns stream<Type, CompletionType> {
+    return pipeline.getStream();
+}
+
+function createSlotFramePipelineHandle(Type[] collection, _SlotFrame frame, boolean reuseFrame) returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.SlotFramePipeline",
+    name: "create"
+} external;
+
+function addInputFunctionToSlotFramePipeline(handle pipeline, function (_SlotFrame _frame) returns _SlotFrame|error? inputFunc) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.SlotFramePipeline",
+    name: "addInputFunction"
+} external;
+
+function addLetFunctionToSlotFramePipeline(handle pipeline, function (_SlotFrame _frame) returns _SlotFrame|error? letFunc) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.SlotFramePipeline",
+    name: "addLetFunction"
+} external;
+
+function addFilterFunctionToSlotFramePipeline(handle pipeline, function (_SlotFrame _frame) returns boolean|error filterFunc) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.SlotFramePipeline",
+    name: "addFilterFunction"
+} external;
+
+function addLimitFunctionToSlotFramePipeline(handle pipeline, function (_SlotFrame _frame) returns int|error limitFunc) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.SlotFramePipeline",
+    name: "addLimitFunction"
+} external;
+
+function addSelectFunctionToSlotFramePipeline(handle pipeline, function (_SlotFrame _frame) returns _SlotFrame|error? selectFunc) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.SlotFramePipeline",
+    name: "addSelectFunction"
+} external;
+
+isolated function nextFromSlotFramePipeline(handle pipeline) returns boolean|error = @java:Method {
+    'class: "org.ballerinalang.langlib.query.SlotFramePipeline",
+    name: "next"
+} external;
+
+isolated function getValueFromSlotFramePipeline(handle pipeline) returns any|error = @java:Method {
+    'class: "org.ballerinalang.langlib.query.SlotFramePipeline",
+    name: "getValue"
+} external;
+
+function getIndexedRows(table<map<Type>> collection, string fieldName, string operator, anydata value)
+        returns map<Type>[]|table<map<Type>> = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndexLookup",
+    name: "getRows"
+} external;
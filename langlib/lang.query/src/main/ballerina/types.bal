@@ -74,6 +74,9 @@ type _Frame record {|
     (any|error|())...;
 |};
 
+# A frame with a fixed slot for each variable of the query, used by `_SlotFramePipeline`.
+type _SlotFrame (any|error)[];
+
 class _StreamPipeline {
     _StreamFunction streamFunction;
     typedesc<Type> constraintTd;
@@ -345,9 +348,11 @@ class _InnerJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any|error lhsKeyFunction;
     function (_Frame _frame) returns any|error rhsKeyFunction;
-    _FrameMultiMap rhsFramesMap = new;
+    _FrameHashIndex rhsFramesIndex = new;
     error? failureAtJoin = ();
-    stream<_Frame>? joinedFramesStream;
+    _Frame? lhsFrame = ();
+    int[]? rhsCandidates = ();
+    int rhsCandidateIndex = 0;
 
     function init(
             _StreamPipeline pipelineToJoin,
@@ -356,22 +361,7 @@ class _InnerJoinFunction {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.prevFunc = ();
-        self.joinedFramesStream = ();
-
-        _Frame|error? f = pipelineToJoin.next();
-        while (f is _Frame) {
-            any|error rhsKeyFuncResult = rhsKeyFunction(f);
-            if rhsKeyFuncResult is error {
-                self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
-                return;
-            } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
-                f = pipelineToJoin.next();
-            }
-        }
-        if (f is error) {
-            self.failureAtJoin = f;
-        }
+        self.failureAtJoin = self.rhsFramesIndex.build(pipelineToJoin, rhsKeyFunction);
     }
 
     # Desugared function to do;
@@ -379,48 +369,46 @@ class _InnerJoinFunction {
     # join var ... in streamA join var ... in streamB
     # + return - merged two frames { ...frameA, ...frameB }
     public function process() returns _Frame|error? {
-        if (self.joinedFramesStream is ()) {
-            function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
-            _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-            _StreamFunction pf = <_StreamFunction>self.prevFunc;
-            _Frame|error? lhsFrame = pf.process();
-            _Frame[] joinedFrames = [];
-            error? failureAtJoin = self.failureAtJoin;
+        function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        _FrameHashIndex rhsFramesIndex = self.rhsFramesIndex;
+        error? failureAtJoin = self.failureAtJoin;
 
-            if (failureAtJoin is error) {
-                fail failureAtJoin;
+        if (failureAtJoin is error) {
+            fail failureAtJoin;
+        }
+
+        while true {
+            _Frame? lhsFrame = self.lhsFrame;
+            int[]? rhsCandidates = self.rhsCandidates;
+            if (lhsFrame is _Frame && rhsCandidates is int[] && self.rhsCandidateIndex < rhsCandidates.length()) {
+                _Frame rhsFrame = rhsFramesIndex.getFrame(rhsCandidates[self.rhsCandidateIndex]);
+                self.rhsCandidateIndex += 1;
+                return mergeFrames(lhsFrame, rhsFrame);
             }
 
-            while (lhsFrame is _Frame) {
-                any|error lhsKFRes = lhsKF(lhsFrame);
+            // Move to the next lhs frame and probe the rhs frames with its key.
+            _Frame|error? nextLhsFrame = pf.process();
+            if (nextLhsFrame is _Frame) {
+                any|error lhsKFRes = lhsKF(nextLhsFrame);
                 if (lhsKFRes is error) {
                     return prepareQueryBodyError(lhsKFRes);
                 }
-                string lhsKey = (lhsKFRes).toString();
-
-                _Frame[]? rhsCandidates = rhsFramesMap.get(lhsKey);
-                while (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                    _Frame rhsFrame = rhsCandidates.shift();
-                    _Frame joinedFrame = {...lhsFrame};
-                    foreach var [k, val] in rhsFrame.entries() {
-                        joinedFrame[k] = val;
-                    }
-                    joinedFrames.push(joinedFrame);
-                }
-                lhsFrame = pf.process();
+                self.lhsFrame = nextLhsFrame;
+                self.rhsCandidates = rhsFramesIndex.get(lhsKFRes);
+                self.rhsCandidateIndex = 0;
+            } else {
+                self.lhsFrame = ();
+                self.rhsCandidates = ();
+                return nextLhsFrame;
             }
-            self.joinedFramesStream = joinedFrames.toStream();
         }
-        stream<_Frame> s = <stream<_Frame>>self.joinedFramesStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
-        }
-        return f;
     }
 
     public function reset() {
-        self.joinedFramesStream = ();
+        self.lhsFrame = ();
+        self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -432,8 +420,9 @@ class _OuterJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any|error lhsKeyFunction;
     function (_Frame _frame) returns any|error rhsKeyFunction;
-    _FrameMultiMap rhsFramesMap = new;
-    _Frame[]? rhsCandidates;
+    _FrameHashIndex rhsFramesIndex = new;
+    int[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
     error? failureAtJoin = ();
@@ -448,20 +437,7 @@ class _OuterJoinFunction {
         self.prevFunc = ();
         self.lhsFrame = ();
         self.nilFrame = nilFrame;
-        _Frame|error? f = pipelineToJoin.next();
-        while (f is _Frame) {
-            any|error rhsKeyFuncResult = rhsKeyFunction(f);
-            if rhsKeyFuncResult is error {
-                self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
-                return;
-            } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
-                f = pipelineToJoin.next();
-            }
-        }
-        if (f is error) {
-            self.failureAtJoin = f;
-        }
+        self.failureAtJoin = self.rhsFramesIndex.build(pipelineToJoin, rhsKeyFunction);
     }
 
     # Desugared function to do;
@@ -471,14 +447,12 @@ class _OuterJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
+        _FrameHashIndex rhsFramesIndex = self.rhsFramesIndex;
+        int[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
-        _Frame nilFrame = self.nilFrame;
         error? failureAtJoin = self.failureAtJoin;
-        string lhsKey = "";
 
-        if(failureAtJoin is error) {
+        if (failureAtJoin is error) {
             fail failureAtJoin;
         }
 
@@ -488,39 +462,29 @@ class _OuterJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            any|error lhsKFRes = lhsKF(lhsFrame);
-            if (lhsKFRes is error) {
-                return prepareQueryBodyError(lhsKFRes);
-            }
-            lhsKey = (lhsKFRes).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                any|error lhsKFRes = lhsKF(lhsFrame);
+                if (lhsKFRes is error) {
+                    return prepareQueryBodyError(lhsKFRes);
+                }
+                rhsCandidates = rhsFramesIndex.get(lhsKFRes);
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
-            if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
-                } else {
+            if (rhsCandidates is int[]) {
+                _Frame rhsFrame = rhsFramesIndex.getFrame(rhsCandidates[self.rhsCandidateIndex]);
+                self.rhsCandidateIndex += 1;
+                if (self.rhsCandidateIndex >= rhsCandidates.length()) {
                     // Move to next lhs frame in next iteration.
                     self.rhsCandidates = ();
                     self.lhsFrame = ();
                 }
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                return joinedFrame;
-            } else {
-                // rhsCandidates is nil, move to next lhs frame in next iteration.
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in nilFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                self.lhsFrame = ();
-                return joinedFrame;
+                return mergeFrames(lhsFrame, rhsFrame);
             }
+            // rhsCandidates is nil, move to next lhs frame in next iteration.
+            self.lhsFrame = ();
+            return mergeFrames(lhsFrame, self.nilFrame);
         }
         return lhsFrame;
     }
@@ -529,6 +493,7 @@ class _OuterJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -629,41 +594,111 @@ class _OrderByFunction {
     }
 }
 
-type RowGroupedData record {|
-    readonly anydata groupingKey;
-    _Frame[] frames;
-|};
+class _OrderByLimitFunction {
+    *_StreamFunction;
+
+    # Desugared function to do;
+    # order by person.fname true, person.age false
+    function (_Frame _frame) returns error? orderKeyFunc;
+    # Desugared function of a limit clause that directly follows the order by clause,
+    # where the limit does not depend on the frame
+    function (_Frame _frame) returns int|error limitFunc;
+    stream<_Frame>? orderedStream;
+
+    function init(function (_Frame _frame) returns error? orderKeyFunc,
+            function (_Frame _frame) returns int limitFunc) {
+        self.orderKeyFunc = orderKeyFunc;
+        self.limitFunc = limitFunc;
+        self.orderedStream = ();
+        self.prevFunc = ();
+    }
+
+    public function process() returns _Frame|error? {
+        if (self.orderedStream is ()) {
+            _StreamFunction pf = <_StreamFunction>self.prevFunc;
+            function (_Frame _frame) returns error? orderKeyFunc = self.orderKeyFunc;
+            function (_Frame _frame) returns int|error limitFunc = self.limitFunc;
+            _Frame|error? f = pf.process();
+            handle? topKFrames = ();
+            // consume all events, retaining only the frames within the limit.
+            while (f is _Frame) {
+                error? res = orderKeyFunc(f);
+                if (res is error) {
+                    return prepareQueryBodyError(res);
+                }
+                if (topKFrames is ()) {
+                    int|error lmt = limitFunc(f);
+                    if (lmt is error) {
+                        return prepareQueryBodyError(lmt);
+                    }
+                    if (lmt < 1) {
+                        panic error("Invalid limit", message = "limit cannot be < 1.");
+                    }
+                    topKFrames = createTopKFrames(lmt);
+                }
+                addToTopKFrames(<handle>topKFrames, f, <any[]>(checkpanic f["$orderDirection$"]),
+                        <any[]>(checkpanic f["$orderKey$"]));
+                f = pf.process();
+            }
+            if (f is error) {
+                return f;
+            }
+            _Frame[] frames = [];
+            if (topKFrames is handle) {
+                populateFromTopKFrames(topKFrames, frames);
+            }
+            self.orderedStream = frames.toStream();
+        }
+
+        stream<_Frame> s = <stream<_Frame>>self.orderedStream;
+        record {|_Frame value;|}|error? f = s.next();
+        if (f is record {|_Frame value;|}) {
+            return f.value;
+        }
+        return f;
+    }
+
+    public function reset() {
+        self.orderedStream = ();
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+}
 
 class _GroupByFunction {
     *_StreamFunction;
 
     string[] keys;
     string[] nonGroupingKeys;
+    # Aggregate function of each non-grouping key, if its values are only used as the argument of that function.
+    string[] aggregates;
     stream<_Frame>? groupedStream;
-    table<RowGroupedData> key(groupingKey) tbl;
 
-    function init(string[] keys, string[] nonGroupingKeys) {
+    function init(string[] keys, string[] nonGroupingKeys, string[] aggregates) {
         self.keys = keys;
         self.nonGroupingKeys = nonGroupingKeys;
+        self.aggregates = aggregates;
         self.groupedStream = ();
-        self.tbl = table [];
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
         if (self.groupedStream is ()) {
+            handle aggregator = createGroupAggregator(self.keys, self.nonGroupingKeys, self.aggregates);
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
             _Frame? f = check pf.process();
             while f is _Frame {
-                anydata & readonly key = (check self.getKey(f)).cloneReadOnly();
-                if self.tbl.hasKey(key) {
-                    self.tbl.get(key).frames.push(f);
-                } else {
-                    self.tbl.add({groupingKey: key, frames: [f]});
-                }
+                check addToGroupAggregator(aggregator, f);
                 f = check pf.process();
             }
-            self.groupedStream = self.convertToStream(self.tbl);
+            _Frame[] groupedFrames = [];
+            foreach int i in 0 ..< getGroupAggregatorSize(aggregator) {
+                groupedFrames.push(createGroupedFrame(aggregator, i, self.keys, self.nonGroupingKeys,
+                        self.aggregates));
+            }
+            self.groupedStream = groupedFrames.toStream();
         }
 
         stream<_Frame> s = <stream<_Frame>>self.groupedStream;
@@ -678,75 +713,34 @@ class _GroupByFunction {
             pf.reset();
         }
     }
-
-    private function getKey(_Frame f) returns anydata|error {
-        record{} keys = {};
-        foreach var key in self.keys {
-            keys[key] = <anydata> check f[key];
-        }
-        return keys;
-    }
-
-    private function convertToStream(table<RowGroupedData> key(groupingKey) tbl) returns stream<_Frame> {
-        _Frame[] groupedFrames = [];
-
-        foreach var entry in tbl {
-            _Frame groupedFrame = {};
-            _Frame firstFrame = entry.frames[0];
-            foreach var key in self.keys {
-                groupedFrame[key] = firstFrame[key];
-            }
-            foreach var nonGroupingKey in self.nonGroupingKeys {
-                groupedFrame[nonGroupingKey] = [];
-            }
-            foreach var f in entry.frames {
-                foreach var nonGroupingKey in self.nonGroupingKeys {
-                    any|error sequenceValue = groupedFrame[nonGroupingKey];
-                    if sequenceValue is any {
-                        any|error val = f[nonGroupingKey];
-                        if val !is () {
-                            (<(any|error)[]> sequenceValue).push(val);
-                        }
-                    }
-                }
-            }
-            groupedFrames.push(groupedFrame);
-        }
-        return groupedFrames.toStream();
-    }
 }
 
 class _CollectFunction {
     *_StreamFunction;
 
     string[] nonGroupingKeys;
+    # Aggregate function of each non-grouping key, if its values are only used as the argument of that function.
+    string[] aggregates;
     function (_Frame _frame) returns _Frame|error? collectFunc;
 
-    function init(string[] nonGroupingKeys, function (_Frame _frame) returns _Frame|error? collectFunc) {
+    function init(string[] nonGroupingKeys, string[] aggregates,
+            function (_Frame _frame) returns _Frame|error? collectFunc) {
         self.nonGroupingKeys = nonGroupingKeys;
+        self.aggregates = aggregates;
         self.collectFunc = collectFunc;
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
-        _Frame groupedFrame = {};
-        foreach var nonGroupingKey in self.nonGroupingKeys {
-            groupedFrame[nonGroupingKey] = [];
-        }
+        handle aggregator = createGroupAggregator([], self.nonGroupingKeys, self.aggregates);
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
         _Frame? f = check pf.process();
         while f is _Frame {
-            foreach var nonGroupingKey in self.nonGroupingKeys {
-                any|error sequenceValue = groupedFrame[nonGroupingKey];
-                if (sequenceValue is any) {
-                    any|error val = f[nonGroupingKey];
-                    if val !is () {
-                        (<(any|error)[]> sequenceValue).push(val);
-                    }
-                }
-            }
+            check addToGroupAggregator(aggregator, f);
             f = check pf.process();
         }
+        // All the frames are in the first group, which is empty if there are no frames.
+        _Frame groupedFrame = createGroupedFrame(aggregator, 0, [], self.nonGroupingKeys, self.aggregates);
         _Frame|error? cFrame = self.collectFunc(groupedFrame);
         if (cFrame is error) {
             return prepareQueryBodyError(cFrame);
@@ -918,36 +912,50 @@ class _LimitFunction {
 
 // ---- helper types ----
 
-class _FrameMultiMap {
-    map<_Frame[]> m;
+# Hash index of the frames of the right-hand side of a join, keyed by the value of their join key.
+# Keys are matched using value equality, the same as the `==` operator.
+class _FrameHashIndex {
+    handle index;
+    _Frame[] frames = [];
 
     function init() {
-        self.m = {};
+        self.index = createFrameHashIndex();
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
+    # Adds all the frames of the given pipeline to the index.
+    #
+    # + pipeline - pipeline of the frames to be indexed
+    # + keyFunction - function to compute the join key of a frame
+    # + return - an error if the pipeline or the key function failed
+    function build(_StreamPipeline pipeline, function (_Frame _frame) returns any|error keyFunction) returns error? {
+        _Frame|error? f = pipeline.next();
+        while (f is _Frame) {
+            any|error key = keyFunction(f);
+            if key is error {
+                return prepareQueryBodyError(key);
+            }
+            self.put(key, f);
+            f = pipeline.next();
         }
+        return f;
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
+    function put(any key, _Frame frame) {
+        addToFrameHashIndex(self.index, key, self.frames.length());
+        self.frames.push(frame);
     }
 
+    # Returns the positions of the frames with the given key, in insertion order.
+    #
+    # + key - join key
+    # + return - positions of the matching frames or nil if there are none
+    function get(any key) returns int[]? {
+        return getFromFrameHashIndex(self.index, key);
+    }
+
+    function getFrame(int position) returns _Frame {
+        return self.frames[position];
+    }
 }
 
 class IterHelper {
@@ -971,6 +979,63 @@ class IterHelper {
     }
 }
 
+# A pipeline for queries with a single from clause over a list, followed by where, let and limit clauses
+# and a select clause. The clauses are processed natively, using a `_SlotFrame` instead of a `_Frame`.
+class _SlotFramePipeline {
+    handle pipeline;
+    typedesc<Type> constraintTd;
+    typedesc<CompletionType> completionTd;
+    boolean isLazyLoading;
+
+    function init(Type[] collection, int frameSize, boolean reuseFrame, typedesc<Type> constraintTd,
+            typedesc<CompletionType> completionTd, boolean isLazyLoading) {
+        _SlotFrame frame = [];
+        frame.setLength(frameSize);
+        self.pipeline = createSlotFramePipelineHandle(collection, frame, reuseFrame);
+        self.constraintTd = constraintTd;
+        self.completionTd = completionTd;
+        self.isLazyLoading = isLazyLoading;
+    }
+
+    public isolated function next() returns boolean|error {
+        boolean|error hasValue = nextFromSlotFramePipeline(self.pipeline);
+        if hasValue is error && !self.isLazyLoading {
+            return prepareQueryBodyError(hasValue);
+        }
+        return hasValue;
+    }
+
+    public isolated function value() returns any|error => getValueFromSlotFramePipeline(self.pipeline);
+
+    public function getStream() returns stream<Type, CompletionType> {
+        SlotFrameIterHelper itrObj = new (self, self.constraintTd);
+        return internal:construct(self.constraintTd, self.completionTd, itrObj);
+    }
+}
+
+class SlotFrameIterHelper {
+    public _SlotFramePipeline pipeline;
+    public typedesc<Type> outputType;
+
+    function init(_SlotFramePipeline pipeline, typedesc<Type> outputType) {
+        self.pipeline = pipeline;
+        self.outputType = outputType;
+    }
+
+    public isolated function next() returns record {|Type value;|}|error? {
+        _SlotFramePipeline p = self.pipeline;
+        boolean|error hasValue = p.next();
+        if hasValue is error {
+            return hasValue;
+        }
+        if !hasValue {
+            return ();
+        }
+        Type v = <Type>p.value();
+        return internal:setNarrowType(self.outputType, {value: v});
+    }
+}
+
 class OnConflictIterHelper {
     public _StreamPipeline pipeline;
     public typedesc<Type> outputType;
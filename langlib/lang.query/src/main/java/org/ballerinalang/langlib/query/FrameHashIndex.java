@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash index used by the join clauses of query expressions to look up the frames of the right-hand side of a join
+ * by the value of their join key. Keys are matched using Ballerina value equality, i.e. the same semantics as the
+ * {@code ==} operator, and each key maps to the positions of the matching frames in insertion order.
+ *
+ * @since 2201.12.0
+ */
+public final class FrameHashIndex {
+
+    private static final int MAX_HASH_DEPTH = 8;
+
+    private final Map<JoinKey, FramePositions> index = new HashMap<>();
+
+    private FrameHashIndex() {
+    }
+
+    public static FrameHashIndex create() {
+        return new FrameHashIndex();
+    }
+
+    public static void add(FrameHashIndex frameHashIndex, Object key, long framePosition) {
+        frameHashIndex.index.computeIfAbsent(new JoinKey(key), k -> new FramePositions()).add(framePosition);
+    }
+
+    public static Object get(FrameHashIndex frameHashIndex, Object key) {
+        FramePositions positions = frameHashIndex.index.get(new JoinKey(key));
+        return positions == null ? null : positions.toArray();
+    }
+
+    static int hash(Object value) {
+        return hash(value, 0);
+    }
+
+    private static int hash(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            // int and byte values are equal if they have the same numeric value
+            return Long.hashCode(((Number) value).longValue());
+        }
+        if (value instanceof Double doubleValue) {
+            // -0.0 and 0.0 are equal, and all NaN values are equal
+            return doubleValue == 0.0 ? 0 : Double.hashCode(doubleValue);
+        }
+        if (value instanceof BString stringValue) {
+            return stringValue.getValue().hashCode();
+        }
+        if (value instanceof BDecimal decimalValue) {
+            BigDecimal bigDecimal = decimalValue.decimalValue();
+            return bigDecimal.signum() == 0 ? 0 : bigDecimal.stripTrailingZeros().hashCode();
+        }
+        if (depth >= MAX_HASH_DEPTH) {
+            return 1;
+        }
+        if (value instanceof BMap<?, ?> mapValue) {
+            // equal mappings may have their fields in a different order
+            int result = 0;
+            for (Map.Entry<?, ?> entry : mapValue.entrySet()) {
+                result += hash(entry.getKey(), depth + 1) ^ hash(entry.getValue(), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof BArray arrayValue) {
+            int result = 1;
+            for (long i = 0; i < arrayValue.getLength(); i++) {
+                result = 31 * result + hash(arrayValue.get(i), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof Boolean) {
+            return value.hashCode();
+        }
+        // Other values fall back to the equality check.
+        return 1;
+    }
+
+    /**
+     * Wrapper of a join key which uses Ballerina value equality.
+     */
+    private static final class JoinKey {
+
+        private final Object value;
+        private final int hash;
+
+        JoinKey(Object value) {
+            this.value = value;
+            this.hash = FrameHashIndex.hash(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof JoinKey other)) {
+                return false;
+            }
+            return hash == other.hash && TypeChecker.isEqual(value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Positions of the frames that have the same join key.
+     */
+    private static final class FramePositions {
+
+        private long[] positions = new long[1];
+        private int size = 0;
+        private BArray positionsArray;
+
+        void add(long position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+            positionsArray = null;
+        }
+
+        BArray toArray() {
+            if (positionsArray == null) {
+                positionsArray = ValueCreator.createArrayValue(Arrays.copyOf(positions, size));
+            }
+            return positionsArray;
+        }
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.utils.CloneUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash aggregation used by the group by and collect clauses of query expressions. Frames are grouped by the value of
+ * their grouping keys, using Ballerina value equality, and only the values of the non-grouping keys are kept for each
+ * group instead of the frames.
+ * <p>
+ * When a non-grouping key is only used as the argument of {@code sum}, {@code max}, {@code min} or {@code count}, the
+ * compiler passes the name of that function as the aggregate of the key, and a running accumulator is kept instead of
+ * the values. The accumulator is populated as a sequence of at most two values, from which the aggregate function
+ * produces the same result, or the same error, as it does for all the values.
+ *
+ * @since 2201.12.0
+ */
+public final class GroupAggregator {
+
+    private static final String SUM = "sum";
+    private static final String MAX = "max";
+    private static final String MIN = "min";
+    private static final String COUNT = "count";
+
+    private final BString[] keys;
+    private final BString[] nonGroupingKeys;
+    private final String[] aggregates;
+    private final Map<GroupKey, Group> groupsByKey = new HashMap<>();
+    // Groups in the order in which their first frame was added.
+    private final List<Group> groups = new ArrayList<>();
+
+    private GroupAggregator(BString[] keys, BString[] nonGroupingKeys, String[] aggregates) {
+        this.keys = keys;
+        this.nonGroupingKeys = nonGroupingKeys;
+        this.aggregates = aggregates;
+    }
+
+    public static GroupAggregator create(BArray keys, BArray nonGroupingKeys, BArray aggregates) {
+        return new GroupAggregator(toStringArray(keys), toStringArray(nonGroupingKeys),
+                toJavaStringArray(aggregates));
+    }
+
+    /**
+     * Adds the values of the given frame to the group of its grouping keys.
+     *
+     * @param groupAggregator aggregator to add to
+     * @param frame           frame to add
+     * @return the error value of a grouping key, if any
+     */
+    public static Object add(GroupAggregator groupAggregator, BMap<BString, Object> frame) {
+        BString[] keys = groupAggregator.keys;
+        Object[] keyValues = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            Object keyValue = frame.get(keys[i]);
+            if (keyValue instanceof BError) {
+                return keyValue;
+            }
+            keyValues[i] = TypeChecker.checkCast(keyValue, PredefinedTypes.TYPE_ANYDATA);
+        }
+        Group group = groupAggregator.groupsByKey.get(new GroupKey(keyValues));
+        if (group == null) {
+            group = groupAggregator.createGroup(keyValues);
+        }
+        BString[] nonGroupingKeys = groupAggregator.nonGroupingKeys;
+        for (int i = 0; i < nonGroupingKeys.length; i++) {
+            Object value = frame.get(nonGroupingKeys[i]);
+            if (value != null) {
+                group.accumulators[i].add(value);
+            }
+        }
+        return null;
+    }
+
+    public static long size(GroupAggregator groupAggregator) {
+        return groupAggregator.groups.size();
+    }
+
+    public static Object getGroupingKey(GroupAggregator groupAggregator, long groupIndex, long keyIndex) {
+        return groupAggregator.groups.get((int) groupIndex).keyValues[(int) keyIndex];
+    }
+
+    /**
+     * Appends the values of a non-grouping key of a group to the given list. A group that does not exist is empty.
+     * Must not be used for a key aggregated with {@code count}, for which only the number of values is kept.
+     *
+     * @param groupAggregator aggregator of the group
+     * @param groupIndex      index of the group
+     * @param keyIndex        index of the non-grouping key
+     * @param values          list to append to
+     */
+    public static void populateValues(GroupAggregator groupAggregator, long groupIndex, long keyIndex,
+                                      BArray values) {
+        if (groupIndex < groupAggregator.groups.size()) {
+            ((PopulatingAccumulator) groupAggregator.groups.get((int) groupIndex).accumulators[(int) keyIndex])
+                    .populate(values);
+        }
+    }
+
+    public static long getCount(GroupAggregator groupAggregator, long groupIndex, long keyIndex) {
+        if (groupIndex < groupAggregator.groups.size()) {
+            return groupAggregator.groups.get((int) groupIndex).accumulators[(int) keyIndex].count();
+        }
+        return 0;
+    }
+
+    private Group createGroup(Object[] keyValues) {
+        Object[] readOnlyKeyValues = new Object[keyValues.length];
+        for (int i = 0; i < keyValues.length; i++) {
+            readOnlyKeyValues[i] = CloneUtils.cloneReadOnly(keyValues[i]);
+        }
+        Accumulator[] accumulators = new Accumulator[nonGroupingKeys.length];
+        for (int i = 0; i < accumulators.length; i++) {
+            accumulators[i] = switch (aggregates[i]) {
+                case SUM -> new SumAccumulator();
+                case MAX -> new MaxAccumulator();
+                case MIN -> new MinAccumulator();
+                case COUNT -> new CountAccumulator();
+                default -> new ValuesAccumulator();
+            };
+        }
+        Group group = new Group(keyValues, accumulators);
+        groupsByKey.put(new GroupKey(readOnlyKeyValues), group);
+        groups.add(group);
+        return group;
+    }
+
+    private static BString[] toStringArray(BArray array) {
+        BString[] strings = new BString[(int) array.getLength()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = (BString) array.get(i);
+        }
+        return strings;
+    }
+
+    private static String[] toJavaStringArray(BArray array) {
+        String[] strings = new String[(int) array.getLength()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = ((BString) array.get(i)).getValue();
+        }
+        return strings;
+    }
+
+    /**
+     * Values of the grouping keys of a group, which uses Ballerina value equality.
+     */
+    private static final class GroupKey {
+
+        private final Object[] values;
+        private final int hash;
+
+        GroupKey(Object[] values) {
+            this.values = values;
+            int result = 1;
+            for (Object value : values) {
+                result = 31 * result + FrameHashIndex.hash(value);
+            }
+            this.hash = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof GroupKey other) || hash != other.hash) {
+                return false;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (!TypeChecker.isEqual(values[i], other.values[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Grouping key values of the first frame of a group, along with the accumulators of its non-grouping keys.
+     */
+    private record Group(Object[] keyValues, Accumulator[] accumulators) {
+    }
+
+    /**
+     * Accumulator of the non-nil values of a non-grouping key of a group, which also counts the values.
+     */
+    private abstract static class Accumulator {
+
+        private long count = 0;
+
+        final void add(Object value) {
+            count++;
+            accumulate(value);
+        }
+
+        final long count() {
+            return count;
+        }
+
+        abstract void accumulate(Object value);
+    }
+
+    /**
+     * Accumulator from which a sequence of values can be populated for the aggregate function of its key.
+     */
+    private abstract static class PopulatingAccumulator extends Accumulator {
+
+        abstract void populate(BArray values);
+    }
+
+    private static final class ValuesAccumulator extends PopulatingAccumulator {
+
+        private final List<Object> values = new ArrayList<>();
+
+        @Override
+        void accumulate(Object value) {
+            values.add(value);
+        }
+
+        @Override
+        void populate(BArray target) {
+            for (Object value : values) {
+                target.append(value);
+            }
+        }
+    }
+
+    /**
+     * Keeps only the number of values, which is read with {@link GroupAggregator#getCount}.
+     */
+    private static final class CountAccumulator extends Accumulator {
+
+        @Override
+        void accumulate(Object value) {
+            // The count is kept by the accumulator itself.
+        }
+    }
+
+    /**
+     * Adds the values in the same order as {@code int:sum}, {@code float:sum} and {@code decimal:sum}. If the sum
+     * overflows, the sum so far and the value that overflowed it are kept, so that the sum of the populated values
+     * fails with the same error.
+     */
+    private static final class SumAccumulator extends PopulatingAccumulator {
+
+        private Object sum;
+        private Object overflowedValue;
+
+        @Override
+        void accumulate(Object value) {
+            if (overflowedValue != null) {
+                return;
+            }
+            if (value instanceof Double doubleValue) {
+                sum = sum == null ? 0.0 + doubleValue : (Double) sum + doubleValue;
+            } else if (value instanceof BDecimal decimalValue) {
+                BDecimal decimalSum = sum == null ? ValueCreator.createDecimalValue(BigDecimal.ZERO) : (BDecimal) sum;
+                try {
+                    sum = decimalSum.add(decimalValue);
+                } catch (BError e) {
+                    sum = decimalSum;
+                    overflowedValue = value;
+                }
+            } else {
+                long longValue = ((Number) value).longValue();
+                long longSum = sum == null ? 0 : (Long) sum;
+                try {
+                    sum = Math.addExact(longSum, longValue);
+                } catch (ArithmeticException e) {
+                    sum = longSum;
+                    overflowedValue = value;
+                }
+            }
+        }
+
+        @Override
+        void populate(BArray target) {
+            if (sum != null) {
+                target.append(sum);
+            }
+            if (overflowedValue != null) {
+                target.append(overflowedValue);
+            }
+        }
+    }
+
+    /**
+     * Keeps the same value as {@code int:max}, {@code float:max} and {@code decimal:max}, including the later of
+     * equal decimal values.
+     */
+    private static final class MaxAccumulator extends PopulatingAccumulator {
+
+        private Object max;
+
+        @Override
+        void accumulate(Object value) {
+            if (max == null) {
+                max = value;
+            } else if (value instanceof Double doubleValue) {
+                max = Math.max(doubleValue, (Double) max);
+            } else if (value instanceof BDecimal decimalValue) {
+                max = decimalValue.value().compareTo(((BDecimal) max).value()) >= 0 ? value : max;
+            } else {
+                max = ((Number) value).longValue() >= ((Number) max).longValue() ? value : max;
+            }
+        }
+
+        @Override
+        void populate(BArray target) {
+            if (max != null) {
+                target.append(max);
+            }
+        }
+    }
+
+    /**
+     * Keeps the same value as {@code int:min}, {@code float:min} and {@code decimal:min}, including the later of
+     * equal decimal values.
+     */
+    private static final class MinAccumulator extends PopulatingAccumulator {
+
+        private Object min;
+
+        @Override
+        void accumulate(Object value) {
+            if (min == null) {
+                min = value;
+            } else if (value instanceof Double doubleValue) {
+                min = Math.min(doubleValue, (Double) min);
+            } else if (value instanceof BDecimal decimalValue) {
+                min = decimalValue.value().compareTo(((BDecimal) min).value()) <= 0 ? value : min;
+            } else {
+                min = ((Number) value).longValue() <= ((Number) min).longValue() ? value : min;
+            }
+        }
+
+        @Override
+        void populate(BArray target) {
+            if (min != null) {
+                target.append(min);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Query pipeline of which the frame is an array with a fixed slot for each variable of the query. The slots are
+ * assigned when the query is desugared, and the variables are accessed by their slot index instead of by name.
+ * <p>
+ * This pipeline is used for queries with a single from clause over a list, followed by where, let and limit clauses
+ * and a select clause. Since none of these clauses keep a frame after processing it, the same frame is reused for
+ * every member of the list, unless a closure created by a clause can capture the frame.
+ *
+ * @since 2201.12.0
+ */
+public final class SlotFramePipeline {
+
+    // Slots reserved for the member of the list and the selected value, in the same order as in QueryDesugar.
+    private static final int INPUT_SLOT = 0;
+    private static final int VALUE_SLOT = 1;
+    private static final BString INVALID_LIMIT = StringUtils.fromString("Invalid limit");
+    private static final BString INVALID_LIMIT_DETAIL = StringUtils.fromString("limit cannot be < 1.");
+
+    private final BArray collection;
+    private final boolean reuseFrame;
+    private BArray frame;
+    private final List<Stage> stages = new ArrayList<>();
+    private long nextIndex = 0;
+    private boolean completed = false;
+    private Object value;
+
+    private SlotFramePipeline(BArray collection, BArray frame, boolean reuseFrame) {
+        this.collection = collection;
+        this.frame = frame;
+        this.reuseFrame = reuseFrame;
+    }
+
+    public static SlotFramePipeline create(BArray collection, BArray frame, boolean reuseFrame) {
+        return new SlotFramePipeline(collection, frame, reuseFrame);
+    }
+
+    public static void addInputFunction(SlotFramePipeline pipeline, BFunctionPointer inputFunction) {
+        pipeline.stages.add(new Stage(StageKind.INPUT, inputFunction));
+    }
+
+    public static void addLetFunction(SlotFramePipeline pipeline, BFunctionPointer letFunction) {
+        pipeline.stages.add(new Stage(StageKind.LET, letFunction));
+    }
+
+    public static void addFilterFunction(SlotFramePipeline pipeline, BFunctionPointer filterFunction) {
+        pipeline.stages.add(new Stage(StageKind.FILTER, filterFunction));
+    }
+
+    public static void addLimitFunction(SlotFramePipeline pipeline, BFunctionPointer limitFunction) {
+        pipeline.stages.add(new Stage(StageKind.LIMIT, limitFunction));
+    }
+
+    public static void addSelectFunction(SlotFramePipeline pipeline, BFunctionPointer selectFunction) {
+        pipeline.stages.add(new Stage(StageKind.SELECT, selectFunction));
+    }
+
+    /**
+     * Processes the members of the list until a value is selected.
+     *
+     * @param env      current environment
+     * @param pipeline pipeline to process
+     * @return true if a value is selected, false if there are no more values, or the error returned by a clause
+     */
+    public static Object next(Environment env, SlotFramePipeline pipeline) {
+        return pipeline.next(env.getRuntime());
+    }
+
+    public static Object getValue(SlotFramePipeline pipeline) {
+        return pipeline.value;
+    }
+
+    private Object next(Runtime runtime) {
+        value = null;
+        while (!completed && nextIndex < collection.getLength()) {
+            if (!reuseFrame && nextIndex > 0) {
+                frame = ValueCreator.createArrayValue(new Object[(int) frame.getLength()],
+                        (ArrayType) TypeUtils.getImpliedType(frame.getType()));
+            }
+            frame.add(INPUT_SLOT, collection.get(nextIndex++));
+            Object result = process(runtime);
+            if (!Boolean.FALSE.equals(result)) {
+                return result;
+            }
+        }
+        completed = true;
+        return Boolean.FALSE;
+    }
+
+    private Object process(Runtime runtime) {
+        for (Stage stage : stages) {
+            Object result = stage.function.call(runtime, frame);
+            if (result instanceof BError) {
+                return result;
+            }
+            switch (stage.kind) {
+                case FILTER -> {
+                    if (!(Boolean) result) {
+                        return Boolean.FALSE;
+                    }
+                }
+                case LIMIT -> {
+                    long limit = (Long) result;
+                    if (limit < 1) {
+                        throw ErrorCreator.createError(INVALID_LIMIT, INVALID_LIMIT_DETAIL);
+                    }
+                    if (stage.count >= limit) {
+                        completed = true;
+                        return Boolean.FALSE;
+                    }
+                    stage.count++;
+                }
+                default -> {
+                }
+            }
+        }
+        value = frame.get(VALUE_SLOT);
+        return Boolean.TRUE;
+    }
+
+    private enum StageKind {
+        INPUT,
+        LET,
+        FILTER,
+        LIMIT,
+        SELECT
+    }
+
+    /**
+     * Desugared function of a clause of the query.
+     */
+    private static final class Stage {
+
+        private final StageKind kind;
+        private final BFunctionPointer function;
+        private long count = 0;
+
+        Stage(StageKind kind, BFunctionPointer function) {
+            this.kind = kind;
+            this.function = function;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValue;
+
+/**
+ * Finds the members of a table that is iterated by the first from clause of a query, using an index of the table on a
+ * field that is compared with a value by a where clause that follows the from clause. The where clause is still
+ * applied to the members that are found.
+ *
+ * @since 2201.12.0
+ */
+public final class TableIndexLookup {
+
+    private TableIndexLookup() {
+    }
+
+    /**
+     * Returns the members of the table of which the field may be related to the value by the operator.
+     *
+     * @param table     table iterated by the query
+     * @param fieldName name of the field
+     * @param operator  one of {@code ==}, {@code <}, {@code <=}, {@code >} and {@code >=}
+     * @param value     value compared with the field
+     * @return the members found on the index in table order, or the table if it has no index that can be used
+     */
+    public static Object getRows(BTable<?, ?> table, BString fieldName, BString operator, Object value) {
+        BArray rows = ((TableValue<?, ?>) table).getIndexedRows(fieldName, operator.getValue(), value);
+        return rows == null ? table : rows;
+    }
+}
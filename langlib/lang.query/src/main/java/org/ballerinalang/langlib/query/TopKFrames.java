@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.internal.utils.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the first {@code k} frames of a query in the order given by an {@code order by} clause that is followed by a
+ * {@code limit} clause, so that the frames that fall outside the limit are not retained. Frames with equal order keys
+ * keep the order in which they were added, the same as a stable sort of all the frames.
+ *
+ * @since 2201.12.0
+ */
+public final class TopKFrames {
+
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final long limit;
+    // The head of the queue is the frame that is ordered last among the retained frames.
+    private final PriorityQueue<OrderedFrame> frames;
+    private long sequence = 0;
+
+    private TopKFrames(long limit) {
+        this.limit = limit;
+        this.frames = new PriorityQueue<>((int) Math.min(limit, INITIAL_CAPACITY),
+                (lhs, rhs) -> compare(rhs, lhs));
+    }
+
+    public static TopKFrames create(long limit) {
+        return new TopKFrames(limit);
+    }
+
+    public static void add(TopKFrames topKFrames, Object frame, BArray directions, BArray orderKeys) {
+        OrderedFrame orderedFrame = new OrderedFrame(frame, directions, orderKeys, topKFrames.sequence++);
+        PriorityQueue<OrderedFrame> frames = topKFrames.frames;
+        if (frames.size() < topKFrames.limit) {
+            frames.add(orderedFrame);
+            return;
+        }
+        // A later frame has to be strictly ordered before the last retained frame to replace it.
+        if (compare(orderedFrame, frames.peek()) < 0) {
+            frames.poll();
+            frames.add(orderedFrame);
+        }
+    }
+
+    public static void populate(TopKFrames topKFrames, BArray target) {
+        List<OrderedFrame> orderedFrames = new ArrayList<>(topKFrames.frames);
+        orderedFrames.sort(TopKFrames::compare);
+        for (OrderedFrame orderedFrame : orderedFrames) {
+            target.append(orderedFrame.frame);
+        }
+    }
+
+    private static int compare(OrderedFrame lhs, OrderedFrame rhs) {
+        for (long i = 0; i < lhs.orderKeys.getLength(); i++) {
+            Object lhsKey = lhs.orderKeys.get(i);
+            Object rhsKey = rhs.orderKeys.get(i);
+            int result;
+            if ((Boolean) lhs.directions.get(i)) {
+                result = ValueComparisonUtils.compareValues(lhsKey, rhsKey, ASCENDING);
+            } else {
+                result = -ValueComparisonUtils.compareValues(lhsKey, rhsKey, DESCENDING);
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Long.compare(lhs.sequence, rhs.sequence);
+    }
+
+    /**
+     * Frame along with its order keys and the position at which it was added.
+     */
+    private record OrderedFrame(Object frame, BArray directions, BArray orderKeys, long sequence) {
+    }
+}
@@ -22,8 +22,7 @@ import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BString;
-
-import java.util.regex.Matcher;
+import io.ballerina.runtime.internal.regexp.RegExpMatcher;
 
 import static org.ballerinalang.langlib.regexp.RegexUtil.GROUPS_AS_SPAN_ARRAY_TYPE;
 import static org.ballerinalang.langlib.regexp.RegexUtil.checkIndexWithinRange;
@@ -44,7 +43,7 @@ public final class Find {
         checkIndexWithinRange(str, startIndex);
         int[] surrogates = getSurrogatePositions(str);
         int adjustedStartIndex = getSurrogateAdjustedStartIndex((int) startIndex, surrogates);
-        Matcher matcher = RegexUtil.getMatcher(regExp, str);
+        RegExpMatcher matcher = RegexUtil.getMatcher(regExp, str);
         if (matcher.find(adjustedStartIndex)) {
             return RegexUtil.getGroupZeroAsSpan(str, matcher, surrogates);
         }
@@ -55,7 +54,7 @@ public final class Find {
         checkIndexWithinRange(str, startIndex);
         int[] surrogates = getSurrogatePositions(str);
         int adjustedStartIndex = getSurrogateAdjustedStartIndex((int) startIndex, surrogates);
-        Matcher matcher = RegexUtil.getMatcher(regExp, str);
+        RegExpMatcher matcher = RegexUtil.getMatcher(regExp, str);
         BArray resultArray = ValueCreator.createArrayValue(GROUPS_AS_SPAN_ARRAY_TYPE);
         matcher.region(adjustedStartIndex, str.getValue().length());
         if (matcher.find()) {
@@ -76,7 +75,7 @@ public final class Find {
 
     public static BArray findAll(BRegexpValue regExp, BString str, long startIndex) {
         checkIndexWithinRange(str, startIndex);
-        Matcher matcher = RegexUtil.getMatcher(regExp, str);
+        RegExpMatcher matcher = RegexUtil.getMatcher(regExp, str);
         int[] surrogates = getSurrogatePositions(str);
         int adjustedStartIndex = getSurrogateAdjustedStartIndex((int) startIndex, surrogates);
         BArray resultArray = ValueCreator.createArrayValue(GROUPS_AS_SPAN_ARRAY_TYPE);
@@ -92,7 +91,7 @@ public final class Find {
 
     public static BArray findAllGroups(BRegexpValue regExp, BString str, long startIndex) {
         checkIndexWithinRange(str, startIndex);
-        Matcher matcher = RegexUtil.getMatcher(regExp, str);
+        RegExpMatcher matcher = RegexUtil.getMatcher(regExp, str);
         int[] surrogates = getSurrogatePositions(str);
         int adjustedStartIndex = getSurrogateAdjustedStartIndex((int) startIndex, surrogates);
         matcher.region(adjustedStartIndex, str.getValue().length());
@@ -23,8 +23,12 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.regexp.RegExpMatcher;
 import io.ballerina.runtime.internal.values.RegExpValue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Native implementation of lang.regexp:split(string).
  *
@@ -37,9 +41,19 @@ public final class Split {
 
     public static BArray split(BRegexpValue regExp, BString str) {
         String originalString = str.getValue();
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regExp);
-        String regex = StringUtils.getStringValue(translatedRegExpVal);
-        String[] splitStrArr = originalString.split(regex, -1);
-        return StringUtils.fromStringArray(splitStrArr);
+        RegExpMatcher matcher = RegExpFactory.getMatcher((RegExpValue) regExp, originalString, 0);
+        // Splits as java.util.regex.Pattern#split does with a negative limit.
+        List<String> splitStrList = new ArrayList<>();
+        int index = 0;
+        while (matcher.find()) {
+            if (index == 0 && matcher.start() == 0 && matcher.end() == 0) {
+                // A zero-width match at the beginning does not give a leading empty substring.
+                continue;
+            }
+            splitStrList.add(originalString.substring(index, matcher.start()));
+            index = matcher.end();
+        }
+        splitStrList.add(originalString.substring(index));
+        return StringUtils.fromStringArray(splitStrList.toArray(new String[0]));
     }
 }
@@ -418,3 +418,34 @@ public isolated function nextKey(table<MapType> key<int> t) returns int = @java:
     'class: "org.ballerinalang.langlib.table.NextKey",
     name: "nextKey"
 } external;
+
+# Adds an index on a field of the members of a table.
+#
+# The index is kept up to date as members are added, replaced and removed.
+# Query expressions use it to find the members of which the field is equal to a value,
+# or with a sorted index, less than or greater than a value, when the first `from` clause
+# iterates over the table and is followed by a `where` clause that compares the field
+# with a literal, a constant or a final variable.
+# The field has to be a readonly field, unless the members are immutable,
+# and has to be of type `()`, `boolean`, `int`, `float`, `decimal` or `string`.
+# The field of a sorted index has to be of type `int`, `float`, `decimal` or `string`.
+# This panics if the field cannot be indexed.
+#
+# ```ballerina
+# table<record {|readonly int id; readonly string status;|}> key(id) orders = table [
+#     {id: 1, status: "OPEN"},
+#     {id: 2, status: "CLOSED"}
+# ];
+# orders.addIndex("status");
+# from var o in orders where o.status == "OPEN" select o.id ⇒ [1]
+# table<record {|readonly int id; string status;|}> key(id) tickets = table [];
+# tickets.addIndex("status") ⇒ panic
+# ```
+#
+# + t - the table
+# + fieldName - the name of the field
+# + sorted - whether the index is ordered by the value of the field
+public isolated function addIndex(table<map<any|error>> t, string fieldName, boolean sorted = false) = @java:Method {
+    'class: "org.ballerinalang.langlib.table.AddIndex",
+    name: "addIndex"
+} external;
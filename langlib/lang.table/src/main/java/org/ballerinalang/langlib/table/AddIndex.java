@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.table;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValue;
+
+/**
+ * Native implementation of lang.table:addIndex(table&lt;Type&gt;, string, boolean).
+ *
+ * @since 2201.12.0
+ */
+public final class AddIndex {
+
+    private AddIndex() {
+    }
+
+    public static void addIndex(BTable<?, ?> tbl, BString fieldName, boolean sorted) {
+        ((TableValue<?, ?>) tbl).addIndex(fieldName, sorted);
+    }
+}
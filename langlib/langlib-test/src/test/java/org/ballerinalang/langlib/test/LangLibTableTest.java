@@ -585,6 +585,21 @@ public class LangLibTableTest {
         BRunUtil.invoke(compileResult, "testTableIterationAfterPut4");
     }
 
+    @Test
+    public void testTableAfterRemovingMostRows() {
+        BRunUtil.invoke(compileResult, "testTableAfterRemovingMostRows");
+    }
+
+    @Test
+    public void testTableIndexLookup() {
+        BRunUtil.invoke(compileResult, "testTableIndexLookup");
+    }
+
+    @Test
+    public void testAddIndexOnMutableField() {
+        BRunUtil.invoke(compileResult, "testAddIndexOnMutableField");
+    }
+
     @Test(dataProvider = "functionsToTestHashCollisionInTable")
     public void testHashCollisionInTable(String function) {
         BRunUtil.invoke(compileResult, function);
@@ -1422,6 +1422,97 @@ function testTableIterationAfterPut4() {
     assertEquals(length, 218);
 }
 
+type IdRow record {|
+    readonly int id;
+|};
+
+function testTableAfterRemovingMostRows() {
+    table<IdRow> key(id) tbl = table [];
+    foreach int i in 0 ..< 64 {
+        tbl.add({id: i});
+    }
+    foreach int i in 0 ..< 64 {
+        if i % 4 != 0 {
+            _ = tbl.remove(i);
+        }
+    }
+    // Adding the rows reuses the space of the removed rows.
+    foreach int i in 64 ..< 128 {
+        tbl.add({id: i});
+    }
+    tbl.put({id: 8});
+    assertEquals(tbl.length(), 80);
+    assertFalse(tbl.hasKey(1));
+    assertTrue(tbl.hasKey(4));
+    assertTrue(tbl.hasKey(127));
+
+    int[] ids = from IdRow row in tbl select row.id;
+    int[] expectedIds = from int i in 0 ..< 128 where i >= 64 || i % 4 == 0 select i;
+    assertEquals(ids, expectedIds);
+    assertEquals(tbl.keys(), expectedIds);
+
+    table<IdRow> keyless = table [];
+    foreach int i in 0 ..< 100 {
+        keyless.add({id: i % 10});
+    }
+    assertEquals(keyless.length(), 100);
+    keyless.removeAll();
+    keyless.add({id: 1});
+    assertEquals(keyless.toArray(), [{id: 1}]);
+}
+
+type Ticket record {|
+    readonly int id;
+    readonly string status;
+    readonly int priority;
+    string assignee;
+|};
+
+const OPEN = "open";
+
+function testTableIndexLookup() {
+    table<Ticket> key(id) tickets = table [
+        {id: 1, status: "open", priority: 3, assignee: "Anne"},
+        {id: 2, status: "closed", priority: 1, assignee: "Bob"},
+        {id: 3, status: "open", priority: 5, assignee: "Anne"}
+    ];
+    tickets.addIndex("status");
+    tickets.addIndex("priority", true);
+
+    tickets.add({id: 4, status: "open", priority: 1, assignee: "Bob"});
+    tickets.put({id: 3, status: "closed", priority: 5, assignee: "Anne"});
+    _ = tickets.remove(1);
+
+    int[] openIds = from Ticket ticket in tickets where ticket.status == OPEN select ticket.id;
+    assertEquals(openIds, [4]);
+    int[] closedIds = from Ticket ticket in tickets where "closed" == ticket.status select ticket.id;
+    assertEquals(closedIds, [2, 3]);
+    assertEquals(getIdsWithMinPriority(tickets, 2), [3]);
+    assertEquals(getIdsWithMinPriority(tickets, 1), [2, 3, 4]);
+    int[] ids = from Ticket ticket in tickets where 5 > ticket.priority && ticket.assignee == "Bob" select ticket.id;
+    assertEquals(ids, [2, 4]);
+    assertEquals(tickets.toArray().length(), 3);
+
+    tickets.removeAll();
+    tickets.add({id: 5, status: "open", priority: 2, assignee: "Anne"});
+    openIds = from Ticket ticket in tickets where ticket.status == "open" select ticket.id;
+    assertEquals(openIds, [5]);
+}
+
+function getIdsWithMinPriority(table<Ticket> key(id) tickets, int minPriority) returns int[] {
+    return from Ticket ticket in tickets where ticket.priority >= minPriority select ticket.id;
+}
+
+function testAddIndexOnMutableField() {
+    table<Ticket> key(id) tickets = table [];
+    error? result = trap tickets.addIndex("assignee");
+    assertTrue(result is error);
+    assertEquals((<error>result).message(), "cannot add an index on field 'assignee': the field should be a " +
+            "readonly field, or the members should be immutable");
+    result = trap tickets.addIndex("status", true);
+    assertTrue(result is ());
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(boolean actual) {
@@ -20,6 +20,7 @@ import com.sun.jdi.ClassType;
 import com.sun.jdi.Field;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
+import com.sun.jdi.StringReference;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.ballerinalang.debugadapter.evaluation.EvaluationException;
@@ -27,8 +28,10 @@ import org.ballerinalang.debugadapter.jdi.JDIUtils;
 import org.ballerinalang.debugadapter.jdi.LocalVariableProxyImpl;
 
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -48,6 +51,9 @@ public final class VariableUtils {
     public static final String FIELD_PKG_NAME = "name";
     public static final String FIELD_REFERRED_TYPE = "referredType";
     public static final String FIELD_EFFECTIVE_TYPE = "effectiveType";
+    private static final String FIELD_LEFT = "left";
+    private static final String FIELD_RIGHT = "right";
+    private static final String FIELD_FLATTENED = "flattened";
     private static final String FIELD_CONSTRAINT = "constraint";
     private static final String METHOD_STR_VALUE = "stringValue";
     private static final String METHOD_EXP_STR_VALUE = "expressionStringValue";
@@ -151,6 +157,9 @@ public final class VariableUtils {
             if (!(stringValue instanceof ObjectReference stringRef)) {
                 return UNKNOWN_VALUE;
             }
+            if (stringRef.referenceType().name().equals(JVMValueType.CONCAT_STRING.getString())) {
+                return getConcatStringFrom(stringRef);
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMP_STRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NON_BMP_STRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
@@ -166,6 +175,43 @@ public final class VariableUtils {
         }
     }
 
+    /**
+     * Returns the string value of a string concatenation, which may not have been flattened yet, by reading the
+     * operands of the concatenation instead of invoking any method in the remote VM.
+     *
+     * @param concatRef JDI value of the string concatenation
+     * @return actual string.
+     */
+    private static String getConcatStringFrom(ObjectReference concatRef) throws DebugVariableException {
+        StringBuilder builder = new StringBuilder();
+        Deque<Value> operands = new ArrayDeque<>();
+        operands.push(concatRef);
+        while (!operands.isEmpty()) {
+            Value operand = operands.pop();
+            if (operand.type().name().equals(JVMValueType.CONCAT_STRING.getString())) {
+                Optional<Value> flattened = getFieldValue(operand, FIELD_FLATTENED);
+                if (flattened.isPresent()) {
+                    operands.push(flattened.get());
+                    continue;
+                }
+                Optional<Value> left = getFieldValue(operand, FIELD_LEFT);
+                Optional<Value> right = getFieldValue(operand, FIELD_RIGHT);
+                if (left.isEmpty() || right.isEmpty()) {
+                    return UNKNOWN_VALUE;
+                }
+                operands.push(right.get());
+                operands.push(left.get());
+                continue;
+            }
+            Optional<Value> value = getFieldValue(operand, FIELD_VALUE);
+            if (value.isEmpty() || !(value.get() instanceof StringReference stringRef)) {
+                return UNKNOWN_VALUE;
+            }
+            builder.append(stringRef.value());
+        }
+        return builder.toString();
+    }
+
     /**
      * Invokes "stringValue()" method of the given ballerina jvm variable instance and returns the result as a string.
      *
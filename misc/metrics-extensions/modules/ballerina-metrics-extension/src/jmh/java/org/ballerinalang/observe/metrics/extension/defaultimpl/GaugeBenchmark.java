@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of recording to a {@link DefaultGauge} from concurrent threads, as done for the latency of
+ * each observed request. Run with {@code ./gradlew :ballerina-metrics-extension:jmh}.
+ *
+ * @since 2201.12.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GaugeBenchmark {
+
+    private DefaultGauge gauge;
+
+    @Setup
+    public void setup() {
+        gauge = new DefaultGauge(new MetricId("response_time_seconds", "Response time", Collections.emptySet()),
+                StatisticConfig.DEFAULT);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void recordUncontended() {
+        gauge.setValue(nextLatency());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordContended() {
+        gauge.setValue(nextLatency());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void incrementContended() {
+        gauge.increment(1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Snapshot[] snapshotWhileRecording() {
+        gauge.setValue(nextLatency());
+        return ThreadLocalRandom.current().nextInt(1024) == 0 ? gauge.getSnapshots() : null;
+    }
+
+    private static double nextLatency() {
+        return ThreadLocalRandom.current().nextDouble(0.001, 2);
+    }
+}
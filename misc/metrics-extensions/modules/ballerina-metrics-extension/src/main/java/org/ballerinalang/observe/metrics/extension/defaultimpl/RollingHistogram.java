@@ -24,13 +24,23 @@ import org.HdrHistogram.DoubleHistogram;
 import org.HdrHistogram.DoubleRecorder;
 
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Using {@link DoubleHistogram} to maintain samples in a ring buffer to decay older samples and give greater weight
  * to recent samples. This implementation allows to get summary statistics for a rolling window over the last X minutes.
+ * <p>
+ * Samples are recorded to one of a set of striped {@link DoubleRecorder}s, which are wait-free, and are moved to the
+ * bucket of the ring buffer of the current time window only when the histogram is rotated or a snapshot is taken.
  */
 public class RollingHistogram {
 
+    /**
+     * Maximum number of recorders samples are recorded to.
+     */
+    private static final int STRIPES = Math.min(Integer.highestOneBit(
+            Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)), 64);
+
     /**
      * Clock for measuring time.
      */
@@ -42,9 +52,15 @@ public class RollingHistogram {
     private final StatisticConfig statisticConfig;
 
     /**
-     * Recorder in a ring buffer.
+     * Recorders samples are recorded to, selected by the recording thread. A recorder is created when a thread
+     * records to it for the first time.
      */
-    private final DoubleRecorder[] ringBuffer;
+    private final AtomicReferenceArray<DoubleRecorder> recorders = new AtomicReferenceArray<>(STRIPES);
+
+    /**
+     * Histograms of the samples of each time window in a ring buffer.
+     */
+    private final DoubleHistogram[] ringBuffer;
 
     /**
      * Current bucket index.
@@ -67,7 +83,7 @@ public class RollingHistogram {
     private final DoubleHistogram intervalHistogram;
 
     /**
-     * A histogram to keep accumulated stats.
+     * A histogram to keep accumulated stats of all the buckets.
      */
     private DoubleHistogram accumulatedHistogram;
 
@@ -82,18 +98,13 @@ public class RollingHistogram {
      */
     private volatile int rotating; // 0 - not rotating, 1 - rotating
 
-    /**
-     * A flag to check whether accumulatedHistogram is stale or not.
-     */
-    private volatile boolean accumulatedHistogramStale;
-
     public RollingHistogram(Clock clock, StatisticConfig statisticConfig) {
         this.clock = clock;
         this.statisticConfig = statisticConfig;
         int ageBuckets = (int) statisticConfig.getBuckets();
-        ringBuffer = new DoubleRecorder[ageBuckets];
+        ringBuffer = new DoubleHistogram[ageBuckets];
         for (int i = 0; i < ageBuckets; i++) {
-            ringBuffer[i] = new DoubleRecorder(statisticConfig.getPercentilePrecision());
+            ringBuffer[i] = new DoubleHistogram(statisticConfig.getPercentilePrecision());
         }
         this.currentBucket = 0;
         this.lastRotateTimestampMillis = clock.getCurrentTime();
@@ -104,13 +115,15 @@ public class RollingHistogram {
 
     public void record(double value) {
         rotate();
-        try {
-            for (DoubleRecorder recorder : ringBuffer) {
-                recorder.recordValue(value);
+        int index = (int) Thread.currentThread().threadId() & (STRIPES - 1);
+        DoubleRecorder recorder = recorders.get(index);
+        if (recorder == null) {
+            recorder = new DoubleRecorder(statisticConfig.getPercentilePrecision());
+            if (!recorders.compareAndSet(index, null, recorder)) {
+                recorder = recorders.get(index);
             }
-        } finally {
-            accumulatedHistogramStale = true;
         }
+        recorder.recordValue(value);
     }
 
     private void rotate() {
@@ -127,11 +140,13 @@ public class RollingHistogram {
         try {
             int iterations = 0;
             synchronized (this) {
+                // Samples recorded so far belong to the time window which is being closed.
+                accumulate();
                 do {
-                    currentHistogram().reset();
                     if (++currentBucket >= ringBuffer.length) {
                         currentBucket = 0;
                     }
+                    ringBuffer[currentBucket] = new DoubleHistogram(statisticConfig.getPercentilePrecision());
                     timeSinceLastRotateMillis -= durationBetweenRotatesMillis;
                     lastRotateTimestampMillis += durationBetweenRotatesMillis;
                 } while (timeSinceLastRotateMillis >= durationBetweenRotatesMillis && ++iterations < ringBuffer.length);
@@ -146,7 +161,11 @@ public class RollingHistogram {
                 accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
                 //TODO: Use accumulatedHistogram.reset(); and make accumulatedHistogram as final
                 //Refer: https://github.com/HdrHistogram/HdrHistogram/issues/143
-                accumulatedHistogramStale = true;
+                for (DoubleHistogram histogram : ringBuffer) {
+                    if (histogram.getTotalCount() > 0) {
+                        accumulatedHistogram.add(histogram);
+                    }
+                }
             }
         } finally {
             rotating = 0;
@@ -160,7 +179,7 @@ public class RollingHistogram {
     public Snapshot getSnapshot() {
         rotate();
         synchronized (this) {
-            accumulateIfStale();
+            accumulate();
             PercentileValue[] percentileValues = null;
             final double[] monitoredPercentiles = statisticConfig.getPercentiles();
             if (monitoredPercentiles != null) {
@@ -179,19 +198,20 @@ public class RollingHistogram {
         }
     }
 
-    private void accumulateIfStale() {
-        if (accumulatedHistogramStale) {
-            accumulate();
-            accumulatedHistogramStale = false;
-        }
-    }
-
+    /**
+     * Moves the samples recorded since the last call to the current bucket and the accumulated histogram.
+     */
     private void accumulate() {
-        currentHistogram().getIntervalHistogramInto(intervalHistogram);
-        accumulatedHistogram.add(intervalHistogram);
-    }
-
-    private DoubleRecorder currentHistogram() {
-        return ringBuffer[currentBucket];
+        for (int i = 0; i < STRIPES; i++) {
+            DoubleRecorder recorder = recorders.get(i);
+            if (recorder == null) {
+                continue;
+            }
+            recorder.getIntervalHistogramInto(intervalHistogram);
+            if (intervalHistogram.getTotalCount() > 0) {
+                ringBuffer[currentBucket].add(intervalHistogram);
+                accumulatedHistogram.add(intervalHistogram);
+            }
+        }
     }
 }
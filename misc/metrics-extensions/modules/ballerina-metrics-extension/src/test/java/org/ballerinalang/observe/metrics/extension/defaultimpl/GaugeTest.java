@@ -20,12 +20,17 @@ package org.ballerinalang.observe.metrics.extension.defaultimpl;
 import io.ballerina.runtime.observability.metrics.Gauge;
 import io.ballerina.runtime.observability.metrics.MetricRegistry;
 import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
 /**
@@ -72,4 +77,23 @@ public class GaugeTest {
         Assert.assertEquals(4.0, gauge.getSum());
     }
 
+    @Test
+    public void testConcurrentGaugeUpdates() throws Exception {
+        Gauge gauge = Gauge.builder("test_gauge_concurrent").description("Test Gauge")
+                .summarize(StatisticConfig.DEFAULT).register(metricRegistry);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> IntStream.range(0, 1000).forEach(j -> gauge.increment(1))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        Assert.assertEquals(gauge.getValue(), 8000D);
+        Assert.assertEquals(gauge.getCount(), 8000);
+        Snapshot snapshot = gauge.getSnapshots()[0];
+        Assert.assertEquals(snapshot.getMin(), 1D, 0.1);
+        Assert.assertEquals(snapshot.getMax(), 8000D, 80);
+    }
 }
@@ -30,18 +30,33 @@ import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.bala.BalaProject;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.internal.model.Target;
 import io.ballerina.projects.repos.FileSystemCache;
+import io.ballerina.projects.repos.SharedCompilationCache;
 import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.projects.util.ProjectUtils;
+import org.apache.commons.io.FileUtils;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
 import java.util.stream.Stream;
 
 import static io.ballerina.projects.util.ProjectConstants.BLANG_COMPILED_JAR_EXT;
@@ -55,6 +70,7 @@ import static io.ballerina.projects.util.ProjectUtils.getThinJarFileName;
  */
 public class TestBirAndJarCache {
     private static final Path RESOURCE_DIRECTORY = Path.of("src/test/resources/");
+    private static final int CACHED_PACKAGE_SIZE = 1000;
 
     @Test(description = "tests writing of the BIR and Jar files")
     public void testBirAndJarCaching() throws IOException {
@@ -124,6 +140,261 @@ public class TestBirAndJarCache {
         Assert.assertFalse(Files.exists(cacheDir.resolve(jBallerinaBackend.targetPlatform().code())));
     }
 
+    @Test(description = "tests whether the cached BIRs and jars are the same with one and many compilation threads")
+    public void testCachingWithCompilationThreads() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
+        Map<String, byte[]> sequentialCache = compileToCache(projectPath, 1);
+        Map<String, byte[]> parallelCache = compileToCache(projectPath, 4);
+
+        Assert.assertEquals(parallelCache.keySet(), sequentialCache.keySet());
+        for (Map.Entry<String, byte[]> entry : sequentialCache.entrySet()) {
+            // Jar entries have the time they are written, hence only the BIRs are compared byte by byte.
+            if (entry.getKey().endsWith(".bir")) {
+                Assert.assertEquals(parallelCache.get(entry.getKey()), entry.getValue(), entry.getKey());
+            }
+        }
+    }
+
+    @Test(description = "tests whether the classes generated with frames computed on many threads are the same as " +
+            "the classes generated with frames computed while generating the methods")
+    public void testGeneratedClassesWithCompilationThreads() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
+        Map<String, byte[]> sequentialCache = compileToCache(projectPath, 1);
+        Map<String, byte[]> parallelCache = compileToCache(projectPath, 4);
+
+        Assert.assertEquals(parallelCache.keySet(), sequentialCache.keySet());
+        int classCount = 0;
+        for (Map.Entry<String, byte[]> entry : sequentialCache.entrySet()) {
+            if (!entry.getKey().endsWith(BLANG_COMPILED_JAR_EXT)) {
+                continue;
+            }
+            Map<String, byte[]> sequentialClasses = readClasses(entry.getValue());
+            Map<String, byte[]> parallelClasses = readClasses(parallelCache.get(entry.getKey()));
+            Assert.assertEquals(parallelClasses.keySet(), sequentialClasses.keySet(), entry.getKey());
+            for (Map.Entry<String, byte[]> classEntry : sequentialClasses.entrySet()) {
+                Assert.assertEquals(parallelClasses.get(classEntry.getKey()), classEntry.getValue(),
+                        entry.getKey() + "!" + classEntry.getKey());
+            }
+            classCount += sequentialClasses.size();
+        }
+        Assert.assertTrue(classCount > 0);
+    }
+
+    @Test(description = "tests whether only the modules of which the sources changed are compiled again")
+    public void testCachingUnchangedModules() throws IOException {
+        Path projectPath = Files.createTempDirectory("test-incremental-build" + System.nanoTime());
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne").toFile(),
+                projectPath.toFile());
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+
+        int numOfModules = TestUtils.loadBuildProject(projectPath).currentPackage().moduleIds().size();
+        TestCompilationCache initialCache = compileWithCache(projectPath, cacheDirPath);
+        Assert.assertEquals(initialCache.birCachedCount, numOfModules);
+
+        // The modules are loaded from the cache, as none of them changed
+        TestCompilationCache unchangedCache = compileWithCache(projectPath, cacheDirPath);
+        Assert.assertEquals(unchangedCache.birCachedCount, 0);
+
+        // Only the changed module is compiled again, as no other module imports it
+        Path storageSource = projectPath.resolve(ProjectConstants.MODULES_ROOT).resolve("storage").resolve("db.bal");
+        Files.writeString(storageSource, System.lineSeparator() + "// updated", StandardOpenOption.APPEND);
+        TestCompilationCache changedCache = compileWithCache(projectPath, cacheDirPath);
+        Assert.assertEquals(changedCache.birCachedCount, 1);
+    }
+
+    @Test(description = "tests loading a bala package from the artifacts cached by another build")
+    public void testSharedCompilationCache() throws IOException {
+        Path balaPath = RESOURCE_DIRECTORY.resolve("balaloader").resolve("foo-winery-any-0.1.0.bala");
+        Path cacheDirPath = Files.createTempDirectory("test-shared-compilation-cache" + System.nanoTime());
+        Path versionDirPath = cacheDirPath.resolve("foo").resolve("winery").resolve("0.1.0");
+        compileWithSharedCache(balaPath, cacheDirPath);
+        Map<String, FileTime> cachedFiles = getCachedFiles(versionDirPath);
+        Assert.assertTrue(cachedFiles.keySet().stream().anyMatch(path -> path.endsWith(".bir")));
+        Assert.assertTrue(cachedFiles.keySet().stream().anyMatch(path -> path.endsWith(".jar")));
+
+        // The artifacts are cached in a single directory named by the digest of the bala
+        try (Stream<Path> paths = Files.list(versionDirPath)) {
+            Assert.assertEquals(paths.count(), 1);
+        }
+
+        // The package is loaded from the cached artifacts, which are not written again
+        compileWithSharedCache(balaPath, cacheDirPath);
+        Assert.assertEquals(getCachedFiles(versionDirPath), cachedFiles);
+    }
+
+    @Test(description = "tests identifying an extracted bala by the digest written when it was extracted")
+    public void testSharedCompilationCacheOfExtractedBala() throws IOException {
+        Path balaPath = RESOURCE_DIRECTORY.resolve("balaloader").resolve("foo-winery-any-0.1.0.bala");
+        Path extractedBalaPath = Files.createTempDirectory("test-extracted-bala" + System.nanoTime());
+        ProjectUtils.extractBala(balaPath, extractedBalaPath);
+        Path balaDigestFilePath = extractedBalaPath.resolve(ProjectConstants.BALA_DIGEST_FILE_NAME);
+        Assert.assertTrue(Files.exists(balaDigestFilePath));
+
+        // The artifacts of the bala are cached under the digest written when it was extracted
+        Path cacheDirPath = Files.createTempDirectory("test-shared-compilation-cache" + System.nanoTime());
+        Path versionDirPath = cacheDirPath.resolve("foo").resolve("winery").resolve("0.1.0");
+        compileWithSharedCache(extractedBalaPath, cacheDirPath);
+        Files.writeString(balaDigestFilePath, "0123456789abcdef");
+        compileWithSharedCache(extractedBalaPath, cacheDirPath);
+        try (Stream<Path> paths = Files.list(versionDirPath)) {
+            Assert.assertEquals(paths.count(), 2);
+        }
+
+        // The digest of a bala extracted without it is written by the first build that uses the bala
+        Files.delete(balaDigestFilePath);
+        compileWithSharedCache(extractedBalaPath, cacheDirPath);
+        Assert.assertTrue(Files.exists(balaDigestFilePath));
+        try (Stream<Path> paths = Files.list(versionDirPath)) {
+            Assert.assertEquals(paths.count(), 3);
+        }
+        Map<String, FileTime> cachedFiles = getCachedFiles(versionDirPath);
+        compileWithSharedCache(extractedBalaPath, cacheDirPath);
+        Assert.assertEquals(getCachedFiles(versionDirPath), cachedFiles);
+    }
+
+    @Test(description = "tests evicting the least recently used packages from the shared compilation cache")
+    public void testSharedCompilationCacheEviction() throws IOException {
+        Path balaPath = RESOURCE_DIRECTORY.resolve("balaloader").resolve("foo-winery-any-0.1.0.bala");
+        Path sizeCacheDirPath = Files.createTempDirectory("test-shared-compilation-cache" + System.nanoTime());
+        compileWithSharedCache(balaPath, sizeCacheDirPath, SharedCompilationCache.DEFAULT_MAX_SIZE);
+        long cacheSize = getSize(sizeCacheDirPath);
+        long packageSize = getSize(sizeCacheDirPath.resolve("foo").resolve("winery"));
+
+        // The least recently used packages are evicted until the cache is within its limit
+        Path cacheDirPath = Files.createTempDirectory("test-shared-compilation-cache" + System.nanoTime());
+        Path oldestPackage = createCachedPackage(cacheDirPath, "oldest", Duration.ofHours(4));
+        Path olderPackage = createCachedPackage(cacheDirPath, "older", Duration.ofHours(3));
+        Path oldPackage = createCachedPackage(cacheDirPath, "old", Duration.ofHours(2));
+        Path evictedDirPath = Files.createDirectories(cacheDirPath.resolve(".evicted-stale"));
+        Files.write(evictedDirPath.resolve("module.bir"), new byte[CACHED_PACKAGE_SIZE]);
+        compileWithSharedCache(balaPath, cacheDirPath, cacheSize + CACHED_PACKAGE_SIZE * 3 / 2);
+        Assert.assertFalse(Files.exists(oldestPackage));
+        Assert.assertFalse(Files.exists(olderPackage));
+        Assert.assertTrue(Files.exists(oldPackage));
+        Assert.assertEquals(getSize(cacheDirPath.resolve("foo").resolve("winery")), packageSize);
+        // The directories of the packages evicted earlier are deleted, as are those evicted now
+        try (Stream<Path> paths = Files.list(cacheDirPath)) {
+            Assert.assertTrue(paths.noneMatch(path -> path.getFileName().toString().startsWith(".evicted-")));
+        }
+
+        // The packages used within the grace period and the package being compiled are never evicted
+        Path limitedCacheDirPath = Files.createTempDirectory("test-shared-compilation-cache" + System.nanoTime());
+        Path unusedPackage = createCachedPackage(limitedCacheDirPath, "unused", Duration.ofHours(2));
+        Path recentPackage = createCachedPackage(limitedCacheDirPath, "recent", Duration.ofMinutes(10));
+        compileWithSharedCache(balaPath, limitedCacheDirPath, 1);
+        Assert.assertFalse(Files.exists(unusedPackage));
+        Assert.assertTrue(Files.exists(recentPackage));
+        Assert.assertEquals(getSize(limitedCacheDirPath.resolve("foo").resolve("winery")), packageSize);
+
+        // The cache is not evicted again within an hour of the last eviction by any build
+        Path stalePackage = createCachedPackage(limitedCacheDirPath, "stale", Duration.ofHours(2));
+        ProjectUtils.deleteDirectory(limitedCacheDirPath.resolve("foo"));
+        compileWithSharedCache(balaPath, limitedCacheDirPath, 1);
+        Assert.assertTrue(Files.exists(stalePackage));
+        Files.setLastModifiedTime(limitedCacheDirPath.resolve(".last-evicted"),
+                FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        ProjectUtils.deleteDirectory(limitedCacheDirPath.resolve("foo"));
+        compileWithSharedCache(balaPath, limitedCacheDirPath, 1);
+        Assert.assertFalse(Files.exists(stalePackage));
+    }
+
+    private static void compileWithSharedCache(Path balaPath, Path cacheDirPath) {
+        compileWithSharedCache(balaPath, cacheDirPath, SharedCompilationCache.DEFAULT_MAX_SIZE);
+    }
+
+    private static void compileWithSharedCache(Path balaPath, Path cacheDirPath, long maxSize) {
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(
+                new SharedCompilationCache.SharedCompilationCacheFactory(cacheDirPath, maxSize));
+        BalaProject balaProject = BalaProject.loadProject(environmentBuilder, balaPath);
+        PackageCompilation compilation = balaProject.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_21);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+    }
+
+    // Creates the directory of a package in the cache, of which the artifacts were last used the given time ago.
+    private static Path createCachedPackage(Path cacheDirPath, String packageName, Duration lastUsedAge)
+            throws IOException {
+        Path packageDirPath = Files.createDirectories(
+                cacheDirPath.resolve("test").resolve(packageName).resolve("0.1.0").resolve("0123456789abcdef"));
+        Files.write(packageDirPath.resolve(packageName + ".bir"), new byte[CACHED_PACKAGE_SIZE]);
+        Path lastUsedFilePath = Files.createFile(packageDirPath.resolve(".last-used"));
+        Files.setLastModifiedTime(lastUsedFilePath, FileTime.from(Instant.now().minus(lastUsedAge)));
+        return packageDirPath;
+    }
+
+    private static long getSize(Path dirPath) throws IOException {
+        long size = 0;
+        try (Stream<Path> paths = Files.walk(dirPath)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                size += Files.size(path);
+            }
+        }
+        return size;
+    }
+
+    // Returns the last modified times of the artifacts cached for a version of a package, by their paths.
+    private static Map<String, FileTime> getCachedFiles(Path versionDirPath) throws IOException {
+        Map<String, FileTime> cachedFiles = new TreeMap<>();
+        try (Stream<Path> pathStream = Files.find(versionDirPath, 100, (path, fileAttributes) ->
+                fileAttributes.isRegularFile() && !path.getFileName().toString().startsWith("."))) {
+            for (Path path : pathStream.toList()) {
+                cachedFiles.put(versionDirPath.relativize(path).toString(), Files.getLastModifiedTime(path));
+            }
+        }
+        return cachedFiles;
+    }
+
+    private static TestCompilationCache compileWithCache(Path projectPath, Path cacheDirPath) {
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+        JBallerinaBackend.from(project.currentPackage().getCompilation(), JvmTarget.JAVA_21);
+        return testCompCacheFactory.compilationCache();
+    }
+
+    // Classes are read and written again so that the order of their constant pools does not affect the comparison.
+    private static Map<String, byte[]> readClasses(byte[] jarBytes) throws IOException {
+        Map<String, byte[]> classes = new TreeMap<>();
+        try (JarInputStream jarInputStream = new JarInputStream(new ByteArrayInputStream(jarBytes))) {
+            JarEntry jarEntry;
+            while ((jarEntry = jarInputStream.getNextJarEntry()) != null) {
+                if (!jarEntry.getName().endsWith(".class")) {
+                    continue;
+                }
+                ClassWriter classWriter = new ClassWriter(0);
+                new ClassReader(jarInputStream.readAllBytes()).accept(classWriter, 0);
+                classes.put(jarEntry.getName(), classWriter.toByteArray());
+            }
+        }
+        return classes;
+    }
+
+    private static Map<String, byte[]> compileToCache(Path projectPath, int compilationThreads) throws IOException {
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        BuildOptions buildOptions = BuildOptions.builder()
+                .setEnableCache(true)
+                .setCompilationThreads(compilationThreads)
+                .build();
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+        JBallerinaBackend.from(project.currentPackage().getCompilation(), JvmTarget.JAVA_21);
+
+        Map<String, byte[]> cachedFiles = new TreeMap<>();
+        try (Stream<Path> pathStream = Files.find(cacheDirPath, 100,
+                (path, fileAttributes) -> !Files.isDirectory(path))) {
+            for (Path path : pathStream.toList()) {
+                cachedFiles.put(cacheDirPath.relativize(path).toString(), Files.readAllBytes(path));
+            }
+        }
+        return cachedFiles;
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
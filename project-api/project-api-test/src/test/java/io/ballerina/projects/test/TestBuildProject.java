@@ -485,6 +485,7 @@ public class TestBuildProject extends BaseTest {
         Assert.assertFalse(project.buildOptions().offlineBuild());
         Assert.assertFalse(project.buildOptions().testReport());
         Assert.assertTrue(project.buildOptions().remoteManagement());
+        Assert.assertEquals(project.buildOptions().compilationThreads(), 4);
     }
 
     @Test(description = "tests loading a valid build project with build options from toml")
@@ -492,7 +493,7 @@ public class TestBuildProject extends BaseTest {
         Path projectPath = tempResourceDir.resolve("projectWithBuildOptions");
         // 1) Initialize the project instance
         BuildProject project = null;
-        BuildOptions buildOptions = BuildOptions.builder().setSkipTests(false).build();
+        BuildOptions buildOptions = BuildOptions.builder().setSkipTests(false).setCompilationThreads(2).build();
         try {
             project = BuildProject.load(projectPath, buildOptions);
         } catch (Exception e) {
@@ -505,6 +506,7 @@ public class TestBuildProject extends BaseTest {
         Assert.assertFalse(project.buildOptions().codeCoverage());
         Assert.assertFalse(project.buildOptions().offlineBuild());
         Assert.assertFalse(project.buildOptions().testReport());
+        Assert.assertEquals(project.buildOptions().compilationThreads(), 2);
     }
 
     @Test(description = "tests overriding build options when editing Toml")
@@ -1721,6 +1723,46 @@ public class TestBuildProject extends BaseTest {
         }
     }
 
+    @Test(description = "tests omitting the unreachable classes from the executable jar")
+    public void testEliminateDeadCode() throws IOException, InterruptedException {
+        Path projectPath = tempResourceDir.resolve("project_for_dce");
+        BuildOptions buildOptions = BuildOptions.builder().setEliminateDeadCode(true).build();
+        BuildProject buildProject = loadBuildProject(projectPath, buildOptions);
+        Assert.assertTrue(buildProject.buildOptions().eliminateDeadCode());
+
+        PackageCompilation compilation = buildProject.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_21);
+        Path execPath = buildProject.sourceRoot().resolve(TARGET_DIR_NAME).resolve("dce.jar");
+        EmitResult emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, execPath);
+        Assert.assertTrue(emitResult.successful());
+
+        Path reportPath = execPath.resolveSibling("dce-removed-classes.txt");
+        Assert.assertTrue(Files.exists(reportPath));
+        List<String> removedClasses = Files.readAllLines(reportPath);
+        // The class of the function that is not called is omitted, while the class of the called function is kept.
+        String unusedClassName = "asmaj.package_dce.0.unused";
+        String usedClassName = "asmaj.package_dce.0.utils";
+        Assert.assertTrue(removedClasses.contains(unusedClassName), removedClasses.toString());
+        Assert.assertFalse(removedClasses.contains(usedClassName), removedClasses.toString());
+        try (JarFile execJar = new JarFile(execPath.toString())) {
+            String mainClassName = execJar.getManifest().getMainAttributes().getValue("Main-Class");
+            Assert.assertFalse(removedClasses.contains(mainClassName));
+            Assert.assertNotNull(execJar.getJarEntry(mainClassName.replace('.', '/') + ".class"));
+            Assert.assertNotNull(execJar.getJarEntry(usedClassName.replace('.', '/') + ".class"));
+            for (String removedClass : removedClasses) {
+                Assert.assertNull(execJar.getJarEntry(removedClass.replace('.', '/') + ".class"));
+            }
+        }
+
+        // The main function returns an error if the called function does not work, which fails the execution.
+        Path javaPath = Path.of(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(javaPath.toString(), "-jar", execPath.toString())
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes());
+        Assert.assertEquals(process.waitFor(), 0, output);
+    }
+
     @Test (enabled = false)
     public void testAddResources() throws IOException {
         // 1. load the project
@@ -0,0 +1,6 @@
+public function main() returns error? {
+    int sum = add(1, 2);
+    if sum != 3 {
+        return error("unexpected sum: " + sum.toString());
+    }
+}
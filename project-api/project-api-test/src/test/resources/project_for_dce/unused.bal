@@ -0,0 +1,4 @@
+// This function is not called from anywhere, hence its class is omitted from the executable jar.
+function unusedFunction() returns int {
+    return 42;
+}
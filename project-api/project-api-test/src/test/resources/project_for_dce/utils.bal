@@ -0,0 +1,3 @@
+function add(int a, int b) returns int {
+    return a + b;
+}
@@ -0,0 +1,72 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Footprint benchmarks keep `benchmarkCount` values alive and report the heap used per value to STDERR,
+// while the execution time of creating the values is reported as usual.
+
+type FootprintRecord record {|
+    int id;
+    string name;
+    decimal salary;
+    boolean active;
+|};
+
+public function benchmarkClosedRecordFootprint(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        FootprintRecord r = {id: i, name: "Name", salary: 100.0d, active: true};
+        i += 1;
+    }
+
+    FootprintRecord[] records = [];
+    int usedMemoryBefore = usedHeapMemory();
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        records.push({id: i, name: "Name", salary: 100.0d, active: true});
+        i += 1;
+    }
+    int totalTime = nanoTime() - startTime;
+    printBytesPerValue("benchmarkClosedRecordFootprint", usedHeapMemory() - usedMemoryBefore, records.length());
+    return totalTime;
+}
+
+public function benchmarkMapFootprint(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        map<int> m = {a: i, b: i, c: i, d: i};
+        i += 1;
+    }
+
+    map<int>[] maps = [];
+    int usedMemoryBefore = usedHeapMemory();
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        maps.push({a: i, b: i, c: i, d: i});
+        i += 1;
+    }
+    int totalTime = nanoTime() - startTime;
+    printBytesPerValue("benchmarkMapFootprint", usedHeapMemory() - usedMemoryBefore, maps.length());
+    return totalTime;
+}
+
+function printBytesPerValue(string functionName, int usedMemory, int valueCount) {
+    if (valueCount == 0) {
+        return;
+    }
+    printErr(functionName, ": ", usedMemory / valueCount, " bytes per value");
+}
@@ -0,0 +1,56 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.regexp;
+
+// The regular expression engine is selected with the BAL_REGEXP_ENGINE environment variable, so that the engines
+// can be compared by running these benchmarks with BAL_REGEXP_ENGINE=java and BAL_REGEXP_ENGINE=linear.
+
+final string logLine = "2025-01-15 10:23:45 INFO [http-listener] request id=4f2a9c user=alice@example.com " +
+        "path=/orders/1234 status=200 latency=15ms";
+
+// Matching `(a|a)*b` against a run of `a`s without a `b` backtracks exponentially in the length of the run.
+final string adversarialInput = "aaaaaaaaaaaaaaaaaaaa";
+
+public function benchmarkRegExpFind() {
+    regexp:RegExp re = re `[a-z0-9.]+@[a-z0-9.]+\.[a-z]{2,}`;
+    regexp:Span? span = re.find(logLine);
+}
+
+public function benchmarkRegExpFindGroups() {
+    regexp:RegExp re = re `(\d{4})-(\d{2})-(\d{2}) (\d{2}):(\d{2}):(\d{2})`;
+    regexp:Groups? groups = re.findGroups(logLine);
+}
+
+public function benchmarkRegExpFindAll() {
+    regexp:RegExp re = re `([a-z]+)=([^ ]+)`;
+    regexp:Span[] spans = re.findAll(logLine);
+}
+
+public function benchmarkRegExpSplit() {
+    regexp:RegExp re = re `[ =]+`;
+    string[] parts = re.split(logLine);
+}
+
+public function benchmarkRegExpIsFullMatch() {
+    regexp:RegExp re = re `\d{4}-\d{2}-\d{2} .*ms`;
+    boolean result = re.isFullMatch(logLine);
+}
+
+public function benchmarkRegExpAdversarialIsFullMatch() {
+    regexp:RegExp re = re `(a|a)*b`;
+    boolean result = re.isFullMatch(adversarialInput);
+}
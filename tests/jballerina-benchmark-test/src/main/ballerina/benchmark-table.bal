@@ -0,0 +1,112 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Table benchmarks create the rows before the benchmark, so that the heap used per row that is reported to STDERR
+// only includes the storage of the table.
+
+type TableRow record {|
+    readonly int id;
+    string name;
+|};
+
+isolated function getTableRows(int size) returns TableRow[] {
+    TableRow[] rows = [];
+    int i = 0;
+    while (i < size) {
+        rows.push({id: i, name: "Name"});
+        i += 1;
+    }
+    return rows;
+}
+
+public function benchmarkKeyedTableAdd(int warmupCount, int benchmarkCount) returns int {
+    TableRow[] rows = getTableRows(warmupCount);
+    table<TableRow> key(id) tbl = table [];
+    foreach TableRow row in rows {
+        tbl.add(row);
+    }
+
+    rows = getTableRows(benchmarkCount);
+    tbl = table [];
+    int usedMemoryBefore = usedHeapMemory();
+    int startTime = nanoTime();
+    foreach TableRow row in rows {
+        tbl.add(row);
+    }
+    int totalTime = nanoTime() - startTime;
+    printBytesPerValue("benchmarkKeyedTableAdd", usedHeapMemory() - usedMemoryBefore, tbl.length());
+    return totalTime;
+}
+
+public function benchmarkKeylessTableAdd(int warmupCount, int benchmarkCount) returns int {
+    TableRow[] rows = getTableRows(warmupCount);
+    table<TableRow> tbl = table [];
+    foreach TableRow row in rows {
+        tbl.add(row);
+    }
+
+    rows = getTableRows(benchmarkCount);
+    tbl = table [];
+    int usedMemoryBefore = usedHeapMemory();
+    int startTime = nanoTime();
+    foreach TableRow row in rows {
+        tbl.add(row);
+    }
+    int totalTime = nanoTime() - startTime;
+    printBytesPerValue("benchmarkKeylessTableAdd", usedHeapMemory() - usedMemoryBefore, tbl.length());
+    return totalTime;
+}
+
+public function benchmarkKeyedTableLookup(int warmupCount, int benchmarkCount) returns int {
+    table<TableRow> key(id) tbl = table [];
+    foreach TableRow row in getTableRows(benchmarkCount) {
+        tbl.add(row);
+    }
+    int i = 0;
+    while (i < warmupCount) {
+        TableRow? row = tbl[i % benchmarkCount];
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        TableRow? row = tbl[i];
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableIteration(int warmupCount, int benchmarkCount) returns int {
+    table<TableRow> tbl = table [];
+    foreach TableRow row in getTableRows(warmupCount) {
+        tbl.add(row);
+    }
+    int sum = 0;
+    foreach TableRow row in tbl {
+        sum += row.id;
+    }
+
+    tbl = table [];
+    foreach TableRow row in getTableRows(benchmarkCount) {
+        tbl.add(row);
+    }
+    int startTime = nanoTime();
+    foreach TableRow row in tbl {
+        sum += row.id;
+    }
+    return (nanoTime() - startTime);
+}
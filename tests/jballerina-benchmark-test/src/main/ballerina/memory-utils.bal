@@ -0,0 +1,29 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Returns the heap memory in use after requesting a garbage collection, in bytes.
+#
+# ```ballerina
+#   int usedMemory = usedHeapMemory();
+# ```
+#
+# + return - Integer value of the used heap memory in bytes
+public isolated function usedHeapMemory() returns int = @java:Method {
+    name: "usedHeapMemory",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
@@ -40,6 +40,18 @@ public isolated function println((any|error)... values) = @java:Method {
     'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
 } external;
 
+# Prints `any` or `error` value(s) to the STDERR followed by a new line.
+#
+#```ballerina
+#   printErr("Bytes per record: ", bytesPerRecord);
+#```
+#
+# + values - The value(s) to be printed.
+public isolated function printErr((any|error)... values) = @java:Method {
+    name: "printErr",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
 # Returns a formatted string using the specified format string and arguments.
 #
 # ```ballerina
@@ -36,6 +36,12 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkClosedRecordFootprint", benchmarkClosedRecordFootprint);
+    addSingleExecFunction("benchmarkMapFootprint", benchmarkMapFootprint);
+    addSingleExecFunction("benchmarkKeyedTableAdd", benchmarkKeyedTableAdd);
+    addSingleExecFunction("benchmarkKeylessTableAdd", benchmarkKeylessTableAdd);
+    addSingleExecFunction("benchmarkKeyedTableLookup", benchmarkKeyedTableLookup);
+    addSingleExecFunction("benchmarkTableIteration", benchmarkTableIteration);
 }
 
 public function registerMultiExecFunctions() {
@@ -63,4 +69,10 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkRegExpFind", benchmarkRegExpFind);
+    addMultiExecFunction("benchmarkRegExpFindGroups", benchmarkRegExpFindGroups);
+    addMultiExecFunction("benchmarkRegExpFindAll", benchmarkRegExpFindAll);
+    addMultiExecFunction("benchmarkRegExpSplit", benchmarkRegExpSplit);
+    addMultiExecFunction("benchmarkRegExpIsFullMatch", benchmarkRegExpIsFullMatch);
+    addMultiExecFunction("benchmarkRegExpAdversarialIsFullMatch", benchmarkRegExpAdversarialIsFullMatch);
 }
@@ -68,6 +68,25 @@ public final class Utils {
         out.println(content);
     }
 
+    public static void printErr(Object... values) {
+        PrintStream err = System.err;
+        StringBuilder content = new StringBuilder();
+        for (Object value : values) {
+            if (value != null) {
+                content.append(StringUtils.getStringValue(value));
+            }
+        }
+        err.println(content);
+    }
+
+    public static long usedHeapMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
     public static BString sprintf(BString format, Object... args) {
         StringBuilder result = new StringBuilder();
         for (int i = 0, j, k = 0; i < format.length(); i++) {
@@ -61,4 +61,13 @@ public class AsyncFunctionsTest extends BaseTest {
                 new LogLeecher[]{logLeecher});
         logLeecher.waitForText(5000);
     }
+
+    @Test
+    public void testWaitingOnQueuedStrandsWithStrandLimits() throws BallerinaTestException {
+        // The Config.toml in the source root limits the running and queued strands of the program.
+        LogLeecher logLeecher = new LogLeecher("Tests passed");
+        bMainInstance.runMain(testFileLocation + "/strandLimits", "strandLimitsPackage", null, new String[]{}, null,
+                null, new LogLeecher[]{logLeecher});
+        logLeecher.waitForText(10000);
+    }
 }
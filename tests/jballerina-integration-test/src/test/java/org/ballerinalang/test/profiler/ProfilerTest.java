@@ -23,12 +23,14 @@ import org.ballerinalang.test.context.BMainInstance;
 import org.ballerinalang.test.context.BallerinaTestException;
 import org.ballerinalang.test.context.LogLeecher;
 import org.ballerinalang.test.context.ServerLogReader;
+import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
@@ -81,6 +83,37 @@ public class ProfilerTest extends BaseTest {
         }
     }
 
+    @Test
+    public void testProfilerExecutionWithSamplingInterval() throws BallerinaTestException {
+        String packageName = "projectForProfile" + File.separator + "package_a";
+        String sourceRoot = testFileLocation + File.separator;
+        Map<String, String> envProperties = new HashMap<>();
+        Path profilerOutputDir = Path.of(sourceRoot, packageName, "target", "profiler");
+        String flameGraphFilePath = profilerOutputDir.resolve("ProfilerReport.folded").toString();
+        List<LogLeecher> leechers = Lists.of(
+                new LogLeecher("[1/6] Initializing..."),
+                new LogLeecher("[2/6] Copying executable..."),
+                new LogLeecher("[3/6] Performing analysis..."),
+                new LogLeecher("[4/6] Configuring sampling..."),
+                new LogLeecher("      Sampled module count: "),
+                new LogLeecher("      Sampling interval: 5 ms"),
+                new LogLeecher("[5/6] Running executable..."),
+                new LogLeecher("Is the array sorted? true"),
+                new LogLeecher("[6/6] Generating output..."),
+                new LogLeecher("      Sample count: "),
+                new LogLeecher("      Flame graph: " + flameGraphFilePath),
+                new LogLeecher("      Output: "),
+                new LogLeecher(profilerOutputDir.resolve(outputFile).toString()));
+        bMainInstance.runMain("profile", new String[]{"--sampling-interval", "5", packageName}, envProperties,
+                null, leechers.toArray(new LogLeecher[0]), sourceRoot);
+        for (LogLeecher leecher : leechers) {
+            leecher.waitForText(5000);
+        }
+        // The recording of the samples is removed once the profile is generated from it
+        Assert.assertTrue(Files.exists(Path.of(flameGraphFilePath)));
+        Assert.assertFalse(Files.exists(profilerOutputDir.resolve("sampling.jfr")));
+    }
+
     private List<LogLeecher> getProfilerLogLeechers(String htmlFilePath) {
         return Lists.of(
                 new LogLeecher("[1/6] Initializing..."),
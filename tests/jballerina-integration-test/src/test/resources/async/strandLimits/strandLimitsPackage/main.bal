@@ -0,0 +1,88 @@
+// Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/test;
+
+// The Config.toml of the project allows two strands to run and two strands to be queued, so the strands below wait
+// for strands that are still queued.
+public function main() {
+    test:assertEquals(sumTree(4), 16);
+    test:assertEquals(isolatedSumTree(4), 16);
+    test:assertEquals(sumWithWorkers(), 6);
+    print("Tests passed");
+}
+
+function sumTree(int depth) returns int {
+    if depth == 0 {
+        return 1;
+    }
+    future<int>[] futures = [];
+    foreach int i in 0 ..< 2 {
+        futures.push(start sumTree(depth - 1));
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum += checkpanic wait f;
+    }
+    return sum;
+}
+
+isolated function isolatedSumTree(int depth) returns int {
+    if depth == 0 {
+        return 1;
+    }
+    future<int> left = start isolatedSumTree(depth - 1);
+    future<int> right = start isolatedSumTree(depth - 1);
+    record {int|error left; int|error right;} results = wait {left, right};
+    return checkpanic results.left + checkpanic results.right;
+}
+
+function sumWithWorkers() returns int {
+    worker w1 {
+        int value = sumTree(0);
+        value -> function;
+    }
+    worker w2 {
+        int value = sumTree(1);
+        value -> function;
+    }
+    worker w3 {
+        int value = sumTree(1) + sumTree(0);
+        value -> function;
+    }
+    int first = <- w1;
+    int second = <- w2;
+    int third = <- w3;
+    return first + second + third;
+}
+
+function print(string value) {
+    handle strValue = java:fromString(value);
+    handle stdout1 = stdout();
+    printInternal(stdout1, strValue);
+}
+
+public function stdout() returns handle = @java:FieldGet {
+    name: "out",
+    'class: "java/lang/System"
+} external;
+
+public function printInternal(handle receiver, handle strValue) = @java:Method {
+    name: "println",
+    'class: "java/io/PrintStream",
+    paramTypes: ["java.lang.String"]
+} external;
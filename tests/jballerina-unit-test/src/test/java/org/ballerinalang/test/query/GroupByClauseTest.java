@@ -213,7 +213,8 @@ public class GroupByClauseTest {
                 "testGroupByExpressionAndSelectWithNonGroupingKeys9",
                 "testGroupByExpressionAndSelectWithNonGroupingKeys10",
                 "testGroupByExpressionAndSelectWithNonGroupingKeys12",
-                "testGroupByExpressionAndSelectWithNonGroupingKeys11"
+                "testGroupByExpressionAndSelectWithNonGroupingKeys11",
+                "testGroupByWithAggregatesComputedWhileGrouping"
         };
     }
 
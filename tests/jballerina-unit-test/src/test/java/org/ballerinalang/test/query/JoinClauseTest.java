@@ -125,6 +125,31 @@ public class JoinClauseTest {
         BRunUtil.invoke(result, "testJoinClauseWithLargeList");
     }
     
+    @Test(description = "Test join clause with nil join keys")
+    public void testJoinClauseWithNilKeys() {
+        BRunUtil.invoke(result, "testJoinClauseWithNilKeys");
+    }
+
+    @Test(description = "Test join clause with float join keys including -0.0 and NaN")
+    public void testJoinClauseWithFloatKeys() {
+        BRunUtil.invoke(result, "testJoinClauseWithFloatKeys");
+    }
+
+    @Test(description = "Test join clause with decimal join keys of different scales")
+    public void testJoinClauseWithDecimalKeys() {
+        BRunUtil.invoke(result, "testJoinClauseWithDecimalKeys");
+    }
+
+    @Test(description = "Test join clause with structured join keys")
+    public void testJoinClauseWithStructuredKeys() {
+        BRunUtil.invoke(result, "testJoinClauseWithStructuredKeys");
+    }
+
+    @Test(description = "Test join clause with many rows per join key")
+    public void testJoinClauseWithManyRowsPerKey() {
+        BRunUtil.invoke(result, "testJoinClauseWithManyRowsPerKey");
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         int i = 0;
@@ -252,6 +252,11 @@ public class OrderByClauseTest {
         BRunUtil.invoke(result, "testQueryExprWithOrderByClauseWithArrayKey");
     }
 
+    @Test(description = "Test query expr with order by clause followed by a limit clause with a constant limit")
+    public void testQueryExprWithOrderByAndConstantLimitClause() {
+        BRunUtil.invoke(result, "testQueryExprWithOrderByAndConstantLimitClause");
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
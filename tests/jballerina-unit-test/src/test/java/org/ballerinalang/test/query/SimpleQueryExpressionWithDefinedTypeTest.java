@@ -388,6 +388,11 @@ public class SimpleQueryExpressionWithDefinedTypeTest {
         BRunUtil.invoke(result, "testQueryExprWithLangLibCallsWithArrowFunctions");
     }
 
+    @Test
+    public void testQueryExprWithSlotFramePipeline() {
+        BRunUtil.invoke(result, "testQueryExprWithSlotFramePipeline");
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.record;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for accessing the fields of records whose values are loaded directly from the record value class.
+ *
+ * @since 2201.12.0
+ */
+public class RecordFieldAccessTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/record/record_field_access.bal");
+        Assert.assertEquals(result.getErrorCount(), 0, result.getDiagnosticResult().diagnostics().toString());
+    }
+
+    @DataProvider
+    public static Object[] recordFieldAccessTestFunctions() {
+        return new String[]{
+                "testRequiredFieldAccess",
+                "testOptionalFieldAccess",
+                "testRestFieldAccess",
+                "testReadonlyRecordFieldAccess",
+                "testFieldAccessOfStructuralSubtype"
+        };
+    }
+
+    @Test(dataProvider = "recordFieldAccessTestFunctions")
+    public void testRecordFieldAccess(String testFunction) {
+        BRunUtil.invoke(result, testFunction);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
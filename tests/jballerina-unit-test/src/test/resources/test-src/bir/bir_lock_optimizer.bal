@@ -0,0 +1,70 @@
+// Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+int counter = 0;
+map<int> counts = {};
+map<map<int>> nestedCounts = {};
+
+function readCounter() returns int {
+    lock {
+        return counter;
+    }
+}
+
+function readCounterWithBranch() returns int {
+    lock {
+        if counter > 10 {
+            return counter;
+        }
+        return 0;
+    }
+}
+
+function incrementCounter() {
+    lock {
+        counter = counter + 1;
+    }
+}
+
+function storeCount() {
+    lock {
+        counts["a"] = 1;
+    }
+}
+
+function storeNestedCount() {
+    lock {
+        nestedCounts["a"]["b"] = 1;
+    }
+}
+
+function readCounterThroughCall() returns int {
+    lock {
+        return getCounter();
+    }
+}
+
+function readCounterInNestedLock() returns int {
+    lock {
+        lock {
+            return counter;
+        }
+    }
+}
+
+function getCounter() returns int {
+    return counter;
+}
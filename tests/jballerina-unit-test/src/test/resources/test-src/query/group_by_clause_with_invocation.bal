@@ -975,6 +975,54 @@ function testGroupByExpressionAndSelectWithNonGroupingKeys9() {
     ], quarterlyMin);
 }
 
+function testGroupByWithAggregatesComputedWhileGrouping() {
+    var input = [
+        {name: "Saman", price: 10, qty: 2, rate: 1.50d},
+        {name: "Kamal", price: 20, qty: 3, rate: 2.0d},
+        {name: "Saman", price: 30, qty: 4, rate: 1.5d},
+        {name: "Amal", price: 40, qty: 5, rate: 0.5d},
+        {name: "Kamal", price: 50, qty: 6, rate: 2.00d}
+    ];
+
+    var totals = from var {name, price, qty, rate} in input
+        group by name
+        select {name, total: sum(price), items: count(qty), maxRate: max(rate), minPrice: min(25, price)};
+    assertEquality([
+        {name: "Saman", total: 40, items: 2, maxRate: 1.5d, minPrice: 10},
+        {name: "Kamal", total: 70, items: 2, maxRate: 2.00d, minPrice: 20},
+        {name: "Amal", total: 40, items: 1, maxRate: 0.5d, minPrice: 25}
+    ], totals);
+
+    var mixed = from var {name, price} in input
+        group by name
+        where count(price) > 1
+        select {name, total: sum(price), prices: [price]};
+    assertEquality([
+        {name: "Saman", total: 40, prices: [10, 30]},
+        {name: "Kamal", total: 70, prices: [20, 50]}
+    ], mixed);
+
+    int itemCount = from var {qty} in input
+        where qty > 10
+        collect count(qty);
+    assertEquality(0, itemCount);
+
+    int? maxQty = from var {qty} in input
+        collect max(qty);
+    assertEquality(6, maxQty);
+
+    var large = [{id: 1, value: int:MAX_VALUE}, {id: 1, value: 1}, {id: 2, value: 1}];
+    int[]|error overflowed = trap from var {id, value} in large
+        group by id
+        select sum(value);
+    assertEquality(true, overflowed is error);
+    int[] filtered = from var {id, value} in large
+        group by id
+        where id == 2
+        select sum(value);
+    assertEquality([1], filtered);
+}
+
 function assertEquality(anydata expected, anydata actual) {
     if expected == actual {
         return;
@@ -514,6 +514,102 @@ public function testJoinClauseWithLargeList() {
     assertEquality(10000, getCommonList("a"));
 }
 
+type JoinKeyRecord record {|
+    int id;
+    string name;
+|};
+
+public function testJoinClauseWithNilKeys() {
+    int?[] lhs = [1, (), 2, ()];
+    int?[] rhs = [(), 2, (), 3];
+
+    [int?, int?][] joined = from int? a in lhs
+        join int? b in rhs on a equals b
+        select [a, b];
+    assertEquality(5, joined.length());
+    assertEquality([(), ()], joined[0]);
+    assertEquality([(), ()], joined[1]);
+    assertEquality([2, 2], joined[2]);
+    assertEquality([(), ()], joined[3]);
+    assertEquality([(), ()], joined[4]);
+
+    [int?, int?][] outerJoined = from int? a in lhs
+        outer join var b in rhs on a equals b
+        select [a, b];
+    assertEquality(6, outerJoined.length());
+    assertEquality([1, ()], outerJoined[0]);
+    assertEquality([2, 2], outerJoined[3]);
+}
+
+public function testJoinClauseWithFloatKeys() {
+    float[] lhs = [0.0, -0.0, float:NaN, 1.5, 2.5];
+    float[] rhs = [-0.0, float:NaN, 1.5, 3.5];
+
+    [float, float][] joined = from float a in lhs
+        join float b in rhs on a equals b
+        select [a, b];
+    assertEquality(4, joined.length());
+    assertEquality(-0.0, joined[0][1]);
+    assertEquality(-0.0, joined[1][1]);
+    assertEquality(true, joined[2][0].isNaN() && joined[2][1].isNaN());
+    assertEquality([1.5, 1.5], joined[3]);
+}
+
+public function testJoinClauseWithDecimalKeys() {
+    decimal[] lhs = [1.0d, 0d, 2.50d, 3d];
+    decimal[] rhs = [1.00d, -0d, 2.5d, 4d];
+
+    decimal[] joined = from decimal a in lhs
+        join decimal b in rhs on a equals b
+        select b;
+    assertEquality(3, joined.length());
+    assertEquality(1d, joined[0]);
+    assertEquality(0d, joined[1]);
+    assertEquality(2.5d, joined[2]);
+}
+
+public function testJoinClauseWithStructuredKeys() {
+    JoinKeyRecord[] lhs = [{id: 1, name: "a"}, {id: 2, name: "b"}, {id: 3, name: "c"}];
+    JoinKeyRecord[] rhs = [{name: "b", id: 2}, {name: "a", id: 1}, {name: "a", id: 2}];
+
+    string[] joined = from JoinKeyRecord a in lhs
+        join JoinKeyRecord b in rhs on a equals b
+        select a.name;
+    assertEquality(["a", "b"], joined);
+
+    map<int|string>[] lhsMaps = [{id: 1, name: "a"}, {id: 2}];
+    map<int|string>[] rhsMaps = [{id: 2}, {name: "a", id: 1}, {id: 1}];
+    map<int|string>[] mapMatches = from map<int|string> a in lhsMaps
+        join map<int|string> b in rhsMaps on a equals b
+        select b;
+    assertEquality([{name: "a", id: 1}, {id: 2}], mapMatches);
+
+    [int, string[]][] lhsTuples = [[1, ["x", "y"]], [2, ["x"]], [1, ["y", "x"]]];
+    [int, string[]][] rhsTuples = [[1, ["x", "y"]], [2, ["x"]], [1, ["x", "y"]]];
+    int[] tupleMatches = from [int, string[]] a in lhsTuples
+        join [int, string[]] b in rhsTuples on a equals b
+        select a[0];
+    assertEquality([1, 1, 2], tupleMatches);
+}
+
+public function testJoinClauseWithManyRowsPerKey() {
+    int[] lhs = [1, 2, 1];
+    [int, int][] rhs = [];
+    foreach int i in 0 ..< 1000 {
+        rhs.push([i % 2 == 0 ? 1 : 2, i]);
+    }
+
+    [int, int][] joined = from int a in lhs
+        join var [key, position] in rhs on a equals key
+        select [a, position];
+    assertEquality(1500, joined.length());
+    foreach int i in 0 ..< 500 {
+        assertEquality([1, i * 2], joined[i]);
+        assertEquality([2, i * 2 + 1], joined[500 + i]);
+        assertEquality([1, i * 2], joined[1000 + i]);
+    }
+}
+
 function getCommonList(string character) returns int {
     string[] barList = ["a", "b", "c"];
     string[] fooList = [];
@@ -688,6 +688,50 @@ function testQueryExprWithOrderByClauseWithArrayKey() {
     assertEquality([2, 1, 3, 4, 5], q8);
 }
 
+const TOP_K = 3;
+
+function testQueryExprWithOrderByAndConstantLimitClause() {
+    record {|int k; int? score; string name;|}[] data = [
+        {k: 1, score: 40, name: "A"},
+        {k: 2, score: (), name: "B"},
+        {k: 3, score: 70, name: "C"},
+        {k: 4, score: 40, name: "D"},
+        {k: 5, score: 90, name: "E"},
+        {k: 6, score: 70, name: "F"}
+    ];
+
+    int[] q1 = from var rec in data
+        order by rec.score descending
+        limit TOP_K
+        select rec.k;
+    assertEquality([5, 3, 6], q1);
+
+    int[] q2 = from var rec in data
+        order by rec.score ascending
+        limit 4
+        select rec.k;
+    assertEquality([1, 4, 3, 6], q2);
+
+    int[] q3 = from var rec in data
+        order by rec.score ascending, rec.name descending
+        limit 10
+        select rec.k;
+    assertEquality([4, 1, 6, 3, 5, 2], q3);
+
+    int[] q4 = from var rec in data
+        where rec.k > 10
+        order by rec.score ascending
+        limit 0
+        select rec.k;
+    assertEquality([], q4);
+
+    int[]|error q5 = trap from var rec in data
+        order by rec.score ascending
+        limit 0
+        select rec.k;
+    assertEquality(true, q5 is error);
+}
+
 function assertEquality(anydata expected, anydata actual) {
     if expected != actual {
         panic error(string `Expected ${expected.toBalString()}, found ${actual.toBalString()}`);
@@ -753,6 +753,48 @@ function testQueryExprWithLangLibCallsWithArrowFunctions() {
     assertEquality(true, filteredPersons == [[{"firstName":"John", "lastName":"David", "age":50}]]);
 }
 
+function testQueryExprWithSlotFramePipeline() {
+    int[] nums = [1, 2, 3, 4, 5, 6, 7, 8];
+    [int, string][] pairs = from int n in nums
+        let int sq = n * n, [int, string] [a, b] = [n + 1, n.toString()]
+        where sq > 4
+        limit 4
+        where a % 2 == 0
+        select [sq, b];
+    assertEquality([[9, "3"], [25, "5"]], pairs);
+
+    (function () returns int)[] funcs = from int n in nums
+        let int twice = n * 2
+        limit 3
+        select function() returns int => twice;
+    int[] results = from var func in funcs
+        select func();
+    assertEquality([2, 4, 6], results);
+
+    int[]|error evens = from int n in nums
+        where check validateSlotFrameValue(n) % 2 == 0
+        select n;
+    assertEquality(true, evens is error);
+    if evens is error {
+        assertEquality("Invalid value: 5", evens.message());
+    }
+
+    stream<int, error?> strm = stream from int n in nums
+        where check validateSlotFrameValue(n) > 2
+        select n * 10;
+    assertEquality(30, (checkpanic strm.next())?.value);
+    assertEquality(40, (checkpanic strm.next())?.value);
+    record {|int value;|}|error? next = strm.next();
+    assertEquality(true, next is error);
+}
+
+function validateSlotFrameValue(int value) returns int|error {
+    if value == 5 {
+        return error("Invalid value: " + value.toString());
+    }
+    return value;
+}
+
 function assertEquality(any|error expected, any|error actual) {
     if expected is anydata && actual is anydata && expected == actual {
         return;
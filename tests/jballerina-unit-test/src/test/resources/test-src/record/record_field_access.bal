@@ -0,0 +1,199 @@
+// Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Address record {|
+    string city;
+    string country;
+|};
+
+type Employee record {|
+    int id;
+    float salary;
+    boolean active;
+    string name;
+    decimal bonus;
+    int|string code;
+    Address address;
+|};
+
+type Member record {|
+    int id;
+    int age?;
+    string? nickname;
+    Address address?;
+|};
+
+type Person record {
+    string name;
+};
+
+type Counts record {|
+    string name;
+    int...;
+|};
+
+type ReadonlyPoint readonly & record {|
+    int x;
+    int y;
+|};
+
+type Point record {|
+    readonly int x;
+    readonly int y;
+|};
+
+type Base record {
+    int id;
+    string name;
+};
+
+type Derived record {
+    int id;
+    string name;
+    float score;
+};
+
+function testRequiredFieldAccess() {
+    Employee e = {
+        id: 1,
+        salary: 1500.5,
+        active: true,
+        name: "Anne",
+        bonus: 10.25d,
+        code: "E1",
+        address: {city: "Colombo", country: "Sri Lanka"}
+    };
+    assertEquality(1, e.id);
+    assertEquality(1500.5, e.salary);
+    assertEquality(true, e.active);
+    assertEquality("Anne", e.name);
+    assertEquality(10.25d, e.bonus);
+    assertEquality("E1", e.code);
+    assertEquality("Colombo", e.address.city);
+    assertEquality(1, e["id"]);
+    assertEquality("Sri Lanka", e["address"]["country"]);
+
+    anydata id = e.id;
+    int|float salary = e.salary;
+    anydata active = e.active;
+    assertEquality(1, id);
+    assertEquality(1500.5, salary);
+    assertEquality(true, active);
+
+    e.id = 2;
+    e.salary += 0.5;
+    e.active = false;
+    e.code = 5;
+    int sum = 0;
+    foreach int i in 0 ..< 100 {
+        sum += e.id;
+    }
+    assertEquality(200, sum);
+    assertEquality(1501.0, e.salary);
+    assertEquality(false, e.active);
+    assertEquality(5, e.code);
+}
+
+function testOptionalFieldAccess() {
+    Member m = {id: 1, nickname: ()};
+    assertEquality((), m?.age);
+    assertEquality((), m["age"]);
+    assertEquality((), m?.address?.city);
+    assertEquality((), m.nickname);
+    assertEquality(1, m.id);
+
+    m.age = 30;
+    m.nickname = "Ann";
+    m.address = {city: "Kandy", country: "Sri Lanka"};
+    assertEquality(30, m?.age);
+    assertEquality(30, m["age"]);
+    assertEquality("Kandy", m?.address?.city);
+    assertEquality("Ann", m.nickname);
+
+    _ = m.remove("age");
+    assertEquality((), m?.age);
+}
+
+function testRestFieldAccess() {
+    Person p = {name: "Anne", "city": "Colombo"};
+    assertEquality("Anne", p.name);
+    assertEquality("Anne", p["name"]);
+    assertEquality("Colombo", p["city"]);
+    assertEquality((), p["country"]);
+
+    p["country"] = "Sri Lanka";
+    assertEquality("Sri Lanka", p["country"]);
+
+    Counts c = {name: "fruits", "apples": 3};
+    assertEquality("fruits", c.name);
+    assertEquality(3, c["apples"]);
+    assertEquality((), c["oranges"]);
+    c["oranges"] = 5;
+    assertEquality(5, c["oranges"]);
+}
+
+function testReadonlyRecordFieldAccess() {
+    ReadonlyPoint rp = {x: 1, y: 2};
+    assertEquality(1, rp.x);
+    assertEquality(2, rp["y"]);
+
+    Point p = {x: 3, y: 4};
+    assertEquality(3, p.x);
+    assertEquality(4, p["y"]);
+
+    Employee e = {
+        id: 1,
+        salary: 1500.5,
+        active: true,
+        name: "Anne",
+        bonus: 10.25d,
+        code: 7,
+        address: {city: "Colombo", country: "Sri Lanka"}
+    };
+    readonly & Employee re = e.cloneReadOnly();
+    assertEquality(1, re.id);
+    assertEquality(1500.5, re.salary);
+    assertEquality(true, re.active);
+    assertEquality(7, re.code);
+    assertEquality("Colombo", re.address.city);
+
+    Employee viewOfReadonly = re;
+    assertEquality(1, viewOfReadonly.id);
+    assertEquality("Anne", viewOfReadonly.name);
+}
+
+function testFieldAccessOfStructuralSubtype() {
+    Derived d = {id: 1, name: "Anne", score: 4.5};
+    Base b = d;
+    assertEquality(1, b.id);
+    assertEquality("Anne", b.name);
+    assertEquality(4.5, b["score"]);
+
+    map<anydata> m = {id: 2, name: "Bob"};
+    Base fromMap = checkpanic m.cloneWithType();
+    assertEquality(2, fromMap.id);
+    assertEquality("Bob", fromMap.name);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}